@@ -1,5 +1,6 @@
 plugins {
   `java-library`
+  groovy
   `maven-publish`
 }
 
@@ -8,6 +9,11 @@ version = "0.2.3"
 
 dependencies {
   compileOnly(project(":main"))
+
+  testImplementation(project(":main"))
+  testImplementation("org.codehaus.groovy:groovy:2.5.5")
+  testImplementation("org.spockframework:spock-core:1.2-groovy-2.5")
+  testImplementation("ch.qos.logback:logback-classic:1.2.9")
 }
 
 val sourcesJar by tasks.registering(Jar::class) {
@@ -4,6 +4,7 @@ import com.sedmelluq.discord.lavaplayer.tools.http.HttpContextFilter;
 import com.sedmelluq.lava.extensions.youtuberotator.planner.AbstractRoutePlanner;
 import com.sedmelluq.lava.extensions.youtuberotator.tools.RateLimitException;
 import java.net.BindException;
+import java.util.concurrent.CompletableFuture;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
@@ -59,10 +60,24 @@ public class YoutubeIpRotatorFilter implements HttpContextFilter {
     }
   }
 
+  @Override
+  public CompletableFuture<Void> onAsyncRequest(HttpClientContext context, HttpUriRequest request,
+                                                boolean isRepetition) {
+    if (delegate != null) {
+      return delegate.onAsyncRequest(context, request, isRepetition);
+    }
+
+    return CompletableFuture.completedFuture(null);
+  }
+
   @Override
   public boolean onRequestResponse(HttpClientContext context, HttpUriRequest request, HttpResponse response) {
     int statusCode = response.getStatusLine().getStatusCode();
 
+    if (!isSearch || statusCode != 429 || routePlanner.shouldHandleSearchFailure()) {
+      routePlanner.markAddressResponse(context, statusCode);
+    }
+
     if (isSearch) {
       if (statusCode == 429) {
         if (routePlanner.shouldHandleSearchFailure()) {
@@ -6,6 +6,7 @@ import com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeHttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpClientBuilder;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.http.HttpContextFilter;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestSchedulingHttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.http.SimpleHttpClientConnectionManager;
 import com.sedmelluq.lava.extensions.youtuberotator.planner.AbstractRoutePlanner;
 import java.util.ArrayList;
@@ -92,7 +93,11 @@ public class YoutubeIpRotatorSetup {
         it.evictExpiredConnections();
       });
 
-      configurable.setHttpContextFilter(filter);
+      configurable.configureAsyncBuilder(it -> it.setRoutePlanner(routePlanner));
+
+      // A request scheduler installed on the source before this keeps applying in front of the rotator filter.
+      configurable.setHttpContextFilter(
+          RequestSchedulingHttpContextFilter.replaceDelegate(configurable.getHttpContextFilter(), filter));
     }
   }
 }
@@ -23,13 +23,14 @@ import org.slf4j.LoggerFactory;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 public abstract class AbstractRoutePlanner implements HttpRoutePlanner {
   private static final String CHOSEN_IP_ATTRIBUTE = "yt-route-ip";
+  private static final String CHOSEN_TIME_ATTRIBUTE = "yt-route-time";
 
   private static final long FAILING_TIME = TimeUnit.DAYS.toMillis(7);
   private static final Logger log = LoggerFactory.getLogger(AbstractRoutePlanner.class);
@@ -41,7 +42,7 @@ public abstract class AbstractRoutePlanner implements HttpRoutePlanner {
 
   protected AbstractRoutePlanner(final List<IpBlock> ipBlocks, final boolean handleSearchFailure) {
     this.ipBlock = new CombinedIpBlock(ipBlocks);
-    this.failingAddresses = new HashMap<>();
+    this.failingAddresses = new ConcurrentHashMap<>();
     this.schemePortResolver = DefaultSchemePortResolver.INSTANCE;
     this.handleSearchFailure = handleSearchFailure;
     log.info("Active RoutePlanner: {} using total of {} ips", getClass().getCanonicalName(), this.ipBlock.getSize());
@@ -74,12 +75,29 @@ public abstract class AbstractRoutePlanner implements HttpRoutePlanner {
     onAddressFailure(address);
   }
 
+  /**
+   * Reports the response to the last request made with the chosen address of the context.
+   *
+   * @param context the context of the request
+   * @param statusCode the status code of the response
+   */
+  public final void markAddressResponse(HttpClientContext context, int statusCode) {
+    final InetAddress address = getLastAddress(context);
+    final Long chosenTime = context.getAttribute(CHOSEN_TIME_ATTRIBUTE, Long.class);
+    if (address == null || chosenTime == null) {
+      return;
+    }
+    onAddressResponse(address, statusCode, System.nanoTime() - chosenTime);
+  }
+
   public final void freeAddress(final InetAddress address) {
     this.failingAddresses.remove(address.toString());
+    onAddressFree(address);
   }
 
   public final void freeAllAddresses() {
     this.failingAddresses.clear();
+    onAllAddressesFree();
   }
 
   protected final boolean isValidAddress(final InetAddress address) {
@@ -122,6 +140,7 @@ public abstract class AbstractRoutePlanner implements HttpRoutePlanner {
     final HttpHost proxy = config.getProxy();
     final boolean secure = target.getSchemeName().equalsIgnoreCase("https");
     clientContext.setAttribute(CHOSEN_IP_ATTRIBUTE, addresses.l);
+    clientContext.setAttribute(CHOSEN_TIME_ATTRIBUTE, System.nanoTime());
     log.debug("Setting route context attribute to {}", addresses.l);
     if (proxy == null) {
       return new HttpRoute(target, addresses.l, secure);
@@ -139,6 +158,33 @@ public abstract class AbstractRoutePlanner implements HttpRoutePlanner {
 
   }
 
+  /**
+   * Called when a response is received for a request made with an address
+   *
+   * @param address the address used for the request
+   * @param statusCode the status code of the response
+   * @param latency time in nanoseconds from choosing the route until the response was received
+   */
+  protected void onAddressResponse(final InetAddress address, final int statusCode, final long latency) {
+
+  }
+
+  /**
+   * Called when a failing address is freed
+   *
+   * @param address the freed address
+   */
+  protected void onAddressFree(final InetAddress address) {
+
+  }
+
+  /**
+   * Called when all failing addresses are freed
+   */
+  protected void onAllAddressesFree() {
+
+  }
+
   /**
    * How long a failing address should not be reused in milliseconds
    *
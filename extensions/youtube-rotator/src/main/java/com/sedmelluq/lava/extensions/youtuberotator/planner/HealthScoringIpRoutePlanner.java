@@ -0,0 +1,431 @@
+package com.sedmelluq.lava.extensions.youtuberotator.planner;
+
+import com.sedmelluq.lava.extensions.youtuberotator.tools.Tuple;
+import com.sedmelluq.lava.extensions.youtuberotator.tools.ip.IpBlock;
+import org.apache.http.HttpException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Route planner which keeps a pool of addresses from the IP block and tracks the health of each of them: success rate,
+ * 95th percentile latency and recent rate limits. Addresses are chosen by weighted random, healthier addresses being
+ * chosen more often. A failing address is excluded for a backoff period which doubles with each consecutive failure,
+ * after which it is re-admitted on probation with a reduced weight that grows with each successful request. Addresses
+ * which keep failing are replaced with fresh ones from the block. Choosing an address does not take any locks.
+ */
+@SuppressWarnings("WeakerAccess")
+public class HealthScoringIpRoutePlanner extends AbstractRoutePlanner {
+  private static final Logger log = LoggerFactory.getLogger(HealthScoringIpRoutePlanner.class);
+
+  private static final int DEFAULT_POOL_SIZE = 16;
+  private static final double SUCCESS_RATE_SMOOTHING = 0.1;
+  private static final int LATENCY_SAMPLES = 32;
+  private static final long REFERENCE_LATENCY = TimeUnit.SECONDS.toNanos(1);
+  private static final int RATE_LIMIT_SAMPLES = 8;
+  private static final long RATE_LIMIT_WINDOW = TimeUnit.MINUTES.toMillis(10);
+  private static final long PROBATION_BASE_DELAY = TimeUnit.MINUTES.toMillis(1);
+  private static final long MAXIMUM_PROBATION_DELAY = TimeUnit.HOURS.toMillis(1);
+  private static final int PROBATION_REQUESTS = 10;
+  private static final double PROBATION_MINIMUM_WEIGHT = 0.1;
+  private static final double MINIMUM_WEIGHT = 0.01;
+  private static final int RETIRE_FAILURE_COUNT = 5;
+
+  private final Predicate<InetAddress> ipFilter;
+  private final int poolSize;
+  private final AtomicReference<AddressHealth[]> pool;
+
+  /**
+   * @param ipBlocks the block to perform balancing over.
+   */
+  public HealthScoringIpRoutePlanner(List<IpBlock> ipBlocks) {
+    this(ipBlocks, i -> true);
+  }
+
+  /**
+   * @param ipBlocks  the block to perform balancing over.
+   * @param ipFilter function to filter out certain IP addresses picked from the IP block, causing another random to be chosen.
+   */
+  public HealthScoringIpRoutePlanner(List<IpBlock> ipBlocks, Predicate<InetAddress> ipFilter) {
+    this(ipBlocks, ipFilter, true);
+  }
+
+  /**
+   * @param ipBlocks             the block to perform balancing over.
+   * @param ipFilter            function to filter out certain IP addresses picked from the IP block, causing another random to be chosen.
+   * @param handleSearchFailure whether a search 429 should trigger the ip as failing
+   */
+  public HealthScoringIpRoutePlanner(List<IpBlock> ipBlocks, Predicate<InetAddress> ipFilter, boolean handleSearchFailure) {
+    this(ipBlocks, ipFilter, handleSearchFailure, DEFAULT_POOL_SIZE);
+  }
+
+  /**
+   * @param ipBlocks             the block to perform balancing over.
+   * @param ipFilter            function to filter out certain IP addresses picked from the IP block, causing another random to be chosen.
+   * @param handleSearchFailure whether a search 429 should trigger the ip as failing
+   * @param poolSize            the number of addresses to balance over, all addresses are used if the block is smaller
+   */
+  public HealthScoringIpRoutePlanner(List<IpBlock> ipBlocks, Predicate<InetAddress> ipFilter, boolean handleSearchFailure,
+                                     int poolSize) {
+    super(ipBlocks, handleSearchFailure);
+    this.ipFilter = ipFilter;
+    this.poolSize = Math.max(1, poolSize);
+    this.pool = new AtomicReference<>(createPool());
+  }
+
+  /**
+   * @return the health of the addresses currently in the pool
+   */
+  public List<AddressHealth> getAddressHealth() {
+    return Collections.unmodifiableList(Arrays.asList(pool.get()));
+  }
+
+  @Override
+  protected Tuple<InetAddress, InetAddress> determineAddressPair(Tuple<Inet4Address, Inet6Address> remoteAddresses) throws HttpException {
+    InetAddress localAddress;
+    final InetAddress remoteAddress;
+    if (ipBlock.getType() == Inet4Address.class) {
+      if (remoteAddresses.l != null) {
+        localAddress = chooseAddress();
+        remoteAddress = remoteAddresses.l;
+      } else {
+        throw new HttpException("Could not resolve host");
+      }
+    } else if (ipBlock.getType() == Inet6Address.class) {
+      if (remoteAddresses.r != null) {
+        localAddress = chooseAddress();
+        remoteAddress = remoteAddresses.r;
+      } else if (remoteAddresses.l != null) {
+        localAddress = null;
+        remoteAddress = remoteAddresses.l;
+        log.warn("Could not look up AAAA record for host. Falling back to unbalanced IPv4.");
+      } else {
+        throw new HttpException("Could not resolve host");
+      }
+    } else {
+      throw new HttpException("Unknown IpBlock type: " + ipBlock.getType().getCanonicalName());
+    }
+    return new Tuple<>(localAddress, remoteAddress);
+  }
+
+  @Override
+  protected void onAddressResponse(InetAddress address, int statusCode, long latency) {
+    AddressHealth health = findInPool(address);
+    if (health != null) {
+      health.recordResponse(statusCode, latency);
+    }
+  }
+
+  @Override
+  protected void onAddressFailure(InetAddress address) {
+    AddressHealth health = findInPool(address);
+    if (health == null) {
+      return;
+    }
+
+    int failures = health.recordFailure();
+    if (failures >= RETIRE_FAILURE_COUNT && ipBlock.getSize().compareTo(BigInteger.valueOf(poolSize)) > 0) {
+      replace(health);
+    } else {
+      log.debug("{} failed {} times in a row, excluding it until {}", address, failures, health.excludedUntil);
+    }
+  }
+
+  @Override
+  protected void onAddressFree(InetAddress address) {
+    AddressHealth health = findInPool(address);
+    if (health != null) {
+      health.reset();
+    }
+  }
+
+  @Override
+  protected void onAllAddressesFree() {
+    for (AddressHealth health : pool.get()) {
+      health.reset();
+    }
+  }
+
+  @Override
+  protected long getFailingIpsCacheDuration() {
+    return MAXIMUM_PROBATION_DELAY;
+  }
+
+  private InetAddress chooseAddress() throws HttpException {
+    final AddressHealth[] entries = pool.get();
+    final long now = System.currentTimeMillis();
+    final double[] weights = new double[entries.length];
+    double total = 0;
+
+    for (int i = 0; i < entries.length; i++) {
+      weights[i] = entries[i].getWeight(now);
+      total += weights[i];
+    }
+
+    if (total > 0) {
+      double target = ThreadLocalRandom.current().nextDouble(total);
+      int chosen = -1;
+      for (int i = 0; i < entries.length && (chosen < 0 || target >= 0); i++) {
+        if (weights[i] > 0) {
+          // Also covers rounding errors leaving the target slightly above zero after the last address.
+          chosen = i;
+          target -= weights[i];
+        }
+      }
+      return entries[chosen].address;
+    }
+
+    // All addresses are excluded, probe the one whose backoff ends first rather than failing the request.
+    AddressHealth earliest = null;
+    for (AddressHealth entry : entries) {
+      if (earliest == null || entry.excludedUntil < earliest.excludedUntil) {
+        earliest = entry;
+      }
+    }
+    if (earliest == null) {
+      throw new HttpException("Can't find a free ip");
+    }
+    log.warn("All addresses are marked as failing, probing {}", earliest.address);
+    return earliest.address;
+  }
+
+  private AddressHealth[] createPool() {
+    final List<AddressHealth> entries = new ArrayList<>();
+    final BigInteger size = ipBlock.getSize();
+
+    if (size.compareTo(BigInteger.valueOf(poolSize)) <= 0) {
+      for (long i = 0; i < size.longValue(); i++) {
+        InetAddress address = ipBlock.getAddressAtIndex(i);
+        if (address != null && ipFilter.test(address)) {
+          entries.add(new AddressHealth(address));
+        }
+      }
+    } else {
+      for (int attempt = 0; attempt < poolSize * 4 && entries.size() < poolSize; attempt++) {
+        InetAddress address = findFreshAddress(entries.toArray(new AddressHealth[0]));
+        if (address != null) {
+          entries.add(new AddressHealth(address));
+        }
+      }
+    }
+
+    if (entries.isEmpty()) {
+      throw new IllegalArgumentException("No usable addresses in the IP block");
+    }
+    return entries.toArray(new AddressHealth[0]);
+  }
+
+  private InetAddress findFreshAddress(AddressHealth[] entries) {
+    for (int attempt = 0; attempt < poolSize * 2; attempt++) {
+      InetAddress address = ipBlock.getRandomAddress();
+      if (address != null && ipFilter.test(address) && isValidAddress(address) && indexOf(entries, address) < 0) {
+        return address;
+      }
+    }
+    return null;
+  }
+
+  private void replace(AddressHealth retired) {
+    while (true) {
+      final AddressHealth[] current = pool.get();
+      final int index = indexOf(current, retired.address);
+      if (index < 0 || current[index] != retired) {
+        return;
+      }
+
+      final InetAddress fresh = findFreshAddress(current);
+      if (fresh == null) {
+        log.warn("Could not find a replacement for failing address {}", retired.address);
+        return;
+      }
+
+      final AddressHealth[] updated = current.clone();
+      updated[index] = new AddressHealth(fresh);
+      if (pool.compareAndSet(current, updated)) {
+        log.info("Replaced failing address {} with {}", retired.address, fresh);
+        return;
+      }
+    }
+  }
+
+  private AddressHealth findInPool(InetAddress address) {
+    final AddressHealth[] entries = pool.get();
+    final int index = indexOf(entries, address);
+    return index >= 0 ? entries[index] : null;
+  }
+
+  private static int indexOf(AddressHealth[] entries, InetAddress address) {
+    for (int i = 0; i < entries.length; i++) {
+      if (entries[i].address.equals(address)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Health statistics of one address in the pool.
+   */
+  public static final class AddressHealth {
+    private final InetAddress address;
+    private final AtomicLong successRate;
+    private final AtomicLongArray latencies;
+    private final AtomicInteger latencyCursor;
+    private final AtomicLongArray rateLimits;
+    private final AtomicInteger rateLimitCursor;
+    private final AtomicInteger consecutiveFailures;
+    private final AtomicInteger probationSuccesses;
+    private volatile long excludedUntil;
+    private volatile double score;
+
+    private AddressHealth(InetAddress address) {
+      this.address = address;
+      this.successRate = new AtomicLong(Double.doubleToLongBits(1.0));
+      this.latencies = new AtomicLongArray(LATENCY_SAMPLES);
+      this.latencyCursor = new AtomicInteger();
+      this.rateLimits = new AtomicLongArray(RATE_LIMIT_SAMPLES);
+      this.rateLimitCursor = new AtomicInteger();
+      this.consecutiveFailures = new AtomicInteger();
+      this.probationSuccesses = new AtomicInteger();
+      this.score = 1.0;
+    }
+
+    public InetAddress getAddress() {
+      return address;
+    }
+
+    /**
+     * @return the smoothed ratio of successful responses, from 0 to 1
+     */
+    public double getSuccessRate() {
+      return Double.longBitsToDouble(successRate.get());
+    }
+
+    /**
+     * @return the 95th percentile of the recent response latencies in milliseconds
+     */
+    public long getLatencyPercentile95() {
+      return TimeUnit.NANOSECONDS.toMillis(calculateLatencyPercentile95());
+    }
+
+    /**
+     * @return the number of rate limit responses within the last 10 minutes
+     */
+    public int getRecentRateLimitCount() {
+      return countRecentRateLimits(System.currentTimeMillis());
+    }
+
+    /**
+     * @return whether the address is excluded after a failure
+     */
+    public boolean isFailing() {
+      return System.currentTimeMillis() < excludedUntil;
+    }
+
+    /**
+     * @return whether the address is re-admitted after a failure with a reduced weight
+     */
+    public boolean isOnProbation() {
+      return !isFailing() && consecutiveFailures.get() > 0;
+    }
+
+    /**
+     * @return the current relative weight of the address when choosing one, 0 if it is excluded
+     */
+    public double getWeight() {
+      return getWeight(System.currentTimeMillis());
+    }
+
+    private double getWeight(long now) {
+      if (now < excludedUntil) {
+        return 0;
+      }
+
+      double weight = score / (1 + countRecentRateLimits(now));
+      if (consecutiveFailures.get() > 0) {
+        weight *= Math.max(PROBATION_MINIMUM_WEIGHT, (double) probationSuccesses.get() / PROBATION_REQUESTS);
+      }
+      return Math.max(MINIMUM_WEIGHT, weight);
+    }
+
+    private void recordResponse(int statusCode, long latency) {
+      final boolean success = statusCode < 400 || statusCode == 404;
+
+      if (statusCode == 429) {
+        rateLimits.set(Math.floorMod(rateLimitCursor.getAndIncrement(), RATE_LIMIT_SAMPLES), System.currentTimeMillis());
+      }
+
+      latencies.set(Math.floorMod(latencyCursor.getAndIncrement(), LATENCY_SAMPLES), Math.max(1, latency));
+
+      long current;
+      double updated;
+      do {
+        current = successRate.get();
+        updated = Double.longBitsToDouble(current) * (1 - SUCCESS_RATE_SMOOTHING) + (success ? SUCCESS_RATE_SMOOTHING : 0);
+      } while (!successRate.compareAndSet(current, Double.doubleToLongBits(updated)));
+
+      if (success && consecutiveFailures.get() > 0 && probationSuccesses.incrementAndGet() >= PROBATION_REQUESTS) {
+        consecutiveFailures.set(0);
+      }
+
+      final double latencyFactor = 1 + (double) calculateLatencyPercentile95() / REFERENCE_LATENCY;
+      score = updated * updated / latencyFactor;
+    }
+
+    private int recordFailure() {
+      final int failures = consecutiveFailures.incrementAndGet();
+      final long delay = PROBATION_BASE_DELAY << Math.min(failures - 1, 20);
+      probationSuccesses.set(0);
+      excludedUntil = System.currentTimeMillis() + Math.min(delay, MAXIMUM_PROBATION_DELAY);
+      return failures;
+    }
+
+    private void reset() {
+      consecutiveFailures.set(0);
+      probationSuccesses.set(0);
+      excludedUntil = 0;
+    }
+
+    private long calculateLatencyPercentile95() {
+      final long[] samples = new long[LATENCY_SAMPLES];
+      int count = 0;
+      for (int i = 0; i < LATENCY_SAMPLES; i++) {
+        long sample = latencies.get(i);
+        if (sample > 0) {
+          samples[count++] = sample;
+        }
+      }
+      if (count == 0) {
+        return 0;
+      }
+      Arrays.sort(samples, 0, count);
+      return samples[(int) Math.ceil(count * 0.95) - 1];
+    }
+
+    private int countRecentRateLimits(long now) {
+      int count = 0;
+      for (int i = 0; i < RATE_LIMIT_SAMPLES; i++) {
+        long timestamp = rateLimits.get(i);
+        if (timestamp > 0 && now - timestamp < RATE_LIMIT_WINDOW) {
+          count++;
+        }
+      }
+      return count;
+    }
+  }
+}
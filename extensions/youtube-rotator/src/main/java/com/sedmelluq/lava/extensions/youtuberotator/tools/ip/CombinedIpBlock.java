@@ -68,7 +68,7 @@ public final class CombinedIpBlock extends IpBlock {
   @Override
   public InetAddress getAddressAtIndex(BigInteger index) {
     int blockIndex = 0;
-    while (index.compareTo(BigInteger.ZERO) > 0) {
+    while (index.compareTo(BigInteger.ZERO) >= 0) {
       if (ipBlocks.size() <= blockIndex)
         break;
       final IpBlock ipBlock = ipBlocks.get(blockIndex);
@@ -0,0 +1,161 @@
+package com.sedmelluq.lava.extensions.youtuberotator.planner
+
+import com.sedmelluq.lava.extensions.youtuberotator.tools.ip.Ipv4Block
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class HealthScoringIpRoutePlannerSpec extends Specification {
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(50)
+
+  def "uses every address of a block smaller than the pool"() {
+    when:
+    def planner = new HealthScoringIpRoutePlanner([new Ipv4Block("10.0.0.0/29")])
+
+    then:
+    planner.addressHealth.size() == 8
+    planner.addressHealth.every { it.weight == 1.0d && !it.failing && !it.onProbation }
+  }
+
+  def "chooses healthier addresses more often"() {
+    given:
+    def planner = createTwoAddressPlanner()
+    def (healthy, unhealthy) = planner.addressHealth
+
+    when:
+    10.times {
+      planner.onAddressResponse(healthy.address, 200, FAST)
+      planner.onAddressResponse(unhealthy.address, 500, FAST)
+    }
+    def unhealthyCount = (0..<10000).count { planner.chooseAddress() == unhealthy.address }
+
+    then:
+    healthy.successRate == 1.0d
+    unhealthy.successRate < 0.4d
+    unhealthy.weight < healthy.weight / 5
+    unhealthyCount > 0
+    unhealthyCount < 2000
+  }
+
+  def "slow and rate limited addresses get a lower weight"() {
+    given:
+    def planner = createTwoAddressPlanner()
+    def (fast, other) = planner.addressHealth
+
+    when:
+    planner.onAddressResponse(fast.address, 200, FAST)
+    planner.onAddressResponse(other.address, 200, TimeUnit.SECONDS.toNanos(3))
+
+    then:
+    other.latencyPercentile95 == 3000
+    other.weight < fast.weight / 3
+
+    when:
+    planner.onAddressResponse(fast.address, 429, FAST)
+    planner.onAddressResponse(fast.address, 429, FAST)
+
+    then:
+    fast.recentRateLimitCount == 2
+    fast.weight < fast.successRate / 3
+  }
+
+  def "a failing address is excluded with a doubling backoff"() {
+    given:
+    def planner = createTwoAddressPlanner()
+    def (failing, other) = planner.addressHealth
+
+    when:
+    planner.onAddressFailure(failing.address)
+    def firstBackoff = failing.@excludedUntil - System.currentTimeMillis()
+
+    then:
+    failing.failing
+    failing.weight == 0
+    (0..<1000).every { planner.chooseAddress() == other.address }
+    Math.abs(firstBackoff - TimeUnit.MINUTES.toMillis(1)) < 1000
+
+    when:
+    planner.onAddressFailure(failing.address)
+    def secondBackoff = failing.@excludedUntil - System.currentTimeMillis()
+
+    then:
+    Math.abs(secondBackoff - TimeUnit.MINUTES.toMillis(2)) < 1000
+  }
+
+  def "a re-admitted address gains weight with each success on probation"() {
+    given:
+    def planner = createTwoAddressPlanner()
+    def health = planner.addressHealth[0]
+    planner.onAddressFailure(health.address)
+
+    when:
+    health.@excludedUntil = 0L
+
+    then:
+    health.onProbation
+    health.weight == 0.1d
+
+    when:
+    5.times { planner.onAddressResponse(health.address, 200, FAST) }
+
+    then:
+    health.onProbation
+    Math.abs(health.weight - health.@score * 0.5d) < 1e-9
+
+    when:
+    5.times { planner.onAddressResponse(health.address, 200, FAST) }
+
+    then:
+    !health.onProbation
+    health.weight == health.@score
+  }
+
+  def "probes the address whose backoff ends first when all are excluded"() {
+    given:
+    def planner = createTwoAddressPlanner()
+    def (first, second) = planner.addressHealth
+
+    when:
+    planner.onAddressFailure(first.address)
+    planner.onAddressFailure(first.address)
+    planner.onAddressFailure(second.address)
+
+    then:
+    planner.chooseAddress() == second.address
+  }
+
+  def "freeing an address ends its exclusion"() {
+    given:
+    def planner = createTwoAddressPlanner()
+    def health = planner.addressHealth[0]
+    planner.onAddressFailure(health.address)
+
+    when:
+    planner.freeAddress(health.address)
+
+    then:
+    !health.failing
+    !health.onProbation
+    health.weight == 1.0d
+  }
+
+  def "replaces an address which keeps failing when the block is larger than the pool"() {
+    given:
+    def planner = new HealthScoringIpRoutePlanner([new Ipv4Block("10.0.0.0/16")], { true }, true, 4)
+    def retired = planner.addressHealth[2].address
+
+    when:
+    5.times { planner.onAddressFailure(retired) }
+
+    then:
+    planner.addressHealth.size() == 4
+    !planner.addressHealth*.address.contains(retired)
+    planner.addressHealth*.address.toSet().size() == 4
+    planner.addressHealth.every { !it.failing }
+  }
+
+  private static HealthScoringIpRoutePlanner createTwoAddressPlanner() {
+    def allowed = [InetAddress.getByName("10.0.0.1"), InetAddress.getByName("10.0.0.2")]
+    return new HealthScoringIpRoutePlanner([new Ipv4Block("10.0.0.0/29")], { allowed.contains(it) }, true)
+  }
+}
@@ -16,6 +16,8 @@ dependencies {
   api("org.slf4j:slf4j-api:1.7.25")
 
   api("org.apache.httpcomponents:httpclient:4.5.14")
+  api("org.apache.httpcomponents:httpasyncclient:4.1.5")
+  api("org.apache.httpcomponents.core5:httpcore5-h2:5.2.4")
   implementation("commons-io:commons-io:2.16.1")
 
   api("com.fasterxml.jackson.core:jackson-core:$jacksonVersion")
@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.unknownFormat;
@@ -56,10 +57,13 @@ public class MediaContainerDetection {
       SavedHeadSeekableInputStream savedHeadInputStream = new SavedHeadSeekableInputStream(inputStream, HEAD_MARK_LIMIT);
       savedHeadInputStream.loadHead();
 
-      result = detectContainer(savedHeadInputStream, true);
+      List<MediaContainerProbe> candidates = containerRegistry.findBySignature(savedHeadInputStream.getSavedHead(),
+          savedHeadInputStream.getSavedLength());
+
+      result = detectContainer(savedHeadInputStream, candidates);
 
       if (result == null) {
-        result = detectContainer(savedHeadInputStream, false);
+        result = detectContainer(savedHeadInputStream, containerRegistry.getSignaturelessProbes());
       }
     } catch (Exception e) {
       throw ExceptionTools.wrapUnfriendlyExceptions("Could not read the file for detecting file type.", SUSPICIOUS, e);
@@ -68,10 +72,18 @@ public class MediaContainerDetection {
     return result != null ? result : unknownFormat();
   }
 
-  private MediaContainerDetectionResult detectContainer(SeekableInputStream innerStream, boolean matchHints)
+  private MediaContainerDetectionResult detectContainer(SeekableInputStream innerStream,
+                                                        List<MediaContainerProbe> probes) throws IOException {
+
+    MediaContainerDetectionResult result = detectContainer(innerStream, probes, true);
+    return result != null ? result : detectContainer(innerStream, probes, false);
+  }
+
+  private MediaContainerDetectionResult detectContainer(SeekableInputStream innerStream,
+                                                        List<MediaContainerProbe> probes, boolean matchHints)
       throws IOException {
 
-    for (MediaContainerProbe probe : containerRegistry.getAll()) {
+    for (MediaContainerProbe probe : probes) {
       if (matchHints == probe.matchesHints(hints)) {
         innerStream.seek(0);
         MediaContainerDetectionResult result = checkContainer(probe, reference, innerStream);
@@ -123,6 +135,7 @@ public class MediaContainerDetection {
     long position = stream.getPosition();
     boolean result = true;
 
+    // Called for every Ogg page, so the bytes are compared as they are read instead of being copied to a buffer.
     for (int matchByte : match) {
       int inputByte = stream.read();
 
@@ -6,6 +6,8 @@ import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Track information probe for one media container type and factory for tracks for that container.
@@ -22,6 +24,15 @@ public interface MediaContainerProbe {
    */
   boolean matchesHints(MediaContainerHints hints);
 
+  /**
+   * @return Signatures of which at least one is always present in files of this container. If this is not empty, the
+   *         probe is only tried on files which contain one of these signatures. Probes for formats without a fixed
+   *         signature return an empty list and are tried on all files which no other probe recognized by signature.
+   */
+  default List<MediaContainerSignature> getSignatures() {
+    return Collections.emptyList();
+  }
+
   /**
    * Detect whether the file readable from the input stream is using this container and if this specific file uses
    * a format and codec that is supported for playback.
@@ -1,15 +1,26 @@
 package com.sedmelluq.discord.lavaplayer.container;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class MediaContainerRegistry {
   public static final MediaContainerRegistry DEFAULT_REGISTRY = new MediaContainerRegistry(MediaContainer.asList());
 
   private final List<MediaContainerProbe> probes;
+  private final List<MediaContainerProbe> signaturelessProbes;
+  private final Map<Integer, SignatureTable> signatureIndex;
 
   public MediaContainerRegistry(List<MediaContainerProbe> probes) {
     this.probes = probes;
+    this.signaturelessProbes = new ArrayList<>();
+    this.signatureIndex = new HashMap<>();
+
+    buildSignatureIndex();
   }
 
   public MediaContainerProbe find(String name) {
@@ -26,9 +37,95 @@ public class MediaContainerRegistry {
     return probes;
   }
 
+  /**
+   * @param head Buffer containing the beginning of the file
+   * @param length Number of valid bytes in the buffer
+   * @return Probes which declare a signature that is present in the buffer, in registration order
+   */
+  public List<MediaContainerProbe> findBySignature(byte[] head, int length) {
+    BitSet matched = new BitSet(probes.size());
+
+    for (Map.Entry<Integer, SignatureTable> position : signatureIndex.entrySet()) {
+      if (position.getKey() >= length) {
+        continue;
+      }
+
+      List<SignatureEntry> candidates = position.getValue().get(head[position.getKey()] & 0xFF);
+
+      if (candidates != null) {
+        for (SignatureEntry candidate : candidates) {
+          if (!matched.get(candidate.probeIndex) && candidate.signature.matches(head, length)) {
+            matched.set(candidate.probeIndex);
+          }
+        }
+      }
+    }
+
+    List<MediaContainerProbe> result = new ArrayList<>(matched.cardinality());
+
+    for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+      result.add(probes.get(i));
+    }
+
+    return result;
+  }
+
+  /**
+   * @return Probes which do not declare any signatures and have to be tried on every file which no signature matched.
+   */
+  public List<MediaContainerProbe> getSignaturelessProbes() {
+    return signaturelessProbes;
+  }
+
+  private void buildSignatureIndex() {
+    for (int i = 0; i < probes.size(); i++) {
+      MediaContainerProbe probe = probes.get(i);
+      List<MediaContainerSignature> signatures = probe.getSignatures();
+
+      if (signatures.isEmpty()) {
+        signaturelessProbes.add(probe);
+        continue;
+      }
+
+      for (MediaContainerSignature signature : signatures) {
+        signatureIndex.computeIfAbsent(signature.getAnchorPosition(), position -> new SignatureTable())
+            .add(signature.getAnchorValue(), new SignatureEntry(signature, i));
+      }
+    }
+  }
+
   public static MediaContainerRegistry extended(MediaContainerProbe... additional) {
     List<MediaContainerProbe> probes = MediaContainer.asList();
     probes.addAll(Arrays.asList(additional));
     return new MediaContainerRegistry(probes);
   }
+
+  private static class SignatureTable {
+    private final List<List<SignatureEntry>> entriesByValue = new ArrayList<>(Collections.nCopies(256, null));
+
+    private List<SignatureEntry> get(int value) {
+      return entriesByValue.get(value);
+    }
+
+    private void add(int value, SignatureEntry entry) {
+      List<SignatureEntry> entries = entriesByValue.get(value);
+
+      if (entries == null) {
+        entries = new ArrayList<>();
+        entriesByValue.set(value, entries);
+      }
+
+      entries.add(entry);
+    }
+  }
+
+  private static class SignatureEntry {
+    private final MediaContainerSignature signature;
+    private final int probeIndex;
+
+    private SignatureEntry(MediaContainerSignature signature, int probeIndex) {
+      this.signature = signature;
+      this.probeIndex = probeIndex;
+    }
+  }
 }
@@ -0,0 +1,83 @@
+package com.sedmelluq.discord.lavaplayer.container;
+
+/**
+ * Magic bytes which identify a container format, located at a fixed offset from the beginning of the file.
+ */
+public class MediaContainerSignature {
+  private final int offset;
+  private final int[] bytes;
+  private final int anchor;
+
+  /**
+   * @param offset Offset of the signature from the beginning of the file
+   * @param bytes Bytes of the signature, -1 as a wildcard which matches any byte (same as with
+   *              {@link MediaContainerDetection#checkNextBytes})
+   */
+  public MediaContainerSignature(int offset, int[] bytes) {
+    this.offset = offset;
+    this.bytes = bytes;
+    this.anchor = findAnchor(bytes);
+
+    if (anchor == -1) {
+      throw new IllegalArgumentException("Signature must contain at least one byte which is not a wildcard.");
+    }
+  }
+
+  /**
+   * @param bytes Bytes of the signature at the beginning of the file, -1 as a wildcard
+   * @return Signature at offset 0
+   */
+  public static MediaContainerSignature of(int... bytes) {
+    return new MediaContainerSignature(0, bytes);
+  }
+
+  /**
+   * @return Offset of the signature from the beginning of the file
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * @return Absolute position of the first byte of the signature which is not a wildcard
+   */
+  public int getAnchorPosition() {
+    return offset + anchor;
+  }
+
+  /**
+   * @return Value of the byte at the anchor position
+   */
+  public int getAnchorValue() {
+    return bytes[anchor];
+  }
+
+  /**
+   * @param head Buffer containing the beginning of the file
+   * @param length Number of valid bytes in the buffer
+   * @return True if the signature is present in the buffer
+   */
+  public boolean matches(byte[] head, int length) {
+    if (offset + bytes.length > length) {
+      return false;
+    }
+
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] != -1 && bytes[i] != (head[offset + i] & 0xFF)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int findAnchor(int[] bytes) {
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] != -1) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+}
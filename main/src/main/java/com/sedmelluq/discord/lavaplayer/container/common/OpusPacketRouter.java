@@ -6,6 +6,7 @@ import com.sedmelluq.discord.lavaplayer.filter.PcmFormat;
 import com.sedmelluq.discord.lavaplayer.filter.volume.AudioFrameVolumeChanger;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import com.sedmelluq.discord.lavaplayer.format.OpusAudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.natives.DecoderPool;
 import com.sedmelluq.discord.lavaplayer.natives.opus.OpusDecoder;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameFlags;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
@@ -26,6 +27,7 @@ public class OpusPacketRouter {
   private static final Logger log = LoggerFactory.getLogger(OpusPacketRouter.class);
 
   private final AudioProcessingContext context;
+  private final DecoderPool pool;
   private final int inputFrequency;
   private final int inputChannels;
   private final byte[] headerBytes;
@@ -36,6 +38,7 @@ public class OpusPacketRouter {
   private OpusDecoder opusDecoder;
   private AudioPipeline downstream;
   private ByteBuffer directInput;
+  private ByteBuffer frameBytes;
   private ShortBuffer frameBuffer;
   private AudioDataFormat inputFormat;
   private int lastFrameSize;
@@ -47,6 +50,7 @@ public class OpusPacketRouter {
    */
   public OpusPacketRouter(AudioProcessingContext context, int inputFrequency, int inputChannels) {
     this.context = context;
+    this.pool = context.configuration.getDecoderPool();
     this.inputFrequency = inputFrequency;
     this.inputChannels = inputChannels;
     this.headerBytes = new byte[2];
@@ -112,11 +116,13 @@ public class OpusPacketRouter {
     int frameSize;
 
     if (buffer.isDirect()) {
+      int headerLength = Math.min(headerBytes.length, buffer.remaining());
+
       buffer.mark();
-      buffer.get(headerBytes);
+      buffer.get(headerBytes, 0, headerLength);
       buffer.reset();
 
-      frameSize = OpusDecoder.getPacketFrameSize(inputFrequency, headerBytes, 0, headerBytes.length);
+      frameSize = OpusDecoder.getPacketFrameSize(inputFrequency, headerBytes, 0, headerLength);
     } else {
       frameSize = OpusDecoder.getPacketFrameSize(inputFrequency, buffer.array(), buffer.position(), buffer.remaining());
     }
@@ -137,7 +143,8 @@ public class OpusPacketRouter {
 
     if (!buffer.isDirect()) {
       if (directInput == null || directInput.capacity() < buffer.remaining()) {
-        directInput = ByteBuffer.allocateDirect(buffer.remaining() + 200);
+        releaseBuffer(directInput);
+        directInput = pool.borrowDirectBuffer(getPooledCapacity(buffer.remaining() + 200));
       }
 
       directInput.clear();
@@ -145,12 +152,17 @@ public class OpusPacketRouter {
       directInput.flip();
 
       nativeBuffer = directInput;
+    } else if (buffer.position() != 0) {
+      // The native decoder reads from the start of the buffer memory, so the packet must begin there.
+      nativeBuffer = buffer.slice();
     } else {
       nativeBuffer = buffer;
     }
 
     if (frameBuffer == null || frameBuffer.capacity() < frameSize * inputChannels) {
-      frameBuffer = ByteBuffer.allocateDirect(frameSize * inputChannels * 2).order(ByteOrder.nativeOrder()).asShortBuffer();
+      releaseBuffer(frameBytes);
+      frameBytes = pool.borrowDirectBuffer(getPooledCapacity(frameSize * inputChannels * 2));
+      frameBuffer = frameBytes.order(ByteOrder.nativeOrder()).asShortBuffer();
     }
 
     frameBuffer.clear();
@@ -194,7 +206,7 @@ public class OpusPacketRouter {
   private void initialiseDecoder() {
     offeredFrame.setFlags();
 
-    opusDecoder = new OpusDecoder(inputFrequency, inputChannels);
+    opusDecoder = pool.borrowOpusDecoder(inputFrequency, inputChannels);
 
     try {
       downstream = AudioPipelineFactory.create(context, new PcmFormat(inputChannels, inputFrequency));
@@ -209,7 +221,7 @@ public class OpusPacketRouter {
 
   private void destroyDecoder() {
     if (opusDecoder != null) {
-      opusDecoder.close();
+      pool.returnOpusDecoder(opusDecoder);
       opusDecoder = null;
     }
 
@@ -218,7 +230,21 @@ public class OpusPacketRouter {
       downstream = null;
     }
 
+    releaseBuffer(directInput);
+    releaseBuffer(frameBytes);
     directInput = null;
+    frameBytes = null;
     frameBuffer = null;
   }
+
+  private void releaseBuffer(ByteBuffer buffer) {
+    if (buffer != null) {
+      pool.returnDirectBuffer(buffer);
+    }
+  }
+
+  private static int getPooledCapacity(int size) {
+    // Rounded up to a power of two, so that tracks with slightly different packet and frame sizes share buffers.
+    return Integer.highestOneBit(Math.max(size, 64) - 1) << 1;
+  }
 }
@@ -28,7 +28,7 @@ public class FlacAudioTrack extends BaseAudioTrack {
   @Override
   public void process(LocalAudioTrackExecutor localExecutor) throws Exception {
     FlacFileLoader file = new FlacFileLoader(inputStream);
-    FlacTrackProvider trackProvider = file.loadTrack(localExecutor.getProcessingContext());
+    FlacTrackProvider trackProvider = file.loadTrack(localExecutor.getProcessingContext(), getIdentifier());
 
     try {
       log.debug("Starting to play FLAC track {}", getIdentifier());
@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.container.flac;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerProbe;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerSignature;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
@@ -12,6 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.supportedFormat;
@@ -25,6 +28,8 @@ public class FlacContainerProbe implements MediaContainerProbe {
   private static final String TITLE_TAG = "TITLE";
   private static final String ARTIST_TAG = "ARTIST";
 
+  private static final List<MediaContainerSignature> SIGNATURES = Collections.singletonList(new MediaContainerSignature(0, FlacFileLoader.FLAC_CC));
+
   @Override
   public String getName() {
     return "flac";
@@ -35,6 +40,11 @@ public class FlacContainerProbe implements MediaContainerProbe {
     return false;
   }
 
+  @Override
+  public List<MediaContainerSignature> getSignatures() {
+    return SIGNATURES;
+  }
+
   @Override
   public MediaContainerDetectionResult probe(AudioReference reference, SeekableInputStream inputStream) throws IOException {
     if (!checkNextBytes(inputStream, FlacFileLoader.FLAC_CC)) {
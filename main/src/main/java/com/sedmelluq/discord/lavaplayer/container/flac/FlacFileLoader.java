@@ -49,7 +49,18 @@ public class FlacFileLoader {
    * @throws IOException On IO error
    */
   public FlacTrackProvider loadTrack(AudioProcessingContext context) throws IOException {
-    return new FlacTrackProvider(context, parseHeaders(), inputStream);
+    return loadTrack(context, null);
+  }
+
+  /**
+   * Initialise a FLAC track stream.
+   * @param context Configuration and output information for processing
+   * @param identifier Identifier of the track, used for reusing its seek index between playbacks. May be null.
+   * @return The FLAC track stream which can produce frames.
+   * @throws IOException On IO error
+   */
+  public FlacTrackProvider loadTrack(AudioProcessingContext context, String identifier) throws IOException {
+    return new FlacTrackProvider(context, parseHeaders(), inputStream, identifier);
   }
 
   private void readMetadataBlocks(FlacTrackInfoBuilder trackInfoBuilder) throws IOException {
@@ -1,10 +1,11 @@
 package com.sedmelluq.discord.lavaplayer.container.flac;
 
 import com.sedmelluq.discord.lavaplayer.container.flac.frame.FlacFrameReader;
+import com.sedmelluq.discord.lavaplayer.container.seek.SeekIndexTracker;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipeline;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipelineFactory;
 import com.sedmelluq.discord.lavaplayer.filter.PcmFormat;
-import com.sedmelluq.discord.lavaplayer.tools.io.BitStreamReader;
+import com.sedmelluq.discord.lavaplayer.tools.io.BufferedBitStreamReader;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 
@@ -17,10 +18,12 @@ public class FlacTrackProvider {
   private final FlacTrackInfo info;
   private final SeekableInputStream inputStream;
   private final AudioPipeline downstream;
-  private final BitStreamReader bitStreamReader;
+  private final BufferedBitStreamReader bitStreamReader;
   private final int[] decodingBuffer;
   private final int[][] rawSampleBuffers;
   private final short[][] sampleBuffers;
+  private final SeekIndexTracker seekIndex;
+  private long currentSample;
 
   /**
    * @param context Configuration and output information for processing
@@ -28,14 +31,28 @@ public class FlacTrackProvider {
    * @param inputStream Input stream to use
    */
   public FlacTrackProvider(AudioProcessingContext context, FlacTrackInfo info, SeekableInputStream inputStream) {
+    this(context, info, inputStream, null);
+  }
+
+  /**
+   * @param context Configuration and output information for processing
+   * @param info Track information from FLAC metadata
+   * @param inputStream Input stream to use
+   * @param identifier Identifier of the track, used for reusing its seek index between playbacks. May be null.
+   */
+  public FlacTrackProvider(AudioProcessingContext context, FlacTrackInfo info, SeekableInputStream inputStream,
+                           String identifier) {
+
     this.info = info;
     this.inputStream = inputStream;
     this.downstream = AudioPipelineFactory.create(context,
         new PcmFormat(info.stream.channelCount, info.stream.sampleRate));
-    this.bitStreamReader = new BitStreamReader(inputStream);
+    this.bitStreamReader = new BufferedBitStreamReader(inputStream);
     this.decodingBuffer = new int[FlacFrameReader.TEMPORARY_BUFFER_SIZE];
     this.rawSampleBuffers = new int[info.stream.channelCount][];
     this.sampleBuffers = new short[info.stream.channelCount][];
+    this.seekIndex = SeekIndexTracker.create(context, "flac", identifier, inputStream.getContentLength(),
+        info.stream.sampleRate);
 
     for (int i = 0; i < rawSampleBuffers.length; i++) {
       rawSampleBuffers[i] = new int[info.stream.maximumBlockSize];
@@ -49,18 +66,29 @@ public class FlacTrackProvider {
    */
   public void provideFrames() throws InterruptedException {
     try {
+      long framePosition = getFramePosition();
       int sampleCount;
 
       while ((sampleCount = readFlacFrame()) != 0) {
+        seekIndex.record(currentSample, framePosition);
         downstream.process(sampleBuffers, 0, sampleCount);
+
+        currentSample += sampleCount;
+        framePosition = getFramePosition();
       }
+
+      seekIndex.endReached(currentSample);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
   private int readFlacFrame() throws IOException {
-    return FlacFrameReader.readFlacFrame(inputStream, bitStreamReader, info.stream, rawSampleBuffers, sampleBuffers, decodingBuffer);
+    return FlacFrameReader.readFlacFrame(bitStreamReader, info.stream, rawSampleBuffers, sampleBuffers, decodingBuffer);
+  }
+
+  private long getFramePosition() {
+    return inputStream.getPosition() - bitStreamReader.getBufferedByteCount();
   }
 
   /**
@@ -70,8 +98,21 @@ public class FlacTrackProvider {
   public void seekToTimecode(long timecode) {
     try {
       FlacSeekPoint seekPoint = findSeekPointForTime(timecode);
-      inputStream.seek(info.firstFramePosition + seekPoint.byteOffset);
-      downstream.seekPerformed(timecode, seekPoint.sampleIndex * 1000 / info.stream.sampleRate);
+      int indexPoint = seekIndex.findFloor(timecode * info.stream.sampleRate / 1000L);
+      long position;
+
+      if (indexPoint != -1 && seekIndex.getUnits(indexPoint) >= seekPoint.sampleIndex) {
+        position = seekIndex.getPosition(indexPoint);
+        currentSample = seekIndex.getUnits(indexPoint);
+      } else {
+        position = info.firstFramePosition + seekPoint.byteOffset;
+        currentSample = seekPoint.sampleIndex;
+      }
+
+      inputStream.seek(position);
+      bitStreamReader.discardBuffer();
+      seekIndex.seekPerformed(currentSample, true);
+      downstream.seekPerformed(timecode, currentSample * 1000 / info.stream.sampleRate);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -107,6 +148,7 @@ public class FlacTrackProvider {
    * Free all resources associated to processing the track.
    */
   public void close() {
+    seekIndex.save();
     downstream.close();
   }
 }
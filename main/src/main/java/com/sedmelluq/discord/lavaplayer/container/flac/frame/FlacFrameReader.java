@@ -28,15 +28,55 @@ public class FlacFrameReader {
    *                        between separate calls.
    * @return The number of samples read, zero on EOF
    * @throws IOException On read error
+   * @deprecated The frame sync is searched for directly in the input stream, which does not work with readers that
+   *             buffer ahead of it, such as {@link com.sedmelluq.discord.lavaplayer.tools.io.BufferedBitStreamReader}.
+   *             Use {@link #readFlacFrame(BitStreamReader, FlacStreamInfo, int[][], short[][], int[])} instead, which
+   *             reads everything through the bit stream reader.
    */
+  @Deprecated
   public static int readFlacFrame(InputStream inputStream, BitStreamReader reader, FlacStreamInfo streamInfo,
                                   int[][] rawSampleBuffers, short[][] sampleBuffers, int[] temporaryBuffer) throws IOException {
-    FlacFrameInfo frameInfo = findAndParseFrameHeader(inputStream, reader, streamInfo);
+    int blockingStrategy;
+
+    if ((blockingStrategy = skipToFrameSync(inputStream)) == -1) {
+      return 0;
+    }
+
+    FlacFrameInfo frameInfo = FlacFrameHeaderReader.readFrameHeader(reader, streamInfo, blockingStrategy == 1);
+    return readFrameContents(reader, streamInfo, frameInfo, rawSampleBuffers, sampleBuffers, temporaryBuffer);
+  }
+
+  /**
+   * Reads one frame, returning the number of samples written to sampleBuffers. A return value of 0 indicates that EOF
+   * was reached in the frame, which happens when the track ends. All input, including the frame sync bytes, is read
+   * through the bit stream reader, so this can be used with readers which buffer ahead of the underlying stream.
+   *
+   * @param reader Bit stream reader for reading the track
+   * @param streamInfo Global stream information
+   * @param rawSampleBuffers Intermediate sample decoding buffers. FlacStreamInfo#channelCount integer buffers of size
+   *                         at least FlacStreamInfo#maximumBlockSize.
+   * @param sampleBuffers The sample buffers where the final decoding result is written to. FlacStreamInfo#channelCount
+   *                      short buffers of size at least FlacStreamInfo#maximumBlockSize.
+   * @param temporaryBuffer Temporary working buffer of size at least TEMPORARY_BUFFER_SIZE. No state is held in this
+   *                        between separate calls.
+   * @return The number of samples read, zero on EOF
+   * @throws IOException On read error
+   */
+  public static int readFlacFrame(BitStreamReader reader, FlacStreamInfo streamInfo, int[][] rawSampleBuffers,
+                                  short[][] sampleBuffers, int[] temporaryBuffer) throws IOException {
+    FlacFrameInfo frameInfo = findAndParseFrameHeader(reader, streamInfo);
 
     if (frameInfo == null) {
       return 0;
     }
 
+    return readFrameContents(reader, streamInfo, frameInfo, rawSampleBuffers, sampleBuffers, temporaryBuffer);
+  }
+
+  private static int readFrameContents(BitStreamReader reader, FlacStreamInfo streamInfo, FlacFrameInfo frameInfo,
+                                       int[][] rawSampleBuffers, short[][] sampleBuffers, int[] temporaryBuffer)
+      throws IOException {
+
     for (int i = 0; i < streamInfo.channelCount; i++) {
       FlacSubFrameReader.readSubFrame(reader, streamInfo, frameInfo, rawSampleBuffers[i], i, temporaryBuffer);
     }
@@ -50,17 +90,32 @@ public class FlacFrameReader {
     return frameInfo.sampleCount;
   }
 
-  private static FlacFrameInfo findAndParseFrameHeader(InputStream inputStream, BitStreamReader reader,
-                                                       FlacStreamInfo streamInfo) throws IOException {
+  private static FlacFrameInfo findAndParseFrameHeader(BitStreamReader reader, FlacStreamInfo streamInfo)
+      throws IOException {
+
     int blockingStrategy;
 
-    if ((blockingStrategy = skipToFrameSync(inputStream)) == -1) {
+    if ((blockingStrategy = skipToFrameSync(reader)) == -1) {
       return null;
     }
 
     return FlacFrameHeaderReader.readFrameHeader(reader, streamInfo, blockingStrategy == 1);
   }
 
+  private static int skipToFrameSync(BitStreamReader reader) throws IOException {
+    int lastByte = -1;
+    int currentByte;
+
+    while ((currentByte = reader.readAlignedByte()) != -1) {
+      if (lastByte == 0xFF && (currentByte & 0xFE) == 0xF8) {
+        return currentByte & 0x01;
+      }
+      lastByte = currentByte;
+    }
+
+    return -1;
+  }
+
   private static int skipToFrameSync(InputStream inputStream) throws IOException {
     int lastByte = -1;
     int currentByte;
@@ -9,6 +9,8 @@ import java.io.IOException;
  * Contains methods for reading a FLAC subframe
  */
 public class FlacSubFrameReader {
+  private static final int UNROLLED_LPC_ORDER_MAXIMUM = 12;
+
   private static final Encoding[] encodingMapping = new Encoding[] {
       Encoding.LPC, null, Encoding.FIXED, null, null, Encoding.VERBATIM, Encoding.CONSTANT
   };
@@ -136,7 +138,119 @@ public class FlacSubFrameReader {
     restoreLpcSignal(sampleBuffer, sampleCount, order, shift, coefficients);
   }
 
+  /**
+   * The common orders have their own loops with the coefficients held in locals, so the inner loop over coefficients
+   * does not have to be run for every sample.
+   */
   private static void restoreLpcSignal(int[] buffer, int sampleCount, int order, int shift, int[] coefficients) {
+    if (order > UNROLLED_LPC_ORDER_MAXIMUM) {
+      restoreLpcSignalGeneric(buffer, sampleCount, order, shift, coefficients);
+      return;
+    }
+
+    long c0 = coefficients[0];
+    long c1 = coefficients[1];
+    long c2 = coefficients[2];
+    long c3 = coefficients[3];
+    long c4 = coefficients[4];
+    long c5 = coefficients[5];
+    long c6 = coefficients[6];
+    long c7 = coefficients[7];
+    long c8 = coefficients[8];
+    long c9 = coefficients[9];
+    long c10 = coefficients[10];
+    long c11 = coefficients[11];
+
+    switch (order) {
+      case 1:
+        for (int i = 1; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 2:
+        for (int i = 2; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 3:
+        for (int i = 3; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 4:
+        for (int i = 4; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 5:
+        for (int i = 5; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 6:
+        for (int i = 6; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5] + c5 * buffer[i - 6];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 7:
+        for (int i = 7; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5] + c5 * buffer[i - 6] + c6 * buffer[i - 7];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 8:
+        for (int i = 8; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5] + c5 * buffer[i - 6] + c6 * buffer[i - 7] + c7 * buffer[i - 8];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 9:
+        for (int i = 9; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5] + c5 * buffer[i - 6] + c6 * buffer[i - 7] + c7 * buffer[i - 8] + c8 * buffer[i - 9];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 10:
+        for (int i = 10; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5] + c5 * buffer[i - 6] + c6 * buffer[i - 7] + c7 * buffer[i - 8] + c8 * buffer[i - 9] +
+              c9 * buffer[i - 10];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 11:
+        for (int i = 11; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5] + c5 * buffer[i - 6] + c6 * buffer[i - 7] + c7 * buffer[i - 8] + c8 * buffer[i - 9] +
+              c9 * buffer[i - 10] + c10 * buffer[i - 11];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      case 12:
+        for (int i = 12; i < sampleCount; i++) {
+          long sum = c0 * buffer[i - 1] + c1 * buffer[i - 2] + c2 * buffer[i - 3] + c3 * buffer[i - 4] +
+              c4 * buffer[i - 5] + c5 * buffer[i - 6] + c6 * buffer[i - 7] + c7 * buffer[i - 8] + c8 * buffer[i - 9] +
+              c9 * buffer[i - 10] + c10 * buffer[i - 11] + c11 * buffer[i - 12];
+          buffer[i] += (int) (sum >> shift);
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static void restoreLpcSignalGeneric(int[] buffer, int sampleCount, int order, int shift, int[] coefficients) {
     for (int i = order; i < sampleCount; i++) {
       long sum = 0;
 
@@ -182,10 +296,7 @@ public class FlacSubFrameReader {
   }
 
   private static void readResidualBlock(BitStreamReader reader, int[] buffer, int offset, int endOffset, int parameter) throws IOException {
-    for (int i = offset; i < endOffset; i++) {
-      int lowOrderSigned = (reader.readAllZeroes() << parameter) | reader.asInteger(parameter);
-      buffer[i] = (lowOrderSigned & 1) == 0 ? lowOrderSigned >> 1 : -(lowOrderSigned >> 1) - 1;
-    }
+    reader.readRiceSignedBlock(buffer, offset, endOffset, parameter);
   }
 
   private enum Encoding {
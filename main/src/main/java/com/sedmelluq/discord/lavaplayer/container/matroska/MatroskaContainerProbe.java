@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.container.matroska;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerProbe;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerSignature;
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaFileTrack;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
@@ -14,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.*;
@@ -33,6 +35,8 @@ public class MatroskaContainerProbe implements MediaContainerProbe {
   private static final int[] EBML_TAG = new int[] { 0x1A, 0x45, 0xDF, 0xA3 };
   private static final List<String> supportedCodecs = Arrays.asList(OPUS_CODEC, VORBIS_CODEC, AAC_CODEC);
 
+  private static final List<MediaContainerSignature> SIGNATURES = Collections.singletonList(new MediaContainerSignature(0, EBML_TAG));
+
   @Override
   public String getName() {
     return "matroska/webm";
@@ -43,6 +47,11 @@ public class MatroskaContainerProbe implements MediaContainerProbe {
     return false;
   }
 
+  @Override
+  public List<MediaContainerSignature> getSignatures() {
+    return SIGNATURES;
+  }
+
   @Override
   public MediaContainerDetectionResult probe(AudioReference reference, SeekableInputStream inputStream) throws IOException {
     if (!checkNextBytes(inputStream, EBML_TAG)) {
@@ -16,6 +16,7 @@ import java.util.List;
  */
 public class MatroskaStreamingFile {
   private final MatroskaFileReader reader;
+  private final MatroskaClusterBuffer clusterBuffer = new MatroskaClusterBuffer();
 
   private String title;
   private String artist;
@@ -322,6 +323,11 @@ public class MatroskaStreamingFile {
   }
 
   private void parseNextCluster(MatroskaElement clusterElement, MatroskaTrackConsumer consumer) throws InterruptedException, IOException {
+    if (MatroskaClusterBuffer.canBuffer(clusterElement)) {
+      parseBufferedCluster(clusterElement, consumer);
+      return;
+    }
+
     MatroskaElement child;
     long clusterTimecode = 0;
 
@@ -338,6 +344,28 @@ public class MatroskaStreamingFile {
     }
   }
 
+  private void parseBufferedCluster(MatroskaElement clusterElement, MatroskaTrackConsumer consumer)
+      throws InterruptedException, IOException {
+
+    clusterBuffer.load(reader, clusterElement);
+    int trackIndex = consumer.getTrack().index;
+
+    while (clusterBuffer.nextBlock(trackIndex)) {
+      long timecode = clusterBuffer.getTimecode();
+
+      if (timecode >= minimumTimecode) {
+        if (seeking) {
+          consumer.seekPerformed(minimumTimecode, timecode);
+          seeking = false;
+        }
+
+        for (int i = 0; i < clusterBuffer.getFrameCount(); i++) {
+          consumer.consume(clusterBuffer.getFrameBuffer(i));
+        }
+      }
+    }
+  }
+
   private void parseClusterSimpleBlock(MatroskaElement simpleBlock, MatroskaTrackConsumer consumer, long clusterTimecode)
       throws InterruptedException, IOException {
 
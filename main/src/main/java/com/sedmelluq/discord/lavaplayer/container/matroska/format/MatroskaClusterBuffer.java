@@ -0,0 +1,281 @@
+package com.sedmelluq.discord.lavaplayer.container.matroska.format;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the contents of a whole cluster into a reusable direct buffer with bulk reads and parses the blocks from that
+ * buffer. Frames are provided as views into the same buffer, so they can be passed on to native decoders without being
+ * copied. Does not allocate anything per block or frame, the buffer is only reallocated when a larger cluster than seen
+ * before is encountered.
+ */
+public class MatroskaClusterBuffer {
+  private static final Logger log = LoggerFactory.getLogger(MatroskaClusterBuffer.class);
+
+  /**
+   * Clusters larger than this are not buffered and have to be read element by element instead.
+   */
+  public static final int MAXIMUM_CLUSTER_SIZE = 16 * 1024 * 1024;
+
+  private static final int MINIMUM_CAPACITY = 65536;
+  private static final int TRANSFER_SIZE = 16384;
+
+  private final byte[] transfer;
+  private ByteBuffer buffer;
+  private ByteBuffer frameView;
+  private int[] frameOffsets;
+  private int[] frameSizes;
+  private int frameCount;
+  private int dataEnd;
+  private int cursor;
+  private int groupEnd;
+  private long clusterTimecode;
+  private long blockTimecode;
+
+  public MatroskaClusterBuffer() {
+    this.transfer = new byte[TRANSFER_SIZE];
+    this.frameOffsets = new int[16];
+    this.frameSizes = new int[16];
+    this.groupEnd = -1;
+  }
+
+  /**
+   * @param cluster Cluster element
+   * @return True if the size of the cluster is known and small enough for it to be buffered
+   */
+  public static boolean canBuffer(MatroskaElement cluster) {
+    return cluster.getDataSize() > 0 && cluster.getDataSize() <= MAXIMUM_CLUSTER_SIZE;
+  }
+
+  /**
+   * Reads the rest of the cluster into the buffer. After this, the reader is positioned at the end of the cluster.
+   *
+   * @param reader The reader, positioned inside the cluster
+   * @param cluster The cluster element
+   * @throws IOException On read error
+   */
+  public void load(MatroskaFileReader reader, MatroskaElement cluster) throws IOException {
+    long remaining = cluster.getRemaining(reader.getPosition());
+
+    if (remaining < 0 || remaining > MAXIMUM_CLUSTER_SIZE) {
+      throw new IllegalStateException("Current position is outside of the cluster.");
+    }
+
+    int size = (int) remaining;
+    ensureCapacity(size);
+
+    DataInput input = reader.getDataInput();
+    buffer.clear();
+
+    while (buffer.position() < size) {
+      int chunk = Math.min(transfer.length, size - buffer.position());
+      input.readFully(transfer, 0, chunk);
+      buffer.put(transfer, 0, chunk);
+    }
+
+    dataEnd = size;
+    cursor = 0;
+    groupEnd = -1;
+    clusterTimecode = 0;
+  }
+
+  /**
+   * Advances to the next block for the specified track, also entering block groups.
+   *
+   * @param trackFilter The number of the track to find blocks for, negative for any track
+   * @return True if a block was found, false if the end of the cluster was reached
+   */
+  public boolean nextBlock(int trackFilter) {
+    while (true) {
+      if (groupEnd != -1 && cursor >= groupEnd) {
+        cursor = groupEnd;
+        groupEnd = -1;
+      }
+
+      if (cursor >= dataEnd) {
+        return false;
+      }
+
+      buffer.limit(groupEnd != -1 ? groupEnd : dataEnd);
+      buffer.position(cursor);
+
+      long id = MatroskaEbmlReader.readEbmlInteger(buffer, null);
+      long size = MatroskaEbmlReader.readEbmlInteger(buffer, null);
+      int dataStart = buffer.position();
+
+      if (size > buffer.limit() - dataStart) {
+        throw new IllegalStateException("Element extends beyond its parent.");
+      }
+
+      int elementEnd = dataStart + (int) size;
+
+      if (id == MatroskaElementType.BlockGroup.id) {
+        groupEnd = elementEnd;
+        cursor = dataStart;
+        continue;
+      }
+
+      cursor = elementEnd;
+
+      if (id == MatroskaElementType.Timecode.id) {
+        clusterTimecode = readUnsigned(dataStart, elementEnd);
+      } else if ((id == MatroskaElementType.SimpleBlock.id || id == MatroskaElementType.Block.id)
+          && parseBlock(dataStart, elementEnd, trackFilter)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return Absolute timecode of the current block
+   */
+  public long getTimecode() {
+    return blockTimecode;
+  }
+
+  /**
+   * @return The number of frames in the current block
+   */
+  public int getFrameCount() {
+    return frameCount;
+  }
+
+  /**
+   * @param index The index of the frame in the current block
+   * @return A buffer where the range between position and limit contains the data of the frame. The same instance is
+   *         returned for every frame and its contents are only valid until the next cluster is loaded.
+   */
+  public ByteBuffer getFrameBuffer(int index) {
+    if (index >= frameCount) {
+      throw new IllegalArgumentException("Frame index out of bounds.");
+    }
+
+    frameView.limit(frameOffsets[index] + frameSizes[index]);
+    frameView.position(frameOffsets[index]);
+    return frameView;
+  }
+
+  private boolean parseBlock(int start, int end, int trackFilter) {
+    try {
+      return parseBlockHeader(start, end, trackFilter);
+    } catch (BufferUnderflowException e) {
+      log.debug("Skipping truncated block at offset {} of cluster.", start);
+      frameCount = 0;
+      return false;
+    }
+  }
+
+  private boolean parseBlockHeader(int start, int end, int trackFilter) {
+    buffer.limit(end);
+    buffer.position(start);
+
+    int trackNumber = (int) MatroskaEbmlReader.readEbmlInteger(buffer, null);
+
+    if (trackFilter >= 0 && trackNumber != trackFilter) {
+      return false;
+    }
+
+    blockTimecode = clusterTimecode + buffer.getShort();
+
+    int flags = buffer.get() & 0xFF;
+    int laceType = (flags & 0x06) >> 1;
+
+    if (laceType != 0) {
+      setFrameCount((buffer.get() & 0xFF) + 1);
+      parseLacing(laceType, end);
+    } else {
+      setFrameCount(1);
+      frameSizes[0] = end - buffer.position();
+    }
+
+    int offset = buffer.position();
+
+    for (int i = 0; i < frameCount; i++) {
+      if (frameSizes[i] < 0) {
+        throw new IllegalStateException("Invalid frame size in block.");
+      }
+
+      frameOffsets[i] = offset;
+      offset += frameSizes[i];
+    }
+
+    if (offset > end) {
+      throw new IllegalStateException("Block frames extend beyond the block.");
+    }
+
+    return true;
+  }
+
+  private void parseLacing(int laceType, int end) {
+    int sizeTotal = 0;
+
+    switch (laceType) {
+      case 1:
+        for (int i = 0; i < frameCount - 1; i++) {
+          int value = 0;
+          int next;
+
+          do {
+            next = buffer.get() & 0xFF;
+            value += next;
+          } while (next == 255);
+
+          frameSizes[i] = value;
+          sizeTotal += value;
+        }
+        break;
+      case 2:
+        int size = (end - buffer.position()) / frameCount;
+
+        for (int i = 0; i < frameCount - 1; i++) {
+          frameSizes[i] = size;
+          sizeTotal += size;
+        }
+        break;
+      case 3:
+      default:
+        frameSizes[0] = (int) MatroskaEbmlReader.readEbmlInteger(buffer, null);
+        sizeTotal = frameSizes[0];
+
+        for (int i = 1; i < frameCount - 1; i++) {
+          frameSizes[i] = frameSizes[i - 1] + (int) MatroskaEbmlReader.readEbmlInteger(buffer,
+              MatroskaEbmlReader.Type.LACE_SIGNED);
+          sizeTotal += frameSizes[i];
+        }
+    }
+
+    frameSizes[frameCount - 1] = end - buffer.position() - sizeTotal;
+  }
+
+  private void setFrameCount(int frameCount) {
+    if (frameSizes.length < frameCount) {
+      frameSizes = new int[frameCount * 2];
+      frameOffsets = new int[frameCount * 2];
+    }
+
+    this.frameCount = frameCount;
+  }
+
+  private long readUnsigned(int start, int end) {
+    long value = 0;
+
+    for (int i = start; i < end; i++) {
+      value = (value << 8) | (buffer.get(i) & 0xFF);
+    }
+
+    return value;
+  }
+
+  private void ensureCapacity(int size) {
+    if (buffer == null || buffer.capacity() < size) {
+      int capacity = Math.max(MINIMUM_CAPACITY, Math.min(MAXIMUM_CLUSTER_SIZE, size + (size >> 1)));
+      buffer = ByteBuffer.allocateDirect(capacity);
+      frameView = buffer.duplicate();
+    }
+  }
+}
@@ -124,10 +124,12 @@ public class MutableMatroskaBlock implements MatroskaBlock {
 
     for (int i = 0; i < frameCount - 1; i++) {
       int value = 0;
+      int next;
 
       do {
-        value += input.readByte() & 0xFF;
-      } while (value == 255);
+        next = input.readByte() & 0xFF;
+        value += next;
+      } while (next == 255);
 
       frameSizes[i] = value;
       sizeTotal += value;
@@ -27,7 +27,8 @@ public class Mp3AudioTrack extends BaseAudioTrack {
 
   @Override
   public void process(LocalAudioTrackExecutor localExecutor) throws Exception {
-    Mp3TrackProvider provider = new Mp3TrackProvider(localExecutor.getProcessingContext(), inputStream);
+    Mp3TrackProvider provider = new Mp3TrackProvider(localExecutor.getProcessingContext(), inputStream,
+        getIdentifier());
 
     try {
       provider.parseHeaders();
@@ -1,8 +1,10 @@
 package com.sedmelluq.discord.lavaplayer.container.mp3;
 
+import com.sedmelluq.discord.lavaplayer.container.seek.SeekIndexTracker;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipeline;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipelineFactory;
 import com.sedmelluq.discord.lavaplayer.filter.PcmFormat;
+import com.sedmelluq.discord.lavaplayer.natives.DecoderPool;
 import com.sedmelluq.discord.lavaplayer.natives.mp3.Mp3Decoder;
 import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
@@ -36,10 +38,11 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
 
   private final AudioProcessingContext context;
   private final SeekableInputStream inputStream;
+  private final String identifier;
   private final DataInputStream dataInput;
   private final Mp3Decoder mp3Decoder;
+  private final DecoderPool pool;
   private final ShortBuffer outputBuffer;
-  private final ByteBuffer inputBuffer;
   private final byte[] frameBuffer;
   private final byte[] tagHeaderBuffer;
   private final Mp3FrameReader frameReader;
@@ -49,6 +52,10 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
   private int channelCount;
   private AudioPipeline downstream;
   private Mp3Seeker seeker;
+  private SeekIndexTracker seekIndex;
+  private long currentSample;
+  private ByteBuffer outputBytes;
+  private ByteBuffer inputBuffer;
 
   /**
    * @param context Configuration and output information for processing. May be null in case no frames are read and this
@@ -56,11 +63,24 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
    * @param inputStream Stream to read the file from
    */
   public Mp3TrackProvider(AudioProcessingContext context, SeekableInputStream inputStream) {
+    this(context, inputStream, null);
+  }
+
+  /**
+   * @param context Configuration and output information for processing. May be null in case no frames are read and this
+   *                instance is only used to retrieve information about the track.
+   * @param inputStream Stream to read the file from
+   * @param identifier Identifier of the track, used for reusing its seek index between playbacks. May be null.
+   */
+  public Mp3TrackProvider(AudioProcessingContext context, SeekableInputStream inputStream, String identifier) {
     this.context = context;
     this.inputStream = inputStream;
+    this.identifier = identifier;
     this.dataInput = new DataInputStream(inputStream);
-    this.outputBuffer = ByteBuffer.allocateDirect((int) MPEG1_SAMPLES_PER_FRAME * 4).order(ByteOrder.nativeOrder()).asShortBuffer();
-    this.inputBuffer = ByteBuffer.allocateDirect(Mp3Decoder.getMaximumFrameSize());
+    this.pool = context != null ? context.configuration.getDecoderPool() : null;
+    this.outputBytes = allocateBuffer((int) MPEG1_SAMPLES_PER_FRAME * 4);
+    this.outputBuffer = outputBytes.order(ByteOrder.nativeOrder()).asShortBuffer();
+    this.inputBuffer = allocateBuffer(Mp3Decoder.getMaximumFrameSize());
     this.frameBuffer = new byte[Mp3Decoder.getMaximumFrameSize()];
     this.tagHeaderBuffer = new byte[4];
     this.frameReader = new Mp3FrameReader(inputStream, frameBuffer);
@@ -107,6 +127,10 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
         seeker = Mp3ConstantRateSeeker.createFromFrame(startPosition, inputStream.getContentLength(), frameBuffer);
       }
     }
+
+    if (inputStream.getContentLength() != Units.CONTENT_LENGTH_UNKNOWN) {
+      seekIndex = SeekIndexTracker.create(context, "mp3", identifier, inputStream.getContentLength(), sampleRate);
+    }
   }
 
   /**
@@ -116,6 +140,16 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
   public void provideFrames() throws InterruptedException {
     try {
       while (frameReader.fillFrameBuffer()) {
+        long frameSamples = Mp3Decoder.getSamplesPerFrame(frameBuffer, 0);
+
+        if (seekIndex != null) {
+          if (currentSample == 0 && Mp3ConstantRateSeeker.isMetaFrame(frameBuffer)) {
+            frameSamples = 0;
+          }
+
+          seekIndex.record(currentSample, frameReader.getFrameStartPosition());
+        }
+
         inputBuffer.clear();
         inputBuffer.put(frameBuffer, 0, frameReader.getFrameSize());
         inputBuffer.flip();
@@ -129,8 +163,13 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
           downstream.process(outputBuffer);
         }
 
+        currentSample += frameSamples;
         frameReader.nextFrame();
       }
+
+      if (seekIndex != null) {
+        seekIndex.endReached(currentSample);
+      }
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -142,8 +181,22 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
    */
   public void seekToTimecode(long timecode) {
     try {
-      long frameIndex = seeker.seekAndGetFrameIndex(timecode, inputStream);
-      long actualTimecode = frameIndex * MPEG1_SAMPLES_PER_FRAME * 1000 / sampleRate;
+      int indexPoint = seekIndex != null ? seekIndex.findFloor(timecode * sampleRate / 1000) : -1;
+
+      if (indexPoint != -1) {
+        inputStream.seek(seekIndex.getPosition(indexPoint));
+        currentSample = seekIndex.getUnits(indexPoint);
+        seekIndex.seekPerformed(currentSample, true);
+      } else {
+        long frameIndex = seeker.seekAndGetFrameIndex(timecode, inputStream);
+        currentSample = frameIndex * MPEG1_SAMPLES_PER_FRAME;
+
+        if (seekIndex != null) {
+          seekIndex.seekPerformed(currentSample, false);
+        }
+      }
+
+      long actualTimecode = currentSample * 1000 / sampleRate;
       downstream.seekPerformed(timecode, actualTimecode);
 
       frameReader.nextFrame();
@@ -163,6 +216,10 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
    * @return An estimated duration of the file in milliseconds
    */
   public long getDuration() {
+    if (seekIndex != null && seekIndex.isComplete()) {
+      return seekIndex.getTotalUnits() * 1000 / sampleRate;
+    }
+
     return seeker.getDuration();
   }
 
@@ -180,11 +237,27 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
    * Closes resources.
    */
   public void close() {
+    if (seekIndex != null) {
+      seekIndex.save();
+    }
+
     if (downstream != null) {
       downstream.close();
     }
 
     mp3Decoder.close();
+
+    if (pool != null && inputBuffer != null) {
+      pool.returnDirectBuffer(inputBuffer);
+      pool.returnDirectBuffer(outputBytes);
+      inputBuffer = null;
+      outputBytes = null;
+    }
+  }
+
+  private ByteBuffer allocateBuffer(int capacity) {
+    // The native MP3 decoder itself is not pooled, as it keeps buffered input which it has no way to discard.
+    return pool != null ? pool.borrowDirectBuffer(capacity) : ByteBuffer.allocateDirect(capacity);
   }
 
   private void skipIdv3Tags() throws IOException {
@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.container.mpeg;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerProbe;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerSignature;
 import com.sedmelluq.discord.lavaplayer.container.mpeg.reader.MpegFileTrackProvider;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
@@ -13,6 +14,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.supportedFormat;
@@ -26,6 +29,8 @@ public class MpegContainerProbe implements MediaContainerProbe {
 
   private static final int[] ISO_TAG = new int[] { 0x00, 0x00, 0x00, -1, 0x66, 0x74, 0x79, 0x70 };
 
+  private static final List<MediaContainerSignature> SIGNATURES = Collections.singletonList(new MediaContainerSignature(0, ISO_TAG));
+
   @Override
   public String getName() {
     return "mp4";
@@ -36,6 +41,11 @@ public class MpegContainerProbe implements MediaContainerProbe {
     return false;
   }
 
+  @Override
+  public List<MediaContainerSignature> getSignatures() {
+    return SIGNATURES;
+  }
+
   @Override
   public MediaContainerDetectionResult probe(AudioReference reference, SeekableInputStream inputStream) throws IOException {
     if (!checkNextBytes(inputStream, ISO_TAG)) {
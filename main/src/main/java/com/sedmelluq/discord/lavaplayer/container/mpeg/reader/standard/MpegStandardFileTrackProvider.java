@@ -88,16 +88,27 @@ public class MpegStandardFileTrackProvider implements MpegFileTrackProvider {
       currentChunk = length;
       consumer.seekPerformed(timecode, seekInfo.totalDuration * 1000 / timescale);
     } else {
-      for (int i = 0; i < length; i++) {
-        long nextTimecode = i < length - 1 ? seekInfo.chunkTimecodes[i + 1] : seekInfo.totalDuration;
+      int chunk = findChunkForTimecode(scaledTimecode);
+      consumer.seekPerformed(timecode, seekInfo.chunkTimecodes[chunk] * 1000 / timescale);
+      currentChunk = chunk;
+    }
+  }
 
-        if (scaledTimecode < nextTimecode) {
-          consumer.seekPerformed(timecode, seekInfo.chunkTimecodes[i] * 1000 / timescale);
-          currentChunk = i;
-          break;
-        }
+  private int findChunkForTimecode(long scaledTimecode) {
+    int low = 0;
+    int high = seekInfo.chunkTimecodes.length - 1;
+
+    while (high > low) {
+      int mid = (low + high + 1) >>> 1;
+
+      if (seekInfo.chunkTimecodes[mid] > scaledTimecode) {
+        high = mid - 1;
+      } else {
+        low = mid;
       }
     }
+
+    return low;
   }
 
   /**
@@ -34,6 +34,9 @@ public class OggAudioTrack extends BaseAudioTrack {
   @Override
   public void process(final LocalAudioTrackExecutor localExecutor) throws IOException {
     OggPacketInputStream packetInputStream = new OggPacketInputStream(inputStream, false);
+    packetInputStream.setSeekIndexStore(localExecutor.getProcessingContext().configuration.getSeekIndexStore(),
+        getIdentifier());
+
     OggTrackBlueprint blueprint = OggTrackLoader.loadTrackBlueprint(packetInputStream);
 
     log.debug("Starting to play an OGG track {}", getIdentifier());
@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.container.ogg;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerProbe;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerSignature;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
@@ -12,6 +13,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.supportedFormat;
@@ -23,6 +26,8 @@ import static com.sedmelluq.discord.lavaplayer.container.ogg.OggPacketInputStrea
 public class OggContainerProbe implements MediaContainerProbe {
   private static final Logger log = LoggerFactory.getLogger(OggContainerProbe.class);
 
+  private static final List<MediaContainerSignature> SIGNATURES = Collections.singletonList(new MediaContainerSignature(0, OGG_PAGE_HEADER));
+
   @Override
   public String getName() {
     return "ogg";
@@ -33,6 +38,11 @@ public class OggContainerProbe implements MediaContainerProbe {
     return false;
   }
 
+  @Override
+  public List<MediaContainerSignature> getSignatures() {
+    return SIGNATURES;
+  }
+
   @Override
   public MediaContainerDetectionResult probe(AudioReference reference, SeekableInputStream stream) throws IOException {
     if (!checkNextBytes(stream, OGG_PAGE_HEADER)) {
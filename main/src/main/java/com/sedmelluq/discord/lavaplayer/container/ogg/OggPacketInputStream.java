@@ -1,9 +1,14 @@
 package com.sedmelluq.discord.lavaplayer.container.ogg;
 
+import com.sedmelluq.discord.lavaplayer.container.seek.SeekIndex;
+import com.sedmelluq.discord.lavaplayer.container.seek.SeekIndexKey;
+import com.sedmelluq.discord.lavaplayer.container.seek.SeekIndexStore;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.tools.io.StreamTools;
 
 import java.io.*;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
@@ -25,6 +30,8 @@ public class OggPacketInputStream extends InputStream {
   private final int[] segmentSizes;
 
   private List<OggSeekPoint> seekPoints;
+  private SeekIndexStore seekIndexStore;
+  private String identifier;
   private OggPageHeader pageHeader;
   private int bytesLeftInPacket;
   private boolean packetContinues;
@@ -47,6 +54,15 @@ public class OggPacketInputStream extends InputStream {
     this.seekPoints = seekPoints;
   }
 
+  /**
+   * @param seekIndexStore Store for reusing seek tables between playbacks, null to always scan the stream
+   * @param identifier Identifier of the track the stream belongs to
+   */
+  public void setSeekIndexStore(SeekIndexStore seekIndexStore, String identifier) {
+    this.seekIndexStore = identifier != null ? seekIndexStore : null;
+    this.identifier = identifier;
+  }
+
   /**
    * Load the next track from the stream. This is only valid when the stream is in a track boundary state.
    * @return True if next track is present in the stream, false if the stream has terminated.
@@ -319,9 +335,19 @@ public class OggPacketInputStream extends InputStream {
       return null;
     }
 
-    long savedPosition = inputStream.getPosition();
-
     long absoluteOffset = pageHeader.byteStreamPosition;
+    SeekIndexKey key = null;
+
+    if (seekIndexStore != null && inputStream.getContentLength() != Units.CONTENT_LENGTH_UNKNOWN) {
+      key = new SeekIndexKey("ogg:" + absoluteOffset, identifier, inputStream.getContentLength());
+      SeekIndex index = seekIndexStore.get(key);
+
+      if (index != null && index.getTimescale() == sampleRate) {
+        return toSeekPoints(index, sampleRate);
+      }
+    }
+
+    long savedPosition = inputStream.getPosition();
     inputStream.seek(absoluteOffset);
 
     byte[] data = new byte[(int) inputStream.getContentLength()];
@@ -330,9 +356,38 @@ public class OggPacketInputStream extends InputStream {
     List<OggSeekPoint> seekPoints = new OggPageScanner(absoluteOffset, data, dataLength).createSeekTable(sampleRate);
 
     inputStream.seek(savedPosition);
+
+    if (key != null && !seekPoints.isEmpty()) {
+      seekIndexStore.put(key, toSeekIndex(seekPoints, sampleRate));
+    }
+
     return seekPoints;
   }
 
+  private static List<OggSeekPoint> toSeekPoints(SeekIndex index, int sampleRate) {
+    List<OggSeekPoint> seekPoints = new ArrayList<>(index.size());
+
+    for (int i = 0; i < index.size(); i++) {
+      long granulePosition = index.getUnits(i);
+      seekPoints.add(new OggSeekPoint(index.getPosition(i), granulePosition, granulePosition / (sampleRate / 1000), i + 1));
+    }
+
+    return seekPoints;
+  }
+
+  private static SeekIndex toSeekIndex(List<OggSeekPoint> seekPoints, int sampleRate) {
+    long[] granulePositions = new long[seekPoints.size()];
+    long[] positions = new long[seekPoints.size()];
+
+    for (int i = 0; i < seekPoints.size(); i++) {
+      granulePositions[i] = seekPoints.get(i).getGranulePosition();
+      positions[i] = seekPoints.get(i).getPosition();
+    }
+
+    long totalUnits = granulePositions[granulePositions.length - 1];
+    return new SeekIndex(sampleRate, totalUnits, granulePositions, positions, positions.length);
+  }
+
   /**
    * If it is possible to seek backwards on this stream, and the length of the stream is known, seeks to the end of the
    * track to determine the stream length both in bytes and samples.
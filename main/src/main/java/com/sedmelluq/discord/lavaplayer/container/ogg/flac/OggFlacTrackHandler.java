@@ -7,7 +7,7 @@ import com.sedmelluq.discord.lavaplayer.container.ogg.OggTrackHandler;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipeline;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipelineFactory;
 import com.sedmelluq.discord.lavaplayer.filter.PcmFormat;
-import com.sedmelluq.discord.lavaplayer.tools.io.BitStreamReader;
+import com.sedmelluq.discord.lavaplayer.tools.io.BufferedBitStreamReader;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 
 import java.io.IOException;
@@ -18,7 +18,7 @@ import java.io.IOException;
 public class OggFlacTrackHandler implements OggTrackHandler {
   private final FlacTrackInfo info;
   private final OggPacketInputStream packetInputStream;
-  private final BitStreamReader bitStreamReader;
+  private final BufferedBitStreamReader bitStreamReader;
   private final int[] decodingBuffer;
   private final int[][] rawSampleBuffers;
   private final short[][] sampleBuffers;
@@ -31,7 +31,7 @@ public class OggFlacTrackHandler implements OggTrackHandler {
   public OggFlacTrackHandler(FlacTrackInfo info, OggPacketInputStream packetInputStream) {
     this.info = info;
     this.packetInputStream = packetInputStream;
-    this.bitStreamReader = new BitStreamReader(packetInputStream);
+    this.bitStreamReader = new BufferedBitStreamReader(packetInputStream);
     this.decodingBuffer = new int[FlacFrameReader.TEMPORARY_BUFFER_SIZE];
     this.rawSampleBuffers = new int[info.stream.channelCount][];
     this.sampleBuffers = new short[info.stream.channelCount][];
@@ -53,6 +53,7 @@ public class OggFlacTrackHandler implements OggTrackHandler {
   public void provideFrames() throws InterruptedException {
     try {
       while (packetInputStream.startNewPacket()) {
+        bitStreamReader.discardBuffer();
         int sampleCount = readFlacFrame();
 
         if (sampleCount == 0) {
@@ -67,7 +68,7 @@ public class OggFlacTrackHandler implements OggTrackHandler {
   }
 
   private int readFlacFrame() throws IOException {
-    return FlacFrameReader.readFlacFrame(packetInputStream, bitStreamReader, info.stream, rawSampleBuffers, sampleBuffers, decodingBuffer);
+    return FlacFrameReader.readFlacFrame(bitStreamReader, info.stream, rawSampleBuffers, sampleBuffers, decodingBuffer);
   }
 
   @Override
@@ -4,6 +4,7 @@ import com.sedmelluq.discord.lavaplayer.container.MediaContainerDescriptor;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerHints;
 import com.sedmelluq.discord.lavaplayer.container.MediaContainerProbe;
+import com.sedmelluq.discord.lavaplayer.container.MediaContainerSignature;
 import com.sedmelluq.discord.lavaplayer.source.http.HttpAudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
@@ -19,6 +20,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetection.checkNextBytes;
 import static com.sedmelluq.discord.lavaplayer.container.MediaContainerDetectionResult.*;
@@ -35,6 +38,11 @@ public class M3uPlaylistContainerProbe implements MediaContainerProbe {
   private static final int[] M3U_HEADER_TAG = new int[] { '#', 'E', 'X', 'T', 'M', '3', 'U' };
   private static final int[] M3U_ENTRY_TAG = new int[] { '#', 'E', 'X', 'T', 'I', 'N', 'F' };
 
+  private static final List<MediaContainerSignature> SIGNATURES = Arrays.asList(
+      new MediaContainerSignature(0, M3U_HEADER_TAG),
+      new MediaContainerSignature(0, M3U_ENTRY_TAG)
+  );
+
   private final HttpInterfaceManager httpInterfaceManager = new ThreadLocalHttpInterfaceManager(
       HttpClientTools
           .createSharedCookiesHttpBuilder()
@@ -52,6 +60,11 @@ public class M3uPlaylistContainerProbe implements MediaContainerProbe {
     return false;
   }
 
+  @Override
+  public List<MediaContainerSignature> getSignatures() {
+    return SIGNATURES;
+  }
+
   @Override
   public MediaContainerDetectionResult probe(AudioReference reference, SeekableInputStream inputStream) throws IOException {
     if (!checkNextBytes(inputStream, M3U_HEADER_TAG) && !checkNextBytes(inputStream, M3U_ENTRY_TAG)) {
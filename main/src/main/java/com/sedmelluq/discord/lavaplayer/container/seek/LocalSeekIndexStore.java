@@ -0,0 +1,190 @@
+package com.sedmelluq.discord.lavaplayer.container.seek;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Seek index store which keeps the most recently used indexes in memory and optionally persists them to a local
+ * directory. Both the memory and the directory are bounded, the least recently used indexes are evicted first.
+ */
+public class LocalSeekIndexStore implements SeekIndexStore {
+  private static final Logger log = LoggerFactory.getLogger(LocalSeekIndexStore.class);
+
+  private static final String FILE_SUFFIX = ".idx";
+
+  private final File directory;
+  private final int maximumFiles;
+  private final Map<SeekIndexKey, SeekIndex> memoryEntries;
+  private final LinkedHashMap<String, Boolean> fileEntries;
+
+  /**
+   * Creates a store which only keeps indexes in memory.
+   *
+   * @param maximumEntries Maximum number of indexes to keep in memory
+   */
+  public LocalSeekIndexStore(int maximumEntries) {
+    this(maximumEntries, null, 0);
+  }
+
+  /**
+   * @param maximumEntries Maximum number of indexes to keep in memory
+   * @param directory Directory to persist indexes to, null to only keep them in memory
+   * @param maximumFiles Maximum number of indexes to keep in the directory
+   */
+  public LocalSeekIndexStore(int maximumEntries, File directory, int maximumFiles) {
+    this.directory = directory;
+    this.maximumFiles = maximumFiles;
+    this.memoryEntries = new LinkedHashMap<SeekIndexKey, SeekIndex>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<SeekIndexKey, SeekIndex> eldest) {
+        return size() > maximumEntries;
+      }
+    };
+    this.fileEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+    if (directory != null) {
+      loadDirectory();
+    }
+  }
+
+  @Override
+  public synchronized SeekIndex get(SeekIndexKey key) {
+    SeekIndex index = memoryEntries.get(key);
+
+    if (index == null && directory != null) {
+      index = readFile(key);
+
+      if (index != null) {
+        memoryEntries.put(key, index);
+      }
+    }
+
+    return index;
+  }
+
+  @Override
+  public synchronized void put(SeekIndexKey key, SeekIndex index) {
+    memoryEntries.put(key, index);
+
+    if (directory != null) {
+      writeFile(key, index);
+    }
+  }
+
+  private void loadDirectory() {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      log.warn("Could not create seek index directory {}.", directory);
+      return;
+    }
+
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+
+    if (files != null) {
+      Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+
+      for (File file : files) {
+        fileEntries.put(file.getName(), Boolean.TRUE);
+      }
+
+      evictFiles();
+    }
+  }
+
+  private SeekIndex readFile(SeekIndexKey key) {
+    String fileName = getFileName(key);
+
+    if (fileEntries.get(fileName) == null) {
+      return null;
+    }
+
+    File file = new File(directory, fileName);
+
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (!key.toString().equals(input.readUTF())) {
+        return null;
+      }
+
+      SeekIndex index = SeekIndex.read(input);
+
+      if (!file.setLastModified(System.currentTimeMillis())) {
+        log.debug("Could not update access time of seek index file {}.", file);
+      }
+
+      return index;
+    } catch (IOException e) {
+      log.warn("Failed to read seek index file {}, discarding it.", file, e);
+      deleteFile(fileName);
+      return null;
+    }
+  }
+
+  private void writeFile(SeekIndexKey key, SeekIndex index) {
+    String fileName = getFileName(key);
+    File file = new File(directory, fileName);
+
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      output.writeUTF(key.toString());
+      index.write(output);
+    } catch (IOException e) {
+      log.warn("Failed to write seek index file {}.", file, e);
+      deleteFile(fileName);
+      return;
+    }
+
+    fileEntries.put(fileName, Boolean.TRUE);
+    evictFiles();
+  }
+
+  private void evictFiles() {
+    Iterator<String> iterator = fileEntries.keySet().iterator();
+
+    while (fileEntries.size() > maximumFiles && iterator.hasNext()) {
+      String fileName = iterator.next();
+      iterator.remove();
+
+      if (!new File(directory, fileName).delete()) {
+        log.debug("Could not delete evicted seek index file {}.", fileName);
+      }
+    }
+  }
+
+  private void deleteFile(String fileName) {
+    fileEntries.remove(fileName);
+
+    if (!new File(directory, fileName).delete()) {
+      log.debug("Could not delete seek index file {}.", fileName);
+    }
+  }
+
+  private static String getFileName(SeekIndexKey key) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+      StringBuilder builder = new StringBuilder(digest.length * 2 + FILE_SUFFIX.length());
+
+      for (byte value : digest) {
+        builder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+      }
+
+      return builder.append(FILE_SUFFIX).toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
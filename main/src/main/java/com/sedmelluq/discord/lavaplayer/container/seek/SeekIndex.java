@@ -0,0 +1,193 @@
+package com.sedmelluq.discord.lavaplayer.container.seek;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact time to byte offset index of a track. The time of each point is in container specific units (for example
+ * samples or granule positions) with the number of units per second given by the timescale. Points are sorted in
+ * ascending order by both time and position and cover the track contiguously from its beginning up to the last point.
+ */
+public class SeekIndex {
+  private static final int FORMAT_VERSION = 1;
+
+  private final long timescale;
+  private final long totalUnits;
+  private final long[] units;
+  private final long[] positions;
+  private final int count;
+
+  /**
+   * @param timescale Number of time units in one second
+   * @param totalUnits Length of the track in time units if the index covers the whole track, otherwise -1
+   * @param units Time of each point in time units
+   * @param positions Byte position of each point
+   * @param count Number of points in the arrays
+   */
+  public SeekIndex(long timescale, long totalUnits, long[] units, long[] positions, int count) {
+    this.timescale = timescale;
+    this.totalUnits = totalUnits;
+    this.units = units;
+    this.positions = positions;
+    this.count = count;
+  }
+
+  /**
+   * @return Number of time units in one second
+   */
+  public long getTimescale() {
+    return timescale;
+  }
+
+  /**
+   * @return Length of the track in time units, -1 if the index does not cover the whole track
+   */
+  public long getTotalUnits() {
+    return totalUnits;
+  }
+
+  /**
+   * @return True if the index covers the whole track
+   */
+  public boolean isComplete() {
+    return totalUnits >= 0;
+  }
+
+  /**
+   * @return Number of points in the index
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * @param index Index of the point
+   * @return Time of the point in time units
+   */
+  public long getUnits(int index) {
+    return units[index];
+  }
+
+  /**
+   * @param index Index of the point
+   * @return Byte position of the point
+   */
+  public long getPosition(int index) {
+    return positions[index];
+  }
+
+  /**
+   * @param target Time in time units
+   * @return Index of the last point at or before the specified time, -1 if the index does not cover that time
+   */
+  public int findFloor(long target) {
+    return findFloor(units, count, totalUnits, target);
+  }
+
+  static int findFloor(long[] units, int count, long totalUnits, long target) {
+    if (count == 0 || target < units[0] || (totalUnits < 0 && target > units[count - 1])) {
+      return -1;
+    }
+
+    int low = 0;
+    int high = count - 1;
+
+    while (high > low) {
+      int mid = (low + high + 1) >>> 1;
+
+      if (units[mid] > target) {
+        high = mid - 1;
+      } else {
+        low = mid;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Writes the index in a delta encoded form.
+   *
+   * @param output Output to write to
+   * @throws IOException On write error
+   */
+  public void write(DataOutput output) throws IOException {
+    output.writeByte(FORMAT_VERSION);
+    output.writeLong(timescale);
+    output.writeLong(totalUnits);
+    output.writeInt(count);
+
+    long lastUnits = 0;
+    long lastPosition = 0;
+
+    for (int i = 0; i < count; i++) {
+      writeVarLong(output, units[i] - lastUnits);
+      writeVarLong(output, positions[i] - lastPosition);
+
+      lastUnits = units[i];
+      lastPosition = positions[i];
+    }
+  }
+
+  /**
+   * @param input Input to read an index written with {@link #write(DataOutput)} from
+   * @return The index
+   * @throws IOException On read error or if the data is not a valid index
+   */
+  public static SeekIndex read(DataInput input) throws IOException {
+    int version = input.readByte() & 0xFF;
+
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported seek index version " + version);
+    }
+
+    long timescale = input.readLong();
+    long totalUnits = input.readLong();
+    int count = input.readInt();
+
+    if (count < 0) {
+      throw new IOException("Invalid seek index point count " + count);
+    }
+
+    long[] units = new long[count];
+    long[] positions = new long[count];
+
+    long lastUnits = 0;
+    long lastPosition = 0;
+
+    for (int i = 0; i < count; i++) {
+      lastUnits += readVarLong(input);
+      lastPosition += readVarLong(input);
+
+      units[i] = lastUnits;
+      positions[i] = lastPosition;
+    }
+
+    return new SeekIndex(timescale, totalUnits, units, positions, count);
+  }
+
+  private static void writeVarLong(DataOutput output, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+
+    output.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInput input) throws IOException {
+    long value = 0;
+
+    for (int shift = 0; shift < 64; shift += 7) {
+      int current = input.readByte() & 0xFF;
+      value |= (long) (current & 0x7F) << shift;
+
+      if ((current & 0x80) == 0) {
+        return value;
+      }
+    }
+
+    throw new IOException("Malformed variable length integer in seek index.");
+  }
+}
@@ -0,0 +1,44 @@
+package com.sedmelluq.discord.lavaplayer.container.seek;
+
+import java.util.Objects;
+
+/**
+ * Identifies the seek index of one track. The content length is part of the identity so that an index is not reused
+ * when the file behind an identifier changes.
+ */
+public class SeekIndexKey {
+  public final String format;
+  public final String identifier;
+  public final long contentLength;
+
+  /**
+   * @param format Format of the index, distinguishes indexes built by different containers or for different tracks
+   *               within the same file
+   * @param identifier Identifier of the track
+   * @param contentLength Length of the file in bytes
+   */
+  public SeekIndexKey(String format, String identifier, long contentLength) {
+    this.format = format;
+    this.identifier = identifier;
+    this.contentLength = contentLength;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    SeekIndexKey that = (SeekIndexKey) o;
+    return contentLength == that.contentLength && format.equals(that.format) && identifier.equals(that.identifier);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(format, identifier, contentLength);
+  }
+
+  @Override
+  public String toString() {
+    return format + ":" + contentLength + ":" + identifier;
+  }
+}
@@ -0,0 +1,19 @@
+package com.sedmelluq.discord.lavaplayer.container.seek;
+
+/**
+ * Storage for seek indexes of tracks, so that indexes built during one playback can be reused for later playbacks of
+ * the same track.
+ */
+public interface SeekIndexStore {
+  /**
+   * @param key Key of the track
+   * @return The stored index, null if there is none
+   */
+  SeekIndex get(SeekIndexKey key);
+
+  /**
+   * @param key Key of the track
+   * @param index Index to store, replaces any previously stored index for the same key
+   */
+  void put(SeekIndexKey key, SeekIndex index);
+}
@@ -0,0 +1,175 @@
+package com.sedmelluq.discord.lavaplayer.container.seek;
+
+import com.sedmelluq.discord.lavaplayer.tools.Units;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
+
+import java.util.Arrays;
+
+/**
+ * Seek index of one track during playback. Starts from the index stored for the track, if any, and extends it with the
+ * frame positions encountered while decoding. Positions are only recorded while the decoding position is exactly
+ * known, which keeps the index contiguous from the beginning of the track. When the track is closed, the extended
+ * index is saved back to the store.
+ */
+public class SeekIndexTracker {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final SeekIndexStore store;
+  private final SeekIndexKey key;
+  private final long timescale;
+  private final long spacing;
+  private long[] units;
+  private long[] positions;
+  private int count;
+  private long totalUnits;
+  private boolean recording;
+  private boolean modified;
+
+  /**
+   * @param store Store to load the index from and save it to, null to only track the index for this playback
+   * @param key Key of the track
+   * @param timescale Number of time units in one second
+   */
+  public SeekIndexTracker(SeekIndexStore store, SeekIndexKey key, long timescale) {
+    this.store = store;
+    this.key = key;
+    this.timescale = timescale;
+    this.spacing = Math.max(1, timescale / 2);
+    this.totalUnits = -1;
+    this.recording = true;
+
+    SeekIndex stored = store != null ? store.get(key) : null;
+
+    if (stored != null && stored.getTimescale() == timescale) {
+      units = new long[Math.max(INITIAL_CAPACITY, stored.size())];
+      positions = new long[units.length];
+      count = stored.size();
+      totalUnits = stored.getTotalUnits();
+
+      for (int i = 0; i < count; i++) {
+        units[i] = stored.getUnits(i);
+        positions[i] = stored.getPosition(i);
+      }
+    } else {
+      units = new long[INITIAL_CAPACITY];
+      positions = new long[INITIAL_CAPACITY];
+    }
+  }
+
+  /**
+   * @param context Processing context of the track, may be null
+   * @param format Format of the index, see {@link SeekIndexKey#format}
+   * @param identifier Identifier of the track, may be null
+   * @param contentLength Length of the file in bytes
+   * @param timescale Number of time units in one second
+   * @return Tracker for the track, which uses the store from the configuration of the context if the track can be
+   *         identified
+   */
+  public static SeekIndexTracker create(AudioProcessingContext context, String format, String identifier,
+                                        long contentLength, long timescale) {
+
+    SeekIndexStore store = context != null ? context.configuration.getSeekIndexStore() : null;
+
+    if (identifier == null || contentLength == Units.CONTENT_LENGTH_UNKNOWN) {
+      store = null;
+    }
+
+    return new SeekIndexTracker(store, new SeekIndexKey(format, String.valueOf(identifier), contentLength), timescale);
+  }
+
+  /**
+   * @return True if the index covers the whole track
+   */
+  public boolean isComplete() {
+    return totalUnits >= 0;
+  }
+
+  /**
+   * @return Length of the track in time units, -1 if the index does not cover the whole track
+   */
+  public long getTotalUnits() {
+    return totalUnits;
+  }
+
+  /**
+   * @param target Time in time units
+   * @return Index of the last point at or before the specified time, -1 if the index does not cover that time
+   */
+  public int findFloor(long target) {
+    return SeekIndex.findFloor(units, count, totalUnits, target);
+  }
+
+  /**
+   * @param index Index of the point
+   * @return Time of the point in time units
+   */
+  public long getUnits(int index) {
+    return units[index];
+  }
+
+  /**
+   * @param index Index of the point
+   * @return Byte position of the point
+   */
+  public long getPosition(int index) {
+    return positions[index];
+  }
+
+  /**
+   * Records the position of a frame which is about to be decoded.
+   *
+   * @param frameUnits Time of the start of the frame in time units
+   * @param position Byte position of the frame
+   */
+  public void record(long frameUnits, long position) {
+    if (!recording || (count > 0 && frameUnits < units[count - 1] + spacing)) {
+      return;
+    }
+
+    if (count == units.length) {
+      units = Arrays.copyOf(units, count * 2);
+      positions = Arrays.copyOf(positions, count * 2);
+    }
+
+    units[count] = frameUnits;
+    positions[count] = position;
+    count++;
+    modified = true;
+  }
+
+  /**
+   * Must be called after every seek, so that recording is paused while the decoding position is not exactly known.
+   *
+   * @param seekUnits Time the stream was positioned at
+   * @param exact Whether the stream is positioned exactly at the start of a frame at the specified time
+   */
+  public void seekPerformed(long seekUnits, boolean exact) {
+    recording = exact && (count == 0 ? seekUnits == 0 : seekUnits <= units[count - 1]);
+  }
+
+  /**
+   * Marks the end of the track. The index becomes complete if positions were recorded up to this point.
+   *
+   * @param endUnits Length of the track in time units
+   */
+  public void endReached(long endUnits) {
+    if (recording && totalUnits < 0) {
+      totalUnits = endUnits;
+      modified = true;
+    }
+
+    recording = false;
+  }
+
+  /**
+   * Saves the index to the store if it was extended during this playback.
+   */
+  public void save() {
+    if (store != null && modified && count > 0) {
+      store.put(key, new SeekIndex(timescale, totalUnits, Arrays.copyOf(units, count), Arrays.copyOf(positions, count),
+          count));
+
+      modified = false;
+    }
+  }
+}
@@ -19,7 +19,7 @@ public class AudioPipelineFactory {
    */
   public static boolean isProcessingRequired(AudioProcessingContext context, AudioDataFormat inputFormat) {
     return !context.outputFormat.equals(inputFormat) || context.playerOptions.volumeLevel.get() != 100 ||
-        context.playerOptions.filterFactory.get() != null;
+        context.playerOptions.filterFactory.get() != null || context.playerOptions.crossfadeDuration.get() > 0;
   }
 
   /**
@@ -60,7 +60,7 @@ public class AudioPipelineFactory {
 
     return Arrays.asList(
         new VolumePostProcessor(context),
-        new BufferingPostProcessor(context, chunkEncoder)
+        new TransitionPostProcessor(context, new BufferingPostProcessor(context, chunkEncoder))
     );
   }
 }
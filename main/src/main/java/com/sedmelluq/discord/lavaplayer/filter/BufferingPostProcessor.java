@@ -1,6 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.filter;
 
 import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkEncoder;
+import com.sedmelluq.discord.lavaplayer.natives.DecoderPool;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
 
@@ -14,7 +15,8 @@ public class BufferingPostProcessor implements AudioPostProcessor {
   private final AudioProcessingContext context;
   private final AudioChunkEncoder encoder;
   private final MutableAudioFrame offeredFrame;
-  private final ByteBuffer outputBuffer;
+  private final DecoderPool pool;
+  private ByteBuffer outputBuffer;
 
   /**
    * @param context Processing context to determine the destination buffer from.
@@ -24,7 +26,8 @@ public class BufferingPostProcessor implements AudioPostProcessor {
     this.encoder = encoder;
     this.context = context;
     this.offeredFrame = new MutableAudioFrame();
-    this.outputBuffer = ByteBuffer.allocateDirect(context.outputFormat.maximumChunkSize());
+    this.pool = context.configuration.getDecoderPool();
+    this.outputBuffer = pool.borrowDirectBuffer(context.outputFormat.maximumChunkSize());
 
     offeredFrame.setFormat(context.outputFormat);
   }
@@ -44,5 +47,10 @@ public class BufferingPostProcessor implements AudioPostProcessor {
   @Override
   public void close() {
     encoder.close();
+
+    if (outputBuffer != null) {
+      pool.returnDirectBuffer(outputBuffer);
+      outputBuffer = null;
+    }
   }
 }
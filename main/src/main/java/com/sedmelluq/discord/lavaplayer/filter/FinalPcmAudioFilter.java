@@ -1,6 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.filter;
 
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.natives.DecoderPool;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +19,11 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
   private static final short[] zeroPadding = new short[128];
 
   private final AudioDataFormat format;
+  private final DecoderPool pool;
   private final ShortBuffer frameBuffer;
   private final Collection<AudioPostProcessor> postProcessors;
 
+  private ByteBuffer frameBytes;
   private long ignoredFrames;
   private long timecodeBase;
   private long timecodeSampleOffset;
@@ -31,8 +34,9 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
    */
   public FinalPcmAudioFilter(AudioProcessingContext context, Collection<AudioPostProcessor> postProcessors) {
     this.format = context.outputFormat;
-    this.frameBuffer = ByteBuffer
-        .allocateDirect(format.totalSampleCount() * 2)
+    this.pool = context.configuration.getDecoderPool();
+    this.frameBytes = pool.borrowDirectBuffer(format.totalSampleCount() * 2);
+    this.frameBuffer = frameBytes
         .order(ByteOrder.nativeOrder())
         .asShortBuffer();
     this.postProcessors = postProcessors;
@@ -70,6 +74,11 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
     for (AudioPostProcessor postProcessor : postProcessors) {
       postProcessor.close();
     }
+
+    if (frameBytes != null) {
+      pool.returnDirectBuffer(frameBytes);
+      frameBytes = null;
+    }
   }
 
   private void fillFrameBuffer() {
@@ -1,6 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.filter;
 
-import com.sedmelluq.discord.lavaplayer.natives.samplerate.SampleRateConverter;
+import com.sedmelluq.discord.lavaplayer.filter.resample.AudioResampler;
 import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration;
 
 /**
@@ -10,8 +10,8 @@ public class ResamplingPcmAudioFilter implements FloatPcmAudioFilter {
   private static final int BUFFER_SIZE = 4096;
 
   private final FloatPcmAudioFilter downstream;
-  private final SampleRateConverter[] converters;
-  private final SampleRateConverter.Progress progress = new SampleRateConverter.Progress();
+  private final AudioResampler resampler;
+  private final AudioResampler.Progress progress = new AudioResampler.Progress();
   private final float[][] outputSegments;
 
   /**
@@ -25,22 +25,14 @@ public class ResamplingPcmAudioFilter implements FloatPcmAudioFilter {
                                   int sourceRate, int targetRate) {
 
     this.downstream = downstream;
-    converters = new SampleRateConverter[channels];
-    outputSegments = new float[channels][];
-
-    SampleRateConverter.ResamplingType type = getResamplingType(configuration.getResamplingQuality());
-
-    for (int i = 0; i < channels; i++) {
-      outputSegments[i] = new float[BUFFER_SIZE];
-      converters[i] = new SampleRateConverter(type, 1, sourceRate, targetRate);
-    }
+    this.resampler = configuration.getResamplerFactory().create(configuration.getResamplingQuality(), channels,
+        sourceRate, targetRate);
+    this.outputSegments = new float[channels][BUFFER_SIZE];
   }
 
   @Override
   public void seekPerformed(long requestedTime, long providedTime) {
-    for (SampleRateConverter converter : converters) {
-      converter.reset();
-    }
+    resampler.reset();
   }
 
   @Override
@@ -50,17 +42,13 @@ public class ResamplingPcmAudioFilter implements FloatPcmAudioFilter {
 
   @Override
   public void close() {
-    for (SampleRateConverter converter : converters) {
-      converter.close();
-    }
+    resampler.close();
   }
 
   @Override
   public void process(float[][] input, int offset, int length) throws InterruptedException {
     do {
-      for (int i = 0; i < input.length; i++) {
-        converters[i].process(input[i], offset, length, outputSegments[i], 0, BUFFER_SIZE, false, progress);
-      }
+      resampler.process(input, offset, length, outputSegments, BUFFER_SIZE, progress);
 
       offset += progress.getInputUsed();
       length -= progress.getInputUsed();
@@ -70,18 +58,4 @@ public class ResamplingPcmAudioFilter implements FloatPcmAudioFilter {
       }
     } while (length > 0 || progress.getOutputGenerated() == BUFFER_SIZE);
   }
-
-  private static SampleRateConverter.ResamplingType getResamplingType(AudioConfiguration.ResamplingQuality quality) {
-    switch (quality) {
-      case HIGHEST:
-        return SampleRateConverter.ResamplingType.SINC_BEST_QUALITY;
-      case HIGH:
-        return SampleRateConverter.ResamplingType.SINC_MEDIUM_QUALITY;
-      case MEDIUM:
-        return SampleRateConverter.ResamplingType.SINC_FASTEST;
-      case LOW:
-      default:
-        return SampleRateConverter.ResamplingType.LINEAR;
-    }
-  }
 }
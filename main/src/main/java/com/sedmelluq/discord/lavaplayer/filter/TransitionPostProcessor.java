@@ -0,0 +1,65 @@
+package com.sedmelluq.discord.lavaplayer.filter;
+
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
+import com.sedmelluq.discord.lavaplayer.track.playback.TrackTransition;
+
+import java.nio.ShortBuffer;
+
+/**
+ * Post processor which takes part in the track transition of the player. For the outgoing track, it mixes the audio of
+ * the incoming track into the chunks before passing them on to the encoding post processor. For the incoming track, it
+ * hands the chunks over to the outgoing track instead of encoding them until the outgoing track ends.
+ */
+public class TransitionPostProcessor implements AudioPostProcessor {
+  private final AudioProcessingContext context;
+  private final AudioPostProcessor encoder;
+  private TrackTransition transition;
+  private TrackTransition completed;
+
+  /**
+   * @param context Processing context to find the transition from
+   * @param encoder Post processor which encodes the chunks
+   */
+  public TransitionPostProcessor(AudioProcessingContext context, AudioPostProcessor encoder) {
+    this.context = context;
+    this.encoder = encoder;
+  }
+
+  @Override
+  public void process(long timecode, ShortBuffer buffer) throws InterruptedException {
+    TrackTransition current = findTransition();
+
+    if (current != null) {
+      if (!current.isIncoming(context)) {
+        current.mixOutgoing(timecode, buffer);
+      } else if (current.offerIncoming(timecode, buffer)) {
+        return;
+      } else {
+        current.drainIncoming(encoder);
+        completed = current;
+        transition = null;
+      }
+    }
+
+    encoder.process(timecode, buffer);
+  }
+
+  private TrackTransition findTransition() {
+    TrackTransition current = context.playerOptions.transition.get();
+
+    if (current != null && current != completed && current.involves(context)) {
+      transition = current;
+    }
+
+    return transition;
+  }
+
+  @Override
+  public void close() {
+    if (transition != null && transition.isOutgoing(context)) {
+      transition.endOutgoing();
+    }
+
+    encoder.close();
+  }
+}
@@ -0,0 +1,61 @@
+package com.sedmelluq.discord.lavaplayer.filter.resample;
+
+/**
+ * Converts planar float PCM from one sample rate to another. An instance keeps the state of one stream, so it is used
+ * by a single track at a time.
+ */
+public interface AudioResampler {
+  /**
+   * Converts as much of the input as fits into the output buffers.
+   *
+   * @param input Input samples, one array per channel
+   * @param inputOffset Offset of the first input sample
+   * @param inputLength Number of input samples per channel
+   * @param output Output buffers, one array per channel
+   * @param outputLength Capacity of each output buffer in samples, starting from index zero
+   * @param progress Instance that is filled with the number of samples used and generated
+   */
+  void process(float[][] input, int inputOffset, int inputLength, float[][] output, int outputLength,
+               Progress progress);
+
+  /**
+   * Reset the resampler, makes sure previous data does not affect next incoming data
+   */
+  void reset();
+
+  /**
+   * Free the resources held by this resampler
+   */
+  void close();
+
+  /**
+   * Progress of converting one piece of data
+   */
+  class Progress {
+    private int inputUsed;
+    private int outputGenerated;
+
+    /**
+     * @param inputUsed Number of samples used from the input buffer
+     * @param outputGenerated Number of samples written to the output buffer
+     */
+    public void set(int inputUsed, int outputGenerated) {
+      this.inputUsed = inputUsed;
+      this.outputGenerated = outputGenerated;
+    }
+
+    /**
+     * @return Number of samples used from the input buffer
+     */
+    public int getInputUsed() {
+      return inputUsed;
+    }
+
+    /**
+     * @return Number of samples written to the output buffer
+     */
+    public int getOutputGenerated() {
+      return outputGenerated;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.sedmelluq.discord.lavaplayer.filter.resample;
+
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration.ResamplingQuality;
+
+/**
+ * Factory for the resamplers used when the sample rate of a track does not match the output format.
+ */
+public interface AudioResamplerFactory {
+  /**
+   * @param quality Resampling quality from the audio configuration
+   * @param channels Number of channels
+   * @param sourceRate Source sample rate
+   * @param targetRate Target sample rate
+   * @return A new resampler instance
+   */
+  AudioResampler create(ResamplingQuality quality, int channels, int sourceRate, int targetRate);
+}
@@ -0,0 +1,72 @@
+package com.sedmelluq.discord.lavaplayer.filter.resample;
+
+import com.sedmelluq.discord.lavaplayer.natives.samplerate.SampleRateConverter;
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration.ResamplingQuality;
+
+/**
+ * Resampler backed by libsamplerate, with one native converter per channel. Supports arbitrary ratios.
+ */
+public class NativeAudioResampler implements AudioResampler {
+  /**
+   * Factory which always uses the native resampler.
+   */
+  public static final AudioResamplerFactory FACTORY = NativeAudioResampler::new;
+
+  private final SampleRateConverter[] converters;
+  private final SampleRateConverter.Progress converterProgress = new SampleRateConverter.Progress();
+
+  /**
+   * @param quality Resampling quality
+   * @param channels Number of channels
+   * @param sourceRate Source sample rate
+   * @param targetRate Target sample rate
+   */
+  public NativeAudioResampler(ResamplingQuality quality, int channels, int sourceRate, int targetRate) {
+    converters = new SampleRateConverter[channels];
+
+    SampleRateConverter.ResamplingType type = getResamplingType(quality);
+
+    for (int i = 0; i < channels; i++) {
+      converters[i] = new SampleRateConverter(type, 1, sourceRate, targetRate);
+    }
+  }
+
+  @Override
+  public void process(float[][] input, int inputOffset, int inputLength, float[][] output, int outputLength,
+                      Progress progress) {
+
+    for (int i = 0; i < converters.length; i++) {
+      converters[i].process(input[i], inputOffset, inputLength, output[i], 0, outputLength, false, converterProgress);
+    }
+
+    progress.set(converterProgress.getInputUsed(), converterProgress.getOutputGenerated());
+  }
+
+  @Override
+  public void reset() {
+    for (SampleRateConverter converter : converters) {
+      converter.reset();
+    }
+  }
+
+  @Override
+  public void close() {
+    for (SampleRateConverter converter : converters) {
+      converter.close();
+    }
+  }
+
+  private static SampleRateConverter.ResamplingType getResamplingType(ResamplingQuality quality) {
+    switch (quality) {
+      case HIGHEST:
+        return SampleRateConverter.ResamplingType.SINC_BEST_QUALITY;
+      case HIGH:
+        return SampleRateConverter.ResamplingType.SINC_MEDIUM_QUALITY;
+      case MEDIUM:
+        return SampleRateConverter.ResamplingType.SINC_FASTEST;
+      case LOW:
+      default:
+        return SampleRateConverter.ResamplingType.LINEAR;
+    }
+  }
+}
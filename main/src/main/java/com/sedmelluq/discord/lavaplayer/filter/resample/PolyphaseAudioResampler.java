@@ -0,0 +1,109 @@
+package com.sedmelluq.discord.lavaplayer.filter.resample;
+
+import java.util.Arrays;
+
+/**
+ * Pure Java resampler for a fixed rational ratio of sample rates, using a shared {@link PolyphaseFilterBank}. Each output
+ * sample is a dot product of one phase of the filter and the latest input samples, so there is no per-chunk native
+ * call and the only per-track state is a short delay line for each channel.
+ */
+public class PolyphaseAudioResampler implements AudioResampler {
+  private final PolyphaseFilterBank bank;
+  private final float[][] delayLines;
+  private int position;
+  private int phase;
+
+  /**
+   * @param bank Filter bank for the ratio of the sample rates
+   * @param channels Number of channels
+   */
+  public PolyphaseAudioResampler(PolyphaseFilterBank bank, int channels) {
+    this.bank = bank;
+    this.delayLines = new float[channels][bank.taps * 2];
+
+    reset();
+  }
+
+  @Override
+  public void process(float[][] input, int inputOffset, int inputLength, float[][] output, int outputLength,
+                      Progress progress) {
+
+    int upFactor = bank.upFactor;
+    int downFactor = bank.downFactor;
+    int taps = bank.taps;
+    float[] coefficients = bank.coefficients;
+    int used = 0;
+    int generated = 0;
+
+    while (true) {
+      while (phase >= upFactor) {
+        if (used == inputLength) {
+          progress.set(used, generated);
+          return;
+        }
+
+        push(input, inputOffset + used++, taps);
+        phase -= upFactor;
+      }
+
+      if (generated == outputLength) {
+        progress.set(used, generated);
+        return;
+      }
+
+      int coefficientOffset = phase * taps;
+
+      for (int channel = 0; channel < delayLines.length; channel++) {
+        output[channel][generated] = convolve(delayLines[channel], position, coefficients, coefficientOffset, taps);
+      }
+
+      generated++;
+      phase += downFactor;
+    }
+  }
+
+  @Override
+  public void reset() {
+    for (float[] delayLine : delayLines) {
+      Arrays.fill(delayLine, 0.0f);
+    }
+
+    position = 0;
+    phase = bank.upFactor;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do.
+  }
+
+  private void push(float[][] input, int index, int taps) {
+    // Every sample is written twice, so the latest taps samples are always contiguous starting from the position.
+    position = (position == 0 ? taps : position) - 1;
+
+    for (int channel = 0; channel < delayLines.length; channel++) {
+      float sample = input[channel][index];
+      delayLines[channel][position] = sample;
+      delayLines[channel][position + taps] = sample;
+    }
+  }
+
+  private static float convolve(float[] samples, int sampleOffset, float[] coefficients, int coefficientOffset,
+                                int length) {
+
+    // The tap count is always a multiple of four, separate sums keep the additions independent of each other.
+    float first = 0.0f;
+    float second = 0.0f;
+    float third = 0.0f;
+    float fourth = 0.0f;
+
+    for (int i = 0; i < length; i += 4) {
+      first += samples[sampleOffset + i] * coefficients[coefficientOffset + i];
+      second += samples[sampleOffset + i + 1] * coefficients[coefficientOffset + i + 1];
+      third += samples[sampleOffset + i + 2] * coefficients[coefficientOffset + i + 2];
+      fourth += samples[sampleOffset + i + 3] * coefficients[coefficientOffset + i + 3];
+    }
+
+    return (first + second) + (third + fourth);
+  }
+}
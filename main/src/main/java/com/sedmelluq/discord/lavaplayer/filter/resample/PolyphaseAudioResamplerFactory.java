@@ -0,0 +1,19 @@
+package com.sedmelluq.discord.lavaplayer.filter.resample;
+
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration.ResamplingQuality;
+
+/**
+ * Resampler factory which uses the pure Java polyphase resampler when the ratio of the sample rates is a fraction with
+ * a small enough numerator and falls back to the native libsamplerate resampler for other ratios. Not used by default,
+ * it can be enabled with {@link com.sedmelluq.discord.lavaplayer.player.AudioConfiguration#setResamplerFactory}.
+ */
+public class PolyphaseAudioResamplerFactory implements AudioResamplerFactory {
+  @Override
+  public AudioResampler create(ResamplingQuality quality, int channels, int sourceRate, int targetRate) {
+    if (PolyphaseFilterBank.isSupported(quality, sourceRate, targetRate)) {
+      return new PolyphaseAudioResampler(PolyphaseFilterBank.get(quality, sourceRate, targetRate), channels);
+    } else {
+      return new NativeAudioResampler(quality, channels, sourceRate, targetRate);
+    }
+  }
+}
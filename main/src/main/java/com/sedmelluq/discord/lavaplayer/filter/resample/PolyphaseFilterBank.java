@@ -0,0 +1,210 @@
+package com.sedmelluq.discord.lavaplayer.filter.resample;
+
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration.ResamplingQuality;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed coefficients of a polyphase FIR filter for converting between two sample rates with a fixed rational
+ * ratio. The coefficients only depend on the ratio and quality, so one instance is shared by all resamplers which use
+ * the same combination.
+ */
+public class PolyphaseFilterBank {
+  private static final int MAX_PHASES = 1024;
+  private static final int MAX_COEFFICIENTS = 1 << 18;
+  private static final int MAX_CACHED_BANKS = 16;
+  private static final Map<String, PolyphaseFilterBank> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Number of phases, the factor the input is upsampled by.
+   */
+  public final int upFactor;
+  /**
+   * The factor the upsampled signal is downsampled by.
+   */
+  public final int downFactor;
+  /**
+   * Number of coefficients in each phase, also the number of input samples each output sample depends on.
+   */
+  public final int taps;
+  /**
+   * Coefficients of all phases, phase after phase, each phase in the order of newest to oldest input sample.
+   */
+  public final float[] coefficients;
+
+  private PolyphaseFilterBank(ResamplingQuality quality, int upFactor, int downFactor) {
+    this.upFactor = upFactor;
+    this.downFactor = downFactor;
+    this.taps = getTaps(quality, upFactor, downFactor);
+    this.coefficients = createCoefficients(quality, upFactor, downFactor, taps);
+  }
+
+  /**
+   * @param quality Resampling quality
+   * @param sourceRate Source sample rate
+   * @param targetRate Target sample rate
+   * @return True if a filter bank of acceptable size can be built for the ratio of these sample rates
+   */
+  public static boolean isSupported(ResamplingQuality quality, int sourceRate, int targetRate) {
+    if (sourceRate <= 0 || targetRate <= 0) {
+      return false;
+    }
+
+    int divisor = greatestCommonDivisor(sourceRate, targetRate);
+    int upFactor = targetRate / divisor;
+    int downFactor = sourceRate / divisor;
+
+    return upFactor <= MAX_PHASES && (long) upFactor * getTaps(quality, upFactor, downFactor) <= MAX_COEFFICIENTS;
+  }
+
+  /**
+   * @param quality Resampling quality
+   * @param sourceRate Source sample rate
+   * @param targetRate Target sample rate
+   * @return The shared filter bank for the ratio of these sample rates. Only the most recently used ones are kept, the
+   *         resamplers hold on to the bank they use.
+   */
+  public static PolyphaseFilterBank get(ResamplingQuality quality, int sourceRate, int targetRate) {
+    int divisor = greatestCommonDivisor(sourceRate, targetRate);
+    int upFactor = targetRate / divisor;
+    int downFactor = sourceRate / divisor;
+    String key = quality.name() + ":" + upFactor + ":" + downFactor;
+
+    synchronized (cache) {
+      PolyphaseFilterBank bank = cache.get(key);
+
+      if (bank != null) {
+        return bank;
+      }
+    }
+
+    // Computing the coefficients takes a while for large ratios, so it is not done while holding the lock.
+    PolyphaseFilterBank created = new PolyphaseFilterBank(quality, upFactor, downFactor);
+
+    synchronized (cache) {
+      PolyphaseFilterBank bank = cache.putIfAbsent(key, created);
+
+      if (cache.size() > MAX_CACHED_BANKS) {
+        Iterator<PolyphaseFilterBank> eldest = cache.values().iterator();
+        eldest.next();
+        eldest.remove();
+      }
+
+      return bank != null ? bank : created;
+    }
+  }
+
+  private static int getTaps(ResamplingQuality quality, int upFactor, int downFactor) {
+    int baseTaps;
+
+    switch (quality) {
+      case HIGHEST:
+        baseTaps = 64;
+        break;
+      case HIGH:
+        baseTaps = 48;
+        break;
+      case MEDIUM:
+        baseTaps = 32;
+        break;
+      case LOW:
+      default:
+        baseTaps = 16;
+        break;
+    }
+
+    // When downsampling, the cutoff is lower than the input Nyquist frequency, so the filter must span more input
+    // samples to keep the same transition band relative to the cutoff.
+    return baseTaps * Math.max(1, (downFactor + upFactor - 1) / upFactor);
+  }
+
+  private static float[] createCoefficients(ResamplingQuality quality, int upFactor, int downFactor, int taps) {
+    int length = upFactor * taps;
+    double cutoff = 0.5 * getRolloff(quality) / Math.max(upFactor, downFactor);
+    double beta = getKaiserBeta(quality);
+    double center = (length - 1) / 2.0;
+    double windowScale = 1.0 / besselI0(beta);
+    double[] prototype = new double[length];
+    double sum = 0;
+
+    for (int i = 0; i < length; i++) {
+      double distance = i - center;
+      double sinc = distance == 0 ? 2 * cutoff : Math.sin(2 * Math.PI * cutoff * distance) / (Math.PI * distance);
+      double position = 2 * distance / (length - 1);
+      double window = besselI0(beta * Math.sqrt(Math.max(0, 1 - position * position))) * windowScale;
+
+      prototype[i] = sinc * window;
+      sum += prototype[i];
+    }
+
+    // Each phase sees only every upFactor-th coefficient, so the gain of the whole filter must be upFactor for the
+    // gain of a single phase to be one.
+    double gain = upFactor / sum;
+    float[] coefficients = new float[length];
+
+    for (int phase = 0; phase < upFactor; phase++) {
+      for (int tap = 0; tap < taps; tap++) {
+        coefficients[phase * taps + tap] = (float) (prototype[phase + tap * upFactor] * gain);
+      }
+    }
+
+    return coefficients;
+  }
+
+  private static double getRolloff(ResamplingQuality quality) {
+    switch (quality) {
+      case HIGHEST:
+        return 0.96;
+      case HIGH:
+        return 0.94;
+      case MEDIUM:
+        return 0.92;
+      case LOW:
+      default:
+        return 0.88;
+    }
+  }
+
+  private static double getKaiserBeta(ResamplingQuality quality) {
+    switch (quality) {
+      case HIGHEST:
+        return 10.0;
+      case HIGH:
+        return 9.0;
+      case MEDIUM:
+        return 8.0;
+      case LOW:
+      default:
+        return 6.0;
+    }
+  }
+
+  private static double besselI0(double x) {
+    double sum = 1.0;
+    double term = 1.0;
+    double half = x / 2;
+
+    for (int k = 1; k < 50; k++) {
+      term *= (half / k) * (half / k);
+      sum += term;
+
+      if (term < sum * 1e-12) {
+        break;
+      }
+    }
+
+    return sum;
+  }
+
+  private static int greatestCommonDivisor(int a, int b) {
+    while (b != 0) {
+      int remainder = a % b;
+      a = b;
+      b = remainder;
+    }
+
+    return a;
+  }
+}
@@ -0,0 +1,167 @@
+package com.sedmelluq.discord.lavaplayer.natives;
+
+import com.sedmelluq.discord.lavaplayer.natives.opus.OpusDecoder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of native decoder instances and direct buffers, so that tracks which are started and stopped in quick
+ * succession reuse them instead of allocating new ones. Decoders are keyed by their sample rate and channel count,
+ * buffers by their capacity. Only decoders which keep no buffered input between packets are pooled, since the native
+ * libraries do not expose a way to reset them.
+ */
+public class DecoderPool {
+  public static final int DEFAULT_MAX_IDLE_PER_KEY = 16;
+
+  private final int maxIdlePerKey;
+  private final Map<Long, ArrayDeque<OpusDecoder>> opusDecoders;
+  private final Map<Integer, ArrayDeque<ByteBuffer>> directBuffers;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+
+  /**
+   * Create a pool with the default number of idle instances per key.
+   */
+  public DecoderPool() {
+    this(DEFAULT_MAX_IDLE_PER_KEY);
+  }
+
+  /**
+   * @param maxIdlePerKey Maximum number of idle instances kept for each decoder format or buffer capacity, instances
+   *                      returned beyond that are freed
+   */
+  public DecoderPool(int maxIdlePerKey) {
+    this.maxIdlePerKey = maxIdlePerKey;
+    this.opusDecoders = new HashMap<>();
+    this.directBuffers = new HashMap<>();
+    this.hitCount = new AtomicLong();
+    this.missCount = new AtomicLong();
+  }
+
+  /**
+   * @param sampleRate Input sample rate
+   * @param channels Channel count
+   * @return An idle opus decoder with the specified format, or a new one if there is none
+   */
+  public OpusDecoder borrowOpusDecoder(int sampleRate, int channels) {
+    OpusDecoder decoder;
+
+    synchronized (this) {
+      ArrayDeque<OpusDecoder> idle = opusDecoders.get(getFormatKey(sampleRate, channels));
+      decoder = idle != null ? idle.pollFirst() : null;
+    }
+
+    if (decoder != null) {
+      hitCount.incrementAndGet();
+      return decoder;
+    }
+
+    missCount.incrementAndGet();
+    return new OpusDecoder(sampleRate, channels);
+  }
+
+  /**
+   * @param decoder Decoder which was borrowed from this pool and is no longer used by the borrower
+   */
+  public void returnOpusDecoder(OpusDecoder decoder) {
+    boolean pooled;
+
+    synchronized (this) {
+      ArrayDeque<OpusDecoder> idle = opusDecoders.computeIfAbsent(
+          getFormatKey(decoder.getSampleRate(), decoder.getChannelCount()), key -> new ArrayDeque<>());
+
+      pooled = idle.size() < maxIdlePerKey && idle.offerFirst(decoder);
+    }
+
+    if (!pooled) {
+      decoder.close();
+    }
+  }
+
+  /**
+   * @param capacity Capacity of the buffer in bytes
+   * @return An idle direct buffer of the specified capacity, or a new one if there is none. It is cleared and in big
+   *         endian order, like a newly allocated buffer, but its contents are undefined.
+   */
+  public ByteBuffer borrowDirectBuffer(int capacity) {
+    ByteBuffer buffer;
+
+    synchronized (this) {
+      ArrayDeque<ByteBuffer> idle = directBuffers.get(capacity);
+      buffer = idle != null ? idle.pollFirst() : null;
+    }
+
+    if (buffer != null) {
+      hitCount.incrementAndGet();
+      buffer.clear();
+      return buffer.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    missCount.incrementAndGet();
+    return ByteBuffer.allocateDirect(capacity);
+  }
+
+  /**
+   * @param buffer Buffer which was borrowed from this pool and is no longer referenced by the borrower
+   */
+  public void returnDirectBuffer(ByteBuffer buffer) {
+    synchronized (this) {
+      ArrayDeque<ByteBuffer> idle = directBuffers.computeIfAbsent(buffer.capacity(), key -> new ArrayDeque<>());
+
+      if (idle.size() < maxIdlePerKey) {
+        idle.offerFirst(buffer);
+      }
+    }
+  }
+
+  /**
+   * @return Number of borrows which were served from idle instances
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return Number of borrows which required allocating a new instance
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return Ratio of borrows served from idle instances, 0 if nothing has been borrowed yet
+   */
+  public double getHitRate() {
+    long hits = hitCount.get();
+    long total = hits + missCount.get();
+    return total > 0 ? (double) hits / total : 0.0;
+  }
+
+  /**
+   * Frees all idle instances.
+   */
+  public void clear() {
+    Map<Long, ArrayDeque<OpusDecoder>> idleDecoders;
+
+    synchronized (this) {
+      idleDecoders = new HashMap<>(opusDecoders);
+      opusDecoders.clear();
+      directBuffers.clear();
+    }
+
+    for (ArrayDeque<OpusDecoder> decoders : idleDecoders.values()) {
+      for (OpusDecoder decoder : decoders) {
+        decoder.close();
+      }
+    }
+  }
+
+  private static long getFormatKey(int sampleRate, int channels) {
+    return ((long) sampleRate << 32) | channels;
+  }
+}
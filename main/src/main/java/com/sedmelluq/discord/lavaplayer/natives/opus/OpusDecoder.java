@@ -11,6 +11,7 @@ import java.nio.ShortBuffer;
 public class OpusDecoder extends NativeResourceHolder {
   private final OpusDecoderLibrary library;
   private final long instance;
+  private final int sampleRate;
   private final int channels;
 
   /**
@@ -20,6 +21,7 @@ public class OpusDecoder extends NativeResourceHolder {
   public OpusDecoder(int sampleRate, int channels) {
     library = OpusDecoderLibrary.getInstance();
     instance = library.create(sampleRate, channels);
+    this.sampleRate = sampleRate;
     this.channels = channels;
 
     if (instance == 0) {
@@ -54,6 +56,20 @@ public class OpusDecoder extends NativeResourceHolder {
     return result;
   }
 
+  /**
+   * @return Input sample rate
+   */
+  public int getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * @return Channel count
+   */
+  public int getChannelCount() {
+    return channels;
+  }
+
   @Override
   protected void freeResources() {
     library.destroy(instance);
@@ -1,7 +1,12 @@
 package com.sedmelluq.discord.lavaplayer.player;
 
+import com.sedmelluq.discord.lavaplayer.container.seek.LocalSeekIndexStore;
+import com.sedmelluq.discord.lavaplayer.container.seek.SeekIndexStore;
+import com.sedmelluq.discord.lavaplayer.filter.resample.AudioResamplerFactory;
+import com.sedmelluq.discord.lavaplayer.filter.resample.NativeAudioResampler;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats;
+import com.sedmelluq.discord.lavaplayer.natives.DecoderPool;
 import com.sedmelluq.discord.lavaplayer.track.playback.AllocatingAudioFrameBuffer;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameBufferFactory;
 
@@ -10,12 +15,16 @@ import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameBufferFactory;
  */
 public class AudioConfiguration {
   public static final int OPUS_QUALITY_MAX = 10;
+  public static final int DEFAULT_SEEK_INDEX_ENTRIES = 256;
 
   private volatile ResamplingQuality resamplingQuality;
+  private volatile AudioResamplerFactory resamplerFactory;
   private volatile int opusEncodingQuality;
   private volatile AudioDataFormat outputFormat;
   private volatile boolean filterHotSwapEnabled;
   private volatile AudioFrameBufferFactory frameBufferFactory;
+  private volatile SeekIndexStore seekIndexStore;
+  private volatile DecoderPool decoderPool;
   private final OpusEncoderConfiguration opusEncoderConfiguration;
 
   /**
@@ -23,10 +32,13 @@ public class AudioConfiguration {
    */
   public AudioConfiguration() {
     resamplingQuality = ResamplingQuality.LOW;
+    resamplerFactory = NativeAudioResampler.FACTORY;
     opusEncodingQuality = OPUS_QUALITY_MAX;
     outputFormat = StandardAudioDataFormats.DISCORD_OPUS;
     filterHotSwapEnabled = false;
     frameBufferFactory = AllocatingAudioFrameBuffer::new;
+    seekIndexStore = new LocalSeekIndexStore(DEFAULT_SEEK_INDEX_ENTRIES);
+    decoderPool = new DecoderPool();
     opusEncoderConfiguration = new OpusEncoderConfiguration();
   }
 
@@ -39,6 +51,21 @@ public class AudioConfiguration {
     return this;
   }
 
+  public AudioResamplerFactory getResamplerFactory() {
+    return resamplerFactory;
+  }
+
+  /**
+   * @param resamplerFactory Factory for resamplers, by default libsamplerate is used for all sample rate ratios. A
+   *                         pure Java polyphase resampler for common ratios is available with
+   *                         {@link com.sedmelluq.discord.lavaplayer.filter.resample.PolyphaseAudioResamplerFactory}.
+   * @return this
+   */
+  public AudioConfiguration setResamplerFactory(AudioResamplerFactory resamplerFactory) {
+    this.resamplerFactory = resamplerFactory;
+    return this;
+  }
+
   public int getOpusEncodingQuality() {
     return opusEncodingQuality;
   }
@@ -75,6 +102,34 @@ public class AudioConfiguration {
     return this;
   }
 
+  public SeekIndexStore getSeekIndexStore() {
+    return seekIndexStore;
+  }
+
+  /**
+   * @param seekIndexStore Store for seek indexes built while playing local and HTTP tracks, null to disable reusing
+   *                       them between playbacks
+   * @return this
+   */
+  public AudioConfiguration setSeekIndexStore(SeekIndexStore seekIndexStore) {
+    this.seekIndexStore = seekIndexStore;
+    return this;
+  }
+
+  public DecoderPool getDecoderPool() {
+    return decoderPool;
+  }
+
+  /**
+   * @param decoderPool Pool of decoders and direct buffers shared by the tracks, a pool with no idle instances per key
+   *                    to disable reusing them
+   * @return this
+   */
+  public AudioConfiguration setDecoderPool(DecoderPool decoderPool) {
+    this.decoderPool = decoderPool;
+    return this;
+  }
+
   public OpusEncoderConfiguration getOpusEncoderConfiguration() {
     return this.opusEncoderConfiguration;
   }
@@ -90,10 +145,13 @@ public class AudioConfiguration {
   public AudioConfiguration copy() {
     return new AudioConfiguration()
             .setResamplingQuality(resamplingQuality)
+            .setResamplerFactory(resamplerFactory)
             .setOpusEncodingQuality(opusEncodingQuality)
             .setOutputFormat(outputFormat)
             .setFilterHotSwapEnabled(filterHotSwapEnabled)
             .setFrameBufferFactory(frameBufferFactory)
+            .setSeekIndexStore(seekIndexStore)
+            .setDecoderPool(decoderPool)
             .setOpusEncoderConfiguration(opusEncoderConfiguration);
   }
 
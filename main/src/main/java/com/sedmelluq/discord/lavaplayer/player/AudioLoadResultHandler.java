@@ -3,6 +3,9 @@ package com.sedmelluq.discord.lavaplayer.player;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist;
+
+import java.util.List;
 
 /**
  * Handles the result of loading an item from an audio player manager.
@@ -20,6 +23,30 @@ public interface AudioLoadResultHandler {
    */
   void playlistLoaded(AudioPlaylist playlist);
 
+  /**
+   * Called for each further page of a playlist which was returned after its first page ({@link LazyAudioPlaylist}),
+   * after {@link #playlistLoaded(AudioPlaylist)}. The pages are loaded in the background, not on the thread which loaded
+   * the playlist, and are reported in order as they complete, including pages loaded on demand from the playlist.
+   *
+   * @param playlist The playlist the page belongs to
+   * @param tracks Tracks of the page
+   */
+  default void playlistPageLoaded(AudioPlaylist playlist, List<AudioTrack> tracks) {
+    // Pages are added to the playlist regardless, handlers which do not need to know about them can ignore this.
+  }
+
+  /**
+   * Called when loading a further page of a playlist reported through {@link #playlistPageLoaded} failed. No more pages
+   * follow and the tracks loaded so far remain in the playlist. {@link #loadFailed(FriendlyException)} is not called, as
+   * the playlist itself was loaded.
+   *
+   * @param playlist The playlist the page belongs to
+   * @param exception The exception that was thrown
+   */
+  default void playlistPageFailed(AudioPlaylist playlist, FriendlyException exception) {
+    // The failure is logged by the player manager, handlers which do not track the pages can ignore this.
+  }
+
   /**
    * Called when there were no items found by the specified identifier.
    */
@@ -66,6 +66,17 @@ public interface AudioPlayer extends AudioFrameProvider {
     return scheduleTrack(track);
   }
 
+  /**
+   * Prepares a track which is going to be played soon in the background, for example resolving its stream URL, so that
+   * it starts without a gap when it is played. The track scheduled with {@link #scheduleTrack(AudioTrack)} is prepared
+   * automatically if it is not started right away.
+   *
+   * @param track The track to prepare, should be the same instance which is later played
+   */
+  default void prepareTrack(AudioTrack track) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Stop currently playing track. This will also clear any scheduled tracks.
    */
@@ -86,6 +97,28 @@ public interface AudioPlayer extends AudioFrameProvider {
 
   void setFrameBufferDuration(Integer duration);
 
+  /**
+   * Sets the length of the crossfade from the current track to the one scheduled with
+   * {@link #scheduleTrack(AudioTrack)}. While crossfading is enabled, all tracks are decoded, as the audio of two tracks
+   * needs to be mixed during the crossfade. Only applies to transitions scheduled after this is called. When enabled
+   * while a track is playing, only the audio of it which has not been decoded yet can be mixed: Opus tracks played
+   * without decoding switch to decoding from their next packet, and if the current track has already been decoded to
+   * the end, the scheduled track follows it without a crossfade. Seeking the current track sets the crossfade up again,
+   * if the scheduled track had already started for it by then, it is replaced with its clone.
+   *
+   * @param duration Length of the crossfade in milliseconds, 0 to switch to the scheduled track without crossfading
+   */
+  default void setCrossfadeDuration(int duration) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * @param preload How many milliseconds before the crossfade the scheduled track starts loading
+   */
+  default void setCrossfadePreload(int preload) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * @return Whether the player is paused
    */
@@ -1,6 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.player;
 
 import com.sedmelluq.discord.lavaplayer.filter.PcmFilterFactory;
+import com.sedmelluq.discord.lavaplayer.track.playback.TrackTransition;
 
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -9,6 +10,8 @@ import java.util.concurrent.atomic.AtomicReference;
  * Mutable options of an audio player which may be applied in real-time.
  */
 public class AudioPlayerOptions {
+  private static final int DEFAULT_CROSSFADE_PRELOAD = 3000;
+
   /**
    * Volume level of the audio, see {@link AudioPlayer#setVolume(int)}. Applied in real-time.
    */
@@ -22,6 +25,20 @@ public class AudioPlayerOptions {
    * is started.
    */
   public final AtomicReference<Integer> frameBufferDuration;
+  /**
+   * Length of the crossfade between tracks in milliseconds, see {@link AudioPlayer#setCrossfadeDuration(int)}. Zero
+   * disables crossfading. Applies to transitions which are scheduled after it is changed.
+   */
+  public final AtomicInteger crossfadeDuration;
+  /**
+   * How many milliseconds before the crossfade the next track is started, see
+   * {@link AudioPlayer#setCrossfadePreload(int)}.
+   */
+  public final AtomicInteger crossfadePreload;
+  /**
+   * The transition between the current and the scheduled track, if one is in progress.
+   */
+  public final AtomicReference<TrackTransition> transition;
 
   /**
    * New instance of player options. By default, frame buffer duration is not set, hence taken from global settings.
@@ -30,5 +47,8 @@ public class AudioPlayerOptions {
     this.volumeLevel = new AtomicInteger(100);
     this.filterFactory = new AtomicReference<>();
     this.frameBufferDuration = new AtomicReference<>();
+    this.crossfadeDuration = new AtomicInteger(0);
+    this.crossfadePreload = new AtomicInteger(DEFAULT_CROSSFADE_PRELOAD);
+    this.transition = new AtomicReference<>();
   }
 }
@@ -5,14 +5,18 @@ import com.sedmelluq.discord.lavaplayer.player.event.*;
 import com.sedmelluq.discord.lavaplayer.tools.CopyOnUpdateIdentityList;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackEndReason;
 import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.TrackMarker;
+import com.sedmelluq.discord.lavaplayer.track.TrackMarkerHandler.MarkerState;
 import com.sedmelluq.discord.lavaplayer.track.TrackStateListener;
 import com.sedmelluq.discord.lavaplayer.track.playback.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,6 +35,11 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
   private volatile long lastReceiveTime;
   private volatile boolean stuckEventSent;
   protected volatile InternalAudioTrack shadowTrack;
+  private volatile InternalAudioTrack deferredTrack;
+  private volatile MarkerState deferredStartState;
+  private volatile InternalAudioTrack transitionMarkerTrack;
+  private volatile TrackMarker transitionMarker;
+  private volatile long transitionStartPosition;
   private final AtomicBoolean paused;
   protected final DefaultAudioPlayerManager manager;
   private final CopyOnUpdateIdentityList<AudioEventListener> listeners;
@@ -97,11 +106,19 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         scheduledTrack.stop();
       }
 
+      cancelTransition();
+
       InternalAudioTrack newTrack = (InternalAudioTrack) track;
       scheduledTrack = newTrack;
 
       if (activeTrack != null && track != null) {
-        manager.executeTrack(this, newTrack, getMainConfiguration(), options);
+        if (!scheduleTransition(activeTrack, newTrack)) {
+          manager.executeTrack(this, newTrack, getMainConfiguration(), options);
+        } else {
+          // Only started at the crossfade marker, the loading before playback can begin is done in the meantime.
+          manager.prepareTrack(newTrack);
+        }
+
         scheduled = true;
       }
     }
@@ -109,6 +126,16 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     return scheduled;
   }
 
+  /**
+   * Prepares a track which is going to be played soon in the background.
+   * @param track The track to prepare, should be the same instance which is later played
+   */
+  public void prepareTrack(AudioTrack track) {
+    if (track != null) {
+      manager.prepareTrack((InternalAudioTrack) track);
+    }
+  }
+
   /**
    * @param track The track to start playing
    */
@@ -138,6 +165,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         scheduledTrack = null;
       }
 
+      cancelTransition();
       activeTrack = newTrack;
       lastRequestTime = System.currentTimeMillis();
       lastReceiveTime = System.nanoTime();
@@ -183,12 +211,14 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
       if (includeScheduled && scheduledTrack != null) {
         scheduledTrack.stop();
         scheduledTrack = null;
+        cancelTransition();
       }
 
       InternalAudioTrack previousTrack = activeTrack;
       boolean swapped = false;
 
       if (scheduledTrack != null) {
+        finishTransition();
         activeTrack = scheduledTrack;
         scheduledTrack = null;
         swapped = true;
@@ -248,6 +278,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     InternalAudioTrack track;
 
     lastRequestTime = System.currentTimeMillis();
+    checkDeferredStart();
 
     if (timeout == 0 && paused.get()) {
       return null;
@@ -293,6 +324,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     InternalAudioTrack track;
 
     lastRequestTime = System.currentTimeMillis();
+    checkDeferredStart();
 
     if (timeout == 0 && paused.get()) {
       return false;
@@ -333,6 +365,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
             : (failedBeforeLoad ? LOAD_FAILED : FINISHED);
 
         if (scheduledTrack != null) {
+          finishTransition();
           activeTrack = scheduledTrack;
           scheduledTrack = null;
           swapped = true;
@@ -351,6 +384,179 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     }
   }
 
+  /**
+   * Sets up a crossfade to the scheduled track. Instead of starting right away, the scheduled track is started by a
+   * marker on the current track, so that it is loaded shortly before the crossfade.
+   *
+   * @return True if the crossfade was set up, false if the scheduled track should be started right away
+   */
+  private boolean scheduleTransition(InternalAudioTrack current, InternalAudioTrack next) {
+    int duration = options.crossfadeDuration.get();
+    AudioTrackExecutor executor = current.getActiveExecutor();
+
+    if (duration <= 0 || current.getDuration() == Units.DURATION_MS_UNKNOWN ||
+        !(executor instanceof LocalAudioTrackExecutor)) {
+      return false;
+    }
+
+    LocalAudioTrackExecutor localExecutor = (LocalAudioTrackExecutor) executor;
+    transitionStartPosition = next.getPosition();
+
+    TrackTransition transition = new TrackTransition(localExecutor.getProcessingContext(), current.getDuration(),
+        duration);
+
+    options.transition.set(transition);
+
+    // The rest of a track which has already been decoded cannot be mixed anymore, waiting for it would only hold back
+    // the next track until the current one ends. Checked after publishing the transition, as the executor checks for
+    // it after marking decoding as finished.
+    if (localExecutor.isDecodingFinished()) {
+      options.transition.compareAndSet(transition, null);
+      return false;
+    }
+    deferredTrack = next;
+    deferredStartState = null;
+
+    // Frames are decoded ahead of playback by up to the length of the frame buffer, so the marker must be placed that
+    // much earlier for the next track to be producing audio by the time the decoding of the current one reaches the
+    // crossfade.
+    long bufferDuration = Optional.ofNullable(options.frameBufferDuration.get()).orElse(manager.getFrameBufferDuration());
+    long startTimecode = current.getDuration() - duration - options.crossfadePreload.get() - bufferDuration;
+
+    TrackMarker marker = new TrackMarker(Math.max(0, startTimecode), state -> {
+      if (deferredTrack == next) {
+        deferredStartState = state;
+      }
+    });
+
+    transitionMarkerTrack = current;
+    transitionMarker = marker;
+    current.addMarker(marker);
+
+    if (deferredStartState != null) {
+      startDeferredTrack();
+    }
+
+    return true;
+  }
+
+  private void checkDeferredStart() {
+    TrackTransition transition = options.transition.get();
+
+    if (deferredStartState != null || (transition != null && transition.isOutgoingSeeked())) {
+      synchronized (trackSwitchLock) {
+        restartSeekedTransition();
+
+        if (deferredStartState != null) {
+          startDeferredTrack();
+        }
+      }
+    }
+  }
+
+  /**
+   * Sets up the transition again after the current track performed a seek during it, so that it starts over from its
+   * marker. A track instance can only be played once, so if the scheduled track had already been started for the
+   * crossfade, it is replaced with its clone.
+   */
+  private void restartSeekedTransition() {
+    TrackTransition transition = options.transition.get();
+    InternalAudioTrack current = activeTrack;
+    InternalAudioTrack next = scheduledTrack;
+
+    if (transition == null || !transition.isOutgoingSeeked() || current == null || next == null) {
+      return;
+    }
+
+    long startPosition = transitionStartPosition;
+    cancelTransition();
+
+    if (!(next.getActiveExecutor() instanceof PrimordialAudioTrackExecutor)) {
+      next.stop();
+      next = (InternalAudioTrack) next.makeClone();
+      next.setPosition(startPosition);
+      scheduledTrack = next;
+    }
+
+    if (!scheduleTransition(current, next)) {
+      manager.executeTrack(this, next, getMainConfiguration(), options);
+    }
+  }
+
+  /**
+   * Starts the scheduled track which was waiting for its crossfade marker. Marker handlers may be called while the
+   * executor of the current track holds its own lock, so they only record the state and the track is started from here
+   * instead, while holding the track switch lock.
+   */
+  private void startDeferredTrack() {
+    InternalAudioTrack track = deferredTrack;
+    MarkerState state = deferredStartState;
+
+    deferredTrack = null;
+    deferredStartState = null;
+
+    if (track == null || (track != scheduledTrack && track != activeTrack)) {
+      return;
+    }
+
+    TrackTransition transition = options.transition.get();
+
+    if (transition != null && track == scheduledTrack &&
+        (state == MarkerState.REACHED || state == MarkerState.LATE || state == MarkerState.BYPASSED)) {
+
+      manager.executeTrack(this, track, getMainConfiguration(), options, executor -> {
+        if (executor instanceof LocalAudioTrackExecutor) {
+          transition.setIncoming(((LocalAudioTrackExecutor) executor).getProcessingContext());
+        }
+      });
+    } else {
+      cancelTransition();
+      manager.executeTrack(this, track, getMainConfiguration(), options);
+    }
+  }
+
+  /**
+   * Ends the transition when switching to the scheduled track. Audio of the scheduled track which was not mixed into
+   * the previous track is not lost, but played by the scheduled track itself.
+   */
+  private void finishTransition() {
+    if (deferredTrack != null) {
+      startDeferredTrack();
+    }
+
+    removeTransitionMarker();
+
+    TrackTransition transition = options.transition.getAndSet(null);
+
+    if (transition != null) {
+      transition.endOutgoing();
+    }
+  }
+
+  private void cancelTransition() {
+    deferredTrack = null;
+    deferredStartState = null;
+    removeTransitionMarker();
+
+    TrackTransition transition = options.transition.getAndSet(null);
+
+    if (transition != null) {
+      transition.cancel();
+    }
+  }
+
+  private void removeTransitionMarker() {
+    InternalAudioTrack track = transitionMarkerTrack;
+    TrackMarker marker = transitionMarker;
+
+    transitionMarkerTrack = null;
+    transitionMarker = null;
+
+    if (marker != null) {
+      track.removeMarker(marker);
+    }
+  }
+
   private void checkStuck(AudioTrack track) {
     if (!stuckEventSent && System.nanoTime() - lastReceiveTime > manager.getTrackStuckThresholdNanos()) {
       stuckEventSent = true;
@@ -394,6 +600,16 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     options.frameBufferDuration.set(duration);
   }
 
+  @Override
+  public void setCrossfadeDuration(int duration) {
+    options.crossfadeDuration.set(Math.max(0, duration));
+  }
+
+  @Override
+  public void setCrossfadePreload(int preload) {
+    options.crossfadePreload.set(Math.max(0, preload));
+  }
+
   /**
    * @return Whether the player is paused
    */
@@ -463,6 +679,7 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         if (track == scheduledTrack) {
           scheduledTrack.stop();
           scheduledTrack = null;
+          cancelTransition();
         }
       }
     }
@@ -11,6 +11,7 @@ import com.sedmelluq.discord.lavaplayer.tools.io.MessageInput;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput;
 import com.sedmelluq.discord.lavaplayer.track.*;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioTrackExecutor;
+import com.sedmelluq.discord.lavaplayer.track.playback.LiveStreamHub;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
 import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
 import com.sedmelluq.lava.common.tools.ExecutorTools;
@@ -54,6 +55,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
   private final ThreadPoolExecutor trackInfoExecutorService;
   private final ScheduledExecutorService scheduledExecutorService;
   private final OrderedExecutor orderedInfoExecutor;
+  private final ThreadPoolExecutor playlistPageExecutorService;
 
   // Configuration
   private volatile long trackStuckThreshold;
@@ -66,6 +68,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
   private final RemoteNodeManager remoteNodeManager;
   private final GarbageCollectionMonitor garbageCollectionMonitor;
   private final AudioPlayerLifecycleManager lifecycleManager;
+  private final LiveStreamHub liveStreamHub;
 
 
   /**
@@ -81,6 +84,8 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
         TimeUnit.SECONDS.toMillis(30), LOADER_QUEUE_CAPACITY, new DaemonThreadFactory("info-loader"));
     scheduledExecutorService = Executors.newScheduledThreadPool(1, new DaemonThreadFactory("manager"));
     orderedInfoExecutor = new OrderedExecutor(trackInfoExecutorService);
+    playlistPageExecutorService = ExecutorTools.createEagerlyScalingExecutor(0, DEFAULT_LOADER_POOL_SIZE,
+        TimeUnit.SECONDS.toMillis(30), LOADER_QUEUE_CAPACITY, new DaemonThreadFactory("playlist-pages"));
 
     // Configuration
     trackStuckThreshold = TimeUnit.MILLISECONDS.toNanos(10000);
@@ -94,6 +99,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     garbageCollectionMonitor = new GarbageCollectionMonitor(scheduledExecutorService);
     lifecycleManager = new AudioPlayerLifecycleManager(scheduledExecutorService, cleanupThreshold);
     lifecycleManager.initialise();
+    liveStreamHub = new LiveStreamHub(trackPlaybackExecutorService);
   }
 
   @Override
@@ -101,6 +107,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     remoteNodeManager.shutdown(true);
     garbageCollectionMonitor.disable();
     lifecycleManager.shutdown();
+    liveStreamHub.shutdown();
 
     for (AudioSourceManager sourceManager : sourceManagers) {
       sourceManager.shutdown();
@@ -108,6 +115,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
 
     ExecutorTools.shutdownExecutor(trackPlaybackExecutorService, "track playback");
     ExecutorTools.shutdownExecutor(trackInfoExecutorService, "track info");
+    ExecutorTools.shutdownExecutor(playlistPageExecutorService, "playlist pages");
     ExecutorTools.shutdownExecutor(scheduledExecutorService, "scheduled operations");
   }
 
@@ -320,12 +328,48 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
   public void executeTrack(TrackStateListener listener, InternalAudioTrack track, AudioConfiguration configuration,
                            AudioPlayerOptions playerOptions) {
 
+    executeTrack(listener, track, configuration, playerOptions, null);
+  }
+
+  /**
+   * Executes an audio track with the given player and volume.
+   * @param listener A listener for track state events
+   * @param track The audio track to execute
+   * @param configuration The audio configuration to use for executing
+   * @param playerOptions Options of the audio player
+   * @param executorCallback Called with the executor of the track before the execution starts, may be null
+   */
+  public void executeTrack(TrackStateListener listener, InternalAudioTrack track, AudioConfiguration configuration,
+                           AudioPlayerOptions playerOptions, Consumer<AudioTrackExecutor> executorCallback) {
+
     final AudioTrackExecutor executor = createExecutorForTrack(track, configuration, playerOptions);
     track.assignExecutor(executor, true);
 
+    if (executorCallback != null) {
+      executorCallback.accept(executor);
+    }
+
     trackPlaybackExecutorService.execute(() -> executor.execute(listener));
   }
 
+  /**
+   * Prepares a track for playback in the background, see {@link InternalAudioTrack#prepare()}.
+   * @param track The audio track to prepare
+   */
+  public void prepareTrack(InternalAudioTrack track) {
+    try {
+      trackInfoExecutorService.execute(() -> {
+        try {
+          track.prepare();
+        } catch (Exception e) {
+          log.debug("Failed to prepare track {}, it is loaded when played instead.", track.getIdentifier(), e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      log.debug("Not preparing track {}, loader queue is full.", track.getIdentifier());
+    }
+  }
+
   private AudioTrackExecutor createExecutorForTrack(InternalAudioTrack track, AudioConfiguration configuration,
                                                     AudioPlayerOptions playerOptions) {
 
@@ -340,11 +384,24 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
         return customExecutor;
       } else {
         int bufferDuration = Optional.ofNullable(playerOptions.frameBufferDuration.get()).orElse(frameBufferDuration);
+        AudioTrackExecutor sharedExecutor = liveStreamHub.subscribe(track, configuration, playerOptions, bufferDuration);
+
+        if (sharedExecutor != null) {
+          return sharedExecutor;
+        }
+
         return new LocalAudioTrackExecutor(track, configuration, playerOptions, useSeekGhosting, bufferDuration);
       }
     }
   }
 
+  /**
+   * @return Hub which shares the playback of live streams between players, disabled by default
+   */
+  public LiveStreamHub getLiveStreamHub() {
+    return liveStreamHub;
+  }
+
   @Override
   public AudioConfiguration getConfiguration() {
     return configuration;
@@ -421,7 +478,15 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
         } else if (item instanceof AudioPlaylist) {
           log.debug("Loaded a playlist with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
           reported[0] = true;
+
+          // Created before the handler is called, so that pages it loads on demand are reported as well.
+          PlaylistPageDelivery delivery = createPageDelivery(reference.identifier, (AudioPlaylist) item, resultHandler);
+
           resultHandler.playlistLoaded((AudioPlaylist) item);
+
+          if (delivery != null) {
+            schedulePlaylistPage(delivery);
+          }
         }
         return item;
       }
@@ -430,6 +495,41 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     return null;
   }
 
+  private PlaylistPageDelivery createPageDelivery(String identifier, AudioPlaylist playlist,
+                                                  AudioLoadResultHandler resultHandler) {
+
+    if (playlist instanceof LazyAudioPlaylist && !((LazyAudioPlaylist) playlist).isFullyLoaded()) {
+      return new PlaylistPageDelivery(identifier, (LazyAudioPlaylist) playlist, resultHandler);
+    }
+
+    return null;
+  }
+
+  private void schedulePlaylistPage(PlaylistPageDelivery delivery) {
+    try {
+      // Each page is a separate task, so that the pages of large playlists do not hold up the pages of other ones.
+      playlistPageExecutorService.execute(() -> loadPlaylistPage(delivery));
+    } catch (RejectedExecutionException e) {
+      log.debug("Not loading further pages of playlist {} in the background, the page queue is full.", delivery.identifier);
+    }
+  }
+
+  private void loadPlaylistPage(PlaylistPageDelivery delivery) {
+    List<AudioTrack> page;
+
+    try {
+      page = delivery.playlist.loadNextPage();
+    } catch (FriendlyException e) {
+      ExceptionTools.log(log, e, "loading further pages of playlist " + delivery.identifier);
+      delivery.resultHandler.playlistPageFailed(delivery.playlist, e);
+      return;
+    }
+
+    if (delivery.deliverNewTracks() && !page.isEmpty()) {
+      schedulePlaylistPage(delivery);
+    }
+  }
+
   public ExecutorService getExecutor() {
     return trackPlaybackExecutorService;
   }
@@ -480,4 +580,38 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
       }
     }
   }
+
+  private static class PlaylistPageDelivery {
+    private final String identifier;
+    private final LazyAudioPlaylist playlist;
+    private final AudioLoadResultHandler resultHandler;
+    private int deliveredCount;
+
+    private PlaylistPageDelivery(String identifier, LazyAudioPlaylist playlist, AudioLoadResultHandler resultHandler) {
+      this.identifier = identifier;
+      this.playlist = playlist;
+      this.resultHandler = resultHandler;
+      this.deliveredCount = playlist.getTracks().size();
+    }
+
+    private boolean deliverNewTracks() {
+      // Pages loaded on demand by other threads in the meantime are reported here as well.
+      List<AudioTrack> tracks = playlist.getTracks();
+
+      if (tracks.size() > deliveredCount) {
+        List<AudioTrack> newTracks = tracks.subList(deliveredCount, tracks.size());
+        deliveredCount = tracks.size();
+
+        try {
+          resultHandler.playlistPageLoaded(playlist, newTracks);
+        } catch (Throwable e) {
+          log.warn("Load result handler for {} threw an exception", identifier, e);
+          ExceptionTools.rethrowErrors(e);
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
 }
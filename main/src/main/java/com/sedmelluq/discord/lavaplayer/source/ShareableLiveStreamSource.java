@@ -0,0 +1,9 @@
+package com.sedmelluq.discord.lavaplayer.source;
+
+/**
+ * Marker for source managers whose live streams can be shared between players, meaning that all players playing a live
+ * stream with the same identifier receive the same audio. Live streams of these sources are shared by
+ * {@link com.sedmelluq.discord.lavaplayer.track.playback.LiveStreamHub} by default.
+ */
+public interface ShareableLiveStreamSource {
+}
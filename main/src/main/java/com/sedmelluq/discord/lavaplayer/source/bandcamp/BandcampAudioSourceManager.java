@@ -6,6 +6,9 @@ import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.SingleFlight;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestScheduler;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestSchedulingHttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -40,12 +43,21 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
   private static final Pattern urlRegex = Pattern.compile(URL_REGEX);
 
   private final HttpInterfaceManager httpInterfaceManager;
+  private final SingleFlight pageLookups;
 
   /**
    * Create an instance.
    */
   public BandcampAudioSourceManager() {
     httpInterfaceManager = HttpClientTools.createDefaultThreadLocalManager();
+    pageLookups = new SingleFlight();
+  }
+
+  /**
+   * @param requestScheduler Scheduler to limit the rate of the requests of this source with, null to not limit them.
+   */
+  public void setRequestScheduler(RequestScheduler requestScheduler) {
+    RequestSchedulingHttpContextFilter.install(httpInterfaceManager, requestScheduler, getSourceName());
   }
 
   @Override
@@ -150,21 +162,27 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
   }
 
   private AudioItem extractFromPageWithInterface(HttpInterface httpInterface, String url, AudioItemExtractor extractor) throws Exception {
-    String responseText;
+    String responseText = pageLookups.execute(url, () -> loadPage(httpInterface, url));
 
+    if (responseText == null) {
+      return new AudioReference(null, null);
+    }
+
+    return extractor.extract(httpInterface, responseText);
+  }
+
+  private String loadPage(HttpInterface httpInterface, String url) throws IOException {
     try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(url))) {
       int statusCode = response.getStatusLine().getStatusCode();
 
       if (statusCode == HttpStatus.SC_NOT_FOUND) {
-        return new AudioReference(null, null);
+        return null;
       } else if (!HttpClientTools.isSuccessWithContent(statusCode)) {
         throw new IOException("Invalid status code for track page: " + statusCode);
       }
 
-      responseText = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+      return IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
     }
-
-    return extractor.extract(httpInterface, responseText);
   }
 
   @Override
@@ -187,6 +205,13 @@ public class BandcampAudioSourceManager implements AudioSourceManager, HttpConfi
     ExceptionTools.closeWithWarnings(httpInterfaceManager);
   }
 
+  /**
+   * @return Coalescing of concurrent page loads for the same URL, for statistics
+   */
+  public SingleFlight getPageLookups() {
+    return pageLookups;
+  }
+
   /**
    * @return Get an HTTP interface for a playing track.
    */
@@ -1,6 +1,9 @@
 package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
+import com.sedmelluq.discord.lavaplayer.tools.SingleFlight;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import org.apache.http.HttpStatus;
@@ -15,8 +18,42 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 
 public class DefaultSoundCloudDataLoader implements SoundCloudDataLoader {
+  private final SingleFlight resolveLookups = new SingleFlight();
+  private final JsonPathExtractor responseExtractor;
+
+  /**
+   * Create an instance which parses responses fully.
+   */
+  public DefaultSoundCloudDataLoader() {
+    this(null);
+  }
+
+  /**
+   * @param responseExtractor Extractor for selecting only the used fields from responses, null to parse fully
+   */
+  public DefaultSoundCloudDataLoader(JsonPathExtractor responseExtractor) {
+    this.responseExtractor = responseExtractor;
+  }
+
   @Override
   public JsonBrowser load(HttpInterface httpInterface, String url) throws IOException {
+    try {
+      return resolveLookups.execute(url, () -> loadUncoalesced(httpInterface, url));
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw ExceptionTools.toRuntimeException(e);
+    }
+  }
+
+  /**
+   * @return Coalescing of concurrent resolve requests for the same URL, for statistics
+   */
+  public SingleFlight getResolveLookups() {
+    return resolveLookups;
+  }
+
+  private JsonBrowser loadUncoalesced(HttpInterface httpInterface, String url) throws IOException {
     try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(buildUri(url)))) {
       if (response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND) {
         return JsonBrowser.NULL_BROWSER;
@@ -26,7 +63,7 @@ public class DefaultSoundCloudDataLoader implements SoundCloudDataLoader {
 
       String json = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
 
-      return JsonBrowser.parse(json);
+      return responseExtractor != null ? responseExtractor.extract(json) : JsonBrowser.parse(json);
     }
   }
 
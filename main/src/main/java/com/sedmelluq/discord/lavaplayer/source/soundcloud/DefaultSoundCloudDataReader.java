@@ -1,16 +1,33 @@
 package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class DefaultSoundCloudDataReader implements SoundCloudDataReader {
   private static final Logger log = LoggerFactory.getLogger(DefaultSoundCloudDataReader.class);
 
+  private static final String[] TRACK_FIELDS = new String[] {
+      "kind", "id", "policy", "title", "user.username", "full_duration", "permalink", "permalink_url",
+      "monetization_model", "media.transcodings"
+  };
+
+  // Resolve responses are a track or a playlist with nested tracks, track list responses are an array of tracks.
+  private static final JsonPathExtractor RESPONSE_EXTRACTOR = new JsonPathExtractor(Stream.of(TRACK_FIELDS)
+      .flatMap(field -> Stream.of(field, "tracks.*." + field, "*." + field))
+      .toArray(String[]::new));
+
+  @Override
+  public JsonPathExtractor getResponseExtractor() {
+    return RESPONSE_EXTRACTOR;
+  }
+
   @Override
   public JsonBrowser findTrackData(JsonBrowser rootData) {
     return findEntryOfKind(rootData, "track");
@@ -1,24 +1,35 @@
 package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
+import com.sedmelluq.discord.lavaplayer.tools.io.AsyncHttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
 import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylistPageLoader;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist;
+import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -31,9 +42,14 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
   protected static final String PLAYLIST_URL_REGEX = "^(?:http://|https://|)(?:www\\.|)(?:m\\.|)soundcloud\\.com/([a-zA-Z0-9-_:]+)/sets/([a-zA-Z0-9-_:]+)/?([a-zA-Z0-9-_:]+)?(?:\\?.*|)$";
   protected static final Pattern playlistUrlPattern = Pattern.compile(PLAYLIST_URL_REGEX);
 
+  private static final int BATCH_SIZE = 50;
+  private static final int DEFAULT_BATCH_CONCURRENCY = 4;
+
   protected final SoundCloudDataLoader dataLoader;
   protected final SoundCloudDataReader dataReader;
   protected final SoundCloudFormatHandler formatHandler;
+  private volatile boolean lazyLoading;
+  private volatile int batchConcurrency = DEFAULT_BATCH_CONCURRENCY;
 
   public DefaultSoundCloudPlaylistLoader(
       SoundCloudDataLoader dataLoader,
@@ -45,6 +61,18 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
     this.formatHandler = formatHandler;
   }
 
+  @Override
+  public void setLazyLoading(boolean lazyLoading) {
+    this.lazyLoading = lazyLoading;
+  }
+
+  /**
+   * @param batchConcurrency Maximum number of track batch requests of one playlist which are in flight at once
+   */
+  public void setBatchConcurrency(int batchConcurrency) {
+    this.batchConcurrency = Math.max(1, batchConcurrency);
+  }
+
   @Override
   public AudioPlaylist load(
       String identifier,
@@ -75,9 +103,13 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
             new RuntimeException("Failed to extract playlist data, JSON: " + rootData.format()));
       }
 
+      if (lazyLoading) {
+        return loadPlaylistLazily(httpInterfaceManager, playlistData, trackFactory);
+      }
+
       return new BasicAudioPlaylist(
           dataReader.readPlaylistName(playlistData),
-          loadPlaylistTracks(httpInterface, playlistData, trackFactory),
+          loadPlaylistTracks(httpInterfaceManager, playlistData, trackFactory),
           null,
           false
       );
@@ -87,7 +119,7 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
   }
 
   protected List<AudioTrack> loadPlaylistTracks(
-      HttpInterface httpInterface,
+      HttpInterfaceManager httpInterfaceManager,
       JsonBrowser playlistData,
       Function<AudioTrackInfo, AudioTrack> trackFactory
   ) throws IOException {
@@ -97,23 +129,61 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
         .map(dataReader::readTrackId)
         .collect(Collectors.toList());
 
-    int numTrackIds = trackIds.size();
+    List<CompletableFuture<List<JsonBrowser>>> batches = loadTrackBatches(httpInterfaceManager, splitTrackIds(trackIds));
     List<JsonBrowser> trackDataList = new ArrayList<>();
 
-    for (int i = 0; i < numTrackIds; i += 50) {
-      int last = Math.min(i + 50, numTrackIds);
-      List<String> trackIdSegment = trackIds.subList(i, last);
+    for (CompletableFuture<List<JsonBrowser>> batch : batches) {
+      trackDataList.addAll(awaitTrackBatch(batch));
+    }
+
+    sortPlaylistTracks(trackDataList, trackIds);
+    return buildTracks(playlistId, trackDataList, trackFactory);
+  }
+
+  protected AudioPlaylist loadPlaylistLazily(
+      HttpInterfaceManager httpInterfaceManager,
+      JsonBrowser playlistData,
+      Function<AudioTrackInfo, AudioTrack> trackFactory
+  ) throws IOException {
+    String playlistId = dataReader.readPlaylistIdentifier(playlistData);
+
+    List<String> trackIds = dataReader.readPlaylistTracks(playlistData).stream()
+        .map(dataReader::readTrackId)
+        .collect(Collectors.toList());
 
-      try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(buildTrackListUrl(trackIdSegment)))) {
-        HttpClientTools.assertSuccessWithContent(response, "track list response");
+    // The batches are still requested right away, so the later pages are usually already loaded when they are needed.
+    List<List<String>> batchIds = splitTrackIds(trackIds);
+    List<CompletableFuture<List<JsonBrowser>>> batches = loadTrackBatches(httpInterfaceManager, batchIds);
 
-        JsonBrowser trackList = JsonBrowser.parse(response.getEntity().getContent());
-        trackDataList.addAll(trackList.values());
+    Iterator<List<String>> remainingIds = batchIds.iterator();
+    Iterator<CompletableFuture<List<JsonBrowser>>> remainingBatches = batches.iterator();
+
+    AudioPlaylistPageLoader pageLoader = () -> {
+      if (!remainingBatches.hasNext()) {
+        return null;
       }
-    }
 
-    sortPlaylistTracks(trackDataList, trackIds);
+      List<JsonBrowser> trackDataList = new ArrayList<>(awaitTrackBatch(remainingBatches.next()));
+      sortPlaylistTracks(trackDataList, remainingIds.next());
+      return buildTracks(playlistId, trackDataList, trackFactory);
+    };
+
+    List<AudioTrack> firstPage = pageLoader.loadNextPage();
 
+    return new LazyAudioPlaylist(
+        dataReader.readPlaylistName(playlistData),
+        firstPage != null ? firstPage : Collections.emptyList(),
+        null,
+        false,
+        remainingBatches.hasNext() ? pageLoader : null
+    );
+  }
+
+  private List<AudioTrack> buildTracks(
+      String playlistId,
+      List<JsonBrowser> trackDataList,
+      Function<AudioTrackInfo, AudioTrack> trackFactory
+  ) {
     int blockedCount = 0;
     List<AudioTrack> tracks = new ArrayList<>();
 
@@ -142,6 +212,121 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
     return tracks;
   }
 
+  private static List<List<String>> splitTrackIds(List<String> trackIds) {
+    List<List<String>> batchIds = new ArrayList<>();
+
+    for (int i = 0; i < trackIds.size(); i += BATCH_SIZE) {
+      batchIds.add(trackIds.subList(i, Math.min(i + BATCH_SIZE, trackIds.size())));
+    }
+
+    return batchIds;
+  }
+
+  protected List<CompletableFuture<List<JsonBrowser>>> loadTrackBatches(
+      HttpInterfaceManager httpInterfaceManager,
+      List<List<String>> batchIds
+  ) {
+    int concurrency = batchConcurrency;
+    List<CompletableFuture<List<JsonBrowser>>> batches = new ArrayList<>();
+    Queue<CompletableFuture<List<JsonBrowser>>> requests = new ConcurrentLinkedQueue<>();
+    AtomicBoolean failed = new AtomicBoolean();
+
+    // Requests run in parallel without holding a thread per request, each batch beyond the concurrency limit starts
+    // once the batch in the same slot before it completes. The results are still collected in order.
+    for (int i = 0; i < batchIds.size(); i++) {
+      List<String> ids = batchIds.get(i);
+
+      if (i < concurrency) {
+        batches.add(startTrackBatch(httpInterfaceManager, ids, requests, failed));
+      } else {
+        // Started explicitly on a worker thread, whichever thread completed the previous batch. If the previous batch
+        // failed, this one fails with it without sending its request.
+        batches.add(batches.get(i - concurrency)
+            .thenComposeAsync(ignored -> startTrackBatch(httpInterfaceManager, ids, requests, failed),
+                AsyncHttpInterface.getCallbackExecutor()));
+      }
+    }
+
+    // The playlist cannot be loaded once one batch fails, so the requests which are in flight or waiting are cancelled.
+    for (CompletableFuture<List<JsonBrowser>> batch : batches) {
+      batch.whenComplete((result, error) -> {
+        if (error != null && failed.compareAndSet(false, true)) {
+          batches.forEach(other -> other.cancel(false));
+          requests.forEach(request -> request.cancel(false));
+        }
+      });
+    }
+
+    return batches;
+  }
+
+  private CompletableFuture<List<JsonBrowser>> startTrackBatch(
+      HttpInterfaceManager httpInterfaceManager,
+      List<String> trackIds,
+      Queue<CompletableFuture<List<JsonBrowser>>> requests,
+      AtomicBoolean failed
+  ) {
+    CompletableFuture<List<JsonBrowser>> request = loadTrackBatch(httpInterfaceManager, trackIds);
+    requests.add(request);
+
+    // Another batch may have failed while this one was being started.
+    if (failed.get()) {
+      request.cancel(false);
+    }
+
+    return request;
+  }
+
+  protected CompletableFuture<List<JsonBrowser>> loadTrackBatch(
+      HttpInterfaceManager httpInterfaceManager,
+      List<String> trackIds
+  ) {
+    AsyncHttpInterface httpInterface = httpInterfaceManager.getAsyncInterface();
+    CompletableFuture<HttpResponse> response = httpInterface.execute(new HttpGet(buildTrackListUrl(trackIds)));
+
+    // The response future completes on a worker thread of the async interface, not on the I/O thread of the client.
+    CompletableFuture<List<JsonBrowser>> batch = response
+        .thenApply(result -> {
+          try {
+            HttpClientTools.assertSuccessWithContent(result, "track list response");
+            return parseTrackList(result.getEntity().getContent()).values();
+          } catch (IOException e) {
+            throw new CompletionException(e);
+          }
+        })
+        .whenComplete((result, error) -> httpInterface.close());
+
+    // Cancelling the batch aborts its request.
+    batch.whenComplete((result, error) -> {
+      if (batch.isCancelled()) {
+        response.cancel(false);
+      }
+    });
+
+    return batch;
+  }
+
+  private JsonBrowser parseTrackList(InputStream stream) throws IOException {
+    JsonPathExtractor extractor = dataReader.getResponseExtractor();
+    return extractor != null ? extractor.extract(stream) : JsonBrowser.parse(stream);
+  }
+
+  private List<JsonBrowser> awaitTrackBatch(CompletableFuture<List<JsonBrowser>> batch) throws IOException {
+    try {
+      return batch.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while loading track list.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+
+      ExceptionTools.rethrowErrors(e.getCause());
+      throw ExceptionTools.toRuntimeException((Exception) e.getCause());
+    }
+  }
+
   protected URI buildTrackListUrl(List<String> trackIds) {
     try {
       StringJoiner joiner = new StringJoiner(",");
@@ -2,8 +2,13 @@ package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
+import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestScheduler;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestSchedulingHttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -25,6 +30,8 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -39,6 +46,7 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
 public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpConfigurable {
   private static final int DEFAULT_SEARCH_RESULTS = 10;
   private static final int MAXIMUM_SEARCH_RESULTS = 200;
+  private static final int DEFAULT_SEGMENT_PREFETCH_COUNT = 2;
 
   private static final String MOBILE_URL_REGEX = "^(?:http://|https://|)soundcloud\\.app\\.goo\\.gl/([a-zA-Z0-9-_]+)/?(?:\\?.*|)$";
   private static final String TRACK_URL_REGEX = "^(?:http://|https://|)(?:www\\.|)(?:m\\.|)soundcloud\\.com/([a-zA-Z0-9-_]+)/([a-zA-Z0-9-_]+)/?(?:\\?.*|)$";
@@ -64,11 +72,14 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
   private final SoundCloudPlaylistLoader playlistLoader;
   private final HttpInterfaceManager httpInterfaceManager;
   private final SoundCloudClientIdTracker clientIdTracker;
+  private final SoundCloudHttpContextFilter httpContextFilter;
   private final boolean allowSearch;
+  private volatile int segmentPrefetchCount;
+  private volatile SearchResultCache searchResultCache;
 
   public static SoundCloudAudioSourceManager createDefault() {
     SoundCloudDataReader dataReader = new DefaultSoundCloudDataReader();
-    SoundCloudDataLoader dataLoader = new DefaultSoundCloudDataLoader();
+    SoundCloudDataLoader dataLoader = new DefaultSoundCloudDataLoader(dataReader.getResponseExtractor());
     SoundCloudFormatHandler formatHandler = new DefaultSoundCloudFormatHandler();
 
     return new SoundCloudAudioSourceManager(true, dataReader, dataLoader, formatHandler,
@@ -95,10 +106,49 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
     this.dataLoader = dataLoader;
     this.formatHandler = formatHandler;
     this.playlistLoader = playlistLoader;
+    this.segmentPrefetchCount = DEFAULT_SEGMENT_PREFETCH_COUNT;
 
     httpInterfaceManager = HttpClientTools.createDefaultThreadLocalManager();
     clientIdTracker = new SoundCloudClientIdTracker(httpInterfaceManager);
-    httpInterfaceManager.setHttpContextFilter(new SoundCloudHttpContextFilter(clientIdTracker));
+    httpContextFilter = new SoundCloudHttpContextFilter(clientIdTracker);
+    httpInterfaceManager.setHttpContextFilter(httpContextFilter);
+  }
+
+  /**
+   * @param lazyLoading True to return playlists after their first batch of tracks and load the remaining batches in
+   *                    the background or on demand, see {@link com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist}
+   */
+  public void setPlaylistLazyLoading(boolean lazyLoading) {
+    playlistLoader.setLazyLoading(lazyLoading);
+  }
+
+  /**
+   * @param segmentPrefetchCount Number of HLS segments to download in the background ahead of the one being played, 0
+   *                             to download each segment only when it is reached
+   */
+  public void setSegmentPrefetchCount(int segmentPrefetchCount) {
+    this.segmentPrefetchCount = Math.max(0, segmentPrefetchCount);
+  }
+
+  /**
+   * @return Number of HLS segments downloaded in the background ahead of the one being played
+   */
+  public int getSegmentPrefetchCount() {
+    return segmentPrefetchCount;
+  }
+
+  /**
+   * @param searchResultCache Cache for the search results, null to disable caching
+   */
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
+  /**
+   * @param requestScheduler Scheduler to limit the rate of the requests of this source with, null to not limit them.
+   */
+  public void setRequestScheduler(RequestScheduler requestScheduler) {
+    RequestSchedulingHttpContextFilter.install(httpInterfaceManager, requestScheduler, getSourceName());
   }
 
   public SoundCloudFormatHandler getFormatHandler() {
@@ -234,6 +284,14 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
     httpInterfaceManager.configureBuilder(configurator);
   }
 
+  /**
+   * @return HTTP configuration of this source. Settings of the non-blocking client, which loads the track batches of
+   *         playlists, are made through its {@link ExtendedHttpConfigurable#configureAsyncBuilder(Consumer)}.
+   */
+  public ExtendedHttpConfigurable getHttpConfiguration() {
+    return httpInterfaceManager;
+  }
+
   private AudioTrack processAsSingleTrack(AudioReference reference) {
     String url = SoundCloudHelper.nonMobileUrl(reference.identifier);
 
@@ -276,8 +334,12 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
   }
 
   protected AudioTrack loadFromTrackData(JsonBrowser trackData) {
+    return buildTrackFromInfo(loadInfoFromTrackData(trackData));
+  }
+
+  private AudioTrackInfo loadInfoFromTrackData(JsonBrowser trackData) {
     SoundCloudTrackFormat format = formatHandler.chooseBestFormat(dataReader.readTrackFormats(trackData));
-    return buildTrackFromInfo(dataReader.readTrackInfo(trackData, formatHandler.buildFormatIdentifier(format)));
+    return dataReader.readTrackInfo(trackData, formatHandler.buildFormatIdentifier(format));
   }
 
   private AudioTrack buildTrackFromInfo(AudioTrackInfo trackInfo) {
@@ -363,21 +425,47 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
 
   private AudioItem loadSearchResult(String query, int offset, int rawLimit) {
     int limit = Math.min(rawLimit, MAXIMUM_SEARCH_RESULTS);
+    SearchResultCache cache = searchResultCache;
+    List<AudioTrackInfo> infos;
+
+    if (cache != null) {
+      try {
+        infos = cache.load(SEARCH_PREFIX + "[" + offset + "," + limit + "]", query,
+            () -> CompletableFuture.completedFuture(loadSearchInfos(query, offset, limit))).get();
+      } catch (ExecutionException e) {
+        throw ExceptionTools.wrapUnfriendlyExceptions(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw ExceptionTools.wrapUnfriendlyExceptions(e);
+      }
+    } else {
+      infos = loadSearchInfos(query, offset, limit);
+    }
 
+    List<AudioTrack> tracks = new ArrayList<>();
+
+    for (AudioTrackInfo info : infos) {
+      tracks.add(buildTrackFromInfo(info));
+    }
+
+    return new BasicAudioPlaylist("Search results for: " + query, tracks, null, true);
+  }
+
+  private List<AudioTrackInfo> loadSearchInfos(String query, int offset, int limit) {
     try (
         HttpInterface httpInterface = getHttpInterface();
         CloseableHttpResponse response = httpInterface.execute(new HttpGet(buildSearchUri(query, offset, limit)))
     ) {
-      return loadSearchResultsFromResponse(response, query);
+      return loadSearchResultsFromResponse(response);
     } catch (IOException e) {
       throw new FriendlyException("Loading search results from SoundCloud failed.", SUSPICIOUS, e);
     }
   }
 
-  private AudioItem loadSearchResultsFromResponse(HttpResponse response, String query) throws IOException {
+  private List<AudioTrackInfo> loadSearchResultsFromResponse(HttpResponse response) throws IOException {
     try {
       JsonBrowser searchResults = JsonBrowser.parse(response.getEntity().getContent());
-      return extractTracksFromSearchResults(query, searchResults);
+      return extractTracksFromSearchResults(searchResults);
     } finally {
       EntityUtils.consumeQuietly(response.getEntity());
     }
@@ -395,16 +483,16 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
     }
   }
 
-  private AudioItem extractTracksFromSearchResults(String query, JsonBrowser searchResults) {
-    List<AudioTrack> tracks = new ArrayList<>();
+  private List<AudioTrackInfo> extractTracksFromSearchResults(JsonBrowser searchResults) {
+    List<AudioTrackInfo> infos = new ArrayList<>();
 
     for (JsonBrowser item : searchResults.get("collection").values()) {
       if (!item.isNull()) {
-        tracks.add(loadFromTrackData(item));
+        infos.add(loadInfoFromTrackData(item));
       }
     }
 
-    return new BasicAudioPlaylist("Search results for: " + query, tracks, null, true);
+    return infos;
   }
 
   public static class Builder {
@@ -455,7 +543,7 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
       SoundCloudDataLoader usedDataLoader = dataLoader;
 
       if (usedDataLoader == null) {
-        usedDataLoader = new DefaultSoundCloudDataLoader();
+        usedDataLoader = new DefaultSoundCloudDataLoader(usedDataReader.getResponseExtractor());
       }
 
       SoundCloudFormatHandler usedFormatHandler = formatHandler;
@@ -49,7 +49,7 @@ public class SoundCloudAudioTrack extends DelegatedAudioTrack {
     SoundCloudM3uInfo m3uInfo = sourceManager.getFormatHandler().getM3uInfo(identifier);
 
     if (m3uInfo != null) {
-      processDelegate(new SoundCloudM3uAudioTrack(trackInfo, httpInterface, m3uInfo), localExecutor);
+      processDelegate(new SoundCloudM3uAudioTrack(trackInfo, httpInterface, m3uInfo, sourceManager), localExecutor);
       return;
     }
 
@@ -1,6 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 
 import java.util.List;
@@ -23,4 +24,12 @@ public interface SoundCloudDataReader {
   String readPlaylistIdentifier(JsonBrowser playlistData);
 
   List<JsonBrowser> readPlaylistTracks(JsonBrowser playlistData);
+
+  /**
+   * @return Extractor which selects only the fields this reader uses from resolve and track list responses, or null if
+   *         the responses should be parsed fully.
+   */
+  default JsonPathExtractor getResponseExtractor() {
+    return null;
+  }
 }
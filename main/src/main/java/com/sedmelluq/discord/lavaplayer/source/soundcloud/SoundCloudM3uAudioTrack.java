@@ -4,34 +4,71 @@ import com.sedmelluq.discord.lavaplayer.container.playlists.HlsStreamSegment;
 import com.sedmelluq.discord.lavaplayer.container.playlists.HlsStreamSegmentParser;
 import com.sedmelluq.discord.lavaplayer.tools.http.HttpStreamTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.ChainedInputStream;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.tools.io.NonSeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import com.sedmelluq.lava.common.tools.ExecutorTools;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
   private static final Logger log = LoggerFactory.getLogger(SoundCloudM3uAudioTrack.class);
 
   private static final long SEGMENT_UPDATE_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+  private static final long SEGMENT_UPDATE_AHEAD = TimeUnit.MINUTES.toMillis(2);
+  private static final long PREFETCH_WAIT_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+  private static final int BACKGROUND_QUEUE_CAPACITY = 200;
+
+  // Tasks which do not fit into the queue are not prefetched, the playing thread loads those segments itself.
+  private static final ExecutorService backgroundExecutor = ExecutorTools.createEagerlyScalingExecutor(0, 16,
+      TimeUnit.SECONDS.toMillis(10), BACKGROUND_QUEUE_CAPACITY, new DaemonThreadFactory("sc-segments"));
 
   private final HttpInterface httpInterface;
   private final SoundCloudM3uInfo m3uInfo;
+  private final SoundCloudAudioSourceManager sourceManager;
 
   public SoundCloudM3uAudioTrack(AudioTrackInfo trackInfo, HttpInterface httpInterface, SoundCloudM3uInfo m3uInfo) {
+    this(trackInfo, httpInterface, m3uInfo, null);
+  }
+
+  /**
+   * @param trackInfo Track info
+   * @param httpInterface HTTP interface to use on the playing thread
+   * @param m3uInfo Information about the stream
+   * @param sourceManager Source manager to get HTTP interfaces for background requests from. If null, segments are not
+   *                      prefetched and the segment list is updated on the playing thread.
+   */
+  public SoundCloudM3uAudioTrack(AudioTrackInfo trackInfo, HttpInterface httpInterface, SoundCloudM3uInfo m3uInfo,
+                                 SoundCloudAudioSourceManager sourceManager) {
+
     super(trackInfo);
     this.httpInterface = httpInterface;
     this.m3uInfo = m3uInfo;
+    this.sourceManager = sourceManager;
   }
 
   @Override
@@ -48,6 +85,10 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
   }
 
   private List<HlsStreamSegment> loadSegments() throws IOException {
+    return loadSegments(httpInterface);
+  }
+
+  private List<HlsStreamSegment> loadSegments(HttpInterface httpInterface) throws IOException {
     String playbackUrl = SoundCloudHelper.loadPlaybackUrl(httpInterface, m3uInfo.lookupUrl);
     return HlsStreamSegmentParser.parseFromUrl(httpInterface, playbackUrl);
   }
@@ -61,6 +102,8 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
 
   private class SegmentTracker implements AutoCloseable {
     private final List<HlsStreamSegment> segments;
+    private final Map<Integer, PrefetchedSegment> prefetchedSegments = new HashMap<>();
+    private Future<List<HlsStreamSegment>> pendingUpdate;
     private long desiredPosition = 0;
     private long streamStartPosition = 0;
     private long lastUpdate;
@@ -106,6 +149,8 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
     private void seekToSegment(int index, long requestedTimecode, long segmentTimecode) throws IOException {
       decoder.resetStream();
 
+      // Segments which were already prefetched for the new position are used as they are.
+      discardPrefetchedSegments(index);
       segmentIndex = index;
       desiredPosition = requestedTimecode;
       streamStartPosition = segmentTimecode;
@@ -116,51 +161,168 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
     private void seekToEnd() throws IOException {
       decoder.resetStream();
 
+      discardPrefetchedSegments(segments.size());
       segmentIndex = segments.size();
     }
 
-    private InputStream getNextStream() {
+    private InputStream getNextStream() throws IOException {
+      int index = segmentIndex;
       HlsStreamSegment segment = getNextSegment();
 
       if (segment == null) {
         return null;
       }
 
+      PrefetchedSegment prefetched = prefetchedSegments.remove(index);
+      prefetchSegments(index + 1);
+
+      if (prefetched != null) {
+        byte[] content = awaitPrefetched(index, prefetched);
+
+        if (content != null) {
+          return new ByteArrayInputStream(content);
+        }
+      }
+
       return HttpStreamTools.streamContent(httpInterface, new HttpGet(segment.url));
     }
 
-    private void updateSegmentList() {
+    private byte[] awaitPrefetched(int index, PrefetchedSegment prefetched) throws IOException {
+      if (prefetched.result.cancel(false)) {
+        // The download had not started yet, streaming the segment directly is faster than waiting for it.
+        return null;
+      }
+
       try {
-        List<HlsStreamSegment> newSegments = loadSegments();
+        return prefetched.result.get(PREFETCH_WAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        prefetched.cancel();
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      } catch (TimeoutException e) {
+        prefetched.cancel();
+        log.debug("For {}, prefetching segment {} timed out, loading it directly.", trackInfo.identifier, index);
+      } catch (ExecutionException e) {
+        log.debug("For {}, prefetching segment {} failed, loading it directly.", trackInfo.identifier, index,
+            e.getCause());
+      }
 
-        if (newSegments.size() != segments.size()) {
-          log.error("For {}, received different number of segments on update, skipping.", trackInfo.identifier);
-          return;
-        }
+      return null;
+    }
+
+    private void prefetchSegments(int fromIndex) {
+      int count = sourceManager != null ? sourceManager.getSegmentPrefetchCount() : 0;
+
+      for (int i = fromIndex; i < fromIndex + count && i < segments.size(); i++) {
+        if (!prefetchedSegments.containsKey(i)) {
+          HttpGet request = new HttpGet(segments.get(i).url);
 
-        for (int i = 0; i < segments.size(); i++) {
-          if (!Objects.equals(newSegments.get(i).duration, segments.get(i).duration)) {
-            log.error("For {}, segment {} has different length than previously on update.", trackInfo.identifier, i);
+          try {
+            prefetchedSegments.put(i, new PrefetchedSegment(request,
+                backgroundExecutor.submit(() -> downloadSegment(request))));
+          } catch (RejectedExecutionException e) {
+            log.debug("For {}, not prefetching segment {}, the prefetch queue is full.", trackInfo.identifier, i);
             return;
           }
         }
+      }
+    }
+
+    private byte[] downloadSegment(HttpGet request) throws IOException {
+      try (
+          HttpInterface backgroundInterface = sourceManager.getHttpInterface();
+          CloseableHttpResponse response = backgroundInterface.execute(request)
+      ) {
+        HttpClientTools.assertSuccessWithContent(response, "segment");
+        return EntityUtils.toByteArray(response.getEntity());
+      }
+    }
+
+    private void discardPrefetchedSegments(int keepFromIndex) {
+      int count = sourceManager != null ? sourceManager.getSegmentPrefetchCount() : 0;
+      Iterator<Map.Entry<Integer, PrefetchedSegment>> iterator = prefetchedSegments.entrySet().iterator();
 
-        for (int i = 0; i < segments.size(); i++) {
-          segments.set(i, newSegments.get(i));
+      while (iterator.hasNext()) {
+        Map.Entry<Integer, PrefetchedSegment> entry = iterator.next();
+
+        if (entry.getKey() < keepFromIndex || entry.getKey() > keepFromIndex + count) {
+          entry.getValue().cancel();
+          iterator.remove();
         }
+      }
+    }
+
+    private void updateSegmentList() {
+      try {
+        applySegmentList(loadSegments());
       } catch (Exception e) {
         log.error("For {}, failed to update segment list, skipping.", trackInfo.identifier, e);
       }
     }
 
+    private void applySegmentList(List<HlsStreamSegment> newSegments) {
+      if (newSegments.size() != segments.size()) {
+        log.error("For {}, received different number of segments on update, skipping.", trackInfo.identifier);
+        return;
+      }
+
+      for (int i = 0; i < segments.size(); i++) {
+        if (!Objects.equals(newSegments.get(i).duration, segments.get(i).duration)) {
+          log.error("For {}, segment {} has different length than previously on update.", trackInfo.identifier, i);
+          return;
+        }
+      }
+
+      for (int i = 0; i < segments.size(); i++) {
+        segments.set(i, newSegments.get(i));
+      }
+    }
+
     private void checkSegmentListUpdate() {
       long now = System.currentTimeMillis();
       long delta = now - lastUpdate;
 
-      if (delta > SEGMENT_UPDATE_INTERVAL) {
-        log.debug("For {}, {}ms has passed since last segment update, updating", trackInfo.identifier, delta);
+      if (sourceManager == null) {
+        if (delta > SEGMENT_UPDATE_INTERVAL) {
+          log.debug("For {}, {}ms has passed since last segment update, updating", trackInfo.identifier, delta);
+
+          updateSegmentList();
+          lastUpdate = now;
+        }
+
+        return;
+      }
 
-        updateSegmentList();
+      if (pendingUpdate == null && delta > SEGMENT_UPDATE_INTERVAL - SEGMENT_UPDATE_AHEAD) {
+        log.debug("For {}, {}ms has passed since last segment update, updating in background", trackInfo.identifier,
+            delta);
+
+        try {
+          pendingUpdate = backgroundExecutor.submit(() -> {
+            try (HttpInterface backgroundInterface = sourceManager.getHttpInterface()) {
+              return loadSegments(backgroundInterface);
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          log.debug("For {}, background queue is full, updating segments on the playing thread.", trackInfo.identifier);
+          updateSegmentList();
+          lastUpdate = now;
+          return;
+        }
+      }
+
+      // Waits for the update only if the previous segment URLs may have already expired.
+      if (pendingUpdate != null && (pendingUpdate.isDone() || delta > SEGMENT_UPDATE_INTERVAL)) {
+        try {
+          applySegmentList(pendingUpdate.get());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } catch (Exception e) {
+          log.error("For {}, failed to update segment list, skipping.", trackInfo.identifier, e);
+        }
+
+        pendingUpdate = null;
         lastUpdate = now;
       }
     }
@@ -178,7 +340,33 @@ public class SoundCloudM3uAudioTrack extends DelegatedAudioTrack {
 
     @Override
     public void close() throws Exception {
+      for (PrefetchedSegment prefetched : prefetchedSegments.values()) {
+        prefetched.cancel();
+      }
+
+      prefetchedSegments.clear();
+
+      if (pendingUpdate != null) {
+        pendingUpdate.cancel(true);
+      }
+
       decoder.resetStream();
     }
   }
+
+  private static class PrefetchedSegment {
+    private final HttpGet request;
+    private final Future<byte[]> result;
+
+    private PrefetchedSegment(HttpGet request, Future<byte[]> result) {
+      this.request = request;
+      this.result = result;
+    }
+
+    private void cancel() {
+      result.cancel(false);
+      // Interrupting the download does not stop blocking I/O of the HTTP client, aborting the request does.
+      request.abort();
+    }
+  }
 }
@@ -13,4 +13,12 @@ public interface SoundCloudPlaylistLoader {
       HttpInterfaceManager httpInterfaceManager,
       Function<AudioTrackInfo, AudioTrack> trackFactory
   );
+
+  /**
+   * @param lazyLoading True to return playlists after their first batch of tracks, see
+   *                    {@link com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist}
+   */
+  default void setLazyLoading(boolean lazyLoading) {
+    // Loaders which do not support it always load the whole playlist.
+  }
 }
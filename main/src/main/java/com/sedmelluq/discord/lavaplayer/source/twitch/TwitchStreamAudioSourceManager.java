@@ -2,7 +2,10 @@ package com.sedmelluq.discord.lavaplayer.source.twitch;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.ShareableLiveStreamSource;
 import com.sedmelluq.discord.lavaplayer.tools.*;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestScheduler;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestSchedulingHttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -39,7 +42,8 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
 /**
  * Audio source manager which detects Twitch tracks by URL.
  */
-public class TwitchStreamAudioSourceManager implements AudioSourceManager, HttpConfigurable {
+public class TwitchStreamAudioSourceManager implements AudioSourceManager, HttpConfigurable,
+    ShareableLiveStreamSource {
   private static final Logger log = LoggerFactory.getLogger(TwitchStreamAudioSourceManager.class);
 
   private static final String STREAM_NAME_REGEX = "^https://(?:www\\.|go\\.|m\\.)?twitch.tv/([^/]+)$";
@@ -72,6 +76,13 @@ public class TwitchStreamAudioSourceManager implements AudioSourceManager, HttpC
     return twitchDeviceId;
   }
 
+  /**
+   * @param requestScheduler Scheduler to limit the rate of the requests of this source with, null to not limit them.
+   */
+  public void setRequestScheduler(RequestScheduler requestScheduler) {
+    RequestSchedulingHttpContextFilter.install(httpInterfaceManager, requestScheduler, getSourceName());
+  }
+
   @Override
   public String getSourceName() {
     return "twitch";
@@ -2,13 +2,17 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
 import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
 import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylistPageLoader;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
@@ -18,22 +22,97 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.BROWSE_URL;
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.WATCH_URL_PREFIX;
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
 
 public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
+  private static final String VIDEO_LIST_PATH = "contents.singleColumnBrowseResultsRenderer.tabs.0.tabRenderer.content"
+      + ".sectionListRenderer.contents.0.playlistVideoListRenderer";
+  private static final String CONTINUATION_LIST_PATH = "continuationContents.playlistVideoListContinuation";
+
+  // Fields read from each playlist video list, so that thumbnails, endpoints and menus are skipped while parsing.
+  private static final String[] VIDEO_LIST_FIELDS = new String[] {
+      "contents.*.playlistVideoRenderer.isPlayable",
+      "contents.*.playlistVideoRenderer.shortBylineText",
+      "contents.*.playlistVideoRenderer.videoId",
+      "contents.*.playlistVideoRenderer.title",
+      "contents.*.playlistVideoRenderer.lengthSeconds",
+      "continuations"
+  };
+
+  private static final JsonPathExtractor PLAYLIST_EXTRACTOR = new JsonPathExtractor(Stream.concat(
+      Stream.of("alerts", "header.playlistHeaderRenderer.title"),
+      Stream.of(VIDEO_LIST_FIELDS).map(field -> VIDEO_LIST_PATH + "." + field)
+  ).toArray(String[]::new));
+
+  private static final JsonPathExtractor CONTINUATION_EXTRACTOR = new JsonPathExtractor(
+      Stream.of(VIDEO_LIST_FIELDS).map(field -> CONTINUATION_LIST_PATH + "." + field).toArray(String[]::new)
+  );
+
   private volatile int playlistPageCount = 6;
+  private volatile boolean lazyLoading = false;
 
   @Override
   public void setPlaylistPageCount(int playlistPageCount) {
     this.playlistPageCount = playlistPageCount;
   }
 
+  @Override
+  public void setLazyLoading(boolean lazyLoading) {
+    this.lazyLoading = lazyLoading;
+  }
+
   @Override
   public AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                             Function<AudioTrackInfo, AudioTrack> trackFactory) {
+    try {
+      JsonBrowser json = fetchPlaylist(httpInterface, playlistId);
+      JsonBrowser videoList = getVideoList(json);
+      List<AudioTrack> tracks = extractPlaylistTracks(videoList, trackFactory);
+      String continuationsToken = readContinuationToken(videoList);
+      int loadCount = 0;
+      int pageCount = playlistPageCount;
+
+      // Also load the next pages, each result gives us a JSON with separate values for list html and next page loader html
+      while (continuationsToken != null && ++loadCount < pageCount) {
+        JsonBrowser page = fetchContinuation(httpInterface, continuationsToken);
+        continuationsToken = readContinuationToken(page);
+        tracks.addAll(extractPlaylistTracks(page, trackFactory));
+      }
+
+      return new BasicAudioPlaylist(readPlaylistName(json), tracks, findSelectedTrack(tracks, selectedVideoId), false);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public AudioPlaylist load(HttpInterfaceManager httpInterfaceManager, String playlistId, String selectedVideoId,
+                            Function<AudioTrackInfo, AudioTrack> trackFactory) {
+    if (!lazyLoading) {
+      return YoutubePlaylistLoader.super.load(httpInterfaceManager, playlistId, selectedVideoId, trackFactory);
+    }
+
+    try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+      JsonBrowser json = fetchPlaylist(httpInterface, playlistId);
+      JsonBrowser videoList = getVideoList(json);
+      List<AudioTrack> tracks = extractPlaylistTracks(videoList, trackFactory);
+      String continuationsToken = readContinuationToken(videoList);
+
+      ContinuationPageLoader pageLoader = continuationsToken != null ?
+          new ContinuationPageLoader(httpInterfaceManager, continuationsToken, trackFactory) : null;
+
+      return new LazyAudioPlaylist(readPlaylistName(json), tracks, findSelectedTrack(tracks, selectedVideoId), false,
+          pageLoader);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private JsonBrowser fetchPlaylist(HttpInterface httpInterface, String playlistId) throws IOException {
     HttpPost post = new HttpPost(BROWSE_URL);
     YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
         .withRootField("browseId", "VL" + playlistId)
@@ -44,23 +123,36 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
       HttpClientTools.assertSuccessWithContent(response, "playlist response");
       HttpClientTools.assertJsonContentType(response);
 
-      JsonBrowser json = JsonBrowser.parse(response.getEntity().getContent());
-      return buildPlaylist(httpInterface, json, selectedVideoId, trackFactory);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+      JsonBrowser json = PLAYLIST_EXTRACTOR.extract(response.getEntity().getContent());
+      String errorAlertMessage = findErrorAlert(json);
+
+      if (errorAlertMessage != null) {
+        throw new FriendlyException(errorAlertMessage, COMMON, null);
+      }
+
+      return json;
     }
   }
 
-  private AudioPlaylist buildPlaylist(HttpInterface httpInterface, JsonBrowser json, String selectedVideoId,
-                                      Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
+  private JsonBrowser fetchContinuation(HttpInterface httpInterface, String continuationsToken) throws IOException {
+    HttpPost post = new HttpPost(BROWSE_URL);
+    YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
+        .withRootField("continuation", continuationsToken)
+        .setAttributes(httpInterface);
+    StringEntity payload = new StringEntity(clientConfig.toJsonString(), "UTF-8");
+    post.setEntity(payload);
+    try (CloseableHttpResponse response = httpInterface.execute(post)) {
+      HttpClientTools.assertSuccessWithContent(response, "playlist response");
 
-    String errorAlertMessage = findErrorAlert(json);
+      JsonBrowser continuationJson = CONTINUATION_EXTRACTOR.extract(response.getEntity().getContent());
 
-    if (errorAlertMessage != null) {
-      throw new FriendlyException(errorAlertMessage, COMMON, null);
+      return continuationJson.get("continuationContents")
+          .get("playlistVideoListContinuation");
     }
+  }
 
-    String playlistName = json
+  private String readPlaylistName(JsonBrowser json) {
+    return json
         .get("header")
         .get("playlistHeaderRenderer")
         .get("title")
@@ -68,8 +160,10 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
         .index(0)
         .get("text")
         .text();
+  }
 
-    JsonBrowser playlistVideoList = json
+  private JsonBrowser getVideoList(JsonBrowser json) {
+    return json
         .get("contents")
         .get("singleColumnBrowseResultsRenderer")
         .get("tabs")
@@ -80,33 +174,6 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
         .get("contents")
         .index(0)
         .get("playlistVideoListRenderer");
-
-    List<AudioTrack> tracks = new ArrayList<>();
-    String continuationsToken = extractPlaylistTracks(playlistVideoList, tracks, trackFactory);
-    int loadCount = 0;
-    int pageCount = playlistPageCount;
-
-    // Also load the next pages, each result gives us a JSON with separate values for list html and next page loader html
-    while (continuationsToken != null && ++loadCount < pageCount) {
-      HttpPost post = new HttpPost(BROWSE_URL);
-      YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
-          .withRootField("continuation", continuationsToken)
-          .setAttributes(httpInterface);
-      StringEntity payload = new StringEntity(clientConfig.toJsonString(), "UTF-8");
-      post.setEntity(payload);
-      try (CloseableHttpResponse response = httpInterface.execute(post)) {
-        HttpClientTools.assertSuccessWithContent(response, "playlist response");
-
-        JsonBrowser continuationJson = JsonBrowser.parse(response.getEntity().getContent());
-
-        JsonBrowser playlistVideoListPage = continuationJson.get("continuationContents")
-            .get("playlistVideoListContinuation");
-
-        continuationsToken = extractPlaylistTracks(playlistVideoListPage, tracks, trackFactory);
-      }
-    }
-
-    return new BasicAudioPlaylist(playlistName, tracks, findSelectedTrack(tracks, selectedVideoId), false);
   }
 
   private String findErrorAlert(JsonBrowser jsonResponse) {
@@ -149,10 +216,11 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
     return null;
   }
 
-  private String extractPlaylistTracks(JsonBrowser playlistVideoList, List<AudioTrack> tracks,
-                                       Function<AudioTrackInfo, AudioTrack> trackFactory) {
+  private List<AudioTrack> extractPlaylistTracks(JsonBrowser playlistVideoList,
+                                                 Function<AudioTrackInfo, AudioTrack> trackFactory) {
+    List<AudioTrack> tracks = new ArrayList<>();
     JsonBrowser contents = playlistVideoList.get("contents");
-    if (contents.isNull()) return null;
+    if (contents.isNull()) return tracks;
 
     final List<JsonBrowser> playlistTrackEntries = contents.values();
     for (JsonBrowser track : playlistTrackEntries) {
@@ -177,6 +245,13 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
       }
     }
 
+    return tracks;
+  }
+
+  private String readContinuationToken(JsonBrowser playlistVideoList) {
+    // Without contents there are no further pages either.
+    if (playlistVideoList.get("contents").isNull()) return null;
+
     JsonBrowser continuations = playlistVideoList.get("continuations")
         .index(0)
         .get("nextContinuationData");
@@ -188,4 +263,37 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
 
     return null;
   }
-}
\ No newline at end of file
+
+  private class ContinuationPageLoader implements AudioPlaylistPageLoader {
+    private final HttpInterfaceManager httpInterfaceManager;
+    private final Function<AudioTrackInfo, AudioTrack> trackFactory;
+    private final int pageCount;
+    private String continuationsToken;
+    private int loadCount;
+
+    private ContinuationPageLoader(HttpInterfaceManager httpInterfaceManager, String continuationsToken,
+                                   Function<AudioTrackInfo, AudioTrack> trackFactory) {
+
+      this.httpInterfaceManager = httpInterfaceManager;
+      this.trackFactory = trackFactory;
+      this.pageCount = playlistPageCount;
+      this.continuationsToken = continuationsToken;
+    }
+
+    @Override
+    public List<AudioTrack> loadNextPage() throws IOException {
+      if (continuationsToken == null || ++loadCount >= pageCount) {
+        return null;
+      }
+
+      JsonBrowser page;
+
+      try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+        page = fetchContinuation(httpInterface, continuationsToken);
+      }
+
+      continuationsToken = readContinuationToken(page);
+      return extractPlaylistTracks(page, trackFactory);
+    }
+  }
+}
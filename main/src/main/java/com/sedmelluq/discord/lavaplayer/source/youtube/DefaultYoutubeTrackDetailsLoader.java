@@ -4,6 +4,8 @@ import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
+import com.sedmelluq.discord.lavaplayer.tools.SingleFlight;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -15,16 +17,29 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.PLAYER_URL;
 import static com.sedmelluq.discord.lavaplayer.tools.ExceptionTools.throwWithDebugInfo;
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
-import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoader {
   private static final Logger log = LoggerFactory.getLogger(DefaultYoutubeTrackDetailsLoader.class);
 
+  // Only the parts of the player response which are read, the rest (captions, storyboards, tracking...) is skipped.
+  protected static final JsonPathExtractor PLAYER_RESPONSE_EXTRACTOR = new JsonPathExtractor(
+      "playabilityStatus",
+      "videoDetails",
+      "streamingData",
+      "player",
+      "playerResponse",
+      "*.player",
+      "*.playerResponse"
+  );
+
+  private final SingleFlight detailsLookups = new SingleFlight();
+
   private YoutubeAccessTokenTracker tokenTracker;
 
   private volatile CachedPlayerScript cachedPlayerScript = null;
@@ -36,18 +51,46 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
 
   @Override
   public YoutubeTrackDetails loadDetails(HttpInterface httpInterface, String videoId, boolean requireFormats, YoutubeAudioSourceManager sourceManager, YoutubeClientConfig clientConfig) {
-    try {
-      return load(httpInterface, videoId, requireFormats, sourceManager, clientConfig);
-    } catch (IOException e) {
-      throw ExceptionTools.toRuntimeException(e);
-    }
+    return loadCoalesced(httpInterface, videoId, requireFormats, sourceManager, clientConfig);
   }
 
   @Override
   public YoutubeTrackDetails loadDetails(HttpInterface httpInterface, String videoId, boolean requireFormats, YoutubeAudioSourceManager sourceManager) {
+    return loadCoalesced(httpInterface, videoId, requireFormats, sourceManager, null);
+  }
+
+  /**
+   * @return Coalescing of concurrent detail lookups for the same video, for statistics
+   */
+  public SingleFlight getDetailsLookups() {
+    return detailsLookups;
+  }
+
+  private YoutubeTrackDetails loadCoalesced(
+      HttpInterface httpInterface,
+      String videoId,
+      boolean requireFormats,
+      YoutubeAudioSourceManager sourceManager,
+      YoutubeClientConfig clientConfig
+  ) {
+    YoutubeClientHedging hedging = sourceManager.getClientHedging();
+
     try {
-      return load(httpInterface, videoId, requireFormats, sourceManager, null);
-    } catch (IOException e) {
+      if (clientConfig == null && hedging.isEnabled()) {
+        // Each client makes its requests with its own interface, on a thread of the hedging executor
+        return detailsLookups.execute(
+            Arrays.asList(videoId, requireFormats, null),
+            () -> hedging.execute(sourceManager::getHttpInterface,
+                (attemptInterface, attemptConfig) -> load(attemptInterface, videoId, requireFormats, sourceManager,
+                    attemptConfig))
+        );
+      }
+
+      return detailsLookups.execute(
+          Arrays.asList(videoId, requireFormats, clientConfig),
+          () -> load(httpInterface, videoId, requireFormats, sourceManager, clientConfig)
+      );
+    } catch (Exception e) {
       throw ExceptionTools.toRuntimeException(e);
     }
   }
@@ -260,10 +303,9 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
     try (CloseableHttpResponse response = httpInterface.execute(post)) {
       HttpClientTools.assertSuccessWithContent(response, "video page response");
 
-      String responseText = EntityUtils.toString(response.getEntity(), UTF_8);
-
       try {
-        return JsonBrowser.parse(responseText);
+        // Parsed straight from the stream, so that the skipped parts of the response are never held in memory.
+        return PLAYER_RESPONSE_EXTRACTOR.extract(response.getEntity().getContent());
       } catch (FriendlyException e) {
         throw e;
       } catch (Exception e) {
@@ -276,7 +318,7 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
         }
 
         throw new FriendlyException("Received unexpected response from YouTube.", SUSPICIOUS,
-            new RuntimeException("Failed to parse: " + responseText, e));
+            new RuntimeException("Failed to parse the player response.", e));
       }
     }
   }
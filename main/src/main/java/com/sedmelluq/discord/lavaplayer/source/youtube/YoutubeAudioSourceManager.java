@@ -2,11 +2,15 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.ShareableLiveStreamSource;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.http.MultiHttpConfigurable;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestScheduler;
+import com.sedmelluq.discord.lavaplayer.tools.http.RequestSchedulingHttpContextFilter;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -38,8 +42,9 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
  * This source manager is now deprecated. Please use <a href="https://github.com/lavalink-devs/youtube-source">youtube-source</a>
  */
 @Deprecated
-public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfigurable {
+public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfigurable, ShareableLiveStreamSource {
   private static final Logger log = LoggerFactory.getLogger(YoutubeAudioSourceManager.class);
+  private static final int DEFAULT_PREFETCHED_MEDIA_SIZE = 256 * 1024;
 
   private final YoutubeSignatureResolver signatureResolver;
   private final HttpInterfaceManager httpInterfaceManager;
@@ -54,6 +59,9 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
   private final YoutubeLyricsLoader lyricsLoader;
   private final YoutubeLinkRouter linkRouter;
   private final LoadingRoutes loadingRoutes;
+  private final YoutubeClientHedging clientHedging;
+  private final YoutubeHttpContextFilter httpContextFilter;
+  private volatile int prefetchedMediaSize;
 
   /**
    * Create an instance with default settings.
@@ -105,9 +113,9 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
   ) {
     httpInterfaceManager = HttpClientTools.createDefaultThreadLocalManager();
     accessTokenTracker = new YoutubeAccessTokenTracker(httpInterfaceManager, email, password);
-    YoutubeHttpContextFilter youtubeHttpContextFilter = new YoutubeHttpContextFilter();
-    youtubeHttpContextFilter.setTokenTracker(accessTokenTracker);
-    httpInterfaceManager.setHttpContextFilter(youtubeHttpContextFilter);
+    httpContextFilter = new YoutubeHttpContextFilter();
+    httpContextFilter.setTokenTracker(accessTokenTracker);
+    httpInterfaceManager.setHttpContextFilter(httpContextFilter);
 
     trackDetailsLoader.setTokenTracker(accessTokenTracker);
 
@@ -126,6 +134,8 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     this.mixLoader = mixLoader;
     this.loadingRoutes = new LoadingRoutes();
     this.lyricsLoader = new YoutubeLyricsLoader();
+    this.clientHedging = new YoutubeClientHedging();
+    this.prefetchedMediaSize = DEFAULT_PREFETCHED_MEDIA_SIZE;
 
     combinedHttpConfiguration = new MultiHttpConfigurable(Arrays.asList(
         httpInterfaceManager,
@@ -149,6 +159,59 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     playlistLoader.setPlaylistPageCount(playlistPageCount);
   }
 
+  /**
+   * @param lazyLoading True to return playlists after their first page and load the remaining pages in the background
+   *                    or on demand, see {@link com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist}
+   */
+  public void setPlaylistLazyLoading(boolean lazyLoading) {
+    playlistLoader.setLazyLoading(lazyLoading);
+  }
+
+  /**
+   * @param prefetchedMediaSize Number of bytes from the start of the media which are downloaded when a track is
+   *                            prepared for playback ahead of time, 0 to only resolve the stream URL
+   */
+  public void setPrefetchedMediaSize(int prefetchedMediaSize) {
+    this.prefetchedMediaSize = prefetchedMediaSize;
+  }
+
+  /**
+   * @return Number of bytes from the start of the media which are downloaded when a track is prepared
+   */
+  public int getPrefetchedMediaSize() {
+    return prefetchedMediaSize;
+  }
+
+  /**
+   * @return Settings and statistics of requesting formats with several clients in parallel when loading a track for
+   *         playback, disabled by default
+   */
+  public YoutubeClientHedging getClientHedging() {
+    return clientHedging;
+  }
+
+  /**
+   * @param searchResultCache Cache for the results of both YouTube and YouTube Music searches, null to disable caching.
+   *                          Custom search result loaders which do not support caching ignore it.
+   */
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    searchResultLoader.setSearchResultCache(searchResultCache);
+    searchMusicResultLoader.setSearchResultCache(searchResultCache);
+  }
+
+  /**
+   * @param requestScheduler Scheduler to limit the rate of the requests of this source with, including searches, null
+   *                         to not limit them. The scheduling is applied before the context filters already set on the
+   *                         HTTP configurations, such as the one of the IP rotator, which keeps it when set up later.
+   */
+  public void setRequestScheduler(RequestScheduler requestScheduler) {
+    RequestSchedulingHttpContextFilter.install(httpInterfaceManager, requestScheduler, getSourceName());
+    RequestSchedulingHttpContextFilter.install(searchResultLoader.getHttpConfiguration(), requestScheduler,
+        getSourceName());
+    RequestSchedulingHttpContextFilter.install(searchMusicResultLoader.getHttpConfiguration(), requestScheduler,
+        getSourceName());
+  }
+
   @Override
   public String getSourceName() {
     return "youtube";
@@ -286,8 +349,8 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
 
       log.debug("Starting to load playlist with ID {}", playlistId);
 
-      try (HttpInterface httpInterface = getHttpInterface()) {
-        return playlistLoader.load(httpInterface, playlistId, selectedVideoId,
+      try {
+        return playlistLoader.load(httpInterfaceManager, playlistId, selectedVideoId,
             YoutubeAudioSourceManager.this::buildTrackFromInfo);
       } catch (Exception e) {
         throw ExceptionTools.wrapUnfriendlyExceptions(e);
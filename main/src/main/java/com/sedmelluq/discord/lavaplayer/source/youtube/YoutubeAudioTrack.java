@@ -4,19 +4,29 @@ import com.sedmelluq.discord.lavaplayer.container.matroska.MatroskaAudioTrack;
 import com.sedmelluq.discord.lavaplayer.container.mpeg.MpegAudioTrack;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.utils.URIBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 
 import static com.sedmelluq.discord.lavaplayer.container.Formats.MIME_AUDIO_WEBM;
 import static com.sedmelluq.discord.lavaplayer.tools.DataFormatTools.decodeUrlEncodedItems;
@@ -29,7 +39,12 @@ import static com.sedmelluq.discord.lavaplayer.tools.Units.CONTENT_LENGTH_UNKNOW
 public class YoutubeAudioTrack extends DelegatedAudioTrack {
   private static final Logger log = LoggerFactory.getLogger(YoutubeAudioTrack.class);
 
+  private static final long PREPARED_EXPIRY_MARGIN = TimeUnit.MINUTES.toMillis(1);
+  private static final long PREPARED_DEFAULT_LIFETIME = TimeUnit.MINUTES.toMillis(10);
+
   private final YoutubeAudioSourceManager sourceManager;
+  private final Object prepareLock;
+  private PreparedFormat preparedFormat;
 
   /**
    * @param trackInfo Track info
@@ -39,18 +54,40 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
     super(trackInfo);
 
     this.sourceManager = sourceManager;
+    this.prepareLock = new Object();
+  }
+
+  /**
+   * Resolves the stream URL and downloads the start of the media ahead of time. They are used if the track is played
+   * before the URL expires.
+   */
+  @Override
+  public void prepare() throws Exception {
+    synchronized (prepareLock) {
+      if (preparedFormat != null && preparedFormat.isValid()) {
+        return;
+      }
+
+      FormatWithUrl format = loadBestFormatWithUrl(null);
+      byte[] head = isStream(format) ? null : prefetchHead(format);
+
+      preparedFormat = new PreparedFormat(format, head, getExpiryTime(format.signedUrl));
+      log.debug("Prepared track {} with URL {}, prefetched {} bytes.", getIdentifier(), format.signedUrl,
+          head != null ? head.length : 0);
+    }
   }
 
   @Override
   public void process(LocalAudioTrackExecutor localExecutor) throws Exception {
-    FormatWithUrl format = loadBestFormatWithUrl(null); // first attempt with ANDROID client
+    PreparedFormat prepared = takePreparedFormat();
+    FormatWithUrl format = prepared != null ? prepared.format : loadBestFormatWithUrl(null); // first attempt with ANDROID client
     log.debug("Starting track from URL: {}", format.signedUrl);
 
-    if (trackInfo.isStream || format.details.getContentLength() == CONTENT_LENGTH_UNKNOWN) {
+    if (isStream(format)) {
       processStream(localExecutor, format); // perhaps this should be using the interface too?
     } else {
       try {
-        processStatic(localExecutor, format);
+        processStatic(localExecutor, format, prepared != null ? prepared.head : null);
       } catch (RuntimeException e) {
         String message = e.getMessage();
 
@@ -65,14 +102,71 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
         YoutubeClientConfig fallbackConfig = YoutubeClientConfig.WEB.copy()
             .withRootField("params", YoutubeConstants.PLAYER_PARAMS_WEB);
 
-        processStatic(localExecutor, loadBestFormatWithUrl(fallbackConfig));
+        processStatic(localExecutor, loadBestFormatWithUrl(fallbackConfig), null);
+      }
+    }
+  }
+
+  private boolean isStream(FormatWithUrl format) {
+    return trackInfo.isStream || format.details.getContentLength() == CONTENT_LENGTH_UNKNOWN;
+  }
+
+  private PreparedFormat takePreparedFormat() {
+    synchronized (prepareLock) {
+      PreparedFormat prepared = preparedFormat;
+      preparedFormat = null;
+
+      if (prepared != null && !prepared.isValid()) {
+        log.debug("Prepared URL of track {} has expired, loading it again.", getIdentifier());
+        return null;
       }
+
+      return prepared;
     }
   }
 
-  private void processStatic(LocalAudioTrackExecutor localExecutor, FormatWithUrl format) throws Exception {
+  private byte[] prefetchHead(FormatWithUrl format) throws IOException, URISyntaxException {
+    int size = (int) Math.min(sourceManager.getPrefetchedMediaSize(), format.details.getContentLength());
+
+    if (size <= 0) {
+      return null;
+    }
+
+    URI rangeUrl = new URIBuilder(format.signedUrl).addParameter("range", "0-" + (size - 1)).build();
+
     try (HttpInterface httpInterface = sourceManager.getHttpInterface();
-         YoutubePersistentHttpStream stream = new YoutubePersistentHttpStream(httpInterface, format.signedUrl, format.details.getContentLength())) {
+         CloseableHttpResponse response = httpInterface.execute(new HttpGet(rangeUrl))) {
+
+      HttpClientTools.assertSuccessWithContent(response, "media prefetch response");
+
+      try (InputStream input = response.getEntity().getContent()) {
+        byte[] head = new byte[size];
+        int length = IOUtils.read(input, head);
+        return length == size ? head : Arrays.copyOf(head, length);
+      }
+    }
+  }
+
+  private static long getExpiryTime(URI signedUrl) {
+    for (NameValuePair parameter : new URIBuilder(signedUrl).getQueryParams()) {
+      if ("expire".equals(parameter.getName())) {
+        try {
+          return TimeUnit.SECONDS.toMillis(Long.parseLong(parameter.getValue())) - PREPARED_EXPIRY_MARGIN;
+        } catch (NumberFormatException e) {
+          break;
+        }
+      }
+    }
+
+    return System.currentTimeMillis() + PREPARED_DEFAULT_LIFETIME;
+  }
+
+  private void processStatic(LocalAudioTrackExecutor localExecutor, FormatWithUrl format, byte[] prefetchedHead)
+      throws Exception {
+
+    try (HttpInterface httpInterface = sourceManager.getHttpInterface();
+         YoutubePersistentHttpStream stream = new YoutubePersistentHttpStream(httpInterface, format.signedUrl,
+             format.details.getContentLength(), prefetchedHead)) {
 
       if (format.details.getType().getMimeType().endsWith("/webm")) {
         processDelegate(new MatroskaAudioTrack(trackInfo, stream), localExecutor);
@@ -201,6 +295,22 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
 //    }
 //  }
 
+  private static class PreparedFormat {
+    private final FormatWithUrl format;
+    private final byte[] head;
+    private final long expiryTime;
+
+    private PreparedFormat(FormatWithUrl format, byte[] head, long expiryTime) {
+      this.format = format;
+      this.head = head;
+      this.expiryTime = expiryTime;
+    }
+
+    private boolean isValid() {
+      return System.currentTimeMillis() < expiryTime;
+    }
+  }
+
   private static class FormatWithUrl {
     private final YoutubeTrackFormat details;
     private final URI signedUrl;
@@ -0,0 +1,166 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube;
+
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists extracted player script ciphers to a local directory, one file per script URL, so that the player scripts
+ * do not have to be downloaded and parsed again after a restart. Only the most recently written files are kept, as
+ * the player script changes regularly. All file operations run on a background thread.
+ */
+public class YoutubeCipherDiskCache {
+  private static final Logger log = LoggerFactory.getLogger(YoutubeCipherDiskCache.class);
+
+  private static final String FILE_SUFFIX = ".cipher";
+  private static final int MAX_FILE_COUNT = 20;
+
+  private final File directory;
+  private final ExecutorService executor;
+
+  /**
+   * @param directory Directory to keep the ciphers in, created if it does not exist
+   */
+  public YoutubeCipherDiskCache(File directory) {
+    this.directory = directory;
+    this.executor = new ThreadPoolExecutor(0, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new DaemonThreadFactory("yt-cipher-cache"));
+  }
+
+  /**
+   * @return Future for all ciphers in the directory by their script URL. Files which cannot be read are discarded.
+   */
+  public CompletableFuture<Map<String, YoutubeSignatureCipher>> loadAll() {
+    return CompletableFuture.supplyAsync(this::readDirectory, executor);
+  }
+
+  /**
+   * @param scriptUrl Script URL the cipher was extracted from
+   * @param cipher Cipher to persist
+   */
+  public void store(String scriptUrl, YoutubeSignatureCipher cipher) {
+    executor.execute(() -> writeFile(scriptUrl, cipher));
+  }
+
+  /**
+   * @param scriptUrl Script URL of the cipher to remove
+   */
+  public void remove(String scriptUrl) {
+    executor.execute(() -> deleteFile(new File(directory, getFileName(scriptUrl))));
+  }
+
+  private Map<String, YoutubeSignatureCipher> readDirectory() {
+    Map<String, YoutubeSignatureCipher> ciphers = new HashMap<>();
+
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      log.warn("Could not create player script cache directory {}.", directory);
+      return ciphers;
+    }
+
+    File[] files = listFilesByAge();
+
+    for (int i = 0; i < files.length; i++) {
+      File file = files[i];
+
+      if (i >= MAX_FILE_COUNT) {
+        deleteFile(file);
+        continue;
+      }
+
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+        String scriptUrl = input.readUTF();
+        ciphers.put(scriptUrl, YoutubeSignatureCipher.read(input));
+      } catch (IOException e) {
+        log.warn("Failed to read player script cache file {}, discarding it.", file, e);
+        deleteFile(file);
+      }
+    }
+
+    log.debug("Loaded {} player script ciphers from {}.", ciphers.size(), directory);
+    return ciphers;
+  }
+
+  private void writeFile(String scriptUrl, YoutubeSignatureCipher cipher) {
+    File file = new File(directory, getFileName(scriptUrl));
+    File temporaryFile = new File(directory, file.getName() + ".tmp");
+
+    try {
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+        throw new IOException("Could not create directory " + directory);
+      }
+
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+        output.writeUTF(scriptUrl);
+        cipher.write(output);
+      }
+
+      // Written to a temporary file first, so that a crash while writing cannot leave a truncated file behind.
+      Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      log.warn("Failed to write player script cache file {}.", file, e);
+      deleteFile(temporaryFile);
+      return;
+    }
+
+    File[] files = listFilesByAge();
+
+    for (int i = MAX_FILE_COUNT; i < files.length; i++) {
+      deleteFile(files[i]);
+    }
+  }
+
+  private File[] listFilesByAge() {
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+
+    if (files == null) {
+      return new File[0];
+    }
+
+    Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+    return files;
+  }
+
+  private static void deleteFile(File file) {
+    if (file.exists() && !file.delete()) {
+      log.debug("Could not delete player script cache file {}.", file);
+    }
+  }
+
+  private static String getFileName(String scriptUrl) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-1").digest(scriptUrl.getBytes(StandardCharsets.UTF_8));
+      StringBuilder builder = new StringBuilder(digest.length * 2 + FILE_SUFFIX.length());
+
+      for (byte value : digest) {
+        builder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+      }
+
+      return builder.append(FILE_SUFFIX).toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
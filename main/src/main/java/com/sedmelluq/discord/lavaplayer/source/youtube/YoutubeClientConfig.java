@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.grack.nanojson.JsonWriter;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import org.apache.http.client.protocol.HttpClientContext;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -172,8 +173,12 @@ public class YoutubeClientConfig {
     }
 
     public YoutubeClientConfig setAttributes(HttpInterface httpInterface) {
+        return setAttributes(httpInterface.getContext());
+    }
+
+    public YoutubeClientConfig setAttributes(HttpClientContext context) {
         if (userAgent != null) {
-            httpInterface.getContext().setAttribute(YoutubeHttpContextFilter.ATTRIBUTE_USER_AGENT_SPECIFIED, userAgent);
+            context.setAttribute(YoutubeHttpContextFilter.ATTRIBUTE_USER_AGENT_SPECIFIED, userAgent);
         }
 
         return this;
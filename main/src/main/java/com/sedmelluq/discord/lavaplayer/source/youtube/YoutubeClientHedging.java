@@ -0,0 +1,360 @@
+package com.sedmelluq.discord.lavaplayer.source.youtube;
+
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Loads track details with several client configurations in parallel. The primary client is requested first, each
+ * following client is requested when the previous one has not responded within the hedging delay or has failed. The
+ * first successful result is used and the requests of the remaining clients are aborted. Disabled by default, in which
+ * case only the primary client is used and other clients are only tried when playback fails.
+ */
+public class YoutubeClientHedging {
+  private static final long DEFAULT_DELAY = 1500;
+  private static final long DEFAULT_TIMEOUT = 20000;
+  private static final String DEFAULT_CLIENT_NAME = "DEFAULT";
+
+  private final ExecutorService executor;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final ConcurrentMap<String, ClientStatistics> statistics;
+  private volatile boolean enabled;
+  private volatile long delay;
+  private volatile long timeout;
+  private volatile List<YoutubeClientConfig> fallbackClients;
+
+  /**
+   * Create an instance.
+   */
+  public YoutubeClientHedging() {
+    this.executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 10, TimeUnit.SECONDS, new SynchronousQueue<>(),
+        new DaemonThreadFactory("yt-hedging"));
+    this.scheduler = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("yt-hedging-timer"));
+    this.statistics = new ConcurrentHashMap<>();
+    this.delay = DEFAULT_DELAY;
+    this.timeout = DEFAULT_TIMEOUT;
+    this.fallbackClients = Collections.singletonList(
+        YoutubeClientConfig.WEB.copy().withRootField("params", YoutubeConstants.PLAYER_PARAMS_WEB)
+    );
+
+    scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * @param enabled True to request the fallback clients in parallel with the primary one
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return True if the fallback clients are requested in parallel with the primary one
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param delay Time in milliseconds to wait for a client before also requesting the next one
+   */
+  public void setDelay(long delay) {
+    this.delay = delay;
+  }
+
+  /**
+   * @param timeout Time in milliseconds to wait for any of the clients to succeed before giving up on all of them
+   */
+  public void setTimeout(long timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * @param fallbackClients Clients to request after the primary one, in order
+   */
+  public void setFallbackClients(List<YoutubeClientConfig> fallbackClients) {
+    this.fallbackClients = new ArrayList<>(fallbackClients);
+  }
+
+  /**
+   * @return Statistics of the requests made through this instance by client name. The primary client with its
+   *         default configuration is named DEFAULT.
+   */
+  public Map<String, ClientStatistics> getStatistics() {
+    return Collections.unmodifiableMap(new HashMap<>(statistics));
+  }
+
+  /**
+   * @param interfaceSource Source of the HTTP interfaces to use, each client gets its own interface so that its
+   *                        requests can be aborted once another client succeeds
+   * @param call Call to make with each client, null is passed for the primary client
+   * @param <T> Type of the result
+   * @return The first successful result
+   * @throws Exception The exception of the primary client if all clients failed, with the others suppressed, or a
+   *                   {@link TimeoutException} if no client succeeded within the timeout
+   */
+  public <T> T execute(Supplier<HttpInterface> interfaceSource, ClientCall<T> call) throws Exception {
+    List<YoutubeClientConfig> clients = new ArrayList<>();
+    clients.add(null);
+    clients.addAll(fallbackClients);
+
+    return new Race<>(clients, interfaceSource, call).await();
+  }
+
+  /**
+   * A request made with one client.
+   *
+   * @param <T> Type of the result
+   */
+  public interface ClientCall<T> {
+    /**
+     * @param httpInterface HTTP interface to make the requests with
+     * @param config Client configuration to use, null for the default one
+     * @return The result
+     * @throws Exception If the request fails
+     */
+    T call(HttpInterface httpInterface, YoutubeClientConfig config) throws Exception;
+  }
+
+  /**
+   * Request statistics of one client.
+   */
+  public static class ClientStatistics {
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong cancelCount = new AtomicLong();
+    private final AtomicLong successNanosTotal = new AtomicLong();
+    private final AtomicLong successNanosMax = new AtomicLong();
+
+    private void recordSuccess(long nanos) {
+      successCount.incrementAndGet();
+      successNanosTotal.addAndGet(nanos);
+      successNanosMax.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * @return Number of requests which succeeded, including the ones which finished after another client won
+     */
+    public long getSuccessCount() {
+      return successCount.get();
+    }
+
+    /**
+     * @return Number of requests which failed
+     */
+    public long getFailureCount() {
+      return failureCount.get();
+    }
+
+    /**
+     * @return Number of requests which were aborted or not made because another client succeeded first
+     */
+    public long getCancelCount() {
+      return cancelCount.get();
+    }
+
+    /**
+     * @return Ratio of the requests which succeeded out of the ones which completed, from 0 to 1
+     */
+    public double getSuccessRate() {
+      long successes = successCount.get();
+      long total = successes + failureCount.get();
+      return total == 0 ? 0.0 : (double) successes / total;
+    }
+
+    /**
+     * @return Average duration of a successful request in nanoseconds
+     */
+    public long getAverageLatencyNanos() {
+      long successes = successCount.get();
+      return successes == 0 ? 0 : successNanosTotal.get() / successes;
+    }
+
+    /**
+     * @return Longest duration of a successful request in nanoseconds
+     */
+    public long getMaximumLatencyNanos() {
+      return successNanosMax.get();
+    }
+  }
+
+  private class Race<T> {
+    private final List<YoutubeClientConfig> clients;
+    private final Supplier<HttpInterface> interfaceSource;
+    private final ClientCall<T> call;
+    private final CompletableFuture<T> result;
+    private final AtomicBoolean[] started;
+    private final List<Future<?>> tasks;
+    private final HttpInterface[] activeInterfaces;
+    private final List<Exception> failures;
+    private final AtomicInteger failureCount;
+
+    private Race(List<YoutubeClientConfig> clients, Supplier<HttpInterface> interfaceSource, ClientCall<T> call) {
+      this.clients = clients;
+      this.interfaceSource = interfaceSource;
+      this.call = call;
+      this.result = new CompletableFuture<>();
+      this.started = new AtomicBoolean[clients.size()];
+      this.tasks = Collections.synchronizedList(new ArrayList<>());
+      this.activeInterfaces = new HttpInterface[clients.size()];
+      this.failures = new ArrayList<>(Collections.nCopies(clients.size(), null));
+      this.failureCount = new AtomicInteger();
+
+      for (int i = 0; i < started.length; i++) {
+        started[i] = new AtomicBoolean();
+      }
+    }
+
+    private T await() throws Exception {
+      start(0);
+
+      try {
+        return result.get(timeout, TimeUnit.MILLISECONDS);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        ExceptionTools.rethrowErrors(cause);
+        throw (Exception) cause;
+      } catch (TimeoutException e) {
+        TimeoutException timeoutException = new TimeoutException("No client succeeded within " + timeout + " ms.");
+
+        synchronized (failures) {
+          for (Exception failure : failures) {
+            if (failure != null) {
+              timeoutException.addSuppressed(failure);
+            }
+          }
+        }
+
+        throw timeoutException;
+      } finally {
+        result.cancel(false);
+        cancelRemaining();
+      }
+    }
+
+    private void start(int index) {
+      if (index >= clients.size() || result.isDone() || !started[index].compareAndSet(false, true)) {
+        return;
+      }
+
+      if (index + 1 < clients.size()) {
+        tasks.add(scheduler.schedule(() -> start(index + 1), delay, TimeUnit.MILLISECONDS));
+      }
+
+      tasks.add(executor.submit(() -> attempt(index)));
+    }
+
+    private void attempt(int index) {
+      YoutubeClientConfig config = clients.get(index);
+      ClientStatistics clientStatistics = statistics.computeIfAbsent(
+          config == null || config.getName() == null ? DEFAULT_CLIENT_NAME : config.getName(),
+          name -> new ClientStatistics()
+      );
+
+      if (result.isDone()) {
+        clientStatistics.cancelCount.incrementAndGet();
+        return;
+      }
+
+      long startTime = System.nanoTime();
+      T value;
+
+      try (HttpInterface httpInterface = interfaceSource.get()) {
+        setActiveInterface(index, httpInterface);
+
+        try {
+          value = call.call(httpInterface, config);
+        } finally {
+          setActiveInterface(index, null);
+        }
+      } catch (Exception e) {
+        // Whatever the exception, a client which lost the race was cancelled. Otherwise, even if it was interrupted,
+        // it counts as failed, so that the race completes once every client has failed.
+        if (result.isDone()) {
+          clientStatistics.cancelCount.incrementAndGet();
+          return;
+        }
+
+        clientStatistics.failureCount.incrementAndGet();
+        recordFailure(index, e);
+        start(index + 1);
+        return;
+      } catch (Error e) {
+        result.completeExceptionally(e);
+        throw e;
+      }
+
+      clientStatistics.recordSuccess(System.nanoTime() - startTime);
+      result.complete(value);
+    }
+
+    private void setActiveInterface(int index, HttpInterface httpInterface) {
+      synchronized (activeInterfaces) {
+        activeInterfaces[index] = httpInterface;
+
+        if (httpInterface != null && result.isDone()) {
+          httpInterface.abort();
+        }
+      }
+    }
+
+    private void recordFailure(int index, Exception exception) {
+      synchronized (failures) {
+        failures.set(index, exception);
+      }
+
+      if (failureCount.incrementAndGet() == clients.size()) {
+        Exception primary = null;
+
+        synchronized (failures) {
+          for (Exception failure : failures) {
+            if (primary == null) {
+              primary = failure;
+            } else if (failure != null) {
+              primary.addSuppressed(failure);
+            }
+          }
+        }
+
+        result.completeExceptionally(primary);
+      }
+    }
+
+    private void cancelRemaining() {
+      synchronized (tasks) {
+        for (Future<?> task : tasks) {
+          task.cancel(true);
+        }
+      }
+
+      // Apache HTTP client ignores interrupts, the requests themselves have to be aborted
+      synchronized (activeInterfaces) {
+        for (HttpInterface httpInterface : activeInterfaces) {
+          if (httpInterface != null) {
+            httpInterface.abort();
+          }
+        }
+      }
+    }
+  }
+}
@@ -21,6 +21,7 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
   // Valid range for requesting without throttling is 0-11862014
   private static final long BUFFER_SIZE = 11862014;
 
+  private final byte[] prefetchedHead;
   private long rangeEnd;
 
   /**
@@ -29,7 +30,30 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
    * @param contentLength The length of the resource in bytes
    */
   public YoutubePersistentHttpStream(HttpInterface httpInterface, URI contentUrl, long contentLength) {
+    this(httpInterface, contentUrl, contentLength, null);
+  }
+
+  /**
+   * @param httpInterface The HTTP interface to use for requests
+   * @param contentUrl The URL of the resource
+   * @param contentLength The length of the resource in bytes
+   * @param prefetchedHead The first bytes of the resource which were already downloaded, null if none. Reads within
+   *                       these bytes are served without a connection.
+   */
+  public YoutubePersistentHttpStream(HttpInterface httpInterface, URI contentUrl, long contentLength,
+                                     byte[] prefetchedHead) {
+
     super(httpInterface, contentUrl, contentLength);
+    this.prefetchedHead = prefetchedHead;
+  }
+
+  @Override
+  protected int internalRead(boolean attemptReconnect) throws IOException {
+    if (isInPrefetchedHead()) {
+      return prefetchedHead[(int) position++] & 0xFF;
+    }
+
+    return super.internalRead(attemptReconnect);
   }
 
   @Override
@@ -47,6 +71,13 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
 
   @Override
   protected int internalRead(byte[] b, int off, int len, boolean attemptReconnect) throws IOException {
+    if (isInPrefetchedHead()) {
+      int chunk = (int) Math.min(len, prefetchedHead.length - position);
+      System.arraycopy(prefetchedHead, (int) position, b, off, chunk);
+      position += chunk;
+      return chunk;
+    }
+
     connect(false);
     long nextExpectedPosition = position + len + (len / 2);
 
@@ -79,6 +110,12 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
 
   @Override
   protected long internalSkip(long n, boolean attemptReconnect) throws IOException {
+    if (isInPrefetchedHead()) {
+      long chunk = Math.min(n, prefetchedHead.length - position);
+      position += chunk;
+      return chunk;
+    }
+
     connect(false);
     long nextExpectedPosition = position + n;
 
@@ -108,6 +145,20 @@ public class YoutubePersistentHttpStream extends PersistentHttpStream {
     }
   }
 
+  @Override
+  public int available() throws IOException {
+    if (isInPrefetchedHead()) {
+      return (int) (prefetchedHead.length - position);
+    }
+
+    return super.available();
+  }
+
+  private boolean isInPrefetchedHead() {
+    // Once connected, the connection is used even within the prefetched bytes, it started from the current position.
+    return prefetchedHead != null && currentContent == null && position < prefetchedHead.length;
+  }
+
   private URI getNextRangeUrl() {
     rangeEnd = position + BUFFER_SIZE;
 
@@ -1,15 +1,39 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterfaceManager;
 import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 public interface YoutubePlaylistLoader {
   void setPlaylistPageCount(int playlistPageCount);
 
+  /**
+   * @param lazyLoading True to return playlists loaded with an interface manager after their first page, see
+   *                    {@link com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist}
+   */
+  default void setLazyLoading(boolean lazyLoading) {
+    // Loaders which do not support it always load the whole playlist.
+  }
+
   AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                      Function<AudioTrackInfo, AudioTrack> trackFactory);
+
+  /**
+   * Loads a playlist with interfaces from the specified manager, which allows loading the pages after the first one
+   * later from other threads.
+   */
+  default AudioPlaylist load(HttpInterfaceManager httpInterfaceManager, String playlistId, String selectedVideoId,
+                             Function<AudioTrackInfo, AudioTrack> trackFactory) {
+
+    try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
+      return load(httpInterface, playlistId, selectedVideoId, trackFactory);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
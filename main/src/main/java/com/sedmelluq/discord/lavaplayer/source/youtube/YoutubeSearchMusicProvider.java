@@ -3,6 +3,7 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -18,6 +19,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.MUSIC_SEARCH_URL;
@@ -30,7 +33,10 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class YoutubeSearchMusicProvider implements YoutubeSearchMusicResultLoader {
   private static final Logger log = LoggerFactory.getLogger(YoutubeSearchMusicProvider.class);
 
+  private static final String CACHE_NAMESPACE = "ytmsearch";
+
   private final HttpInterfaceManager httpInterfaceManager;
+  private volatile SearchResultCache searchResultCache;
 
   public YoutubeSearchMusicProvider() {
     this.httpInterfaceManager = HttpClientTools.createCookielessThreadLocalManager();
@@ -40,6 +46,11 @@ public class YoutubeSearchMusicProvider implements YoutubeSearchMusicResultLoade
     return httpInterfaceManager;
   }
 
+  @Override
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
   /**
    * @param query Search query.
    * @return Playlist of the first page of music results.
@@ -48,6 +59,26 @@ public class YoutubeSearchMusicProvider implements YoutubeSearchMusicResultLoade
   public AudioItem loadSearchMusicResult(String query, Function<AudioTrackInfo, AudioTrack> trackFactory) {
     log.debug("Performing a search music with query {}", query);
 
+    SearchResultCache cache = searchResultCache;
+    List<AudioTrackInfo> infos;
+
+    if (cache != null) {
+      try {
+        infos = cache.load(CACHE_NAMESPACE, query, () -> CompletableFuture.completedFuture(loadSearchInfos(query))).get();
+      } catch (ExecutionException e) {
+        throw ExceptionTools.wrapUnfriendlyExceptions(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw ExceptionTools.wrapUnfriendlyExceptions(e);
+      }
+    } else {
+      infos = loadSearchInfos(query);
+    }
+
+    return buildSearchResult(infos, query, trackFactory);
+  }
+
+  private List<AudioTrackInfo> loadSearchInfos(String query) {
     try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
       HttpPost post = new HttpPost(MUSIC_SEARCH_URL);
       YoutubeClientConfig clientConfig = YoutubeClientConfig.MUSIC.copy()
@@ -64,22 +95,29 @@ public class YoutubeSearchMusicProvider implements YoutubeSearchMusicResultLoade
         String responseText = EntityUtils.toString(response.getEntity(), UTF_8);
 
         JsonBrowser jsonBrowser = JsonBrowser.parse(responseText);
-        return extractSearchResults(jsonBrowser, query, trackFactory);
+        return extractSearchResults(jsonBrowser);
       }
     } catch (Exception e) {
       throw ExceptionTools.wrapUnfriendlyExceptions(e);
     }
   }
 
-  private AudioItem extractSearchResults(JsonBrowser jsonBrowser, String query,
-                                         Function<AudioTrackInfo, AudioTrack> trackFactory) {
-    List<AudioTrack> tracks;
+  private List<AudioTrackInfo> extractSearchResults(JsonBrowser jsonBrowser) {
     log.debug("Attempting to parse results from music search page");
     try {
-      tracks = extractMusicSearchPage(jsonBrowser, trackFactory);
+      return extractMusicSearchPage(jsonBrowser);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
+  }
+
+  private AudioItem buildSearchResult(List<AudioTrackInfo> infos, String query,
+                                      Function<AudioTrackInfo, AudioTrack> trackFactory) {
+    List<AudioTrack> tracks = new ArrayList<>();
+
+    for (AudioTrackInfo info : infos) {
+      tracks.add(trackFactory.apply(info));
+    }
 
     if (tracks.isEmpty()) {
       return AudioReference.NO_TRACK;
@@ -88,8 +126,8 @@ public class YoutubeSearchMusicProvider implements YoutubeSearchMusicResultLoade
     }
   }
 
-  private List<AudioTrack> extractMusicSearchPage(JsonBrowser jsonBrowser, Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
-    ArrayList<AudioTrack> list = new ArrayList<>();
+  private List<AudioTrackInfo> extractMusicSearchPage(JsonBrowser jsonBrowser) throws IOException {
+    ArrayList<AudioTrackInfo> list = new ArrayList<>();
     JsonBrowser tracks = jsonBrowser.get("contents")
             .get("tabbedSearchResultsRenderer")
             .get("tabs")
@@ -115,13 +153,13 @@ public class YoutubeSearchMusicProvider implements YoutubeSearchMusicResultLoade
               .get("contents");
     }
     tracks.values().forEach(jsonTrack -> {
-      AudioTrack track = extractMusicTrack(jsonTrack, trackFactory);
-      if (track != null) list.add(track);
+      AudioTrackInfo info = extractMusicTrack(jsonTrack);
+      if (info != null) list.add(info);
     });
     return list;
   }
 
-  private AudioTrack extractMusicTrack(JsonBrowser jsonBrowser, Function<AudioTrackInfo, AudioTrack> trackFactory) {
+  private AudioTrackInfo extractMusicTrack(JsonBrowser jsonBrowser) {
     JsonBrowser columns = jsonBrowser.get("musicResponsiveListItemRenderer").get("flexColumns");
     if (columns.isNull()) {
       // Somehow don't get track info, ignore
@@ -155,9 +193,7 @@ public class YoutubeSearchMusicProvider implements YoutubeSearchMusicResultLoade
 
     long duration = DataFormatTools.durationTextToMillis(lastElement.get("text").text());
 
-    AudioTrackInfo info = new AudioTrackInfo(title, author, duration, videoId, false,
+    return new AudioTrackInfo(title, author, duration, videoId, false,
             WATCH_URL_PREFIX + videoId);
-
-    return trackFactory.apply(info);
   }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
@@ -10,5 +11,12 @@ import java.util.function.Function;
 public interface YoutubeSearchMusicResultLoader {
   AudioItem loadSearchMusicResult(String query, Function<AudioTrackInfo, AudioTrack> trackFactory);
 
+  /**
+   * @param searchResultCache Cache for the search results, null to disable caching
+   */
+  default void setSearchResultCache(SearchResultCache searchResultCache) {
+    // Loaders which do not support it always perform the search.
+  }
+
   ExtendedHttpConfigurable getHttpConfiguration();
 }
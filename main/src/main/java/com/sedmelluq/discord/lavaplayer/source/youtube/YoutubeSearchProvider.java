@@ -3,6 +3,8 @@ package com.sedmelluq.discord.lavaplayer.source.youtube;
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.SearchResultCache;
+import com.sedmelluq.discord.lavaplayer.tools.SingleFlight;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
@@ -18,6 +20,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 import static com.sedmelluq.discord.lavaplayer.source.youtube.YoutubeConstants.SEARCH_URL;
@@ -30,16 +34,33 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
   private static final Logger log = LoggerFactory.getLogger(YoutubeSearchProvider.class);
 
+  private static final String CACHE_NAMESPACE = "ytsearch";
+
   private final HttpInterfaceManager httpInterfaceManager;
+  private final SingleFlight searchLookups;
+  private volatile SearchResultCache searchResultCache;
 
   public YoutubeSearchProvider() {
     this.httpInterfaceManager = HttpClientTools.createCookielessThreadLocalManager();
+    this.searchLookups = new SingleFlight();
   }
 
   public ExtendedHttpConfigurable getHttpConfiguration() {
     return httpInterfaceManager;
   }
 
+  /**
+   * @return Coalescing of concurrent identical searches, for statistics
+   */
+  public SingleFlight getSearchLookups() {
+    return searchLookups;
+  }
+
+  @Override
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
   /**
    * @param query Search query.
    * @return Playlist of the first page of results.
@@ -48,6 +69,28 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
   public AudioItem loadSearchResult(String query, Function<AudioTrackInfo, AudioTrack> trackFactory) {
     log.debug("Performing a search with query {}", query);
 
+    try {
+      SearchResultCache cache = searchResultCache;
+      List<AudioTrackInfo> infos = cache != null
+          ? cache.load(CACHE_NAMESPACE, query, () -> CompletableFuture.completedFuture(loadSearchInfos(query))).get()
+          : loadSearchInfos(query);
+
+      return buildSearchResult(infos, query, trackFactory);
+    } catch (ExecutionException e) {
+      throw ExceptionTools.wrapUnfriendlyExceptions(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw ExceptionTools.wrapUnfriendlyExceptions(e);
+    } catch (Exception e) {
+      throw ExceptionTools.wrapUnfriendlyExceptions(e);
+    }
+  }
+
+  private List<AudioTrackInfo> loadSearchInfos(String query) throws Exception {
+    return extractSearchResults(searchLookups.execute(query, () -> loadSearchResponse(query)));
+  }
+
+  private JsonBrowser loadSearchResponse(String query) throws IOException {
     try (HttpInterface httpInterface = httpInterfaceManager.getInterface()) {
       HttpPost post = new HttpPost(SEARCH_URL);
       YoutubeClientConfig clientConfig = YoutubeClientConfig.ANDROID.copy()
@@ -61,24 +104,27 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
         HttpClientTools.assertSuccessWithContent(response, "search response");
 
         String responseText = EntityUtils.toString(response.getEntity(), UTF_8);
-
-        JsonBrowser jsonBrowser = JsonBrowser.parse(responseText);
-        return extractSearchResults(jsonBrowser, query, trackFactory);
+        return JsonBrowser.parse(responseText);
       }
-    } catch (Exception e) {
-      throw ExceptionTools.wrapUnfriendlyExceptions(e);
     }
   }
 
-  private AudioItem extractSearchResults(JsonBrowser jsonBrowser, String query,
-                                         Function<AudioTrackInfo, AudioTrack> trackFactory) {
-    List<AudioTrack> tracks;
+  private List<AudioTrackInfo> extractSearchResults(JsonBrowser jsonBrowser) {
     log.debug("Attempting to parse results from search page");
     try {
-      tracks = extractSearchPage(jsonBrowser, trackFactory);
+      return extractSearchPage(jsonBrowser);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
+  }
+
+  private AudioItem buildSearchResult(List<AudioTrackInfo> infos, String query,
+                                      Function<AudioTrackInfo, AudioTrack> trackFactory) {
+    List<AudioTrack> tracks = new ArrayList<>();
+
+    for (AudioTrackInfo info : infos) {
+      tracks.add(trackFactory.apply(info));
+    }
 
     if (tracks.isEmpty()) {
       return AudioReference.NO_TRACK;
@@ -87,8 +133,8 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
     }
   }
 
-  private List<AudioTrack> extractSearchPage(JsonBrowser jsonBrowser, Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
-    ArrayList<AudioTrack> list = new ArrayList<>();
+  private List<AudioTrackInfo> extractSearchPage(JsonBrowser jsonBrowser) throws IOException {
+    ArrayList<AudioTrackInfo> list = new ArrayList<>();
     jsonBrowser.get("contents")
         .get("sectionListRenderer")
         .get("contents")
@@ -97,14 +143,14 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
             .get("contents")
             .values()
             .forEach(jsonTrack -> {
-              AudioTrack track = extractPolymerData(jsonTrack, trackFactory);
-              if (track != null) list.add(track);
+              AudioTrackInfo info = extractPolymerData(jsonTrack);
+              if (info != null) list.add(info);
             })
         );
     return list;
   }
 
-  private AudioTrack extractPolymerData(JsonBrowser json, Function<AudioTrackInfo, AudioTrack> trackFactory) {
+  private AudioTrackInfo extractPolymerData(JsonBrowser json) {
     json = json.get("compactVideoRenderer");
     if (json.isNull()) return null; // Ignore everything which is not a track
 
@@ -116,9 +162,7 @@ public class YoutubeSearchProvider implements YoutubeSearchResultLoader {
     long duration = DataFormatTools.durationTextToMillis(json.get("lengthText").get("runs").index(0).get("text").text());
     String videoId = json.get("videoId").text();
 
-    AudioTrackInfo info = new AudioTrackInfo(title, author, duration, videoId, false,
+    return new AudioTrackInfo(title, author, duration, videoId, false,
         WATCH_URL_PREFIX + videoId);
-
-    return trackFactory.apply(info);
   }
-}
\ No newline at end of file
+}
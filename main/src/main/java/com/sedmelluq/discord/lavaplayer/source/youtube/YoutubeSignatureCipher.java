@@ -1,16 +1,36 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Scriptable;
+
 import javax.script.Invocable;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Describes one signature cipher
  */
 public class YoutubeSignatureCipher {
+  private static final int FORMAT_VERSION = 1;
+  private static final int N_CACHE_SIZE = 256;
+  private static final ContextFactory contextFactory = new NFunctionContextFactory();
+  private static final ThreadLocal<Context> threadContext = new ThreadLocal<>();
+
   private final List<YoutubeCipherOperation> operations = new ArrayList<>();
+  private final Map<String, String> nCache = Collections.synchronizedMap(new NCacheMap());
+  private volatile CompiledNFunction compiledNFunction;
   String nFunction = "";
   String scriptTimestamp = "";
   String rawScript = "";
@@ -45,11 +65,44 @@ public class YoutubeSignatureCipher {
     return builder.toString();
   }
 
+  /**
+   * Transforms the n parameter with the n function of this cipher. The function is compiled once and can be called
+   * from multiple threads at once, recent results are cached since the same n value recurs across formats and retries.
+   *
+   * @param text Text to transform
+   * @return The result of the n parameter transformation
+   * @throws ScriptException If the n function is missing or fails
+   */
+  public String transform(String text) throws ScriptException {
+    String cached = nCache.get(text);
+
+    if (cached != null) {
+      return cached;
+    }
+
+    CompiledNFunction function = getCompiledNFunction();
+    Context context = enterContext();
+
+    try {
+      Object result = function.function.call(context, function.scope, function.scope, new Object[] { text });
+      String transformed = Context.toString(result);
+
+      nCache.put(text, transformed);
+      return transformed;
+    } catch (RhinoException e) {
+      throw new ScriptException(e.getMessage());
+    } finally {
+      Context.exit();
+    }
+  }
+
   /**
    * @param text Text to transform
    * @param scriptEngine JavaScript engine to execute function
    * @return The result of the n parameter transformation
+   * @deprecated Evaluates the n function on every call, use {@link #transform(String)} instead.
    */
+  @Deprecated
   public String transform(String text, ScriptEngine scriptEngine) throws ScriptException, NoSuchMethodException {
     String transformed;
 
@@ -78,6 +131,8 @@ public class YoutubeSignatureCipher {
    */
   public void setNFunction(String nFunction) {
     this.nFunction = nFunction;
+    this.compiledNFunction = null;
+    nCache.clear();
   }
 
   /**
@@ -93,4 +148,155 @@ public class YoutubeSignatureCipher {
   public void setRawScript(String script) {
     rawScript = script;
   }
-}
\ No newline at end of file
+
+  /**
+   * Writes the extracted parts of the cipher. The raw script is not included.
+   *
+   * @param output Output to write the cipher to
+   * @throws IOException On write error
+   */
+  public void write(DataOutput output) throws IOException {
+    output.writeByte(FORMAT_VERSION);
+    output.writeUTF(scriptTimestamp);
+    writeLongString(output, nFunction);
+    output.writeInt(operations.size());
+
+    for (YoutubeCipherOperation operation : operations) {
+      output.writeByte(operation.type.ordinal());
+      output.writeInt(operation.parameter);
+    }
+  }
+
+  /**
+   * @param input Input to read a cipher written with {@link #write(DataOutput)} from
+   * @return The cipher, without the raw script
+   * @throws IOException On read error or if the data is not a valid cipher
+   */
+  public static YoutubeSignatureCipher read(DataInput input) throws IOException {
+    int version = input.readByte() & 0xFF;
+
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported cipher version " + version);
+    }
+
+    YoutubeSignatureCipher cipher = new YoutubeSignatureCipher();
+    cipher.setTimestamp(input.readUTF());
+    cipher.setNFunction(readLongString(input));
+
+    int operationCount = input.readInt();
+    YoutubeCipherOperationType[] types = YoutubeCipherOperationType.values();
+
+    for (int i = 0; i < operationCount; i++) {
+      int type = input.readByte() & 0xFF;
+
+      if (type >= types.length) {
+        throw new IOException("Unknown cipher operation type " + type);
+      }
+
+      cipher.addOperation(new YoutubeCipherOperation(types[type], input.readInt()));
+    }
+
+    return cipher;
+  }
+
+  private static void writeLongString(DataOutput output, String value) throws IOException {
+    // The n function can be longer than what writeUTF supports.
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readLongString(DataInput input) throws IOException {
+    int length = input.readInt();
+
+    if (length < 0) {
+      throw new IOException("Invalid string length " + length);
+    }
+
+    byte[] bytes = new byte[length];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private CompiledNFunction getCompiledNFunction() throws ScriptException {
+    CompiledNFunction function = compiledNFunction;
+
+    if (function == null) {
+      synchronized (this) {
+        function = compiledNFunction;
+
+        if (function == null) {
+          function = compileNFunction(nFunction);
+          compiledNFunction = function;
+        }
+      }
+    }
+
+    return function;
+  }
+
+  private static CompiledNFunction compileNFunction(String source) throws ScriptException {
+    if (source.isEmpty()) {
+      throw new ScriptException("No n function was extracted from the player script.");
+    }
+
+    Context context = enterContext();
+
+    try {
+      Scriptable scope = context.initStandardObjects(null, true);
+      context.evaluateString(scope, "var n=" + source, "n", 1, null);
+      Object function = scope.get("n", scope);
+
+      if (!(function instanceof Function)) {
+        throw new ScriptException("The extracted n function did not evaluate to a function.");
+      }
+
+      return new CompiledNFunction(scope, (Function) function);
+    } catch (RhinoException e) {
+      throw new ScriptException(e.getMessage());
+    } finally {
+      Context.exit();
+    }
+  }
+
+  private static Context enterContext() {
+    // Each thread keeps one context around, so that a context is not created again for every transform call.
+    Context context = contextFactory.enterContext(threadContext.get());
+    threadContext.set(context);
+    return context;
+  }
+
+  private static class CompiledNFunction {
+    private final Scriptable scope;
+    private final Function function;
+
+    private CompiledNFunction(Scriptable scope, Function function) {
+      this.scope = scope;
+      this.function = function;
+    }
+  }
+
+  private static class NCacheMap extends LinkedHashMap<String, String> {
+    private static final long serialVersionUID = 1L;
+
+    private NCacheMap() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+      return size() > N_CACHE_SIZE;
+    }
+  }
+
+  private static class NFunctionContextFactory extends ContextFactory {
+    @Override
+    protected Context makeContext() {
+      Context context = super.makeContext();
+      // Same settings as the Rhino script engine which was used for the n function before.
+      context.setLanguageVersion(Context.VERSION_ES6);
+      context.setOptimizationLevel(9);
+      return context;
+    }
+  }
+}
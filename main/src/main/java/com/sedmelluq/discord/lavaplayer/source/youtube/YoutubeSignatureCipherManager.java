@@ -1,30 +1,31 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
+import com.sedmelluq.discord.lavaplayer.tools.SingleFlight;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
-import org.mozilla.javascript.engine.RhinoScriptEngineFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.script.ScriptEngine;
 import javax.script.ScriptException;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -82,17 +83,44 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
 
   private final ConcurrentMap<String, YoutubeSignatureCipher> cipherCache;
   private final Set<String> dumpedScriptUrls;
-  private final ScriptEngine scriptEngine;
-  private final Object cipherLoadLock;
+  private final SingleFlight scriptLookups;
+  private final YoutubeCipherDiskCache diskCache;
+  private final AtomicLong nTransformCount;
+  private final AtomicLong nTransformNanosTotal;
+  private final AtomicLong nTransformNanosMax;
 
   /**
    * Create a new signature cipher manager
    */
   public YoutubeSignatureCipherManager() {
+    this(null);
+  }
+
+  /**
+   * Create a new signature cipher manager which persists the extracted ciphers, so that they survive restarts. The
+   * ciphers already in the directory are loaded in the background, scripts requested before that has finished are
+   * downloaded as usual.
+   *
+   * @param cacheDirectory Directory to persist extracted ciphers to, null to only keep them in memory
+   */
+  public YoutubeSignatureCipherManager(File cacheDirectory) {
     this.cipherCache = new ConcurrentHashMap<>();
-    this.dumpedScriptUrls = new HashSet<>();
-    this.scriptEngine = new RhinoScriptEngineFactory().getScriptEngine();
-    this.cipherLoadLock = new Object();
+    this.dumpedScriptUrls = ConcurrentHashMap.newKeySet();
+    this.scriptLookups = new SingleFlight();
+    this.diskCache = cacheDirectory != null ? new YoutubeCipherDiskCache(cacheDirectory) : null;
+    this.nTransformCount = new AtomicLong();
+    this.nTransformNanosTotal = new AtomicLong();
+    this.nTransformNanosMax = new AtomicLong();
+
+    if (diskCache != null) {
+      diskCache.loadAll().whenComplete((ciphers, error) -> {
+        if (error != null) {
+          log.warn("Failed to load player script ciphers from {}.", cacheDirectory, error);
+        } else {
+          ciphers.forEach(cipherCache::putIfAbsent);
+        }
+      });
+    }
   }
 
   /**
@@ -118,9 +146,15 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
 
     if (!DataFormatTools.isNullOrEmpty(nParameter)) {
       try {
-        uri.setParameter("n", cipher.transform(nParameter, scriptEngine));
-      } catch (ScriptException | NoSuchMethodException e) {
-        dumpProblematicScript(cipherCache.get(playerScript).rawScript, playerScript, String.format("Can't transform n parameter %s with %s n function", nParameter, cipher.nFunction));
+        uri.setParameter("n", transformNParameter(cipher, nParameter));
+      } catch (ScriptException e) {
+        if (cipher.rawScript.isEmpty()) {
+          // Loaded from disk, possibly extracted by an older version. The next request downloads the script again.
+          log.warn("Discarding persisted cipher of player script {}, n parameter transform failed.", playerScript, e);
+          discardCipher(playerScript, cipher);
+        } else {
+          dumpProblematicScript(cipher.rawScript, playerScript, String.format("Can't transform n parameter %s with %s n function", nParameter, cipher.nFunction));
+        }
       }
     }
 
@@ -151,26 +185,96 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
     return matcher.replaceFirst("/signature/" + cipher.apply(matcher.group(1)) + "/");
   }
 
+  /**
+   * @return Number of n parameter transformations performed, including the ones served from cache.
+   */
+  public long getNTransformCount() {
+    return nTransformCount.get();
+  }
+
+  /**
+   * @return Average duration of an n parameter transformation in nanoseconds.
+   */
+  public long getNTransformNanosAverage() {
+    long count = nTransformCount.get();
+    return count == 0 ? 0 : nTransformNanosTotal.get() / count;
+  }
+
+  /**
+   * @return Longest duration of an n parameter transformation in nanoseconds.
+   */
+  public long getNTransformNanosMax() {
+    return nTransformNanosMax.get();
+  }
+
+  /**
+   * @return Coalescing statistics of player script loads.
+   */
+  public SingleFlight getScriptLookups() {
+    return scriptLookups;
+  }
+
   @Override
   public YoutubeSignatureCipher getExtractedScript(HttpInterface httpInterface, String cipherScriptUrl) throws IOException {
     YoutubeSignatureCipher cipherKey = cipherCache.get(cipherScriptUrl);
 
     if (cipherKey == null) {
-      synchronized (cipherLoadLock) {
-        log.debug("Parsing player script {}", cipherScriptUrl);
+      // Concurrent requests for the same script share one download, different scripts are loaded in parallel.
+      try {
+        cipherKey = scriptLookups.execute(cipherScriptUrl, () -> loadCipher(httpInterface, cipherScriptUrl));
+      } catch (IOException e) {
+        throw e;
+      } catch (Exception e) {
+        throw ExceptionTools.toRuntimeException(e);
+      }
+    }
 
-        try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
-          validateResponseCode(cipherScriptUrl, response);
+    return cipherKey;
+  }
 
-          cipherKey = extractFromScript(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8), cipherScriptUrl);
-          cipherCache.put(cipherScriptUrl, cipherKey);
-        }
-      }
+  private YoutubeSignatureCipher loadCipher(HttpInterface httpInterface, String cipherScriptUrl) throws IOException {
+    YoutubeSignatureCipher cipherKey = cipherCache.get(cipherScriptUrl);
+
+    if (cipherKey != null) {
+      return cipherKey;
+    }
+
+    log.debug("Parsing player script {}", cipherScriptUrl);
+
+    try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
+      validateResponseCode(cipherScriptUrl, response);
+
+      cipherKey = extractFromScript(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8), cipherScriptUrl);
+      cipherCache.put(cipherScriptUrl, cipherKey);
+    }
+
+    if (diskCache != null) {
+      diskCache.store(cipherScriptUrl, cipherKey);
     }
 
     return cipherKey;
   }
 
+  private void discardCipher(String cipherScriptUrl, YoutubeSignatureCipher cipher) {
+    if (cipherCache.remove(cipherScriptUrl, cipher) && diskCache != null) {
+      diskCache.remove(cipherScriptUrl);
+    }
+  }
+
+  private String transformNParameter(YoutubeSignatureCipher cipher, String nParameter) throws ScriptException {
+    long startTime = System.nanoTime();
+
+    try {
+      return cipher.transform(nParameter);
+    } finally {
+      long duration = System.nanoTime() - startTime;
+
+      nTransformCount.incrementAndGet();
+      nTransformNanosTotal.addAndGet(duration);
+      nTransformNanosMax.accumulateAndGet(duration, Math::max);
+    }
+  }
+
   private void validateResponseCode(String cipherScriptUrl, CloseableHttpResponse response) throws IOException {
     int statusCode = response.getStatusLine().getStatusCode();
 
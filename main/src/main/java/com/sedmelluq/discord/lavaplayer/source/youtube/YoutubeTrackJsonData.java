@@ -43,6 +43,11 @@ public class YoutubeTrackJsonData {
         }
       }
 
+      if (playerResponse.isNull() && !result.get("playabilityStatus").isNull()) {
+        // The result is the player response itself, but without scalar children if only selected paths were parsed.
+        playerResponse = result;
+      }
+
       if (!playerInfo.isNull()) {
         return fromPolymerPlayerInfo(playerInfo, playerResponse);
       } else if (!playerResponse.isNull()) {
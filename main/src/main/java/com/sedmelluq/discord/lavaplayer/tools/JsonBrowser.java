@@ -240,6 +240,14 @@ public class JsonBrowser {
     return create(mapper.createObjectNode());
   }
 
+  static ObjectMapper getMapper() {
+    return mapper;
+  }
+
+  static JsonBrowser wrap(JsonNode node) {
+    return create(node);
+  }
+
   private static ObjectMapper setupMapper() {
     JsonFactory jsonFactory = new JsonFactory();
     jsonFactory.enable(JsonParser.Feature.ALLOW_COMMENTS);
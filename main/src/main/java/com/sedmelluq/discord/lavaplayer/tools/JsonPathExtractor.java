@@ -0,0 +1,169 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streams through JSON and only builds the tree for the selected paths, skipping everything else at the token level.
+ * The result keeps the original structure, so it can be navigated with {@link JsonBrowser} the same way as a fully
+ * parsed document, as long as only the selected paths are accessed.
+ *
+ * Paths are dot-separated field names. In arrays, a segment can be an index or <code>*</code> to select all elements,
+ * skipped array elements are kept as nulls so that indices do not shift. <code>*</code> also matches any field name,
+ * including the ones which are also named explicitly by other paths. For example <code>contents.tabs.0.title</code> or
+ * <code>*.media.transcodings</code>.
+ */
+public class JsonPathExtractor {
+  private static final String WILDCARD = "*";
+
+  private final PathNode root;
+
+  /**
+   * @param paths Paths to extract from the documents
+   */
+  public JsonPathExtractor(String... paths) {
+    this.root = new PathNode();
+
+    for (String path : paths) {
+      PathNode current = root;
+
+      for (String segment : path.split("\\.")) {
+        current = current.children.computeIfAbsent(segment, key -> new PathNode());
+      }
+
+      current.selected = true;
+    }
+
+    mergeWildcards(root);
+  }
+
+  /**
+   * Merges the wildcard branch into its explicitly named siblings, so that taking the explicit branch for a name does
+   * not lose the paths which continue through the wildcard.
+   */
+  private static void mergeWildcards(PathNode node) {
+    PathNode wildcard = node.children.get(WILDCARD);
+
+    if (wildcard != null) {
+      for (Map.Entry<String, PathNode> entry : node.children.entrySet()) {
+        if (!WILDCARD.equals(entry.getKey())) {
+          entry.getValue().merge(wildcard);
+        }
+      }
+    }
+
+    for (PathNode child : node.children.values()) {
+      mergeWildcards(child);
+    }
+  }
+
+  /**
+   * @param json The JSON document as a string
+   * @return JsonBrowser instance for navigating in the extracted values
+   * @throws IOException When parsing the JSON failed
+   */
+  public JsonBrowser extract(String json) throws IOException {
+    try (JsonParser parser = JsonBrowser.getMapper().getFactory().createParser(json)) {
+      return extract(parser);
+    }
+  }
+
+  /**
+   * @param stream The JSON document as a stream
+   * @return JsonBrowser instance for navigating in the extracted values
+   * @throws IOException When parsing the JSON failed
+   */
+  public JsonBrowser extract(InputStream stream) throws IOException {
+    try (JsonParser parser = JsonBrowser.getMapper().getFactory().createParser(stream)) {
+      return extract(parser);
+    }
+  }
+
+  private JsonBrowser extract(JsonParser parser) throws IOException {
+    if (parser.nextToken() == null) {
+      return JsonBrowser.NULL_BROWSER;
+    }
+
+    return JsonBrowser.wrap(read(parser, root, JsonBrowser.getMapper()));
+  }
+
+  private JsonNode read(JsonParser parser, PathNode selector, ObjectMapper mapper) throws IOException {
+    if (selector.selected) {
+      return mapper.readTree(parser);
+    }
+
+    JsonToken token = parser.currentToken();
+
+    if (token == JsonToken.START_OBJECT) {
+      ObjectNode result = JsonNodeFactory.instance.objectNode();
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        PathNode child = selector.child(name);
+        parser.nextToken();
+
+        if (child == null) {
+          parser.skipChildren();
+        } else {
+          JsonNode value = read(parser, child, mapper);
+
+          if (value != null) {
+            result.set(name, value);
+          }
+        }
+      }
+
+      return result;
+    } else if (token == JsonToken.START_ARRAY) {
+      ArrayNode result = JsonNodeFactory.instance.arrayNode();
+      int index = 0;
+
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        PathNode child = selector.child(String.valueOf(index++));
+        JsonNode value = null;
+
+        if (child == null) {
+          parser.skipChildren();
+        } else {
+          value = read(parser, child, mapper);
+        }
+
+        result.add(value != null ? value : NullNode.getInstance());
+      }
+
+      return result;
+    } else {
+      // A scalar where the path expects more depth, does not match.
+      return null;
+    }
+  }
+
+  private static class PathNode {
+    private final Map<String, PathNode> children = new HashMap<>();
+    private boolean selected;
+
+    private void merge(PathNode other) {
+      selected |= other.selected;
+
+      for (Map.Entry<String, PathNode> entry : other.children.entrySet()) {
+        children.computeIfAbsent(entry.getKey(), key -> new PathNode()).merge(entry.getValue());
+      }
+    }
+
+    private PathNode child(String name) {
+      PathNode child = children.get(name);
+      return child != null ? child : children.get(WILDCARD);
+    }
+  }
+}
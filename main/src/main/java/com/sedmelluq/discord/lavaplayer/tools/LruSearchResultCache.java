@@ -0,0 +1,239 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import com.sedmelluq.lava.common.tools.ExecutorTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Search result cache which keeps a limited number of the most recently used results for a fixed time. Queries are
+ * compared case-insensitively, ignoring diacritics and differences in whitespace, and concurrent searches for the same
+ * query share one load. Optionally, expired results are still returned while they are loaded again in the background
+ * (stale-while-revalidate), up to a maximum staleness.
+ */
+public class LruSearchResultCache implements SearchResultCache {
+  private static final Logger log = LoggerFactory.getLogger(LruSearchResultCache.class);
+
+  private static final Pattern DIACRITICS_PATTERN = Pattern.compile("\\p{M}+");
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+  private static final ExecutorService revalidationExecutor = ExecutorTools.createEagerlyScalingExecutor(0, 4,
+      TimeUnit.SECONDS.toMillis(10), 100, new DaemonThreadFactory("search-cache"));
+
+  private final long timeToLive;
+  private final Map<String, CachedResult> entries;
+  private final Map<String, CompletableFuture<List<AudioTrackInfo>>> pendingLoads;
+  private final AtomicLong hitCount;
+  private final AtomicLong staleHitCount;
+  private final AtomicLong missCount;
+  private volatile boolean staleWhileRevalidate;
+  private volatile long maximumStaleness;
+
+  /**
+   * @param maximumSize Maximum number of searches to keep results of
+   * @param timeToLive Time in milliseconds for which the results of a search are used
+   */
+  public LruSearchResultCache(int maximumSize, long timeToLive) {
+    this.timeToLive = timeToLive;
+    this.entries = Collections.synchronizedMap(new CachedResultMap(maximumSize));
+    this.pendingLoads = new ConcurrentHashMap<>();
+    this.hitCount = new AtomicLong();
+    this.staleHitCount = new AtomicLong();
+    this.missCount = new AtomicLong();
+    this.maximumStaleness = timeToLive;
+  }
+
+  /**
+   * @param staleWhileRevalidate True to return expired results while loading them again in the background, instead of
+   *                             waiting for the new results
+   */
+  public void setStaleWhileRevalidate(boolean staleWhileRevalidate) {
+    this.staleWhileRevalidate = staleWhileRevalidate;
+  }
+
+  /**
+   * @param maximumStaleness Time in milliseconds after expiry for which results are still returned while revalidating.
+   *                         If they could not be loaded again by then, the next search waits for new results. Defaults
+   *                         to the time to live.
+   */
+  public void setMaximumStaleness(long maximumStaleness) {
+    this.maximumStaleness = maximumStaleness;
+  }
+
+  @Override
+  public CompletableFuture<List<AudioTrackInfo>> load(String namespace, String query, Loader loader) {
+    String key = namespace + ":" + normaliseQuery(query);
+    CachedResult entry = entries.get(key);
+
+    if (entry != null) {
+      long now = System.currentTimeMillis();
+
+      if (now < entry.expiryTime) {
+        hitCount.incrementAndGet();
+        return CompletableFuture.completedFuture(entry.results);
+      } else if (staleWhileRevalidate && now < entry.expiryTime + maximumStaleness) {
+        hitCount.incrementAndGet();
+        staleHitCount.incrementAndGet();
+
+        if (entry.revalidating.compareAndSet(false, true)) {
+          revalidate(key, entry, loader);
+        }
+
+        return CompletableFuture.completedFuture(entry.results);
+      }
+    }
+
+    missCount.incrementAndGet();
+    return fetch(key, loader);
+  }
+
+  /**
+   * Removes all cached results.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * @return Number of searches with cached results
+   */
+  public int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * @return Number of searches answered from the cache, including expired results returned while revalidating
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return Number of searches answered with expired results while revalidating
+   */
+  public long getStaleHitCount() {
+    return staleHitCount.get();
+  }
+
+  /**
+   * @return Number of searches which had to be performed
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return Ratio of the searches answered from the cache, from 0 to 1
+   */
+  public double getHitRatio() {
+    long hits = hitCount.get();
+    long total = hits + missCount.get();
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  /**
+   * @param query Search query
+   * @return The query in lower case, without diacritics and with whitespace sequences replaced by a single space
+   */
+  public static String normaliseQuery(String query) {
+    String decomposed = Normalizer.normalize(query, Normalizer.Form.NFKD);
+    String withoutDiacritics = DIACRITICS_PATTERN.matcher(decomposed).replaceAll("");
+    return WHITESPACE_PATTERN.matcher(withoutDiacritics).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+  }
+
+  private CompletableFuture<List<AudioTrackInfo>> fetch(String key, Loader loader) {
+    CompletableFuture<List<AudioTrackInfo>> pending = new CompletableFuture<>();
+    CompletableFuture<List<AudioTrackInfo>> existing = pendingLoads.putIfAbsent(key, pending);
+
+    if (existing != null) {
+      // Separate future for each caller, so that one cancelling it does not affect the others
+      return existing.thenApply(results -> results);
+    }
+
+    CompletableFuture<List<AudioTrackInfo>> future;
+
+    try {
+      future = loader.load();
+    } catch (Exception e) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+    }
+
+    future.whenComplete((results, error) -> {
+      try {
+        if (error != null) {
+          pending.completeExceptionally(error);
+        } else {
+          List<AudioTrackInfo> copy = Collections.unmodifiableList(new ArrayList<>(results));
+          entries.put(key, new CachedResult(copy, System.currentTimeMillis() + timeToLive));
+          pending.complete(copy);
+        }
+      } catch (Throwable e) {
+        pending.completeExceptionally(e);
+        ExceptionTools.rethrowErrors(e);
+      } finally {
+        pendingLoads.remove(key, pending);
+      }
+    });
+
+    return pending.thenApply(results -> results);
+  }
+
+  private void revalidate(String key, CachedResult entry, Loader loader) {
+    try {
+      revalidationExecutor.execute(() -> fetch(key, loader).whenComplete((results, error) -> {
+        if (error != null) {
+          log.debug("Failed to revalidate search results for {}, keeping the expired ones.", key, error);
+          entry.revalidating.set(false);
+        }
+      }));
+    } catch (RejectedExecutionException e) {
+      entry.revalidating.set(false);
+    }
+  }
+
+  private static class CachedResult {
+    private final List<AudioTrackInfo> results;
+    private final long expiryTime;
+    private final AtomicBoolean revalidating;
+
+    private CachedResult(List<AudioTrackInfo> results, long expiryTime) {
+      this.results = results;
+      this.expiryTime = expiryTime;
+      this.revalidating = new AtomicBoolean();
+    }
+  }
+
+  private static class CachedResultMap extends LinkedHashMap<String, CachedResult> {
+    private static final long serialVersionUID = 1L;
+
+    private final int maximumSize;
+
+    private CachedResultMap(int maximumSize) {
+      super(16, 0.75f, true);
+      this.maximumSize = maximumSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+      return size() > maximumSize;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cache for search results, used by the search providers of the source managers to avoid repeating the same searches.
+ * Only the track infos of the results are cached, the tracks are created from them again for every search.
+ */
+public interface SearchResultCache {
+  /**
+   * @param namespace Identifies the kind of search, queries are only shared within one namespace
+   * @param query Search query as entered by the user
+   * @param loader Loads the results if they are not cached
+   * @return Future for the track infos of the results
+   */
+  CompletableFuture<List<AudioTrackInfo>> load(String namespace, String query, Loader loader);
+
+  /**
+   * Performs the actual search.
+   */
+  interface Loader {
+    /**
+     * @return Future for the track infos of the results
+     * @throws Exception If the search fails before the future is created
+     */
+    CompletableFuture<List<AudioTrackInfo>> load() throws Exception;
+  }
+}
@@ -0,0 +1,149 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with an equal key into one execution. Callers which arrive while a call with the same key
+ * is already in flight wait for it and receive its result (or its exception) instead of running their own. Results are
+ * not cached, once a call completes the next caller with the same key starts a new execution.
+ */
+public class SingleFlight {
+  private final ConcurrentMap<Object, CompletableFuture<Object>> calls;
+  private final AtomicLong requestCount;
+  private final AtomicLong executionCount;
+
+  /**
+   * Create an instance.
+   */
+  public SingleFlight() {
+    this.calls = new ConcurrentHashMap<>();
+    this.requestCount = new AtomicLong();
+    this.executionCount = new AtomicLong();
+  }
+
+  /**
+   * @param key Identity of the request, calls with equal keys are coalesced
+   * @param callable Call to execute if no call with the same key is in flight
+   * @param <T> Type of the result
+   * @return Result of the call, shared between all coalesced callers
+   * @throws Exception Exception thrown by the call, shared between all coalesced callers
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object key, Callable<T> callable) throws Exception {
+    requestCount.incrementAndGet();
+
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = calls.putIfAbsent(key, future);
+
+    if (existing != null) {
+      return (T) await(existing);
+    }
+
+    executionCount.incrementAndGet();
+
+    try {
+      T result = callable.call();
+      future.complete(result);
+      return result;
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      calls.remove(key, future);
+    }
+  }
+
+  /**
+   * Non-blocking variant of {@link #execute(Object, Callable)}, the supplier is only called if no call with the same
+   * key is in flight.
+   *
+   * @param key Identity of the request, calls with equal keys are coalesced
+   * @param supplier Starts the call if no call with the same key is in flight
+   * @param <T> Type of the result
+   * @return Future for the result of the call, shared between all coalesced callers
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> executeAsync(Object key, Supplier<CompletableFuture<T>> supplier) {
+    requestCount.incrementAndGet();
+
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = calls.putIfAbsent(key, future);
+
+    if (existing != null) {
+      return existing.thenApply(result -> (T) result);
+    }
+
+    executionCount.incrementAndGet();
+
+    CompletableFuture<T> call;
+
+    try {
+      call = supplier.get();
+    } catch (Throwable e) {
+      call = new CompletableFuture<>();
+      call.completeExceptionally(e);
+    }
+
+    call.whenComplete((result, error) -> {
+      calls.remove(key, future);
+
+      if (error != null) {
+        future.completeExceptionally(error);
+      } else {
+        future.complete(result);
+      }
+    });
+
+    return future.thenApply(result -> (T) result);
+  }
+
+  private Object await(CompletableFuture<Object> future) throws Exception {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      ExceptionTools.rethrowErrors(cause);
+
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * @return Total number of calls made through this instance
+   */
+  public long getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * @return Number of calls which were actually executed
+   */
+  public long getExecutionCount() {
+    return executionCount.get();
+  }
+
+  /**
+   * @return Number of calls which were served by an execution started by another caller
+   */
+  public long getCoalescedCount() {
+    return Math.max(0, requestCount.get() - executionCount.get());
+  }
+
+  /**
+   * @return Ratio of calls which were served by another caller's execution, from 0 to 1
+   */
+  public double getCoalescingRatio() {
+    long requests = requestCount.get();
+    return requests == 0 ? 0.0 : (double) getCoalescedCount() / requests;
+  }
+}
@@ -0,0 +1,70 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Deduplicates equal strings to a single instance without keeping them alive, so that values which repeat across many
+ * objects (such as the authors of queued tracks) are only held in memory once. Split into segments by hash code so that
+ * concurrent callers rarely contend for the same lock.
+ *
+ * A pool entry costs more than a short string, so a value is only added to the pool when it is seen for the second
+ * time. The hashes of recently seen values are kept in a small fixed size table for that, values which do not repeat
+ * never get an entry.
+ */
+public class WeakStringPool {
+  private static final int SEGMENT_COUNT = 16;
+  private static final int SEEN_SLOT_BITS = 10;
+
+  private final Segment[] segments;
+
+  /**
+   * Create an empty pool.
+   */
+  public WeakStringPool() {
+    segments = new Segment[SEGMENT_COUNT];
+
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = new Segment();
+    }
+  }
+
+  /**
+   * @param value String to deduplicate, may be null
+   * @return A string equal to the value. The same instance for all equal values that are reachable at the same time,
+   *         starting from the second time the value is seen.
+   */
+  public String get(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    int hash = value.hashCode();
+    Segment segment = segments[(hash & Integer.MAX_VALUE) % SEGMENT_COUNT];
+
+    synchronized (segment) {
+      WeakReference<String> reference = segment.values.get(value);
+      String existing = reference != null ? reference.get() : null;
+
+      if (existing != null) {
+        return existing;
+      }
+
+      int slot = (hash * 0x9E3779B9) >>> (32 - SEEN_SLOT_BITS);
+
+      if (segment.seenHashes[slot] != hash) {
+        segment.seenHashes[slot] = hash;
+        return value;
+      }
+
+      segment.values.put(value, new WeakReference<>(value));
+      return value;
+    }
+  }
+
+  private static class Segment {
+    private final Map<String, WeakReference<String>> values = new WeakHashMap<>();
+    private final int[] seenHashes = new int[1 << SEEN_SLOT_BITS];
+  }
+}
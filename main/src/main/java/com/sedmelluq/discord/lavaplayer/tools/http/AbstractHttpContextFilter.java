@@ -4,6 +4,8 @@ import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
 
+import java.util.concurrent.CompletableFuture;
+
 public abstract class AbstractHttpContextFilter implements HttpContextFilter {
   private final HttpContextFilter delegate;
 
@@ -11,6 +13,13 @@ public abstract class AbstractHttpContextFilter implements HttpContextFilter {
     this.delegate = delegate;
   }
 
+  /**
+   * @return Filter which is applied after this one, may be null
+   */
+  public HttpContextFilter getDelegate() {
+    return delegate;
+  }
+
   @Override
   public void onContextOpen(HttpClientContext context) {
     if (delegate != null) {
@@ -32,6 +41,16 @@ public abstract class AbstractHttpContextFilter implements HttpContextFilter {
     }
   }
 
+  @Override
+  public CompletableFuture<Void> onAsyncRequest(HttpClientContext context, HttpUriRequest request,
+                                                boolean isRepetition) {
+    if (delegate != null) {
+      return delegate.onAsyncRequest(context, request, isRepetition);
+    }
+
+    return CompletableFuture.completedFuture(null);
+  }
+
   @Override
   public boolean onRequestResponse(HttpClientContext context, HttpUriRequest request, HttpResponse response) {
     if (delegate != null) {
@@ -0,0 +1,100 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import org.apache.http.conn.routing.HttpRoute;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Snapshot of the state of an HTTP connection pool.
+ */
+public class ConnectionPoolStatistics {
+  public static final ConnectionPoolStatistics EMPTY = new ConnectionPoolStatistics(
+      RouteStatistics.EMPTY, Collections.emptyMap(), 0, 0, 0, 0
+  );
+
+  /**
+   * Totals over all routes, max is the total limit of the pool.
+   */
+  public final RouteStatistics total;
+  /**
+   * Statistics of each route that currently has connections in the pool or requests waiting for one.
+   */
+  public final Map<HttpRoute, RouteStatistics> routes;
+  /**
+   * Number of new connections established by the pool.
+   */
+  public final long connectCount;
+  /**
+   * Number of connections leased from the pool, leases which did not need a new connection reused an existing one.
+   */
+  public final long leaseCount;
+  /**
+   * Average time it took to establish a new connection (including TLS handshake) in milliseconds.
+   */
+  public final double averageConnectMillis;
+  /**
+   * Maximum time it took to establish a new connection in milliseconds.
+   */
+  public final long maxConnectMillis;
+
+  public ConnectionPoolStatistics(RouteStatistics total, Map<HttpRoute, RouteStatistics> routes, long connectCount,
+                                  long leaseCount, double averageConnectMillis, long maxConnectMillis) {
+
+    this.total = total;
+    this.routes = routes;
+    this.connectCount = connectCount;
+    this.leaseCount = leaseCount;
+    this.averageConnectMillis = averageConnectMillis;
+    this.maxConnectMillis = maxConnectMillis;
+  }
+
+  /**
+   * @return Ratio of leases which reused an existing keep-alive connection, from 0 to 1
+   */
+  public double getReuseRatio() {
+    return leaseCount == 0 ? 0.0 : Math.max(0, leaseCount - connectCount) / (double) leaseCount;
+  }
+
+  @Override
+  public String toString() {
+    return "total " + total + ", routes " + routes.size() + ", connects " + connectCount + ", leases " + leaseCount +
+        ", average connect " + String.format("%.1f", averageConnectMillis) + "ms, max connect " + maxConnectMillis + "ms";
+  }
+
+  /**
+   * Connection counts of one route.
+   */
+  public static class RouteStatistics {
+    public static final RouteStatistics EMPTY = new RouteStatistics(0, 0, 0, 0);
+
+    /**
+     * Connections currently in use.
+     */
+    public final int leased;
+    /**
+     * Idle connections kept alive for reuse.
+     */
+    public final int available;
+    /**
+     * Requests waiting for a connection because the limit was reached.
+     */
+    public final int pending;
+    /**
+     * Connection limit.
+     */
+    public final int max;
+
+    public RouteStatistics(int leased, int available, int pending, int max) {
+      this.leased = leased;
+      this.available = available;
+      this.pending = pending;
+      this.max = max;
+    }
+
+    @Override
+    public String toString() {
+      return "[leased: " + leased + "; pending: " + pending + "; available: " + available + "; max: " + max + "]";
+    }
+  }
+}
@@ -22,7 +22,6 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.DefaultHttpResponseParser;
 import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.execchain.ClientExecChain;
 import org.apache.http.io.SessionInputBuffer;
 import org.apache.http.message.BasicLineParser;
@@ -36,7 +35,7 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
-import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON;
 import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
@@ -50,16 +49,35 @@ public class ExtendedHttpClientBuilder extends HttpClientBuilder {
   private String[] sslSupportedProtocols;
   private PlainConnectionSocketFactory plainSocketFactory;
   private SSLConnectionSocketFactory sslSocketFactory;
-  private ConnectionManagerFactory connectionManagerFactory = ExtendedHttpClientBuilder::createDefaultConnectionManager;
+  private MonitoredHttpClientConnectionManager.PoolSettings poolSettings =
+      MonitoredHttpClientConnectionManager.PoolSettings.DEFAULT;
+  private ConnectionManagerFactory connectionManagerFactory = this::createDefaultConnectionManager;
+  private volatile HttpClientConnectionManager lastConnectionManager;
+  private UnaryOperator<ClientExecChain> mainExecDecorator = UnaryOperator.identity();
 
   @Override
   public synchronized CloseableHttpClient build() {
-    setConnectionManager(createConnectionManager());
+    lastConnectionManager = createConnectionManager();
+    setConnectionManager(lastConnectionManager);
     CloseableHttpClient httpClient = super.build();
     setConnectionManager(null);
     return httpClient;
   }
 
+  /**
+   * @return SSL context used by the built clients when no override is set
+   */
+  public static SSLContext getDefaultSslContext() {
+    return defaultSslContext;
+  }
+
+  /**
+   * @return SSL context used by the built clients
+   */
+  public SSLContext getSslContext() {
+    return sslContextOverride != null ? sslContextOverride : defaultSslContext;
+  }
+
   /**
    * @param sslContextOverride SSL context to make the built clients use. Note that calling
    *                           {@link #setSSLContext(SSLContext)} has no effect because this class cannot access the
@@ -85,9 +103,39 @@ public class ExtendedHttpClientBuilder extends HttpClientBuilder {
     this.connectionManagerFactory = factory;
   }
 
+  /**
+   * @param poolSettings Limits and maintenance settings for the connection pool of the default connection manager.
+   *                     Has no effect if a custom connection manager factory is set.
+   */
+  public void setPoolSettings(MonitoredHttpClientConnectionManager.PoolSettings poolSettings) {
+    this.poolSettings = poolSettings;
+  }
+
+  /**
+   * @return Statistics of the connection pool of the most recently built client, empty statistics if the client uses a
+   *         custom connection manager which does not record them.
+   */
+  public ConnectionPoolStatistics getConnectionPoolStatistics() {
+    HttpClientConnectionManager manager = lastConnectionManager;
+
+    if (manager instanceof MonitoredHttpClientConnectionManager) {
+      return ((MonitoredHttpClientConnectionManager) manager).getStatistics();
+    }
+
+    return ConnectionPoolStatistics.EMPTY;
+  }
+
+  /**
+   * @param mainExecDecorator Wraps the final step of the execution chain of the built clients, which is the one that
+   *                          sends the request over a connection leased from the connection manager.
+   */
+  public void setMainExecDecorator(UnaryOperator<ClientExecChain> mainExecDecorator) {
+    this.mainExecDecorator = mainExecDecorator;
+  }
+
   @Override
   protected ClientExecChain decorateMainExec(ClientExecChain mainExec) {
-    return mainExec;
+    return mainExecDecorator.apply(mainExec);
   }
 
   private HttpClientConnectionManager createConnectionManager() {
@@ -99,8 +147,8 @@ public class ExtendedHttpClientBuilder extends HttpClientBuilder {
 
   private Registry<ConnectionSocketFactory> createConnectionSocketFactory() {
     HostnameVerifier hostnameVerifier = new DefaultHostnameVerifier(PublicSuffixMatcherLoader.getDefault());
-    ConnectionSocketFactory defaultSslSocketFactory = new SSLConnectionSocketFactory(sslContextOverride != null ?
-        sslContextOverride : defaultSslContext, sslSupportedProtocols, null, hostnameVerifier);
+    ConnectionSocketFactory defaultSslSocketFactory = new SSLConnectionSocketFactory(getSslContext(),
+        sslSupportedProtocols, null, hostnameVerifier);
 
     return RegistryBuilder.<ConnectionSocketFactory>create()
         .register("http", plainSocketFactory != null ? plainSocketFactory : PlainConnectionSocketFactory.getSocketFactory())
@@ -118,21 +166,11 @@ public class ExtendedHttpClientBuilder extends HttpClientBuilder {
         ));
   }
 
-  private static HttpClientConnectionManager createDefaultConnectionManager(
+  private HttpClientConnectionManager createDefaultConnectionManager(
       HttpClientConnectionOperator operator,
       HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory
   ) {
-    PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(
-        operator,
-        connectionFactory,
-        -1,
-        TimeUnit.MILLISECONDS
-    );
-
-    manager.setMaxTotal(3000);
-    manager.setDefaultMaxPerRoute(1500);
-
-    return manager;
+    return new MonitoredHttpClientConnectionManager(operator, connectionFactory, poolSettings);
   }
 
   private static SSLContext setupSslContext() {
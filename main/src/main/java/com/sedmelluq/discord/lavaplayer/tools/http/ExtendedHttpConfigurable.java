@@ -1,7 +1,30 @@
 package com.sedmelluq.discord.lavaplayer.tools.http;
 
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+
+import java.util.function.Consumer;
 
 public interface ExtendedHttpConfigurable extends HttpConfigurable {
   void setHttpContextFilter(HttpContextFilter filter);
+
+  /**
+   * @return The filter set with {@link #setHttpContextFilter(HttpContextFilter)}, null if there is none or if this
+   *         configurable does not keep track of it
+   */
+  default HttpContextFilter getHttpContextFilter() {
+    // Configurables which do not track the filter cannot report it
+    return null;
+  }
+
+  /**
+   * Settings made through {@link #configureBuilder(Consumer)} are not applied to the async client, apart from the SSL
+   * context of an {@link ExtendedHttpClientBuilder}. Settings such as a proxy or a route planner which should also apply
+   * to non-blocking requests must be made through this method as well.
+   *
+   * @param configurator Function to reconfigure the async HTTP builder.
+   */
+  default void configureAsyncBuilder(Consumer<HttpAsyncClientBuilder> configurator) {
+    // No async client by default
+  }
 }
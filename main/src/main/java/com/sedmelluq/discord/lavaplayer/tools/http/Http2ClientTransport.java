@@ -0,0 +1,381 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import org.apache.hc.core5.concurrent.ComplexCancellable;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.command.RequestExecutionCommand;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2AsyncRequester;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2RequesterBootstrap;
+import org.apache.hc.core5.http2.nio.pool.H2ConnPool;
+import org.apache.hc.core5.http2.ssl.H2ClientTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.Command;
+import org.apache.hc.core5.reactor.ConnectionInitiator;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.reactor.IOSession;
+import org.apache.hc.core5.reactor.ssl.TlsDetails;
+import org.apache.hc.core5.reactor.ssl.TransportSecurityLayer;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpExecutionAware;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.impl.execchain.ClientExecChain;
+import org.apache.http.impl.execchain.RequestAbortedException;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Executes HTTPS requests of a blocking client over multiplexed HTTP/2 connections. It is plugged into the client as a
+ * replacement for the final step of the execution chain (see {@link #decorate(ClientExecChain)}), so route planning,
+ * redirects, retries, cookies and default headers are still handled by the blocking client. Only the transport of the
+ * request differs: all concurrent requests to the same host from the same local address share one connection.
+ *
+ * Plain HTTP, proxied routes and hosts which do not negotiate HTTP/2 with ALPN are passed on to the original execution
+ * chain. Hosts without HTTP/2 support are remembered for ten minutes before they are probed again. Connections are kept separately for each local address chosen by the route planner, which keeps route planners
+ * that rotate local addresses working.
+ */
+public class Http2ClientTransport implements Closeable {
+  private static final Logger log = LoggerFactory.getLogger(Http2ClientTransport.class);
+
+  private static final ProtocolVersion HTTP_2 = new ProtocolVersion("HTTP", 2, 0);
+  private static final String HTTP_2_PROTOCOL_ID = "h2";
+  private static final long MAINTENANCE_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10);
+  private static final long DEFAULT_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final long HTTP1_HOST_RETRY_MS = TimeUnit.MINUTES.toMillis(10);
+
+  private static final Set<String> CONNECTION_HEADERS = new HashSet<>(Arrays.asList(
+      "connection", "keep-alive", "proxy-connection", "transfer-encoding", "upgrade", "host", "content-length",
+      "content-type"
+  ));
+
+  private final Supplier<SSLContext> sslContextSupplier;
+  private final long idleTimeoutMs;
+  private final Map<InetAddress, PoolHolder> pools;
+  private final Map<String, Long> http1Hosts;
+  private H2AsyncRequester requester;
+  private TlsStrategy tlsStrategy;
+  private long lastMaintenance;
+
+  /**
+   * @param sslContextSupplier Provides the SSL context to use when the connections are (re)initialized
+   */
+  public Http2ClientTransport(Supplier<SSLContext> sslContextSupplier) {
+    this(sslContextSupplier, DEFAULT_IDLE_TIMEOUT_MS);
+  }
+
+  /**
+   * @param sslContextSupplier Provides the SSL context to use when the connections are (re)initialized
+   * @param idleTimeoutMs Time after which connections without any streams are closed
+   */
+  public Http2ClientTransport(Supplier<SSLContext> sslContextSupplier, long idleTimeoutMs) {
+    this.sslContextSupplier = sslContextSupplier;
+    this.idleTimeoutMs = idleTimeoutMs;
+    this.pools = new HashMap<>();
+    this.http1Hosts = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @param mainExec The final step of the execution chain of a blocking client
+   * @return Execution step which uses HTTP/2 where possible and the original one otherwise
+   */
+  public ClientExecChain decorate(ClientExecChain mainExec) {
+    return (route, request, context, execAware) -> {
+      CloseableHttpResponse response = execute(route, request, context, execAware);
+      return response != null ? response : mainExec.execute(route, request, context, execAware);
+    };
+  }
+
+  /**
+   * Closes all connections. The transport initializes itself again if it is used after this.
+   */
+  @Override
+  public void close() {
+    synchronized (pools) {
+      for (PoolHolder holder : pools.values()) {
+        holder.pool.close(CloseMode.GRACEFUL);
+      }
+
+      pools.clear();
+      http1Hosts.clear();
+
+      if (requester != null) {
+        requester.close(CloseMode.GRACEFUL);
+        requester = null;
+      }
+    }
+  }
+
+  private CloseableHttpResponse execute(HttpRoute route, HttpRequestWrapper request, HttpClientContext context,
+                                        HttpExecutionAware execAware) throws IOException, HttpException {
+
+    HttpHost target = route.getTargetHost();
+
+    if (!route.isSecure() || route.getProxyHost() != null || isHttp1Host(target.toHostString())) {
+      return null;
+    }
+
+    int port = target.getPort() > 0 ? target.getPort() : 443;
+    org.apache.hc.core5.http.HttpHost host = new org.apache.hc.core5.http.HttpHost("https", target.getAddress(),
+        target.getHostName(), port);
+
+    IOSession session = acquireSession(route.getLocalAddress(), host, context.getRequestConfig().getConnectTimeout());
+
+    if (!isHttp2(session)) {
+      log.debug("Host {} did not negotiate HTTP/2, using HTTP/1.1 for it.", target.toHostString());
+      http1Hosts.put(target.toHostString(), System.currentTimeMillis() + HTTP1_HOST_RETRY_MS);
+      return null;
+    }
+
+    Http2ExchangeHandler handler = new Http2ExchangeHandler(createRequest(host, request), createEntityProducer(request));
+    ComplexCancellable cancellable = new ComplexCancellable();
+    handler.setCancellable(cancellable);
+
+    if (execAware != null) {
+      if (execAware.isAborted()) {
+        throw new RequestAbortedException("Request aborted");
+      }
+
+      execAware.setCancellable(() -> {
+        handler.abort();
+        return true;
+      });
+    }
+
+    session.enqueue(new RequestExecutionCommand(handler, null, cancellable, HttpCoreContext.create()),
+        Command.Priority.NORMAL);
+
+    int socketTimeout = context.getRequestConfig().getSocketTimeout();
+    Http2ExchangeHandler.ResponseHead head = handler.awaitResponse(socketTimeout);
+    return createResponse(handler, head, request.getRequestLine().getMethod(), socketTimeout);
+  }
+
+  private boolean isHttp1Host(String host) {
+    Long retryTime = http1Hosts.get(host);
+    return retryTime != null && retryTime > System.currentTimeMillis();
+  }
+
+  private IOSession acquireSession(InetAddress localAddress, org.apache.hc.core5.http.HttpHost host,
+                                   int connectTimeout) throws IOException {
+
+    Timeout timeout = connectTimeout > 0 ? Timeout.ofMilliseconds(connectTimeout) : Timeout.DISABLED;
+    Future<IOSession> future = getPool(localAddress).getSession(host, timeout, null);
+
+    try {
+      return connectTimeout > 0 ? future.get(connectTimeout, TimeUnit.MILLISECONDS) : future.get();
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new SocketTimeoutException("Connect to " + host + " timed out");
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+  }
+
+  private H2ConnPool getPool(InetAddress localAddress) {
+    synchronized (pools) {
+      long now = System.currentTimeMillis();
+
+      if (now - lastMaintenance > MAINTENANCE_INTERVAL_MS) {
+        lastMaintenance = now;
+        closeIdlePools(now);
+        // Hosts are probed for HTTP/2 support again after a while, which also keeps the set from growing without bound.
+        http1Hosts.values().removeIf(retryTime -> retryTime <= now);
+      }
+
+      PoolHolder holder = pools.get(localAddress);
+
+      if (holder == null) {
+        holder = new PoolHolder(createPool(localAddress));
+        pools.put(localAddress, holder);
+      }
+
+      holder.lastUsed = now;
+      return holder.pool;
+    }
+  }
+
+  private void closeIdlePools(long now) {
+    Iterator<Map.Entry<InetAddress, PoolHolder>> iterator = pools.entrySet().iterator();
+
+    while (iterator.hasNext()) {
+      Map.Entry<InetAddress, PoolHolder> entry = iterator.next();
+      PoolHolder holder = entry.getValue();
+
+      if (entry.getKey() != null && now - holder.lastUsed > idleTimeoutMs) {
+        // Closing gracefully lets streams which are still active finish.
+        holder.pool.close(CloseMode.GRACEFUL);
+        iterator.remove();
+      } else {
+        holder.pool.closeIdle(TimeValue.ofMilliseconds(idleTimeoutMs));
+      }
+    }
+  }
+
+  private H2ConnPool createPool(InetAddress localAddress) {
+    if (requester == null) {
+      tlsStrategy = createTlsStrategy(sslContextSupplier.get());
+      requester = H2RequesterBootstrap.bootstrap()
+          .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+          .setH2Config(H2Config.custom().setPushEnabled(false).build())
+          .setIOReactorConfig(IOReactorConfig.custom().setSoTimeout(Timeout.ofSeconds(30)).build())
+          .setTlsStrategy(tlsStrategy)
+          .create();
+
+      requester.start();
+    }
+
+    H2AsyncRequester currentRequester = requester;
+    InetSocketAddress bindAddress = localAddress != null ? new InetSocketAddress(localAddress, 0) : null;
+
+    ConnectionInitiator initiator = (endpoint, remoteAddress, ignored, timeout, attachment, callback) ->
+        currentRequester.connect(endpoint, remoteAddress, bindAddress, timeout, attachment, callback);
+
+    return new H2ConnPool(initiator, host -> host.getAddress() != null ?
+        new InetSocketAddress(host.getAddress(), host.getPort()) :
+        new InetSocketAddress(host.getHostName(), host.getPort()), tlsStrategy);
+  }
+
+  private static TlsStrategy createTlsStrategy(SSLContext sslContext) {
+    return new H2ClientTlsStrategy(sslContext, (endpoint, engine) -> {
+      SSLParameters parameters = engine.getSSLParameters();
+      parameters.setEndpointIdentificationAlgorithm("HTTPS");
+      engine.setSSLParameters(parameters);
+    }, null);
+  }
+
+  private static boolean isHttp2(IOSession session) {
+    if (!(session instanceof TransportSecurityLayer)) {
+      return false;
+    }
+
+    TlsDetails details = ((TransportSecurityLayer) session).getTlsDetails();
+    return details != null && HTTP_2_PROTOCOL_ID.equals(details.getApplicationProtocol());
+  }
+
+  private static org.apache.hc.core5.http.HttpRequest createRequest(org.apache.hc.core5.http.HttpHost host,
+                                                                    HttpRequestWrapper request) {
+
+    BasicHttpRequest result = new BasicHttpRequest(request.getRequestLine().getMethod(), host,
+        request.getRequestLine().getUri());
+
+    for (Header header : request.getAllHeaders()) {
+      if (!CONNECTION_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+        result.addHeader(header.getName(), header.getValue());
+      }
+    }
+
+    return result;
+  }
+
+  private static AsyncEntityProducer createEntityProducer(HttpRequestWrapper request) throws IOException {
+    if (!(request instanceof HttpEntityEnclosingRequest)) {
+      return null;
+    }
+
+    HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+
+    if (entity == null) {
+      return null;
+    }
+
+    Header contentType = entity.getContentType();
+    return new BasicAsyncEntityProducer(EntityUtils.toByteArray(entity),
+        contentType != null ? ContentType.parse(contentType.getValue()) : null);
+  }
+
+  private static CloseableHttpResponse createResponse(Http2ExchangeHandler handler,
+                                                      Http2ExchangeHandler.ResponseHead head, String method,
+                                                      int readTimeoutMs) {
+
+    int status = head.response.getCode();
+    Http2Response response = new Http2Response(status, handler);
+
+    for (org.apache.hc.core5.http.Header header : head.response.getHeaders()) {
+      response.addHeader(header.getName(), header.getValue());
+    }
+
+    if (head.entityDetails != null || hasBody(status, method)) {
+      // Like HTTP/1.1 responses from the blocking client, a response with an empty body still has an entity.
+      BasicHttpEntity entity = new BasicHttpEntity();
+      entity.setContent(handler.getContent(readTimeoutMs));
+      entity.setContentLength(head.entityDetails != null ? head.entityDetails.getContentLength() : 0);
+      entity.setContentType(response.getFirstHeader("Content-Type"));
+      entity.setContentEncoding(response.getFirstHeader("Content-Encoding"));
+      response.setEntity(entity);
+    }
+
+    return response;
+  }
+
+  private static boolean hasBody(int status, String method) {
+    return !"HEAD".equalsIgnoreCase(method) && status >= 200 && status != 204 && status != 304;
+  }
+
+  private static class PoolHolder {
+    private final H2ConnPool pool;
+    private long lastUsed;
+
+    private PoolHolder(H2ConnPool pool) {
+      this.pool = pool;
+    }
+  }
+
+  private static class Http2Response extends BasicHttpResponse implements CloseableHttpResponse {
+    private final Http2ExchangeHandler handler;
+
+    private Http2Response(int status, Http2ExchangeHandler handler) {
+      super(HTTP_2, status, EnglishReasonPhraseCatalog.INSTANCE.getReason(status, null));
+      this.handler = handler;
+    }
+
+    @Override
+    public void close() {
+      handler.abort();
+    }
+  }
+}
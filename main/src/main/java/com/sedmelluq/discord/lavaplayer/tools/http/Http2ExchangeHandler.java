@@ -0,0 +1,268 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncClientExchangeHandler;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.RequestChannel;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Exchange handler for one HTTP/2 stream which exposes the response body as a blocking input stream. The amount of
+ * buffered data is bounded, the stream window is only extended as the data is read from the input stream.
+ */
+class Http2ExchangeHandler implements AsyncClientExchangeHandler {
+  private static final int BUFFER_SIZE = 65536;
+  private static final ScheduledThreadPoolExecutor readTimer = createReadTimer();
+
+  private final HttpRequest request;
+  private final AsyncEntityProducer entityProducer;
+  private final SharedInputBuffer buffer;
+  private final CompletableFuture<ResponseHead> responseHead;
+  private volatile Cancellable cancellable;
+  private volatile Exception failure;
+
+  /**
+   * @param request Request to send
+   * @param entityProducer Producer for the request body, null if the request has no body
+   */
+  Http2ExchangeHandler(HttpRequest request, AsyncEntityProducer entityProducer) {
+    this.request = request;
+    this.entityProducer = entityProducer;
+    this.buffer = new SharedInputBuffer(BUFFER_SIZE);
+    this.responseHead = new CompletableFuture<>();
+  }
+
+  /**
+   * @param cancellable Cancels the stream once it has been started
+   */
+  void setCancellable(Cancellable cancellable) {
+    this.cancellable = cancellable;
+  }
+
+  /**
+   * @param timeoutMs Maximum time to wait for the response headers, 0 or less to wait indefinitely
+   * @return Response headers and details of the response body
+   * @throws IOException On network error, timeout or interruption
+   */
+  ResponseHead awaitResponse(int timeoutMs) throws IOException {
+    try {
+      return timeoutMs > 0 ? responseHead.get(timeoutMs, TimeUnit.MILLISECONDS) : responseHead.get();
+    } catch (TimeoutException e) {
+      abort();
+      throw new SocketTimeoutException("Read timed out");
+    } catch (InterruptedException e) {
+      abort();
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    } catch (ExecutionException e) {
+      throw toIOException(e.getCause());
+    }
+  }
+
+  /**
+   * @param readTimeoutMs Maximum time a single read waits for more data, 0 or less to wait indefinitely
+   * @return Stream for reading the response body
+   */
+  InputStream getContent(int readTimeoutMs) {
+    return new ContentStream(readTimeoutMs);
+  }
+
+  /**
+   * Cancels the stream unless the whole response has already been received.
+   */
+  void abort() {
+    if (!buffer.isEndStream()) {
+      Cancellable current = cancellable;
+
+      if (current != null) {
+        current.cancel();
+      }
+
+      cancel();
+    }
+  }
+
+  @Override
+  public void produceRequest(RequestChannel channel, HttpContext context) throws HttpException, IOException {
+    channel.sendRequest(request, entityProducer, context);
+  }
+
+  @Override
+  public int available() {
+    return entityProducer != null ? entityProducer.available() : 0;
+  }
+
+  @Override
+  public void produce(DataStreamChannel channel) throws IOException {
+    if (entityProducer != null) {
+      entityProducer.produce(channel);
+    }
+  }
+
+  @Override
+  public void consumeInformation(HttpResponse response, HttpContext context) {
+    // Interim responses are not exposed.
+  }
+
+  @Override
+  public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext context) {
+    if (entityDetails == null) {
+      buffer.markEndStream();
+    }
+
+    responseHead.complete(new ResponseHead(response, entityDetails));
+  }
+
+  @Override
+  public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+    buffer.updateCapacity(capacityChannel);
+  }
+
+  @Override
+  public void consume(ByteBuffer src) {
+    buffer.fill(src);
+  }
+
+  @Override
+  public void streamEnd(List<? extends Header> trailers) {
+    buffer.markEndStream();
+  }
+
+  @Override
+  public void failed(Exception cause) {
+    if (failure == null) {
+      failure = cause;
+    }
+
+    responseHead.completeExceptionally(cause);
+    buffer.abort();
+  }
+
+  @Override
+  public void cancel() {
+    failed(new IOException("HTTP/2 stream was cancelled."));
+  }
+
+  @Override
+  public void releaseResources() {
+    if (entityProducer != null) {
+      entityProducer.releaseResources();
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createReadTimer() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+        new DaemonThreadFactory("http2-read-timeout"));
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  private static IOException toIOException(Throwable error) {
+    return error instanceof IOException ? (IOException) error : new IOException(error);
+  }
+
+  /**
+   * Response headers and details of the response body, which is null if the response has no body.
+   */
+  static class ResponseHead {
+    final HttpResponse response;
+    final EntityDetails entityDetails;
+
+    private ResponseHead(HttpResponse response, EntityDetails entityDetails) {
+      this.response = response;
+      this.entityDetails = entityDetails;
+    }
+  }
+
+  private class ContentStream extends InputStream {
+    private final int readTimeoutMs;
+    private volatile boolean timedOut;
+
+    private ContentStream(int readTimeoutMs) {
+      this.readTimeoutMs = readTimeoutMs;
+    }
+
+    @Override
+    public int read() throws IOException {
+      ScheduledFuture<?> timeout = scheduleTimeout();
+
+      try {
+        return checkEnd(buffer.read());
+      } finally {
+        cancelTimeout(timeout);
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      ScheduledFuture<?> timeout = scheduleTimeout();
+
+      try {
+        return checkEnd(buffer.read(b, off, len));
+      } finally {
+        cancelTimeout(timeout);
+      }
+    }
+
+    @Override
+    public int available() {
+      return buffer.length();
+    }
+
+    @Override
+    public void close() {
+      abort();
+    }
+
+    private ScheduledFuture<?> scheduleTimeout() {
+      // The buffer can only be woken up by new data or an abort, so a stalled stream is aborted when the read has
+      // waited for longer than the socket timeout, like a blocking socket read would fail.
+      if (readTimeoutMs <= 0 || buffer.length() > 0 || buffer.isEndStream()) {
+        return null;
+      }
+
+      return readTimer.schedule(() -> {
+        timedOut = true;
+        abort();
+      }, readTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelTimeout(ScheduledFuture<?> timeout) {
+      if (timeout != null) {
+        timeout.cancel(false);
+      }
+    }
+
+    private int checkEnd(int result) throws IOException {
+      if (timedOut) {
+        throw new SocketTimeoutException("Read timed out");
+      } else if (result == -1 && failure != null) {
+        throw toIOException(failure);
+      }
+
+      return result;
+    }
+  }
+}
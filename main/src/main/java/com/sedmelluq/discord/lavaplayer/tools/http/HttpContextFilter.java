@@ -4,6 +4,8 @@ import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface HttpContextFilter {
   void onContextOpen(HttpClientContext context);
 
@@ -11,6 +13,21 @@ public interface HttpContextFilter {
 
   void onRequest(HttpClientContext context, HttpUriRequest request, boolean isRepetition);
 
+  /**
+   * Called before {@link #onRequest} for requests of an {@link com.sedmelluq.discord.lavaplayer.tools.io.AsyncHttpInterface},
+   * which does not proceed with the request until the returned future completes. A filter which would block in
+   * {@link #onRequest} waits here instead, without holding a thread.
+   *
+   * @param context Context of the request
+   * @param request The request
+   * @param isRepetition True if the request is repeated after a previous attempt
+   * @return Future which completes once the request may proceed
+   */
+  default CompletableFuture<Void> onAsyncRequest(HttpClientContext context, HttpUriRequest request,
+                                                 boolean isRepetition) {
+    return CompletableFuture.completedFuture(null);
+  }
+
   boolean onRequestResponse(HttpClientContext context, HttpUriRequest request, HttpResponse response);
 
   boolean onRequestException(HttpClientContext context, HttpUriRequest request, Throwable error);
@@ -0,0 +1,217 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionOperator;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pooling connection manager which records statistics, evicts idle connections in the background and optionally sizes
+ * per-route limits based on the observed concurrency of each route.
+ */
+public class MonitoredHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+  private static final Logger log = LoggerFactory.getLogger(MonitoredHttpClientConnectionManager.class);
+
+  private static final ScheduledExecutorService maintenanceExecutor =
+      Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("http-pool-maintenance"));
+
+  private static final long MAINTENANCE_INTERVAL_MS = TimeUnit.SECONDS.toMillis(5);
+  private static final double DEMAND_DECAY = 0.9;
+
+  private final PoolSettings settings;
+  private final Map<HttpRoute, Double> peakDemand;
+  private final AtomicLong connectCount;
+  private final AtomicLong connectNanosTotal;
+  private final AtomicLong connectNanosMax;
+  private final AtomicLong leaseCount;
+  private final ScheduledFuture<?> maintenanceTask;
+
+  /**
+   * @param operator Connection operator
+   * @param connectionFactory Connection factory
+   * @param settings Limits and maintenance settings of the pool
+   */
+  public MonitoredHttpClientConnectionManager(
+      HttpClientConnectionOperator operator,
+      HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory,
+      PoolSettings settings
+  ) {
+    super(operator, connectionFactory, -1, TimeUnit.MILLISECONDS);
+
+    this.settings = settings;
+    this.peakDemand = new ConcurrentHashMap<>();
+    this.connectCount = new AtomicLong();
+    this.connectNanosTotal = new AtomicLong();
+    this.connectNanosMax = new AtomicLong();
+    this.leaseCount = new AtomicLong();
+
+    setMaxTotal(settings.maxTotal);
+    setDefaultMaxPerRoute(settings.adaptive ? settings.minPerRoute : settings.maxPerRoute);
+
+    maintenanceTask = maintenanceExecutor.scheduleWithFixedDelay(this::runMaintenance, MAINTENANCE_INTERVAL_MS,
+        MAINTENANCE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+    leaseCount.incrementAndGet();
+    return super.requestConnection(route, state);
+  }
+
+  @Override
+  public void connect(HttpClientConnection connection, HttpRoute route, int connectTimeout,
+                      HttpContext context) throws IOException {
+
+    long start = System.nanoTime();
+
+    try {
+      super.connect(connection, route, connectTimeout, context);
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      connectCount.incrementAndGet();
+      connectNanosTotal.addAndGet(elapsed);
+      connectNanosMax.accumulateAndGet(elapsed, Math::max);
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    maintenanceTask.cancel(false);
+    super.shutdown();
+  }
+
+  /**
+   * @return Snapshot of the current state of the pool.
+   */
+  public ConnectionPoolStatistics getStatistics() {
+    Map<HttpRoute, ConnectionPoolStatistics.RouteStatistics> routes = new HashMap<>();
+
+    for (HttpRoute route : getRoutes()) {
+      routes.put(route, toRouteStatistics(getStats(route)));
+    }
+
+    long connects = connectCount.get();
+
+    return new ConnectionPoolStatistics(
+        toRouteStatistics(getTotalStats()),
+        routes,
+        connects,
+        leaseCount.get(),
+        connects == 0 ? 0.0 : connectNanosTotal.get() / (double) connects / 1_000_000.0,
+        TimeUnit.NANOSECONDS.toMillis(connectNanosMax.get())
+    );
+  }
+
+  private void runMaintenance() {
+    try {
+      closeExpiredConnections();
+
+      if (settings.idleTimeoutMs > 0) {
+        closeIdleConnections(settings.idleTimeoutMs, TimeUnit.MILLISECONDS);
+      }
+
+      if (settings.adaptive) {
+        adaptRouteLimits();
+      }
+    } catch (Exception e) {
+      log.warn("Connection pool maintenance failed.", e);
+    }
+  }
+
+  private void adaptRouteLimits() {
+    peakDemand.keySet().retainAll(getRoutes());
+
+    for (HttpRoute route : getRoutes()) {
+      PoolStats stats = getStats(route);
+      int demand = stats.getLeased() + stats.getPending();
+      double peak = Math.max(demand, peakDemand.getOrDefault(route, 0.0) * DEMAND_DECAY);
+      peakDemand.put(route, peak);
+
+      int limit = (int) Math.ceil(peak * 1.5);
+
+      if (stats.getPending() > 0) {
+        // Requests are already waiting, grow faster than the demand estimate.
+        limit = Math.max(limit, stats.getMax() * 2);
+      }
+
+      limit = Math.max(settings.minPerRoute, Math.min(settings.maxPerRoute, limit));
+
+      if (limit != stats.getMax()) {
+        log.debug("Changing connection limit of route {} from {} to {}.", route, stats.getMax(), limit);
+        setMaxPerRoute(route, limit);
+      }
+    }
+  }
+
+  private static ConnectionPoolStatistics.RouteStatistics toRouteStatistics(PoolStats stats) {
+    return new ConnectionPoolStatistics.RouteStatistics(
+        stats.getLeased(),
+        stats.getAvailable(),
+        stats.getPending(),
+        stats.getMax()
+    );
+  }
+
+  /**
+   * Limits and maintenance settings of the pool.
+   */
+  public static class PoolSettings {
+    public static final PoolSettings DEFAULT = new PoolSettings(3000, 1500, 1500, TimeUnit.MINUTES.toMillis(1), false);
+
+    public final int maxTotal;
+    public final int minPerRoute;
+    public final int maxPerRoute;
+    public final long idleTimeoutMs;
+    public final boolean adaptive;
+
+    /**
+     * @param maxTotal Total connection limit of the pool
+     * @param minPerRoute Per-route limit a route starts with in adaptive mode and is never reduced below
+     * @param maxPerRoute Per-route limit, in adaptive mode the upper bound of it
+     * @param idleTimeoutMs Time after which idle connections are closed, 0 to keep them until they expire
+     * @param adaptive Whether to size per-route limits based on observed concurrency
+     */
+    public PoolSettings(int maxTotal, int minPerRoute, int maxPerRoute, long idleTimeoutMs, boolean adaptive) {
+      this.maxTotal = maxTotal;
+      this.minPerRoute = minPerRoute;
+      this.maxPerRoute = maxPerRoute;
+      this.idleTimeoutMs = idleTimeoutMs;
+      this.adaptive = adaptive;
+    }
+
+    /**
+     * @param minPerRoute Per-route limit new routes start with
+     * @param maxPerRoute Upper bound for the per-route limit
+     * @return Copy of these settings with adaptive per-route limits
+     */
+    public PoolSettings withAdaptiveLimits(int minPerRoute, int maxPerRoute) {
+      return new PoolSettings(maxTotal, minPerRoute, maxPerRoute, idleTimeoutMs, true);
+    }
+
+    /**
+     * @param idleTimeoutMs Time after which idle connections are closed, 0 to keep them until they expire
+     * @return Copy of these settings with the specified idle timeout
+     */
+    public PoolSettings withIdleTimeout(long idleTimeoutMs) {
+      return new PoolSettings(maxTotal, minPerRoute, maxPerRoute, idleTimeoutMs, adaptive);
+    }
+  }
+}
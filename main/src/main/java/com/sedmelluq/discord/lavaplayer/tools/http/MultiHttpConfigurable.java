@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.tools.http;
 
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 
 import java.util.Collection;
 import java.util.function.Consumer;
@@ -21,6 +22,26 @@ public class MultiHttpConfigurable implements ExtendedHttpConfigurable {
     }
   }
 
+  @Override
+  public HttpContextFilter getHttpContextFilter() {
+    HttpContextFilter result = null;
+    boolean first = true;
+
+    for (ExtendedHttpConfigurable configurable : configurables) {
+      HttpContextFilter filter = configurable.getHttpContextFilter();
+
+      if (first) {
+        result = filter;
+        first = false;
+      } else if (filter != result) {
+        // The configurables do not share one filter, so there is none to report.
+        return null;
+      }
+    }
+
+    return result;
+  }
+
   @Override
   public void configureRequests(Function<RequestConfig, RequestConfig> configurator) {
     for (ExtendedHttpConfigurable configurable : configurables) {
@@ -34,4 +55,11 @@ public class MultiHttpConfigurable implements ExtendedHttpConfigurable {
       configurable.configureBuilder(configurator);
     }
   }
+
+  @Override
+  public void configureAsyncBuilder(Consumer<HttpAsyncClientBuilder> configurator) {
+    for (ExtendedHttpConfigurable configurable : configurables) {
+      configurable.configureAsyncBuilder(configurator);
+    }
+  }
 }
@@ -0,0 +1,24 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+/**
+ * Priority class of an outbound request, see {@link RequestScheduler}. Requests waiting for the budget of the same route
+ * are sent in the order of these priorities.
+ */
+public enum RequestPriority {
+  /**
+   * Resolving the playback URL of a track which is about to be played.
+   */
+  PLAYBACK,
+  /**
+   * Search requests.
+   */
+  SEARCH,
+  /**
+   * Requests which do not fall into any other class, such as loading track info.
+   */
+  DEFAULT,
+  /**
+   * Loading further pages of playlists.
+   */
+  PAGINATION
+}
@@ -0,0 +1,473 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Limits the rate of outbound requests with a token bucket per source and route (target host). Requests which exceed
+ * the budget wait for it instead of failing, and waiting requests are sent in the order of their
+ * {@link RequestPriority}. When a route responds with a rate limit, its requests are paused. Sources without a budget are
+ * not limited, and neither are media hosts, which serve the audio being played. Routes which have been idle are
+ * forgotten. Applied to the requests of a source with {@link RequestSchedulingHttpContextFilter}.
+ */
+public class RequestScheduler {
+  private static final long DEFAULT_RATE_LIMIT_PAUSE = TimeUnit.SECONDS.toMillis(5);
+  private static final long IDLE_BUCKET_TIMEOUT = TimeUnit.MINUTES.toNanos(1);
+  private static final List<String> MEDIA_HOST_SUFFIXES = Arrays.asList(
+      "googlevideo.com",
+      "sndcdn.com",
+      "media-streaming.soundcloud.cloud",
+      "bcbits.com",
+      "ttvnw.net"
+  );
+
+  private static final ScheduledThreadPoolExecutor timer = createTimer();
+
+  private final ConcurrentMap<String, Budget> budgets;
+  private final ConcurrentMap<String, TokenBucket> buckets;
+  private final AtomicLong requestCount;
+  private final AtomicLong delayedCount;
+  private final AtomicLong rateLimitedCount;
+  private final AtomicLong waitNanosTotal;
+  private final AtomicLong waitNanosMax;
+  private final AtomicLong lastEviction;
+  private volatile Function<HttpUriRequest, RequestPriority> classifier;
+  private volatile Predicate<String> exemptRoutes;
+  private volatile long rateLimitPause;
+
+  /**
+   * Create an instance.
+   */
+  public RequestScheduler() {
+    this.budgets = new ConcurrentHashMap<>();
+    this.buckets = new ConcurrentHashMap<>();
+    this.requestCount = new AtomicLong();
+    this.delayedCount = new AtomicLong();
+    this.rateLimitedCount = new AtomicLong();
+    this.waitNanosTotal = new AtomicLong();
+    this.waitNanosMax = new AtomicLong();
+    this.lastEviction = new AtomicLong(System.nanoTime());
+    this.classifier = RequestScheduler::classifyByPath;
+    this.exemptRoutes = RequestScheduler::isMediaHost;
+    this.rateLimitPause = DEFAULT_RATE_LIMIT_PAUSE;
+  }
+
+  /**
+   * @param sourceName Name of the source, see {@link com.sedmelluq.discord.lavaplayer.source.AudioSourceManager#getSourceName()}
+   * @param requestsPerSecond Sustained number of requests per second allowed for each route of the source
+   * @param burstSize Number of requests which can be sent at once after the route has been idle
+   */
+  public void setBudget(String sourceName, double requestsPerSecond, int burstSize) {
+    budgets.put(sourceName, new Budget(requestsPerSecond, Math.max(1, burstSize)));
+  }
+
+  /**
+   * @param sourceName Name of the source to stop limiting the requests of
+   */
+  public void removeBudget(String sourceName) {
+    budgets.remove(sourceName);
+  }
+
+  /**
+   * @param classifier Decides the priority of requests for which it was not set explicitly. By default, the priority is
+   *                   guessed from the request path.
+   */
+  public void setClassifier(Function<HttpUriRequest, RequestPriority> classifier) {
+    this.classifier = classifier;
+  }
+
+  /**
+   * @param exemptRoutes Decides which routes are not limited. By default, these are the media hosts of the sources
+   *                     (such as googlevideo.com and sndcdn.com), which are numerous and serve the audio of tracks which
+   *                     are already playing.
+   */
+  public void setExemptRoutes(Predicate<String> exemptRoutes) {
+    this.exemptRoutes = exemptRoutes;
+  }
+
+  /**
+   * @param rateLimitPause Time in milliseconds to pause a route for when it responds with a rate limit without
+   *                       specifying when to retry
+   */
+  public void setRateLimitPause(long rateLimitPause) {
+    this.rateLimitPause = rateLimitPause;
+  }
+
+  /**
+   * @param request Request to classify
+   * @return Priority of the request according to the classifier
+   */
+  public RequestPriority classify(HttpUriRequest request) {
+    RequestPriority priority = classifier.apply(request);
+    return priority != null ? priority : RequestPriority.DEFAULT;
+  }
+
+  /**
+   * Waits until the budget of the route allows sending a request.
+   *
+   * @param sourceName Name of the source making the request
+   * @param route Route of the request, usually its target host
+   * @param priority Priority of the request
+   * @throws InterruptedException When interrupted while waiting
+   */
+  public void acquire(String sourceName, String route, RequestPriority priority) throws InterruptedException {
+    CompletableFuture<Void> permit = acquireAsync(sourceName, route, priority);
+
+    try {
+      permit.get();
+    } catch (InterruptedException e) {
+      // If the permit was granted in the meantime, it is used up anyway.
+      permit.cancel(false);
+      throw e;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Waits until the budget of the route allows sending a request, without blocking the calling thread.
+   *
+   * @param sourceName Name of the source making the request
+   * @param route Route of the request, usually its target host
+   * @param priority Priority of the request
+   * @return Future which completes when the request may be sent. It may complete on a timer thread, which dependent
+   *         stages must not block. Cancelling it gives up the place in the queue.
+   */
+  public CompletableFuture<Void> acquireAsync(String sourceName, String route, RequestPriority priority) {
+    requestCount.incrementAndGet();
+    Budget budget = budgets.get(sourceName);
+
+    if (budget == null || route == null || exemptRoutes.test(route)) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    evictIdleBuckets();
+
+    Waiter waiter = new Waiter(priority, System.nanoTime());
+
+    while (!getBucket(sourceName, route).enqueue(budget, waiter)) {
+      // The bucket was evicted right before the request was added to it, the next one is created fresh.
+    }
+
+    return waiter.future;
+  }
+
+  /**
+   * Pauses the requests of a route after it responded with a rate limit.
+   *
+   * @param sourceName Name of the source which made the request
+   * @param route Route of the request
+   * @param retryAfter Time in milliseconds after which the route accepts requests again, -1 if unknown
+   */
+  public void onRateLimited(String sourceName, String route, long retryAfter) {
+    rateLimitedCount.incrementAndGet();
+    Budget budget = budgets.get(sourceName);
+
+    if (budget != null && route != null && !exemptRoutes.test(route)) {
+      long duration = retryAfter >= 0 ? retryAfter : rateLimitPause;
+
+      while (!getBucket(sourceName, route).pause(budget, duration)) {
+        // Evicted concurrently, retried with a new bucket.
+      }
+    }
+  }
+
+  /**
+   * @return Number of requests which went through the scheduler
+   */
+  public long getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * @return Number of requests which had to wait for the budget
+   */
+  public long getDelayedCount() {
+    return delayedCount.get();
+  }
+
+  /**
+   * @return Number of responses which indicated a rate limit
+   */
+  public long getRateLimitedCount() {
+    return rateLimitedCount.get();
+  }
+
+  /**
+   * @return Average time in nanoseconds a delayed request waited for the budget
+   */
+  public long getAverageWaitNanos() {
+    long delayed = delayedCount.get();
+    return delayed == 0 ? 0 : waitNanosTotal.get() / delayed;
+  }
+
+  /**
+   * @return Longest time in nanoseconds a request waited for the budget
+   */
+  public long getMaximumWaitNanos() {
+    return waitNanosMax.get();
+  }
+
+  /**
+   * @return Number of routes currently tracked
+   */
+  public int getRouteCount() {
+    return buckets.size();
+  }
+
+  private TokenBucket getBucket(String sourceName, String route) {
+    return buckets.computeIfAbsent(sourceName + "/" + route, key -> new TokenBucket());
+  }
+
+  private void recordWait(Waiter waiter) {
+    long waitNanos = System.nanoTime() - waiter.startTime;
+    delayedCount.incrementAndGet();
+    waitNanosTotal.addAndGet(waitNanos);
+    waitNanosMax.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  private void evictIdleBuckets() {
+    long now = System.nanoTime();
+    long last = lastEviction.get();
+
+    if (now - last < IDLE_BUCKET_TIMEOUT || !lastEviction.compareAndSet(last, now)) {
+      return;
+    }
+
+    for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+      if (entry.getValue().evictIfIdle(now)) {
+        buckets.remove(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  private static boolean isMediaHost(String host) {
+    String lowerCaseHost = host.toLowerCase(Locale.ROOT);
+
+    for (String suffix : MEDIA_HOST_SUFFIXES) {
+      if (lowerCaseHost.equals(suffix) || lowerCaseHost.endsWith("." + suffix)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static RequestPriority classifyByPath(HttpUriRequest request) {
+    String path = String.valueOf(request.getURI().getRawPath()).toLowerCase(Locale.ROOT);
+    String query = String.valueOf(request.getURI().getRawQuery()).toLowerCase(Locale.ROOT);
+
+    if (path.contains("/player") || path.contains("/media/") || path.contains("/stream") || path.contains("/hls") ||
+        path.contains("/videoplayback")) {
+      return RequestPriority.PLAYBACK;
+    } else if (path.contains("search")) {
+      return RequestPriority.SEARCH;
+    } else if (path.contains("/browse") || path.contains("/next") || query.contains("continuation") ||
+        query.contains("ids=")) {
+      return RequestPriority.PAGINATION;
+    } else {
+      return RequestPriority.DEFAULT;
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createTimer() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+        new DaemonThreadFactory("request-scheduler"));
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  private static class Budget {
+    private final double tokensPerNano;
+    private final int burstSize;
+
+    private Budget(double requestsPerSecond, int burstSize) {
+      this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+      this.burstSize = burstSize;
+    }
+  }
+
+  /**
+   * Requests wait in a priority queue and are granted their permits by {@link #dispatch(Waiter)}, which runs whenever a request
+   * is added and on a timer when the next token becomes available, so no thread is held while waiting.
+   */
+  private class TokenBucket {
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private Budget budget;
+    private boolean initialized;
+    private boolean evicted;
+    private boolean dispatchScheduled;
+    private long sequence;
+    private double tokens;
+    private long lastRefill;
+    private long lastUsed;
+    private long pausedUntil;
+
+    private boolean enqueue(Budget budget, Waiter waiter) {
+      synchronized (this) {
+        if (evicted) {
+          return false;
+        }
+
+        this.budget = budget;
+        waiter.sequence = sequence++;
+        waiters.add(waiter);
+        lastUsed = System.nanoTime();
+      }
+
+      waiter.future.whenComplete((ignored, error) -> {
+        if (error instanceof CancellationException) {
+          cancel(waiter);
+        }
+      });
+
+      dispatch(waiter);
+      return true;
+    }
+
+    private synchronized void cancel(Waiter waiter) {
+      waiters.remove(waiter);
+    }
+
+    private void dispatch(Waiter enqueued) {
+      List<Waiter> granted = new ArrayList<>();
+
+      synchronized (this) {
+        long now = System.nanoTime();
+        refill(now);
+
+        while (!waiters.isEmpty() && now - pausedUntil >= 0 && tokens >= 1) {
+          Waiter waiter = waiters.poll();
+
+          if (!waiter.future.isDone()) {
+            tokens -= 1;
+            granted.add(waiter);
+          }
+        }
+
+        scheduleDispatch(now);
+      }
+
+      for (Waiter waiter : granted) {
+        // Requests granted right when they were added did not wait.
+        if (waiter != enqueued) {
+          recordWait(waiter);
+        }
+
+        waiter.future.complete(null);
+      }
+    }
+
+    private void scheduleDispatch(long now) {
+      if (waiters.isEmpty() || dispatchScheduled) {
+        return;
+      }
+
+      long delay;
+
+      if (now - pausedUntil < 0) {
+        delay = pausedUntil - now;
+      } else {
+        delay = (long) Math.ceil((1 - tokens) / budget.tokensPerNano);
+      }
+
+      dispatchScheduled = true;
+      timer.schedule(() -> {
+        synchronized (this) {
+          dispatchScheduled = false;
+        }
+
+        dispatch(null);
+      }, Math.max(1, delay), TimeUnit.NANOSECONDS);
+    }
+
+    private boolean pause(Budget budget, long duration) {
+      synchronized (this) {
+        if (evicted) {
+          return false;
+        }
+
+        long now = System.nanoTime();
+        long until = now + TimeUnit.MILLISECONDS.toNanos(duration);
+        this.budget = budget;
+
+        if (!initialized || until - pausedUntil > 0) {
+          pausedUntil = until;
+        }
+
+        // Once the pause is over, the budget is used up gradually rather than in a burst.
+        initialized = true;
+        tokens = 0;
+        lastRefill = now;
+        lastUsed = now;
+      }
+
+      dispatch(null);
+      return true;
+    }
+
+    private synchronized boolean evictIfIdle(long now) {
+      if (budget == null || !waiters.isEmpty() || now - lastUsed < IDLE_BUCKET_TIMEOUT || now - pausedUntil < 0) {
+        return false;
+      }
+
+      refill(now);
+
+      // Only a full bucket can be forgotten, a new one starts full as well.
+      if (tokens < budget.burstSize) {
+        return false;
+      }
+
+      evicted = true;
+      return true;
+    }
+
+    private void refill(long now) {
+      if (!initialized) {
+        initialized = true;
+        tokens = budget.burstSize;
+        pausedUntil = now;
+      } else {
+        tokens = Math.min(budget.burstSize, tokens + (now - lastRefill) * budget.tokensPerNano);
+      }
+
+      lastRefill = now;
+    }
+  }
+
+  private static class Waiter implements Comparable<Waiter> {
+    private final RequestPriority priority;
+    private final long startTime;
+    private final CompletableFuture<Void> future;
+    private long sequence;
+
+    private Waiter(RequestPriority priority, long startTime) {
+      this.priority = priority;
+      this.startTime = startTime;
+      this.future = new CompletableFuture<>();
+    }
+
+    @Override
+    public int compareTo(Waiter other) {
+      int result = priority.compareTo(other.priority);
+      return result != 0 ? result : Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.sedmelluq.discord.lavaplayer.tools.http;
+
+import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Context filter which makes each request of a source wait for its budget in a {@link RequestScheduler}, and reports
+ * rate limit responses to it. Requests of asynchronous interfaces wait without blocking a thread. Other filters of the
+ * source are applied through the delegate.
+ *
+ * Use {@link #install(ExtendedHttpConfigurable, RequestScheduler, String)} to add it to a configurable in front of the
+ * filter already set there. Code which replaces the filter of a configurable later should pass the new filter through
+ * {@link #replaceDelegate(HttpContextFilter, HttpContextFilter)} so that the scheduling is kept.
+ */
+public class RequestSchedulingHttpContextFilter extends AbstractHttpContextFilter {
+  private static final Logger log = LoggerFactory.getLogger(RequestSchedulingHttpContextFilter.class);
+
+  private static final String PRIORITY_ATTRIBUTE = "request-scheduler-priority";
+
+  private final RequestScheduler scheduler;
+  private final String sourceName;
+  private final Set<HttpUriRequest> acquiredRequests;
+
+  /**
+   * @param delegate Filter to apply after this one, may be null
+   * @param scheduler Scheduler to wait for
+   * @param sourceName Name of the source whose budget the requests use
+   */
+  public RequestSchedulingHttpContextFilter(HttpContextFilter delegate, RequestScheduler scheduler, String sourceName) {
+    super(delegate);
+    this.scheduler = scheduler;
+    this.sourceName = sourceName;
+    this.acquiredRequests = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Sets a scheduling filter on a configurable, applied before the filter currently set on it. A scheduling filter
+   * which was installed before is replaced, or removed if the scheduler is null, restoring the filter it wrapped.
+   *
+   * @param configurable Configurable to install the filter on
+   * @param scheduler Scheduler to wait for, null to remove scheduling
+   * @param sourceName Name of the source whose budget the requests use
+   */
+  public static void install(ExtendedHttpConfigurable configurable, RequestScheduler scheduler, String sourceName) {
+    HttpContextFilter current = configurable.getHttpContextFilter();
+
+    if (current instanceof RequestSchedulingHttpContextFilter) {
+      current = ((RequestSchedulingHttpContextFilter) current).getDelegate();
+    }
+
+    configurable.setHttpContextFilter(scheduler != null
+        ? new RequestSchedulingHttpContextFilter(current, scheduler, sourceName)
+        : current);
+  }
+
+  /**
+   * @param current Filter currently set on a configurable
+   * @param replacement Filter to set on the configurable instead
+   * @return The replacement, wrapped with the same scheduling if the current filter is a scheduling filter
+   */
+  public static HttpContextFilter replaceDelegate(HttpContextFilter current, HttpContextFilter replacement) {
+    if (current instanceof RequestSchedulingHttpContextFilter) {
+      RequestSchedulingHttpContextFilter scheduling = (RequestSchedulingHttpContextFilter) current;
+      return new RequestSchedulingHttpContextFilter(replacement, scheduling.scheduler, scheduling.sourceName);
+    }
+
+    return replacement;
+  }
+
+  /**
+   * @param context Context to set the priority of the following requests for, until the context is closed
+   * @param priority Priority of the requests, null to let the scheduler classify them
+   */
+  public static void setPriority(HttpClientContext context, RequestPriority priority) {
+    context.setAttribute(PRIORITY_ATTRIBUTE, priority);
+  }
+
+  @Override
+  public void onContextClose(HttpClientContext context) {
+    context.removeAttribute(PRIORITY_ATTRIBUTE);
+    super.onContextClose(context);
+  }
+
+  @Override
+  public CompletableFuture<Void> onAsyncRequest(HttpClientContext context, HttpUriRequest request,
+                                                boolean isRepetition) {
+    return scheduler.acquireAsync(sourceName, request.getURI().getHost(), getPriority(context, request))
+        .thenCompose(ignored -> {
+          // onRequest follows for this attempt, which must not wait for the budget again.
+          acquiredRequests.add(request);
+          return super.onAsyncRequest(context, request, isRepetition);
+        })
+        .whenComplete((ignored, error) -> {
+          if (error != null) {
+            acquiredRequests.remove(request);
+          }
+        });
+  }
+
+  @Override
+  public void onRequest(HttpClientContext context, HttpUriRequest request, boolean isRepetition) {
+    if (!acquiredRequests.remove(request)) {
+      try {
+        scheduler.acquire(sourceName, request.getURI().getHost(), getPriority(context, request));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    }
+
+    super.onRequest(context, request, isRepetition);
+  }
+
+  @Override
+  public boolean onRequestResponse(HttpClientContext context, HttpUriRequest request, HttpResponse response) {
+    if (response.getStatusLine().getStatusCode() == HttpStatus.SC_TOO_MANY_REQUESTS) {
+      long retryAfter = getRetryAfter(response);
+      log.debug("Rate limited by {} for source {}, retry after {}ms.", request.getURI().getHost(), sourceName,
+          retryAfter);
+
+      scheduler.onRateLimited(sourceName, request.getURI().getHost(), retryAfter);
+    }
+
+    return super.onRequestResponse(context, request, response);
+  }
+
+  private RequestPriority getPriority(HttpClientContext context, HttpUriRequest request) {
+    RequestPriority priority = context.getAttribute(PRIORITY_ATTRIBUTE, RequestPriority.class);
+    return priority != null ? priority : scheduler.classify(request);
+  }
+
+  private static long getRetryAfter(HttpResponse response) {
+    Header header = response.getFirstHeader("Retry-After");
+
+    if (header == null || DataFormatTools.isNullOrEmpty(header.getValue())) {
+      return -1;
+    }
+
+    try {
+      return TimeUnit.SECONDS.toMillis(Long.parseLong(header.getValue().trim()));
+    } catch (NumberFormatException e) {
+      // A Retry-After date is not parsed, the default pause is used instead.
+      return -1;
+    }
+  }
+}
@@ -4,6 +4,8 @@ import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
 
+import java.util.concurrent.CompletableFuture;
+
 public class SettableHttpRequestFilter implements HttpContextFilter {
   private HttpContextFilter filter;
 
@@ -42,6 +44,18 @@ public class SettableHttpRequestFilter implements HttpContextFilter {
     }
   }
 
+  @Override
+  public CompletableFuture<Void> onAsyncRequest(HttpClientContext context, HttpUriRequest request,
+                                                boolean isRepetition) {
+    HttpContextFilter current = filter;
+
+    if (current != null) {
+      return current.onAsyncRequest(context, request, isRepetition);
+    } else {
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
   @Override
   public boolean onRequestResponse(HttpClientContext context, HttpUriRequest request, HttpResponse response) {
     HttpContextFilter current = filter;
@@ -1,8 +1,13 @@
 package com.sedmelluq.discord.lavaplayer.tools.io;
 
+import com.sedmelluq.discord.lavaplayer.tools.http.ConnectionPoolStatistics;
+import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpClientBuilder;
+import org.apache.http.client.HttpRequestRetryHandler;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,15 +16,17 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
- * Base class for an HTTP interface manager with lazily initialized http client instance.
+ * Base class for an HTTP interface manager with lazily initialized http client instances.
  */
 public abstract class AbstractHttpInterfaceManager implements HttpInterfaceManager {
   private static final Logger log = LoggerFactory.getLogger(AbstractHttpInterfaceManager.class);
 
   private final HttpClientBuilder clientBuilder;
+  private final HttpAsyncClientBuilder asyncClientBuilder;
   private final Object lock;
   private boolean closed;
   private CloseableHttpClient sharedClient;
+  private CloseableHttpAsyncClient sharedAsyncClient;
   private RequestConfig requestConfig;
 
   /**
@@ -27,7 +34,19 @@ public abstract class AbstractHttpInterfaceManager implements HttpInterfaceManag
    * @param requestConfig Request config used by the client builder
    */
   public AbstractHttpInterfaceManager(HttpClientBuilder clientBuilder, RequestConfig requestConfig) {
+    this(clientBuilder, HttpClientTools.createAsyncHttpBuilder(requestConfig), requestConfig);
+  }
+
+  /**
+   * @param clientBuilder HTTP client builder to use for creating the client instance.
+   * @param asyncClientBuilder HTTP client builder to use for creating the async client instance.
+   * @param requestConfig Request config used by the client builders
+   */
+  public AbstractHttpInterfaceManager(HttpClientBuilder clientBuilder, HttpAsyncClientBuilder asyncClientBuilder,
+                                      RequestConfig requestConfig) {
+
     this.clientBuilder = clientBuilder;
+    this.asyncClientBuilder = asyncClientBuilder;
     this.requestConfig = requestConfig;
     this.lock = new Object();
   }
@@ -42,6 +61,12 @@ public abstract class AbstractHttpInterfaceManager implements HttpInterfaceManag
         sharedClient = null;
         client.close();
       }
+
+      if (sharedAsyncClient != null) {
+        CloseableHttpAsyncClient client = sharedAsyncClient;
+        sharedAsyncClient = null;
+        client.close();
+      }
     }
   }
 
@@ -57,6 +82,7 @@ public abstract class AbstractHttpInterfaceManager implements HttpInterfaceManag
       closed = false;
       requestConfig = configurator.apply(requestConfig);
       clientBuilder.setDefaultRequestConfig(requestConfig);
+      asyncClientBuilder.setDefaultRequestConfig(requestConfig);
     }
   }
 
@@ -74,6 +100,31 @@ public abstract class AbstractHttpInterfaceManager implements HttpInterfaceManag
     }
   }
 
+  @Override
+  public void configureAsyncBuilder(Consumer<HttpAsyncClientBuilder> configurator) {
+    synchronized (lock) {
+      try {
+        close();
+      } catch (Exception e) {
+        log.warn("Failed to close HTTP client.", e);
+      }
+
+      closed = false;
+      configurator.accept(asyncClientBuilder);
+    }
+  }
+
+  @Override
+  public ConnectionPoolStatistics getConnectionPoolStatistics() {
+    synchronized (lock) {
+      if (sharedClient != null && clientBuilder instanceof ExtendedHttpClientBuilder) {
+        return ((ExtendedHttpClientBuilder) clientBuilder).getConnectionPoolStatistics();
+      }
+
+      return ConnectionPoolStatistics.EMPTY;
+    }
+  }
+
   protected CloseableHttpClient getSharedClient() {
     synchronized (lock) {
       if (closed) {
@@ -87,4 +138,31 @@ public abstract class AbstractHttpInterfaceManager implements HttpInterfaceManag
       return sharedClient;
     }
   }
+
+  /**
+   * @return Retry handler for the async requests, which the async client does not have a setting for
+   */
+  protected HttpRequestRetryHandler getAsyncRetryHandler() {
+    return HttpClientTools.DEFAULT_RETRY_HANDLER;
+  }
+
+  protected CloseableHttpAsyncClient getSharedAsyncClient() {
+    synchronized (lock) {
+      if (closed) {
+        throw new IllegalStateException("Cannot get http client for a closed manager.");
+      }
+
+      if (sharedAsyncClient == null) {
+        if (clientBuilder instanceof ExtendedHttpClientBuilder) {
+          // The SSL context override of the blocking client is the one setting which is read back from it.
+          asyncClientBuilder.setSSLContext(((ExtendedHttpClientBuilder) clientBuilder).getSslContext());
+        }
+
+        sharedAsyncClient = asyncClientBuilder.build();
+        sharedAsyncClient.start();
+      }
+
+      return sharedAsyncClient;
+    }
+  }
 }
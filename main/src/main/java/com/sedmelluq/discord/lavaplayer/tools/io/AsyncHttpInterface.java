@@ -0,0 +1,226 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.discord.lavaplayer.tools.http.HttpContextFilter;
+import com.sedmelluq.lava.common.tools.DaemonThreadFactory;
+import com.sedmelluq.lava.common.tools.ExecutorTools;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An HTTP interface for performing non-blocking HTTP requests. Unlike {@link HttpInterface}, it is not bound to the
+ * thread it was obtained in, but requests executed through the same instance share one HTTP context, so requests which
+ * run concurrently should use separate instances from {@link HttpInterfaceManager#getAsyncInterface()}. Responses are
+ * fully buffered in memory, so this is intended for API requests and not for media streams.
+ *
+ * This is useful where one caller has many requests in flight at once, such as the track batches of a SoundCloud
+ * playlist, without a thread per request. A single request which the caller waits for right away gains nothing over
+ * {@link HttpInterface}.
+ *
+ * Filter callbacks and retries may block (filters can make HTTP requests of their own), so they never run on the I/O
+ * thread of the client. Filters which have to wait before a request is sent, such as for a rate limit, do so through
+ * {@link HttpContextFilter#onAsyncRequest} without blocking a thread. The returned futures complete on a worker thread,
+ * which makes it safe to process the response in dependent stages.
+ */
+public class AsyncHttpInterface implements Closeable {
+  private static final ExecutorService callbackExecutor = ExecutorTools.createEagerlyScalingExecutor(1, 64,
+      TimeUnit.SECONDS.toMillis(30), Integer.MAX_VALUE, new DaemonThreadFactory("async-http"));
+
+  private final CloseableHttpAsyncClient client;
+  private final HttpClientContext context;
+  private final HttpContextFilter filter;
+  private final HttpRequestRetryHandler retryHandler;
+
+  /**
+   * @param client The async http client instance used.
+   * @param context The http context instance used.
+   * @param filter Filter applied to the context and each request.
+   */
+  public AsyncHttpInterface(CloseableHttpAsyncClient client, HttpClientContext context, HttpContextFilter filter) {
+    this(client, context, filter, null);
+  }
+
+  /**
+   * @param client The async http client instance used.
+   * @param context The http context instance used.
+   * @param filter Filter applied to the context and each request.
+   * @param retryHandler Decides whether to repeat requests which failed with an I/O error, may be null.
+   */
+  public AsyncHttpInterface(CloseableHttpAsyncClient client, HttpClientContext context, HttpContextFilter filter,
+                            HttpRequestRetryHandler retryHandler) {
+    this.client = client;
+    this.context = context;
+    this.filter = filter;
+    this.retryHandler = retryHandler;
+  }
+
+  /**
+   * @return Executor of the worker threads on which the returned futures complete. Dependent stages which start further
+   *         requests can use it to make sure they do not run on a thread which must not be held up.
+   */
+  public static Executor getCallbackExecutor() {
+    return callbackExecutor;
+  }
+
+  /**
+   * Notifies the filter that this context is taken into use. Called by the manager when creating the interface.
+   */
+  public void acquire() {
+    filter.onContextOpen(context);
+  }
+
+  /**
+   * Executes the given request using the client and context stored in this instance. The filter may cause the request
+   * to be repeated, in which case the returned future completes with the response of the last attempt. If the filter
+   * does not make the first attempt wait, it is applied to it in the calling thread.
+   *
+   * @param request The request to execute.
+   * @return Future which completes with the response from the server, or exceptionally on network error. Cancelling it
+   *         aborts the request.
+   */
+  public CompletableFuture<HttpResponse> execute(HttpUriRequest request) {
+    CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+    executeAttempt(request, 1, result);
+    return result;
+  }
+
+  private void executeAttempt(HttpUriRequest request, int executionCount, CompletableFuture<HttpResponse> result) {
+    CompletableFuture<Void> ready;
+
+    try {
+      ready = filter.onAsyncRequest(context, request, executionCount > 1);
+    } catch (Throwable e) {
+      result.completeExceptionally(e);
+      return;
+    }
+
+    if (ready.isDone()) {
+      sendAttempt(request, executionCount, result, ready);
+    } else {
+      // The future may complete on a thread which must not block, such as a timer, so the rest runs on a worker.
+      ready.whenCompleteAsync((ignored, error) -> sendAttempt(request, executionCount, result, ready), callbackExecutor)
+          .exceptionally(error -> {
+            result.completeExceptionally(error);
+            return null;
+          });
+    }
+  }
+
+  private void sendAttempt(HttpUriRequest request, int executionCount, CompletableFuture<HttpResponse> result,
+                           CompletableFuture<Void> ready) {
+    if (result.isDone()) {
+      // Cancelled while waiting for the filter.
+      return;
+    }
+
+    try {
+      ready.join();
+      filter.onRequest(context, request, executionCount > 1);
+      Future<HttpResponse> pending = client.execute(request, context,
+          new AttemptCallback(request, executionCount, result));
+
+      result.whenComplete((response, error) -> {
+        if (result.isCancelled()) {
+          pending.cancel(true);
+        }
+      });
+    } catch (CompletionException e) {
+      result.completeExceptionally(e.getCause());
+    } catch (Throwable e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * @return Http client context used by this interface.
+   */
+  public HttpClientContext getContext() {
+    return context;
+  }
+
+  /**
+   * @return Async http client instance used by this instance.
+   */
+  public CloseableHttpAsyncClient getHttpClient() {
+    return client;
+  }
+
+  @Override
+  public void close() {
+    filter.onContextClose(context);
+  }
+
+  private class AttemptCallback implements FutureCallback<HttpResponse> {
+    private final HttpUriRequest request;
+    private final int executionCount;
+    private final CompletableFuture<HttpResponse> result;
+
+    private AttemptCallback(HttpUriRequest request, int executionCount, CompletableFuture<HttpResponse> result) {
+      this.request = request;
+      this.executionCount = executionCount;
+      this.result = result;
+    }
+
+    @Override
+    public void completed(HttpResponse response) {
+      dispatch(() -> {
+        if (filter.onRequestResponse(context, request, response)) {
+          EntityUtils.consumeQuietly(response.getEntity());
+          executeAttempt(request, executionCount + 1, result);
+        } else if (!result.complete(response)) {
+          // The request was cancelled while the response arrived.
+          EntityUtils.consumeQuietly(response.getEntity());
+        }
+      });
+    }
+
+    @Override
+    public void failed(Exception error) {
+      dispatch(() -> {
+        if (filter.onRequestException(context, request, error) || shouldRetry(error)) {
+          executeAttempt(request, executionCount + 1, result);
+        } else {
+          result.completeExceptionally(error);
+        }
+      });
+    }
+
+    @Override
+    public void cancelled() {
+      result.cancel(false);
+    }
+
+    private boolean shouldRetry(Exception error) {
+      return retryHandler != null && error instanceof IOException &&
+          retryHandler.retryRequest((IOException) error, executionCount, context);
+    }
+
+    private void dispatch(Runnable handler) {
+      try {
+        callbackExecutor.execute(() -> {
+          try {
+            handler.run();
+          } catch (Throwable e) {
+            result.completeExceptionally(e);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        result.completeExceptionally(e);
+      }
+    }
+  }
+}
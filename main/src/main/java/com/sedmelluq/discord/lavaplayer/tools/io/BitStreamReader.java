@@ -97,6 +97,32 @@ public class BitStreamReader {
     return count;
   }
 
+  /**
+   * Reads a block of Rice coded signed values, where each value consists of a unary coded high part, a low part of the
+   * specified number of bits and the sign folded into the lowest bit.
+   *
+   * @param output Array to write the values to
+   * @param start Index of the first value in the array
+   * @param end Index after the last value in the array
+   * @param parameter Number of bits in the low part of each value
+   * @throws IOException On read error
+   */
+  public void readRiceSignedBlock(int[] output, int start, int end, int parameter) throws IOException {
+    for (int i = start; i < end; i++) {
+      int value = (readAllZeroes() << parameter) | asInteger(parameter);
+      output[i] = (value & 1) == 0 ? value >> 1 : -(value >> 1) - 1;
+    }
+  }
+
+  /**
+   * Reads one whole byte. The reader must be aligned on a byte.
+   * @return The byte, -1 on EOF
+   * @throws IOException On read error
+   */
+  public int readAlignedByte() throws IOException {
+    return readByte();
+  }
+
   /**
    * Reads the number of bits it requires to make the reader align on a byte.
    * @return The read bits as an unsigned value
@@ -0,0 +1,207 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bit stream reader which reads the underlying stream in bulk into a buffer and serves bits from a 64-bit cache word,
+ * so that most reads are just a shift of the cache word. Since it reads ahead of the bits it has returned, the
+ * underlying stream must not be read directly while it is used, and {@link #discardBuffer()} must be called after the
+ * underlying stream is repositioned.
+ */
+public class BufferedBitStreamReader extends BitStreamReader {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  private final InputStream stream;
+  private final byte[] buffer;
+  private int offset;
+  private int limit;
+  private long cache;
+  private int cacheBits;
+
+  /**
+   * @param stream The underlying stream
+   */
+  public BufferedBitStreamReader(InputStream stream) {
+    this(stream, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param stream The underlying stream
+   * @param bufferSize Size of the read buffer
+   */
+  public BufferedBitStreamReader(InputStream stream, int bufferSize) {
+    super(stream);
+
+    this.stream = stream;
+    this.buffer = new byte[bufferSize];
+  }
+
+  @Override
+  public long asLong(int bitsNeeded) throws IOException {
+    if (bitsNeeded <= 32) {
+      return asInteger(bitsNeeded) & 0xFFFFFFFFL;
+    }
+
+    long high = asInteger(bitsNeeded - 32) & 0xFFFFFFFFL;
+    return (high << 32) | (asInteger(32) & 0xFFFFFFFFL);
+  }
+
+  @Override
+  public int asInteger(int bitsNeeded) throws IOException {
+    if (bitsNeeded == 0) {
+      return 0;
+    } else if (cacheBits < bitsNeeded) {
+      require(bitsNeeded);
+    }
+
+    int value = (int) (cache >>> (64 - bitsNeeded));
+    cache <<= bitsNeeded;
+    cacheBits -= bitsNeeded;
+    return value;
+  }
+
+  @Override
+  public int asSignedInteger(int bitsNeeded) throws IOException {
+    if (bitsNeeded == 0) {
+      return 0;
+    } else if (bitsNeeded > 32) {
+      return Math.toIntExact(asSignedLong(bitsNeeded));
+    } else if (cacheBits < bitsNeeded) {
+      require(bitsNeeded);
+    }
+
+    int value = (int) (cache >> (64 - bitsNeeded));
+    cache <<= bitsNeeded;
+    cacheBits -= bitsNeeded;
+    return value;
+  }
+
+  @Override
+  public int readAllZeroes() throws IOException {
+    int count = 0;
+
+    while (cache == 0) {
+      count += cacheBits;
+      cacheBits = 0;
+      require(1);
+    }
+
+    int zeroes = Long.numberOfLeadingZeros(cache);
+    skipCachedBits(zeroes + 1);
+    return count + zeroes;
+  }
+
+  @Override
+  public int readRemainingBits() {
+    int bits = cacheBits & 7;
+
+    if (bits == 0) {
+      return 0;
+    }
+
+    int value = (int) (cache >>> (64 - bits));
+    cache <<= bits;
+    cacheBits -= bits;
+    return value;
+  }
+
+  /**
+   * Finds the unary part of each value from the cache word with a single leading zero count instead of reading it bit
+   * by bit.
+   */
+  @Override
+  public void readRiceSignedBlock(int[] output, int start, int end, int parameter) throws IOException {
+    for (int i = start; i < end; i++) {
+      int quotient = 0;
+
+      if (cacheBits < 64 - 8) {
+        refillCache();
+      }
+
+      while (cache == 0) {
+        quotient += cacheBits;
+        cacheBits = 0;
+        require(1);
+      }
+
+      int zeroes = Long.numberOfLeadingZeros(cache);
+      quotient += zeroes;
+      skipCachedBits(zeroes + 1);
+
+      int value = (quotient << parameter) | asInteger(parameter);
+      output[i] = (value >>> 1) ^ -(value & 1);
+    }
+  }
+
+  @Override
+  public int readAlignedByte() throws IOException {
+    if (cacheBits >= 8) {
+      return asInteger(8);
+    } else if (offset == limit && !fillBuffer()) {
+      return -1;
+    }
+
+    return buffer[offset++] & 0xFF;
+  }
+
+  /**
+   * @return The number of bytes which have been read from the underlying stream, but not returned by this reader yet.
+   *         Only counts whole bytes, so it is exact only when the reader is aligned on a byte.
+   */
+  public int getBufferedByteCount() {
+    return (limit - offset) + (cacheBits >> 3);
+  }
+
+  /**
+   * Discards all buffered data. Must be called when the underlying stream is repositioned.
+   */
+  public void discardBuffer() {
+    offset = 0;
+    limit = 0;
+    cache = 0;
+    cacheBits = 0;
+  }
+
+  private void skipCachedBits(int bits) {
+    if (bits == 64) {
+      cache = 0;
+    } else {
+      cache <<= bits;
+    }
+
+    cacheBits -= bits;
+  }
+
+  private void require(int bitsNeeded) throws IOException {
+    refillCache();
+
+    while (cacheBits < bitsNeeded) {
+      if (!fillBuffer()) {
+        throw new EOFException("Bit stream needs more bytes");
+      }
+
+      refillCache();
+    }
+  }
+
+  private void refillCache() {
+    while (cacheBits <= 64 - 8 && offset < limit) {
+      cache |= (buffer[offset++] & 0xFFL) << (64 - 8 - cacheBits);
+      cacheBits += 8;
+    }
+  }
+
+  private boolean fillBuffer() throws IOException {
+    int read = stream.read(buffer, 0, buffer.length);
+
+    if (read <= 0) {
+      return false;
+    }
+
+    offset = 0;
+    limit = read;
+    return true;
+  }
+}
@@ -0,0 +1,34 @@
+package com.sedmelluq.discord.lavaplayer.tools.io;
+
+import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpClientBuilder;
+import com.sedmelluq.discord.lavaplayer.tools.http.Http2ClientTransport;
+import org.apache.http.client.config.RequestConfig;
+
+import java.io.IOException;
+
+/**
+ * HTTP interface manager with thread-local contexts, which sends HTTPS requests over multiplexed HTTP/2 connections when
+ * the server supports it. Concurrent requests to the same host, such as range requests to a CDN, share a single
+ * connection instead of each performing its own TLS handshake. Everything else behaves as with
+ * {@link ThreadLocalHttpInterfaceManager}, including route planners set through {@link #configureBuilder}.
+ */
+public class Http2HttpInterfaceManager extends ThreadLocalHttpInterfaceManager {
+  private final Http2ClientTransport transport;
+
+  /**
+   * @param clientBuilder HTTP client builder to use for creating the client instance.
+   * @param requestConfig Request config used by the client builder
+   */
+  public Http2HttpInterfaceManager(ExtendedHttpClientBuilder clientBuilder, RequestConfig requestConfig) {
+    super(clientBuilder, requestConfig);
+
+    this.transport = new Http2ClientTransport(clientBuilder::getSslContext);
+    clientBuilder.setMainExecDecorator(transport::decorate);
+  }
+
+  @Override
+  public void close() throws IOException {
+    super.close();
+    transport.close();
+  }
+}
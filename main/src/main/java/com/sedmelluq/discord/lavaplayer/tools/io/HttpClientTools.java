@@ -7,6 +7,7 @@ import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpClientBuilder;
 import org.apache.http.*;
 import org.apache.http.client.CookieStore;
+import org.apache.http.client.HttpRequestRetryHandler;
 import org.apache.http.client.RedirectStrategy;
 import org.apache.http.client.config.CookieSpecs;
 import org.apache.http.client.config.RequestConfig;
@@ -16,6 +17,8 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
@@ -68,6 +71,29 @@ public class HttpClientTools {
     return new ThreadLocalHttpInterfaceManager(createHttpBuilder(NO_COOKIES_REQUEST_CONFIG), NO_COOKIES_REQUEST_CONFIG);
   }
 
+  /**
+   * @return HTTP interface manager with thread-local context, uses multiplexed HTTP/2 connections where supported
+   */
+  public static HttpInterfaceManager createDefaultHttp2Manager() {
+    return new Http2HttpInterfaceManager(
+        (ExtendedHttpClientBuilder) createSharedCookiesHttpBuilder(),
+        DEFAULT_REQUEST_CONFIG
+    );
+  }
+
+  /**
+   * @param requestConfig Request config used by the client builder
+   * @return An HttpAsyncClientBuilder with the same SSL and pool setup as the blocking clients
+   */
+  public static HttpAsyncClientBuilder createAsyncHttpBuilder(RequestConfig requestConfig) {
+    return HttpAsyncClients.custom()
+        .setSSLContext(ExtendedHttpClientBuilder.getDefaultSslContext())
+        .setDefaultCookieStore(new BasicCookieStore())
+        .setDefaultRequestConfig(requestConfig)
+        .setMaxConnTotal(3000)
+        .setMaxConnPerRoute(1500);
+  }
+
   private static HttpClientBuilder createHttpBuilder(RequestConfig requestConfig) {
     CookieStore cookieStore = new BasicCookieStore();
 
@@ -287,6 +313,11 @@ public class HttpClientTools {
     return header != null ? header.getValue() : null;
   }
 
+  /**
+   * Retry handler of the default clients, which also retries requests that failed without a response.
+   */
+  static final HttpRequestRetryHandler DEFAULT_RETRY_HANDLER = NoResponseRetryHandler.RETRY_INSTANCE;
+
   private static class NoResponseRetryHandler extends DefaultHttpRequestRetryHandler {
     private static final NoResponseRetryHandler RETRY_INSTANCE = new NoResponseRetryHandler();
 
@@ -23,6 +23,8 @@ public class HttpInterface implements Closeable {
   private final boolean ownedClient;
   private final HttpContextFilter filter;
   private HttpUriRequest lastRequest;
+  private volatile HttpUriRequest currentRequest;
+  private volatile boolean aborted;
   private boolean available;
 
   /**
@@ -53,6 +55,7 @@ public class HttpInterface implements Closeable {
 
     filter.onContextOpen(context);
     available = false;
+    aborted = false;
     return true;
   }
 
@@ -67,7 +70,17 @@ public class HttpInterface implements Closeable {
     boolean isRepeated = false;
 
     while (true) {
+      if (aborted) {
+        throw new IOException("Requests of this interface were aborted.");
+      }
+
       filter.onRequest(context, request, isRepeated);
+      currentRequest = request;
+
+      // Checked again after publishing the request, so that an abort in between is not missed
+      if (aborted) {
+        request.abort();
+      }
 
       try {
         CloseableHttpResponse response = client.execute(request, context);
@@ -94,6 +107,20 @@ public class HttpInterface implements Closeable {
     }
   }
 
+  /**
+   * Aborts the request currently executed with this interface, including reading its response, and makes any further
+   * requests fail until the interface is acquired again. Unlike the other methods, this can be called from any thread.
+   */
+  public void abort() {
+    aborted = true;
+
+    HttpUriRequest request = currentRequest;
+
+    if (request != null) {
+      request.abort();
+    }
+  }
+
   /**
    * @return The final URL after redirects for the last processed request. Original URL if no redirects were performed.
    *         Null if no requests have been executed. Undefined state if last request threw an exception.
@@ -124,6 +151,7 @@ public class HttpInterface implements Closeable {
 
   @Override
   public void close() throws IOException {
+    currentRequest = null;
     available = true;
     filter.onContextClose(context);
 
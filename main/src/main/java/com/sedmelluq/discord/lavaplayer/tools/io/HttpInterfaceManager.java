@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.tools.io;
 
+import com.sedmelluq.discord.lavaplayer.tools.http.ConnectionPoolStatistics;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 
 import java.io.Closeable;
@@ -12,4 +13,20 @@ public interface HttpInterfaceManager extends ExtendedHttpConfigurable, Closeabl
    * @return An HTTP interface for use by the current thread.
    */
   HttpInterface getInterface();
+
+  /**
+   * @return An HTTP interface for non-blocking requests, not bound to the current thread.
+   * @throws UnsupportedOperationException If this manager has no async client
+   */
+  default AsyncHttpInterface getAsyncInterface() {
+    throw new UnsupportedOperationException("This HTTP interface manager does not support non-blocking requests.");
+  }
+
+  /**
+   * @return Statistics of the connection pool used by the blocking interfaces of this manager.
+   */
+  default ConnectionPoolStatistics getConnectionPoolStatistics() {
+    // Managers which do not keep track of their pool report it as empty.
+    return ConnectionPoolStatistics.EMPTY;
+  }
 }
@@ -43,6 +43,20 @@ public class SavedHeadSeekableInputStream extends SeekableInputStream {
     headPosition = 0;
   }
 
+  /**
+   * @return Buffer containing the saved head, valid up to {@link #getSavedLength()}
+   */
+  public byte[] getSavedHead() {
+    return savedHead;
+  }
+
+  /**
+   * @return Number of bytes saved into the head buffer
+   */
+  public int getSavedLength() {
+    return (int) Math.max(0, savedUntilPosition);
+  }
+
   @Override
   public long getPosition() {
     if (usingHead) {
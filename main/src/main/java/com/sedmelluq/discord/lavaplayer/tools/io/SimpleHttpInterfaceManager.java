@@ -28,8 +28,21 @@ public class SimpleHttpInterfaceManager extends AbstractHttpInterfaceManager {
     return httpInterface;
   }
 
+  @Override
+  public AsyncHttpInterface getAsyncInterface() {
+    AsyncHttpInterface httpInterface = new AsyncHttpInterface(getSharedAsyncClient(), HttpClientContext.create(), filterHolder,
+        getAsyncRetryHandler());
+    httpInterface.acquire();
+    return httpInterface;
+  }
+
   @Override
   public void setHttpContextFilter(HttpContextFilter filter) {
     filterHolder.set(filter);
   }
+
+  @Override
+  public HttpContextFilter getHttpContextFilter() {
+    return filterHolder.get();
+  }
 }
@@ -23,6 +23,10 @@ public class ThreadLocalHttpInterfaceManager extends AbstractHttpInterfaceManage
   public ThreadLocalHttpInterfaceManager(HttpClientBuilder clientBuilder, RequestConfig requestConfig) {
     super(clientBuilder, requestConfig);
 
+    // Contexts are per thread, so a user token stored in one must not prevent another thread from reusing the
+    // keep-alive connections it leaves in the pool.
+    clientBuilder.disableConnectionState();
+
     this.filter = new SettableHttpRequestFilter();
     this.httpInterfaces = ThreadLocal.withInitial(() ->
         new HttpInterface(getSharedClient(), HttpClientContext.create(), false, filter)
@@ -48,8 +52,21 @@ public class ThreadLocalHttpInterfaceManager extends AbstractHttpInterfaceManage
     return httpInterface;
   }
 
+  @Override
+  public AsyncHttpInterface getAsyncInterface() {
+    AsyncHttpInterface httpInterface = new AsyncHttpInterface(getSharedAsyncClient(), HttpClientContext.create(), filter,
+        getAsyncRetryHandler());
+    httpInterface.acquire();
+    return httpInterface;
+  }
+
   @Override
   public void setHttpContextFilter(HttpContextFilter modifier) {
     filter.set(modifier);
   }
+
+  @Override
+  public HttpContextFilter getHttpContextFilter() {
+    return filter.get();
+  }
 }
@@ -0,0 +1,15 @@
+package com.sedmelluq.discord.lavaplayer.track;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Loads the pages of a {@link LazyAudioPlaylist} after the first one. Called for one page at a time, in order.
+ */
+public interface AudioPlaylistPageLoader {
+  /**
+   * @return Tracks of the next page, null if there are no more pages
+   * @throws IOException On network error
+   */
+  List<AudioTrack> loadNextPage() throws IOException;
+}
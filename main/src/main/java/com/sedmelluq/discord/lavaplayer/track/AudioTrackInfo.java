@@ -1,9 +1,13 @@
 package com.sedmelluq.discord.lavaplayer.track;
 
+import com.sedmelluq.discord.lavaplayer.tools.WeakStringPool;
+
 /**
  * Meta info for an audio track
  */
 public class AudioTrackInfo {
+  private static final WeakStringPool authorPool = new WeakStringPool();
+
   /**
    * Track title
    */
@@ -30,6 +34,9 @@ public class AudioTrackInfo {
   public final String uri;
 
   /**
+   * Authors are shared between all track infos with the same author, and the URI shares the identifier instance when
+   * they are equal, as these make up most of the memory of large queues of track infos.
+   *
    * @param title Track title
    * @param author Track author, if known
    * @param length Length of the track in milliseconds
@@ -39,10 +46,10 @@ public class AudioTrackInfo {
    */
   public AudioTrackInfo(String title, String author, long length, String identifier, boolean isStream, String uri) {
     this.title = title;
-    this.author = author;
+    this.author = authorPool.get(author);
     this.length = length;
     this.identifier = identifier;
     this.isStream = isStream;
-    this.uri = uri;
+    this.uri = uri != null && uri.equals(identifier) ? identifier : uri;
   }
 }
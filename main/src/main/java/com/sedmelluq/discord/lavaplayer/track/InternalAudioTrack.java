@@ -27,6 +27,17 @@ public interface InternalAudioTrack extends AudioTrack, AudioFrameProvider {
    */
   void process(LocalAudioTrackExecutor executor) throws Exception;
 
+  /**
+   * Performs the loading which is needed before playback can begin ahead of time, so that the track starts faster when
+   * it is played. The results are kept by the track and used by {@link #process(LocalAudioTrackExecutor)} if they are
+   * still valid then. Called from a background thread, does nothing for tracks which have nothing to prepare.
+   *
+   * @throws Exception In case loading fails, the track will then load everything when it is played.
+   */
+  default void prepare() throws Exception {
+    // Nothing to prepare by default.
+  }
+
   /**
    * @param playerManager The player manager which is executing this track
    * @return A custom local executor for this track. Unless this track requires a special executor, this should return
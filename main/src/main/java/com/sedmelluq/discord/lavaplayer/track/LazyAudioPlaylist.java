@@ -0,0 +1,182 @@
+package com.sedmelluq.discord.lavaplayer.track;
+
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.SUSPICIOUS;
+
+/**
+ * Playlist which is returned as soon as its first page is loaded. The player manager loads the remaining pages in the
+ * background and reports them through
+ * {@link com.sedmelluq.discord.lavaplayer.player.AudioLoadResultHandler#playlistPageLoaded}. They can also be loaded on
+ * demand by {@link #iterator()}, {@link #stream()} or {@link #loadNextPage()}, on the thread which calls them. If loading
+ * a page fails, the {@link com.sedmelluq.discord.lavaplayer.tools.FriendlyException} is thrown to that caller and the
+ * playlist ends with the tracks loaded so far.
+ */
+public class LazyAudioPlaylist implements AudioPlaylist, Iterable<AudioTrack> {
+  private final String name;
+  private final AudioTrack selectedTrack;
+  private final boolean isSearchResult;
+  private final List<AudioTrack> tracks;
+  private final Object pageLock;
+  private AudioPlaylistPageLoader pageLoader;
+  private volatile boolean fullyLoaded;
+
+  /**
+   * @param name Name of the playlist
+   * @param firstPage Tracks of the first page of the playlist
+   * @param selectedTrack Track that is explicitly selected, only looked for on the first page
+   * @param isSearchResult True if the playlist was created from search results
+   * @param pageLoader Loader for the pages after the first one, null if there is only one page
+   */
+  public LazyAudioPlaylist(String name, List<AudioTrack> firstPage, AudioTrack selectedTrack, boolean isSearchResult,
+                           AudioPlaylistPageLoader pageLoader) {
+
+    this.name = name;
+    this.selectedTrack = selectedTrack;
+    this.isSearchResult = isSearchResult;
+    this.tracks = new ArrayList<>(firstPage);
+    this.pageLock = new Object();
+    this.pageLoader = pageLoader;
+    this.fullyLoaded = pageLoader == null;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The tracks loaded so far, see {@link #isFullyLoaded()}
+   */
+  @Override
+  public List<AudioTrack> getTracks() {
+    synchronized (tracks) {
+      return Collections.unmodifiableList(new ArrayList<>(tracks));
+    }
+  }
+
+  @Override
+  public AudioTrack getSelectedTrack() {
+    return selectedTrack;
+  }
+
+  @Override
+  public boolean isSearchResult() {
+    return isSearchResult;
+  }
+
+  /**
+   * @return True if all pages of the playlist have been loaded
+   */
+  public boolean isFullyLoaded() {
+    return fullyLoaded;
+  }
+
+  /**
+   * Loads the next page of the playlist. If another thread is already loading a page, waits for it and then loads the
+   * page after that.
+   *
+   * @return Tracks of the next page which contains any, empty if all pages have been loaded
+   * @throws com.sedmelluq.discord.lavaplayer.tools.FriendlyException If loading the page fails, no more pages follow
+   */
+  public List<AudioTrack> loadNextPage() {
+    synchronized (pageLock) {
+      while (!fullyLoaded) {
+        List<AudioTrack> page = fetchPage();
+
+        if (page == null) {
+          fullyLoaded = true;
+          pageLoader = null;
+        } else if (!page.isEmpty()) {
+          synchronized (tracks) {
+            tracks.addAll(page);
+          }
+
+          return page;
+        }
+      }
+
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Loads all remaining pages of the playlist.
+   *
+   * @return All tracks of the playlist
+   */
+  public List<AudioTrack> loadRemainingPages() {
+    while (!loadNextPage().isEmpty()) {
+      // Keep loading until there is nothing left.
+    }
+
+    return getTracks();
+  }
+
+  /**
+   * @return Iterator over all tracks of the playlist, which loads the next page when it reaches the end of the tracks
+   *         loaded so far. Its hasNext() throws the exception of a page which failed to load.
+   */
+  @Override
+  public Iterator<AudioTrack> iterator() {
+    return new Iterator<AudioTrack>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        if (index < loadedCount()) {
+          return true;
+        }
+
+        // The page may also have been loaded by another thread meanwhile, so the count is checked again after this.
+        loadNextPage();
+        return index < loadedCount();
+      }
+
+      @Override
+      public AudioTrack next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        synchronized (tracks) {
+          return tracks.get(index++);
+        }
+      }
+    };
+  }
+
+  /**
+   * @return Sequential stream over all tracks of the playlist, which loads pages as it is consumed
+   */
+  public Stream<AudioTrack> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+  }
+
+  private int loadedCount() {
+    synchronized (tracks) {
+      return tracks.size();
+    }
+  }
+
+  private List<AudioTrack> fetchPage() {
+    try {
+      return pageLoader.loadNextPage();
+    } catch (Exception e) {
+      // A failed page ends the playlist, the tracks loaded so far remain usable.
+      fullyLoaded = true;
+      pageLoader = null;
+      throw ExceptionTools.wrapUnfriendlyExceptions("Failed to load the next page of the playlist.", SUSPICIOUS, e);
+    }
+  }
+}
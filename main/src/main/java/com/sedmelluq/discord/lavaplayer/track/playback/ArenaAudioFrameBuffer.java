@@ -0,0 +1,354 @@
+package com.sedmelluq.discord.lavaplayer.track.playback;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Audio frame buffer which keeps the frame data off-heap, in a ring buffer region taken from a shared
+ * {@link DirectMemoryArena}. The region is only taken when the first frame arrives and is returned to the arena when the
+ * terminator frame has been provided or the buffer is disposed of, so idle and finished tracks hold no frame memory.
+ * Frames are copied into direct target buffers without passing through the heap. The region is only read while holding
+ * the lock of the buffer, so it is never returned to the arena while a frame is being copied out of it.
+ */
+public class ArenaAudioFrameBuffer extends AbstractAudioFrameBuffer {
+  private static final Logger log = LoggerFactory.getLogger(ArenaAudioFrameBuffer.class);
+
+  private final DirectMemoryArena arena;
+  private final AtomicBoolean stopping;
+  private final int bufferLength;
+  private final int worstCaseFrameCount;
+  private final long[] timecodes;
+  private final int[] volumes;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final String[][] flags;
+  private final ByteBuffer silence;
+  private MutableAudioFrame bridgeFrame;
+
+  private ByteBuffer region;
+  private boolean disposed;
+  private int firstFrame;
+  private int frameCount;
+
+  /**
+   * @param bufferDuration The length of the internal buffer in milliseconds
+   * @param format The format of the frames held in this buffer
+   * @param stopping Atomic boolean which has true value when the track is in a state of pending stop.
+   * @param arena Arena to take the region for the frame data from
+   */
+  public ArenaAudioFrameBuffer(int bufferDuration, AudioDataFormat format, AtomicBoolean stopping,
+                               DirectMemoryArena arena) {
+
+    super(format);
+    int maximumFrameCount = bufferDuration / (int) format.frameDuration() + 1;
+    this.arena = arena;
+    this.stopping = stopping;
+    this.bufferLength = format.expectedChunkSize() * maximumFrameCount;
+    this.worstCaseFrameCount = bufferLength / format.maximumChunkSize();
+    this.timecodes = new long[maximumFrameCount];
+    this.volumes = new int[maximumFrameCount];
+    this.offsets = new int[maximumFrameCount];
+    this.lengths = new int[maximumFrameCount];
+    this.flags = new String[maximumFrameCount][];
+    this.silence = ByteBuffer.wrap(format.silenceBytes()).asReadOnlyBuffer();
+  }
+
+  /**
+   * @return Number of frames that can be added to the buffer without blocking.
+   */
+  @Override
+  public int getRemainingCapacity() {
+    synchronized (synchronizer) {
+      if (frameCount == 0) {
+        return worstCaseFrameCount;
+      }
+
+      int bufferHead = offsets[firstFrame];
+      int bufferTail = getEndOffset(wrappedFrameIndex(firstFrame + frameCount - 1));
+      int maximumFrameSize = format.maximumChunkSize();
+
+      if (bufferHead < bufferTail) {
+        return (bufferLength - bufferTail) / maximumFrameSize + bufferHead / maximumFrameSize;
+      } else {
+        return (bufferHead - bufferTail) / maximumFrameSize;
+      }
+    }
+  }
+
+  /**
+   * @return Total number of frames that the buffer can hold.
+   */
+  @Override
+  public int getFullCapacity() {
+    return worstCaseFrameCount;
+  }
+
+  @Override
+  public void consume(AudioFrame frame) throws InterruptedException {
+    // Same as for the other buffers, guarantees that stopped tracks cannot get stuck in this method.
+    if (stopping != null && stopping.get()) {
+      throw new InterruptedException();
+    }
+
+    synchronized (synchronizer) {
+      if (!locked) {
+        receivedFrames = true;
+
+        if (clearOnInsert) {
+          clear();
+          clearOnInsert = false;
+        }
+
+        while (!attemptStore(frame)) {
+          synchronizer.wait();
+        }
+
+        synchronizer.notifyAll();
+      }
+    }
+  }
+
+  @Override
+  public AudioFrame provide() {
+    synchronized (synchronizer) {
+      if (provide(getBridgeFrame())) {
+        return unwrapBridgeFrame();
+      }
+
+      return null;
+    }
+  }
+
+  @Override
+  public AudioFrame provide(long timeout, TimeUnit unit) throws TimeoutException, InterruptedException {
+    synchronized (synchronizer) {
+      if (provide(getBridgeFrame(), timeout, unit)) {
+        return unwrapBridgeFrame();
+      }
+
+      return null;
+    }
+  }
+
+  @Override
+  public boolean provide(MutableAudioFrame targetFrame) {
+    synchronized (synchronizer) {
+      if (frameCount == 0) {
+        return providePendingTerminator(targetFrame);
+      }
+
+      popFrame(targetFrame);
+      return true;
+    }
+  }
+
+  @Override
+  public boolean provide(MutableAudioFrame targetFrame, long timeout, TimeUnit unit)
+      throws TimeoutException, InterruptedException {
+
+    long endTime = System.nanoTime() + unit.toNanos(timeout);
+
+    synchronized (synchronizer) {
+      while (frameCount == 0) {
+        if (providePendingTerminator(targetFrame)) {
+          return true;
+        }
+
+        long remaining = endTime - System.nanoTime();
+
+        if (remaining <= 0) {
+          throw new TimeoutException();
+        }
+
+        TimeUnit.NANOSECONDS.timedWait(synchronizer, remaining);
+      }
+
+      popFrame(targetFrame);
+      return true;
+    }
+  }
+
+  @Override
+  public void clear() {
+    synchronized (synchronizer) {
+      frameCount = 0;
+    }
+  }
+
+  @Override
+  public void rebuild(AudioFrameRebuilder rebuilder) {
+    log.debug("Frame rebuild not supported on arena frame buffer yet.");
+  }
+
+  @Override
+  public Long getLastInputTimecode() {
+    synchronized (synchronizer) {
+      if (!clearOnInsert && frameCount > 0) {
+        return timecodes[wrappedFrameIndex(firstFrame + frameCount - 1)];
+      }
+    }
+
+    return null;
+  }
+
+  @Override
+  public void dispose() {
+    synchronized (synchronizer) {
+      disposed = true;
+      frameCount = 0;
+      releaseRegion();
+      synchronizer.notifyAll();
+    }
+  }
+
+  private boolean attemptStore(AudioFrame frame) throws InterruptedException {
+    if (disposed) {
+      throw new InterruptedException();
+    } else if (frameCount >= timecodes.length) {
+      return false;
+    }
+
+    int frameLength = frame.getDataLength();
+
+    if (frameCount == 0) {
+      if (frameLength > bufferLength) {
+        throw new IllegalArgumentException("Frame is too big for buffer.");
+      }
+
+      firstFrame = 0;
+      store(frame, 0, 0, frameLength);
+    } else {
+      int lastFrame = wrappedFrameIndex(firstFrame + frameCount - 1);
+      int nextFrame = wrappedFrameIndex(lastFrame + 1);
+
+      int bufferHead = offsets[firstFrame];
+      int bufferTail = getEndOffset(lastFrame);
+
+      if (bufferHead < bufferTail) {
+        if (bufferTail + frameLength <= bufferLength) {
+          store(frame, nextFrame, bufferTail, frameLength);
+        } else if (bufferHead >= frameLength) {
+          store(frame, nextFrame, 0, frameLength);
+        } else {
+          return false;
+        }
+      } else if (bufferTail + frameLength <= bufferHead) {
+        store(frame, nextFrame, bufferTail, frameLength);
+      } else {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void store(AudioFrame frame, int index, int frameOffset, int frameLength) {
+    if (region == null) {
+      region = arena.allocate(bufferLength);
+    }
+
+    timecodes[index] = frame.getTimecode();
+    volumes[index] = frame.getVolume();
+    offsets[index] = frameOffset;
+    lengths[index] = frameLength;
+    flags[index] = frame.getFlags();
+
+    region.limit(frameOffset + frameLength);
+    region.position(frameOffset);
+
+    if (frame instanceof MutableAudioFrame) {
+      ((MutableAudioFrame) frame).getData(region);
+    } else {
+      region.put(frame.getData());
+    }
+
+    frameCount++;
+  }
+
+  private void popFrame(MutableAudioFrame targetFrame) {
+    int index = firstFrame;
+    applyMetadata(targetFrame, index);
+
+    if (volumes[index] == 0) {
+      targetFrame.store(silence.duplicate());
+    } else {
+      region.limit(offsets[index] + lengths[index]);
+      region.position(offsets[index]);
+      targetFrame.store(region);
+    }
+
+    firstFrame = wrappedFrameIndex(firstFrame + 1);
+    frameCount--;
+    synchronizer.notifyAll();
+  }
+
+  private void applyMetadata(MutableAudioFrame targetFrame, int index) {
+    targetFrame.setTimecode(timecodes[index]);
+    targetFrame.setVolume(volumes[index]);
+    targetFrame.setTerminator(false);
+    targetFrame.setFormat(format);
+    targetFrame.setFlags(flags[index]);
+  }
+
+  private boolean providePendingTerminator(MutableAudioFrame targetFrame) {
+    if (!terminateOnEmpty) {
+      return false;
+    }
+
+    terminateOnEmpty = false;
+    terminated = true;
+    releaseRegion();
+
+    targetFrame.setTerminator(true);
+    targetFrame.setFlags();
+    synchronizer.notifyAll();
+    return true;
+  }
+
+  private void releaseRegion() {
+    if (region != null) {
+      arena.release(region);
+      region = null;
+    }
+  }
+
+  private int getEndOffset(int index) {
+    return offsets[index] + lengths[index];
+  }
+
+  private int wrappedFrameIndex(int index) {
+    int maximumFrameCount = timecodes.length;
+    return index >= maximumFrameCount ? index - maximumFrameCount : index;
+  }
+
+  private MutableAudioFrame getBridgeFrame() {
+    if (bridgeFrame == null) {
+      bridgeFrame = new MutableAudioFrame();
+      bridgeFrame.setBuffer(ByteBuffer.allocate(format.maximumChunkSize()));
+    }
+
+    return bridgeFrame;
+  }
+
+  private AudioFrame unwrapBridgeFrame() {
+    if (bridgeFrame.isTerminator()) {
+      return TerminatorAudioFrame.INSTANCE;
+    } else {
+      return new ImmutableAudioFrame(bridgeFrame.getTimecode(), bridgeFrame.getData(), bridgeFrame.getVolume(),
+          bridgeFrame.getFormat(), bridgeFrame.getFlags());
+    }
+  }
+
+  @Override
+  protected void signalWaiters() {
+    synchronized (synchronizer) {
+      synchronizer.notifyAll();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.sedmelluq.discord.lavaplayer.track.playback;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Factory for {@link ArenaAudioFrameBuffer} instances which all take their regions from the same arena.
+ *
+ * A region is only returned to the arena when its track ends or is stopped, it is not reclaimed when a buffer becomes
+ * unreachable. Players using buffers from this factory must therefore be stopped with
+ * {@link com.sedmelluq.discord.lavaplayer.player.AudioPlayer#stopTrack()} or
+ * {@link com.sedmelluq.discord.lavaplayer.player.AudioPlayer#destroy()} before they are discarded, otherwise the
+ * region of the track they were playing stays taken for the lifetime of the arena. The playback thread of such a track
+ * keeps waiting for space in the buffer, so it stays reachable and garbage collection could not reclaim it either.
+ */
+public class ArenaAudioFrameBufferFactory implements AudioFrameBufferFactory {
+  private static final DirectMemoryArena sharedArena = new DirectMemoryArena();
+
+  private final DirectMemoryArena arena;
+
+  /**
+   * Create a factory which uses an arena shared by all factories created with this constructor.
+   */
+  public ArenaAudioFrameBufferFactory() {
+    this(sharedArena);
+  }
+
+  /**
+   * @param arena Arena to take the regions for the frame data from
+   */
+  public ArenaAudioFrameBufferFactory(DirectMemoryArena arena) {
+    this.arena = arena;
+  }
+
+  /**
+   * @return The arena used by the buffers of this factory
+   */
+  public DirectMemoryArena getArena() {
+    return arena;
+  }
+
+  @Override
+  public AudioFrameBuffer create(int bufferDuration, AudioDataFormat format, AtomicBoolean stopping) {
+    return new ArenaAudioFrameBuffer(bufferDuration, format, stopping, arena);
+  }
+}
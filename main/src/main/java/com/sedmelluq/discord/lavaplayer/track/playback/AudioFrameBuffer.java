@@ -59,4 +59,12 @@ public interface AudioFrameBuffer extends AudioFrameProvider, AudioFrameConsumer
    *         receiving the next frame.
    */
   Long getLastInputTimecode();
+
+  /**
+   * Release the resources held by this buffer. Called when the track is stopped and its remaining frames are no longer
+   * needed, no frames are provided or consumed after this.
+   */
+  default void dispose() {
+    // Buffers which only hold heap memory have nothing to release.
+  }
 }
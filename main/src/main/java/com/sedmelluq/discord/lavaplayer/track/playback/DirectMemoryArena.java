@@ -0,0 +1,107 @@
+package com.sedmelluq.discord.lavaplayer.track.playback;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Off-heap memory shared by frame buffers. Regions are handed out in power of two sizes, carved from large direct
+ * buffer slabs, and kept on a free list of their size when released, so that the memory of stopped tracks is reused by
+ * the next ones instead of being allocated again. Memory is never given back to the system, the arena holds at most the
+ * peak amount that was in use at once.
+ */
+public class DirectMemoryArena {
+  public static final int DEFAULT_SLAB_SIZE = 16 * 1024 * 1024;
+  private static final int MINIMUM_REGION_SHIFT = 12;
+  private static final int SIZE_CLASS_COUNT = 31 - MINIMUM_REGION_SHIFT;
+
+  private final int slabSize;
+  private final List<ArrayDeque<ByteBuffer>> freeRegions;
+  private long reservedBytes;
+  private long usedBytes;
+
+  /**
+   * Create an arena with the default slab size.
+   */
+  public DirectMemoryArena() {
+    this(DEFAULT_SLAB_SIZE);
+  }
+
+  /**
+   * @param slabSize Size of the direct buffers regions are carved from. Regions larger than this are allocated as
+   *                 separate direct buffers.
+   */
+  public DirectMemoryArena(int slabSize) {
+    this.slabSize = slabSize;
+    this.freeRegions = new ArrayList<>(SIZE_CLASS_COUNT);
+
+    for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+      freeRegions.add(new ArrayDeque<>());
+    }
+  }
+
+  /**
+   * @param size Minimum size of the region
+   * @return A direct buffer of the size rounded up to a power of two, with undefined contents
+   */
+  public synchronized ByteBuffer allocate(int size) {
+    int sizeClass = getSizeClass(size);
+    ArrayDeque<ByteBuffer> free = freeRegions.get(sizeClass);
+
+    if (free.isEmpty()) {
+      reserve(sizeClass, free);
+    }
+
+    ByteBuffer region = free.pollFirst();
+    usedBytes += region.capacity();
+    region.clear();
+    return region;
+  }
+
+  /**
+   * @param region Region which was allocated from this arena and is no longer referenced by its user
+   */
+  public synchronized void release(ByteBuffer region) {
+    usedBytes -= region.capacity();
+    freeRegions.get(getSizeClass(region.capacity())).offerFirst(region);
+  }
+
+  /**
+   * @return Total size of the direct memory allocated by this arena
+   */
+  public synchronized long getReservedBytes() {
+    return reservedBytes;
+  }
+
+  /**
+   * @return Total size of the regions which are currently allocated from this arena
+   */
+  public synchronized long getUsedBytes() {
+    return usedBytes;
+  }
+
+  private void reserve(int sizeClass, ArrayDeque<ByteBuffer> free) {
+    int regionSize = 1 << (sizeClass + MINIMUM_REGION_SHIFT);
+
+    if (regionSize >= slabSize) {
+      free.offerLast(ByteBuffer.allocateDirect(regionSize));
+      reservedBytes += regionSize;
+      return;
+    }
+
+    ByteBuffer slab = ByteBuffer.allocateDirect(slabSize - slabSize % regionSize);
+    reservedBytes += slab.capacity();
+
+    for (int offset = 0; offset < slab.capacity(); offset += regionSize) {
+      slab.limit(offset + regionSize);
+      slab.position(offset);
+      free.offerLast(slab.slice());
+    }
+  }
+
+  private static int getSizeClass(int size) {
+    int shift = 32 - Integer.numberOfLeadingZeros(Math.max(size, 1 << MINIMUM_REGION_SHIFT) - 1);
+    return shift - MINIMUM_REGION_SHIFT;
+  }
+}
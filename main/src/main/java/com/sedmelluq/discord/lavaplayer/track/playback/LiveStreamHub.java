@@ -0,0 +1,167 @@
+package com.sedmelluq.discord.lavaplayer.track.playback;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration;
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerOptions;
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.ShareableLiveStreamSource;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+
+/**
+ * Shares the playback of live streams between players. When several players play the same live stream, only one of
+ * them fetches and decodes it, and all of them receive its encoded frames from a shared ring buffer. A player which
+ * starts playing a stream that is already being played by others starts from the newest frame.
+ *
+ * Since the frames are encoded only once, they are shared as they are without any volume or filters applied. Only
+ * players with the default volume and no filter factory at the time the track starts subscribe to a shared stream,
+ * changing the volume or filters afterwards does not affect the shared frames. Disabled by default.
+ */
+public class LiveStreamHub {
+  private final ExecutorService executorService;
+  private final ConcurrentMap<StreamKey, LiveStreamInstance> instances;
+  private volatile boolean enabled;
+  private volatile Predicate<AudioTrack> trackFilter;
+
+  /**
+   * @param executorService Executor to run the upstream playbacks on
+   */
+  public LiveStreamHub(ExecutorService executorService) {
+    this.executorService = executorService;
+    this.instances = new ConcurrentHashMap<>();
+    this.trackFilter = LiveStreamHub::isSupportedLiveStream;
+  }
+
+  /**
+   * @param enabled True to share the playback of live streams between players
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return True if the playback of live streams is shared between players
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param trackFilter Filter for the tracks which may be shared. By default live streams of sources which implement
+   *                    {@link ShareableLiveStreamSource} are, such as YouTube and Twitch.
+   */
+  public void setTrackFilter(Predicate<AudioTrack> trackFilter) {
+    this.trackFilter = trackFilter;
+  }
+
+  /**
+   * @return Number of live streams which are currently shared
+   */
+  public int getStreamCount() {
+    return instances.size();
+  }
+
+  /**
+   * @return Number of players which are currently playing a shared live stream
+   */
+  public int getSubscriberCount() {
+    int count = 0;
+
+    for (LiveStreamInstance instance : instances.values()) {
+      count += instance.getSubscriberCount();
+    }
+
+    return count;
+  }
+
+  /**
+   * @param track The audio track to execute
+   * @param configuration The audio configuration to use for executing
+   * @param playerOptions Options of the audio player
+   * @param bufferDuration The size of the frame buffer in milliseconds
+   * @return An executor which plays the track from a shared stream, null if the track cannot be shared
+   */
+  public AudioTrackExecutor subscribe(InternalAudioTrack track, AudioConfiguration configuration,
+                                      AudioPlayerOptions playerOptions, int bufferDuration) {
+
+    if (!enabled || !trackFilter.test(track) || playerOptions.volumeLevel.get() != 100 ||
+        playerOptions.filterFactory.get() != null) {
+      return null;
+    }
+
+    StreamKey key = new StreamKey(track, configuration.getOutputFormat());
+
+    while (true) {
+      LiveStreamInstance instance = instances.computeIfAbsent(key, ignored ->
+          createInstance(key, track, configuration, bufferDuration));
+
+      LiveStreamInstance.Cursor cursor = instance.createCursor(executorService);
+
+      if (cursor != null) {
+        return new LiveStreamSubscriberExecutor(track, configuration, playerOptions, bufferDuration, cursor);
+      }
+
+      // The stream ended before this player joined, a new one is started for it.
+      instances.remove(key, instance);
+    }
+  }
+
+  /**
+   * Stops all shared streams.
+   */
+  public void shutdown() {
+    for (LiveStreamInstance instance : new ArrayList<>(instances.values())) {
+      instance.destroy();
+    }
+  }
+
+  private LiveStreamInstance createInstance(StreamKey key, InternalAudioTrack track, AudioConfiguration configuration,
+                                            int bufferDuration) {
+
+    InternalAudioTrack upstreamTrack = (InternalAudioTrack) track.makeClone();
+    LocalAudioTrackExecutor upstream = new LocalAudioTrackExecutor(upstreamTrack, configuration,
+        new AudioPlayerOptions(), false, bufferDuration);
+
+    int maximumFrameCount = bufferDuration / (int) configuration.getOutputFormat().frameDuration() + 1;
+    return new LiveStreamInstance(upstreamTrack, upstream, maximumFrameCount, instance -> instances.remove(key, instance));
+  }
+
+  private static boolean isSupportedLiveStream(AudioTrack track) {
+    return track.getInfo().isStream && track.getSourceManager() instanceof ShareableLiveStreamSource;
+  }
+
+  private static class StreamKey {
+    private final String sourceName;
+    private final String identifier;
+    private final AudioDataFormat format;
+
+    private StreamKey(AudioTrack track, AudioDataFormat format) {
+      AudioSourceManager sourceManager = track.getSourceManager();
+      this.sourceName = sourceManager != null ? sourceManager.getSourceName() : null;
+      this.identifier = track.getIdentifier();
+      this.format = format;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+
+      StreamKey that = (StreamKey) o;
+      return Objects.equals(sourceName, that.sourceName) && Objects.equals(identifier, that.identifier) &&
+          Objects.equals(format, that.format);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sourceName, identifier, format);
+    }
+  }
+}
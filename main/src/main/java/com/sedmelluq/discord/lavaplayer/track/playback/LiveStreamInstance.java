@@ -0,0 +1,248 @@
+package com.sedmelluq.discord.lavaplayer.track.playback;
+
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.TrackStateListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * One upstream playback of a live stream shared by all of its subscribers. The frames of the upstream executor are kept
+ * in a ring buffer which every subscriber reads from with its own cursor. A cursor starts at the newest frame and is
+ * moved to the newest frame again if the ring has overwritten the frames it had not read yet.
+ */
+class LiveStreamInstance implements TrackStateListener {
+  private static final Logger log = LoggerFactory.getLogger(LiveStreamInstance.class);
+
+  private static final long PUMP_TIMEOUT = 1000;
+
+  private final InternalAudioTrack track;
+  private final LocalAudioTrackExecutor upstream;
+  private final Consumer<LiveStreamInstance> destroyListener;
+  private final AudioFrame[] ringBuffer;
+  private final Set<Cursor> cursors;
+  private boolean started;
+  private boolean ended;
+  private boolean destroyed;
+  private FriendlyException exception;
+  private long absoluteOffset;
+  private int frameCount;
+
+  /**
+   * @param track Track to play for the subscribers, not played by anything else
+   * @param upstream Executor of the track
+   * @param maximumFrameCount Number of frames to keep in the ring buffer
+   * @param destroyListener Called once the instance has been destroyed
+   */
+  LiveStreamInstance(InternalAudioTrack track, LocalAudioTrackExecutor upstream, int maximumFrameCount,
+                     Consumer<LiveStreamInstance> destroyListener) {
+
+    this.track = track;
+    this.upstream = upstream;
+    this.destroyListener = destroyListener;
+    this.ringBuffer = new AudioFrame[maximumFrameCount];
+    this.cursors = new HashSet<>();
+  }
+
+  /**
+   * @return The track played by the upstream executor
+   */
+  AudioTrack getTrack() {
+    return track;
+  }
+
+  /**
+   * @return Number of subscribers currently reading from this instance
+   */
+  synchronized int getSubscriberCount() {
+    return cursors.size();
+  }
+
+  /**
+   * @param executorService Executor to run the upstream playback on when this is the first subscriber
+   * @return A cursor at the newest frame, null if the instance has already been destroyed or has ended
+   */
+  synchronized Cursor createCursor(ExecutorService executorService) {
+    if (destroyed || ended) {
+      return null;
+    }
+
+    if (!started) {
+      started = true;
+      log.debug("Starting shared live stream playback for {}.", track.getIdentifier());
+
+      track.assignExecutor(upstream, true);
+      executorService.execute(() -> upstream.execute(this));
+      executorService.execute(this::pumpFrames);
+    }
+
+    Cursor cursor = new Cursor(getFreshOffset());
+    cursors.add(cursor);
+    return cursor;
+  }
+
+  /**
+   * Stops the upstream playback and ends the streams of all subscribers.
+   */
+  void destroy() {
+    boolean marked;
+
+    synchronized (this) {
+      marked = markDestroyed();
+    }
+
+    if (marked) {
+      stopUpstream();
+    }
+  }
+
+  private boolean markDestroyed() {
+    if (destroyed) {
+      return false;
+    }
+
+    destroyed = true;
+    ended = true;
+    cursors.clear();
+    notifyAll();
+    return true;
+  }
+
+  private void stopUpstream() {
+    log.debug("Stopping shared live stream playback for {}.", track.getIdentifier());
+    upstream.stop();
+    destroyListener.accept(this);
+  }
+
+  @Override
+  public void onTrackException(AudioTrack track, FriendlyException exception) {
+    synchronized (this) {
+      this.exception = exception;
+      ended = true;
+      notifyAll();
+    }
+  }
+
+  @Override
+  public void onTrackStuck(AudioTrack track, long thresholdMs) {
+    // Subscribers detect a stuck stream by themselves, as their own buffers run out of frames.
+  }
+
+  private void pumpFrames() {
+    try {
+      while (!isEnded()) {
+        try {
+          AudioFrame frame = upstream.provide(PUMP_TIMEOUT, TimeUnit.MILLISECONDS);
+
+          if (frame == null || frame.isTerminator()) {
+            break;
+          }
+
+          appendFrame(frame);
+        } catch (TimeoutException e) {
+          // Checks again whether the stream has ended.
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      synchronized (this) {
+        ended = true;
+        notifyAll();
+      }
+    }
+  }
+
+  private synchronized boolean isEnded() {
+    return ended;
+  }
+
+  private synchronized void appendFrame(AudioFrame frame) {
+    if (frameCount < ringBuffer.length) {
+      frameCount++;
+    } else {
+      absoluteOffset++;
+    }
+
+    ringBuffer[getRelativeOffset(absoluteOffset + frameCount - 1)] = frame;
+    notifyAll();
+  }
+
+  private synchronized AudioFrame readFrame(Cursor cursor) throws InterruptedException {
+    while (true) {
+      if (cursor.absoluteOffset < absoluteOffset) {
+        log.debug("Subscriber of shared live stream {} fell behind, skipping to the newest frame.",
+            track.getIdentifier());
+
+        cursor.absoluteOffset = getFreshOffset();
+      }
+
+      if (cursor.absoluteOffset < absoluteOffset + frameCount) {
+        return ringBuffer[getRelativeOffset(cursor.absoluteOffset++)];
+      } else if (ended) {
+        if (exception != null) {
+          throw exception;
+        }
+
+        return null;
+      }
+
+      wait();
+    }
+  }
+
+  private void releaseCursor(Cursor cursor) {
+    boolean last;
+
+    synchronized (this) {
+      // Marked in the same lock as the removal, so no cursor can be created on an instance which is about to stop.
+      last = cursors.remove(cursor) && cursors.isEmpty() && markDestroyed();
+    }
+
+    if (last) {
+      stopUpstream();
+    }
+  }
+
+  private long getFreshOffset() {
+    return absoluteOffset + Math.max(0, frameCount - 1);
+  }
+
+  private int getRelativeOffset(long offset) {
+    return (int) (offset % ringBuffer.length);
+  }
+
+  /**
+   * Read position of one subscriber.
+   */
+  class Cursor {
+    private long absoluteOffset;
+
+    private Cursor(long absoluteOffset) {
+      this.absoluteOffset = absoluteOffset;
+    }
+
+    /**
+     * @return The next frame, waiting for it if necessary. Null if the stream has ended.
+     * @throws InterruptedException When interrupted while waiting
+     */
+    AudioFrame provide() throws InterruptedException {
+      return readFrame(this);
+    }
+
+    /**
+     * Stops reading from the instance. The upstream playback is stopped when the last cursor is closed.
+     */
+    void close() {
+      releaseCursor(this);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.sedmelluq.discord.lavaplayer.track.playback;
+
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration;
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerOptions;
+import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+
+/**
+ * Executor which plays a live stream by reading the frames of a shared {@link LiveStreamInstance} instead of processing
+ * the track itself.
+ */
+class LiveStreamSubscriberExecutor extends LocalAudioTrackExecutor {
+  private final LiveStreamInstance.Cursor cursor;
+
+  /**
+   * @param audioTrack The audio track that this executor executes
+   * @param configuration Configuration to use for audio processing
+   * @param playerOptions Mutable player options (for example volume).
+   * @param bufferDuration The size of the frame buffer in milliseconds
+   * @param cursor Cursor to read the frames of the shared stream from
+   */
+  LiveStreamSubscriberExecutor(InternalAudioTrack audioTrack, AudioConfiguration configuration,
+                               AudioPlayerOptions playerOptions, int bufferDuration, LiveStreamInstance.Cursor cursor) {
+
+    super(audioTrack, configuration, playerOptions, false, bufferDuration);
+    this.cursor = cursor;
+  }
+
+  @Override
+  protected void processTrack() {
+    try {
+      executeProcessingLoop(() -> {
+        AudioFrameConsumer consumer = getProcessingContext().frameBuffer;
+        AudioFrame frame;
+
+        while ((frame = cursor.provide()) != null) {
+          consumer.consume(frame);
+        }
+      }, null);
+    } finally {
+      cursor.close();
+    }
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    cursor.close();
+  }
+}
@@ -42,6 +42,7 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
   private long externalSeekPosition = -1;
   private boolean interruptibleForSeek = false;
   private volatile Throwable trackException;
+  private volatile boolean decodingFinished;
 
   /**
    * @param audioTrack The audio track that this executor executes
@@ -105,7 +106,7 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
       state.set(AudioTrackState.LOADING);
 
       try {
-        audioTrack.process(this);
+        processTrack();
 
         log.debug("Playing track {} finished or was stopped.", audioTrack.getIdentifier());
       } catch (Throwable e) {
@@ -133,6 +134,10 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
 
           markerTracker.trigger(ENDED);
           state.set(AudioTrackState.FINISHED);
+
+          if (disposedOf.get()) {
+            frameBuffer.dispose();
+          }
         }
 
         if (interrupt != null) {
@@ -155,10 +160,20 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
         thread.interrupt();
       } else {
         log.debug("Tried to stop track {} which is not playing.", audioTrack.getIdentifier());
+        frameBuffer.dispose();
       }
     }
   }
 
+  /**
+   * Produces the frames of the track into the frame buffer, called on the playing thread.
+   *
+   * @throws Exception When processing the track fails
+   */
+  protected void processTrack() throws Exception {
+    audioTrack.process(this);
+  }
+
   /**
    * Wait until all the frames from the frame buffer have been consumed. Keeps the buffering thread alive to keep it
    * interruptible for seeking until buffer is empty.
@@ -166,10 +181,25 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
    * @throws InterruptedException When interrupted externally (or for seek/stop).
    */
   public void waitOnEnd() throws InterruptedException {
+    decodingFinished = true;
+
+    TrackTransition transition = processingContext.playerOptions.transition.get();
+
+    if (transition != null && transition.isOutgoing(processingContext)) {
+      transition.endOutgoing();
+    }
+
     frameBuffer.setTerminateOnEmpty();
     frameBuffer.waitForTermination();
   }
 
+  /**
+   * @return True if all the audio of the track has been decoded and the rest of it is in the frame buffer
+   */
+  public boolean isDecodingFinished() {
+    return decodingFinished;
+  }
+
   @Override
   public long getPosition() {
     long seek = queuedSeek.get();
@@ -402,6 +432,13 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
     }
 
     queuedSeek.set(-1);
+
+    TrackTransition transition = processingContext.playerOptions.transition.get();
+
+    if (transition != null && transition.isOutgoing(processingContext)) {
+      transition.seekOutgoing();
+    }
+
     markerTracker.checkSeekTimecode(seekPosition);
   }
 
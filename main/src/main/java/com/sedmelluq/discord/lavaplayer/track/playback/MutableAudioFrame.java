@@ -41,6 +41,19 @@ public class MutableAudioFrame extends AbstractMutableAudioFrame {
     frameLength = length;
   }
 
+  /**
+   * This should be called only by the provider of a frame. Copies buffer to buffer, so data from a direct buffer is
+   * stored into a direct buffer without passing through the heap.
+   *
+   * @param source Buffer to copy the remaining data from into the internal buffer of this instance.
+   */
+  public void store(ByteBuffer source) {
+    frameBuffer.position(framePosition);
+    frameBuffer.limit(frameBuffer.capacity());
+    frameLength = source.remaining();
+    frameBuffer.put(source);
+  }
+
   public void setFlags(String... flags) {
     this.flags = flags;
   }
@@ -71,6 +84,22 @@ public class MutableAudioFrame extends AbstractMutableAudioFrame {
     frameBuffer.position(previous);
   }
 
+  /**
+   * @param target Buffer to copy the frame data to, starting from its current position.
+   */
+  public void getData(ByteBuffer target) {
+    int previousPosition = frameBuffer.position();
+    int previousLimit = frameBuffer.limit();
+
+    frameBuffer.limit(frameBuffer.capacity());
+    frameBuffer.position(framePosition);
+    frameBuffer.limit(framePosition + frameLength);
+    target.put(frameBuffer);
+
+    frameBuffer.limit(previousLimit);
+    frameBuffer.position(previousPosition);
+  }
+
   @Override
   public String[] getFlags() {
     return flags;
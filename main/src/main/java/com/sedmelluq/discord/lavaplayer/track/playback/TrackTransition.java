@@ -0,0 +1,263 @@
+package com.sedmelluq.discord.lavaplayer.track.playback;
+
+import com.sedmelluq.discord.lavaplayer.filter.AudioPostProcessor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Crossfade from one track of a player to the next one. During the overlap, the incoming track does not encode its
+ * audio, but queues its PCM chunks here. The outgoing track mixes the queued chunks into its own chunks before encoding
+ * them, so the overlapping audio is encoded once and buffered only in the frame buffer of the outgoing track. Chunks
+ * which the outgoing track did not get to mix before it ended are encoded by the incoming track itself.
+ *
+ * The queue only has to cover how far the decoding of the incoming track may run ahead of the mixing, not the whole
+ * overlap, as the incoming track waits while it is full. Its chunks are allocated by the incoming track when it first
+ * needs them.
+ */
+public class TrackTransition {
+  private static final long LOOK_AHEAD = 500;
+
+  private final AudioProcessingContext outgoing;
+  private final long mixStart;
+  private final long mixDuration;
+  private final long chunkDuration;
+  private final int channelCount;
+  private final int chunkSampleCount;
+  private final ShortBuffer[] chunks;
+  private final long[] timecodes;
+  private final ReentrantLock lock;
+  private final Condition notFull;
+  private volatile AudioProcessingContext incoming;
+  private int head;
+  private int count;
+  private boolean outgoingEnded;
+  private boolean cancelled;
+  private volatile boolean outgoingSeeked;
+
+  /**
+   * @param outgoing Processing context of the outgoing track
+   * @param outgoingDuration Duration of the outgoing track in milliseconds
+   * @param mixDuration Length of the overlap in milliseconds
+   */
+  public TrackTransition(AudioProcessingContext outgoing, long outgoingDuration, long mixDuration) {
+    this.outgoing = outgoing;
+    this.mixStart = Math.max(0, outgoingDuration - mixDuration);
+    this.mixDuration = Math.max(1, mixDuration);
+    this.chunkDuration = outgoing.outputFormat.frameDuration();
+    this.channelCount = outgoing.outputFormat.channelCount;
+    this.chunkSampleCount = outgoing.outputFormat.totalSampleCount();
+    this.chunks = new ShortBuffer[(int) (Math.min(this.mixDuration, LOOK_AHEAD) / chunkDuration) + 1];
+    this.timecodes = new long[chunks.length];
+    this.lock = new ReentrantLock();
+    this.notFull = lock.newCondition();
+  }
+
+  /**
+   * @param incoming Processing context of the incoming track, must be set before the incoming track is started
+   */
+  public void setIncoming(AudioProcessingContext incoming) {
+    this.incoming = incoming;
+  }
+
+  /**
+   * @param context Processing context of a track
+   * @return True if the context belongs to either of the tracks of this transition
+   */
+  public boolean involves(AudioProcessingContext context) {
+    return context == outgoing || context == incoming;
+  }
+
+  /**
+   * @param context Processing context of a track
+   * @return True if the context belongs to the outgoing track
+   */
+  public boolean isOutgoing(AudioProcessingContext context) {
+    return context == outgoing;
+  }
+
+  /**
+   * @param context Processing context of a track
+   * @return True if the context belongs to the incoming track
+   */
+  public boolean isIncoming(AudioProcessingContext context) {
+    return context == incoming;
+  }
+
+  /**
+   * Queues a chunk of the incoming track to be mixed into the outgoing track. Blocks while the queue is full.
+   *
+   * @param timecode Timecode of the chunk
+   * @param buffer Chunk in the output format
+   * @return False if the outgoing track has ended and the chunk must be encoded by the incoming track itself, in which
+   *         case {@link #drainIncoming(AudioPostProcessor)} must be called first.
+   * @throws InterruptedException When interrupted externally (or for seek/stop).
+   */
+  public boolean offerIncoming(long timecode, ShortBuffer buffer) throws InterruptedException {
+    lock.lock();
+
+    try {
+      while (count == chunks.length && !outgoingEnded) {
+        notFull.await();
+      }
+
+      if (outgoingEnded) {
+        return false;
+      }
+
+      int index = (head + count) % chunks.length;
+      ShortBuffer chunk = chunks[index];
+
+      if (chunk == null) {
+        chunk = ByteBuffer.allocateDirect(chunkSampleCount * 2).order(ByteOrder.nativeOrder()).asShortBuffer();
+        chunks[index] = chunk;
+      }
+
+      chunk.clear();
+      chunk.put(buffer.duplicate());
+      chunk.flip();
+
+      timecodes[index] = timecode;
+      count++;
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Mixes the next queued chunk of the incoming track into a chunk of the outgoing track, if the chunk is within the
+   * overlap. The outgoing track fades out and the incoming track fades in linearly over the overlap. If the incoming
+   * track has no chunk ready, the outgoing track still fades out and the incoming chunk is mixed into a later chunk.
+   *
+   * @param timecode Timecode of the chunk of the outgoing track
+   * @param buffer Chunk of the outgoing track, mixed in place
+   */
+  public void mixOutgoing(long timecode, ShortBuffer buffer) {
+    if (timecode < mixStart) {
+      return;
+    }
+
+    lock.lock();
+
+    try {
+      if (outgoingEnded || cancelled) {
+        return;
+      }
+
+      ShortBuffer chunk = count > 0 ? chunks[head] : null;
+      float startProgress = Math.min(1.0f, (float) (timecode - mixStart) / mixDuration);
+      float endProgress = Math.min(1.0f, (float) (timecode + chunkDuration - mixStart) / mixDuration);
+      int length = buffer.limit();
+      float step = (endProgress - startProgress) * channelCount / Math.max(1, length);
+
+      for (int i = 0; i < length; i++) {
+        float progress = startProgress + (i / channelCount) * step;
+        float mixed = buffer.get(i) * (1.0f - progress);
+
+        if (chunk != null && i < chunk.limit()) {
+          mixed += chunk.get(i) * progress;
+        }
+
+        buffer.put(i, (short) Math.max(-32768, Math.min(32767, (int) mixed)));
+      }
+
+      if (chunk != null) {
+        head = (head + 1) % chunks.length;
+        count--;
+        notFull.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Marks the end of the outgoing track. Chunks which are still queued and the ones offered after this are encoded by
+   * the incoming track.
+   */
+  public void endOutgoing() {
+    lock.lock();
+
+    try {
+      outgoingEnded = true;
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops mixing the incoming track into the outgoing track. Used when the incoming track is stopped.
+   */
+  public void cancel() {
+    lock.lock();
+
+    try {
+      cancelled = true;
+      outgoingEnded = true;
+      count = 0;
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops mixing because the outgoing track performed a seek. The audio which has already been mixed was discarded from
+   * the frame buffer of the outgoing track, so the transition has to be set up again by the player.
+   */
+  public void seekOutgoing() {
+    outgoingSeeked = true;
+    cancel();
+  }
+
+  /**
+   * @return True if the outgoing track performed a seek during this transition
+   */
+  public boolean isOutgoingSeeked() {
+    return outgoingSeeked;
+  }
+
+  /**
+   * Passes the chunks the outgoing track did not mix to the specified post processor, in order.
+   *
+   * @param target Post processor which encodes the chunks for the incoming track
+   * @throws InterruptedException When interrupted externally (or for seek/stop).
+   */
+  public void drainIncoming(AudioPostProcessor target) throws InterruptedException {
+    while (true) {
+      ShortBuffer chunk;
+      long timecode;
+
+      lock.lock();
+
+      try {
+        if (count == 0) {
+          return;
+        }
+
+        chunk = chunks[head];
+        timecode = timecodes[head];
+      } finally {
+        lock.unlock();
+      }
+
+      target.process(timecode, chunk);
+
+      lock.lock();
+
+      try {
+        if (count > 0) {
+          head = (head + 1) % chunks.length;
+          count--;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,340 @@
+package com.sedmelluq.discord.lavaplayer.container.flac.frame
+
+import com.sedmelluq.discord.lavaplayer.container.flac.FlacStreamInfo
+import com.sedmelluq.discord.lavaplayer.tools.io.BitStreamReader
+import com.sedmelluq.discord.lavaplayer.tools.io.BitStreamWriter
+import com.sedmelluq.discord.lavaplayer.tools.io.BufferedBitStreamReader
+import spock.lang.Shared
+import spock.lang.Specification
+
+class FlacFrameReaderSpec extends Specification {
+  private static final int BLOCK_SIZE = 4096
+  private static final int FRAME_COUNT = 24
+
+  @Shared FlacStreamInfo streamInfo = createStreamInfo()
+  @Shared TestStream testStream = new TestStream(FRAME_COUNT, new Random(7))
+
+  def "decodes frames through the deprecated input stream overload"() {
+    when:
+    def stream = new ByteArrayInputStream(testStream.data)
+    def reader = new BitStreamReader(stream)
+    def output = decode { raw, samples -> FlacFrameReader.readFlacFrame(stream, reader, streamInfo, raw, samples, new int[32]) }
+
+    then:
+    output == testStream.samples
+  }
+
+  def "buffered reader decodes the same samples as the byte reader"() {
+    given:
+    def byteReader = new BitStreamReader(new ByteArrayInputStream(testStream.data))
+    def bufferedReader = new BufferedBitStreamReader(new ByteArrayInputStream(testStream.data), bufferSize)
+
+    when:
+    def byteOutput = decode { raw, samples -> FlacFrameReader.readFlacFrame(byteReader, streamInfo, raw, samples, new int[32]) }
+    def bufferedOutput = decode { raw, samples -> FlacFrameReader.readFlacFrame(bufferedReader, streamInfo, raw, samples, new int[32]) }
+
+    then:
+    bufferedOutput == byteOutput
+    bufferedOutput == testStream.samples
+
+    where:
+    bufferSize << [8192, 100, 13]
+  }
+
+  private static short[][] decode(Closure<Integer> readFrame) {
+    def result = [new short[BLOCK_SIZE * FRAME_COUNT], new short[BLOCK_SIZE * FRAME_COUNT]] as short[][]
+    def raw = [new int[BLOCK_SIZE], new int[BLOCK_SIZE]] as int[][]
+    def samples = [new short[BLOCK_SIZE], new short[BLOCK_SIZE]] as short[][]
+    int position = 0
+    int count
+
+    while ((count = readFrame(raw, samples)) != 0) {
+      for (int channel = 0; channel < 2; channel++) {
+        System.arraycopy(samples[channel], 0, result[channel], position, count)
+      }
+
+      position += count
+    }
+
+    assert position == BLOCK_SIZE * FRAME_COUNT
+    return result
+  }
+
+  private static FlacStreamInfo createStreamInfo() {
+    def output = new ByteArrayOutputStream()
+    def writer = new BitStreamWriter(output)
+
+    writer.write(BLOCK_SIZE, 16)
+    writer.write(BLOCK_SIZE, 16)
+    writer.write(0, 24)
+    writer.write(0, 24)
+    writer.write(44100, 20)
+    writer.write(1, 3)
+    writer.write(15, 5)
+    writer.write(0, 36)
+    writer.write(0, 64)
+    writer.write(0, 64)
+    writer.flush()
+
+    return new FlacStreamInfo(output.toByteArray(), false)
+  }
+
+  /**
+   * Encodes a 16-bit stereo stream of fixed size frames, cycling through the channel assignments and subframe types
+   * (constant, verbatim, fixed predictors and LPC of various orders, Rice partitions with and without escapes).
+   */
+  private static class TestStream {
+    private static final int[] CHANNEL_ASSIGNMENTS = [1, 8, 9, 10]
+    private static final int[] LPC_ORDERS = [1, 2, 5, 8, 12, 16, 32]
+
+    final short[][] samples
+    final byte[] data
+
+    private final Random random
+    private final BitStreamWriter writer
+    private int subFrameIndex
+
+    TestStream(int frameCount, Random random) {
+      this.random = random
+      this.samples = [new short[BLOCK_SIZE * frameCount], new short[BLOCK_SIZE * frameCount]] as short[][]
+
+      double phase = 0
+
+      for (int i = 0; i < BLOCK_SIZE * frameCount; i++) {
+        phase += 0.03 + 0.01 * Math.sin(i / 5000.0d)
+        samples[0][i] = (short) (12000 * Math.sin(phase) + random.nextGaussian() * 300)
+        samples[1][i] = (short) (11000 * Math.sin(phase * 1.01d) + random.nextGaussian() * 300)
+      }
+
+      def output = new ByteArrayOutputStream()
+      writer = new BitStreamWriter(output)
+
+      for (int frame = 0; frame < frameCount; frame++) {
+        writeFrame(frame)
+      }
+
+      writer.flush()
+      data = output.toByteArray()
+    }
+
+    private void writeFrame(int frame) {
+      int offset = frame * BLOCK_SIZE
+      int[] left = new int[BLOCK_SIZE]
+      int[] right = new int[BLOCK_SIZE]
+
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        left[i] = samples[0][offset + i]
+        right[i] = samples[1][offset + i]
+      }
+
+      int assignment = CHANNEL_ASSIGNMENTS[frame % CHANNEL_ASSIGNMENTS.length]
+      int[] first = new int[BLOCK_SIZE]
+      int[] second = new int[BLOCK_SIZE]
+
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        switch (assignment) {
+          case 1:
+            first[i] = left[i]
+            second[i] = right[i]
+            break
+          case 8:
+            first[i] = left[i]
+            second[i] = left[i] - right[i]
+            break
+          case 9:
+            first[i] = left[i] - right[i]
+            second[i] = right[i]
+            break
+          default:
+            first[i] = (left[i] + right[i]) >> 1
+            second[i] = left[i] - right[i]
+        }
+      }
+
+      // Sync, block size 4096, 44.1kHz, channel assignment, 16 bits, frame number, CRC-8 (not verified by the reader)
+      writer.write(0xFFF8, 16)
+      writer.write(0xC, 4)
+      writer.write(0x9, 4)
+      writer.write(assignment, 4)
+      writer.write(4, 3)
+      writer.write(0, 1)
+      writer.write(frame & 0x7F, 8)
+      writer.write(0, 8)
+
+      boolean firstChanged = writeSubFrame(first, assignment == 9 ? 17 : 16, assignment == 9)
+      boolean secondChanged = writeSubFrame(second, assignment == 8 || assignment == 10 ? 17 : 16, false)
+
+      if (firstChanged || secondChanged) {
+        // A constant subframe replaced the channel, so the expected output has to follow it
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+          int mid = (first[i] << 1) | (second[i] & 1)
+
+          switch (assignment) {
+            case 1:
+              left[i] = first[i]
+              right[i] = second[i]
+              break
+            case 8:
+              left[i] = first[i]
+              right[i] = first[i] - second[i]
+              break
+            case 9:
+              left[i] = first[i] + second[i]
+              right[i] = second[i]
+              break
+            default:
+              left[i] = (mid + second[i]) >> 1
+              right[i] = (mid - second[i]) >> 1
+          }
+
+          samples[0][offset + i] = (short) left[i]
+          samples[1][offset + i] = (short) right[i]
+        }
+      }
+
+      writer.flush()
+      writer.write(0, 16)
+    }
+
+    private boolean writeSubFrame(int[] values, int bitsPerSample, boolean allowConstant) {
+      int type = subFrameIndex++ % 12
+      writer.write(0, 1)
+
+      if (type == 0 && allowConstant) {
+        Arrays.fill(values, values[0])
+        writer.write(0, 6)
+        writer.write(0, 1)
+        writeSample(values[0], bitsPerSample)
+        return true
+      } else if (type == 0) {
+        writer.write(1, 6)
+        writer.write(0, 1)
+        values.each { writeSample(it, bitsPerSample) }
+        return false
+      }
+
+      int[] residual = new int[BLOCK_SIZE]
+      int order
+
+      if (type <= 5) {
+        order = type - 1
+        writer.write(8 | order, 6)
+        writer.write(0, 1)
+
+        for (int i = 0; i < order; i++) {
+          writeSample(values[i], bitsPerSample)
+        }
+
+        for (int i = order; i < BLOCK_SIZE; i++) {
+          residual[i] = (int) (values[i] - fixedPrediction(values, i, order))
+        }
+      } else {
+        order = LPC_ORDERS[type - 6]
+        int precision = 15
+        int shift = 13
+        int[] coefficients = new int[order]
+
+        for (int j = 0; j < order; j++) {
+          coefficients[j] = (j == 0 ? 8192 : 0) + random.nextInt(401) - 200
+        }
+
+        writer.write(32 | (order - 1), 6)
+        writer.write(0, 1)
+
+        for (int i = 0; i < order; i++) {
+          writeSample(values[i], bitsPerSample)
+        }
+
+        writer.write(precision - 1, 4)
+        writer.write(shift, 5)
+        coefficients.each { writer.write(it & ((1 << precision) - 1), precision) }
+
+        for (int i = order; i < BLOCK_SIZE; i++) {
+          long sum = 0
+
+          for (int j = 0; j < order; j++) {
+            sum += (long) coefficients[j] * values[i - j - 1]
+          }
+
+          residual[i] = (int) (values[i] - (sum >> shift))
+        }
+      }
+
+      int partitionOrder = subFrameIndex % 5
+      writer.write(0, 2)
+      writer.write(partitionOrder, 4)
+
+      int partitionSize = BLOCK_SIZE >> partitionOrder
+
+      for (int partition = 0; partition < (1 << partitionOrder); partition++) {
+        writePartition(residual, partition == 0 ? order : partition * partitionSize, (partition + 1) * partitionSize)
+      }
+
+      return false
+    }
+
+    private static long fixedPrediction(int[] values, int i, int order) {
+      switch (order) {
+        case 0: return 0
+        case 1: return values[i - 1]
+        case 2: return 2L * values[i - 1] - values[i - 2]
+        case 3: return 3L * values[i - 1] - 3L * values[i - 2] + values[i - 3]
+        default: return 4L * values[i - 1] - 6L * values[i - 2] + 4L * values[i - 3] - values[i - 4]
+      }
+    }
+
+    private void writePartition(int[] residual, int from, int to) {
+      long sum = 0
+      int maximum = 0
+
+      for (int i = from; i < to; i++) {
+        sum += foldSign(residual[i])
+        maximum = Math.max(maximum, Math.abs(residual[i]))
+      }
+
+      if (random.nextInt(10) == 0) {
+        int bits = 32 - Integer.numberOfLeadingZeros(maximum) + 1
+        writer.write(15, 4)
+        writer.write(bits, 5)
+
+        for (int i = from; i < to; i++) {
+          writer.write(residual[i] & ((1L << bits) - 1), bits)
+        }
+
+        return
+      }
+
+      long average = sum.intdiv(Math.max(1, to - from))
+      int parameter = 0
+
+      while (parameter < 14 && (1L << (parameter + 1)) < average) {
+        parameter++
+      }
+
+      writer.write(parameter, 4)
+
+      for (int i = from; i < to; i++) {
+        long folded = foldSign(residual[i])
+        long quotient = folded >>> parameter
+
+        for (long zero = 0; zero < quotient; zero++) {
+          writer.write(0, 1)
+        }
+
+        writer.write(1, 1)
+
+        if (parameter > 0) {
+          writer.write(folded & ((1L << parameter) - 1), parameter)
+        }
+      }
+    }
+
+    private void writeSample(int value, int bits) {
+      writer.write(value & ((1L << bits) - 1), bits)
+    }
+
+    private static long foldSign(int value) {
+      return value >= 0 ? 2L * value : -2L * value - 1
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.sedmelluq.discord.lavaplayer.filter.resample
+
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration.ResamplingQuality
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PolyphaseAudioResamplerSpec extends Specification {
+
+  @Unroll
+  def "keeps the frequency and level of a sine from #sourceRate to #targetRate with #quality quality"() {
+    given:
+    def input = sine(1000, sourceRate, 0.5f, sourceRate)
+
+    when:
+    def output = resample(quality, sourceRate, targetRate, input)
+    def fit = fitSine(output, 1000, targetRate, 2000)
+
+    then:
+    Math.abs(output.length - targetRate) <= 64
+    Math.abs(fit.amplitude - 0.5) < 0.005
+    fit.residual < maximumResidual
+
+    where:
+    quality                   | sourceRate | targetRate | maximumResidual
+    ResamplingQuality.LOW     | 44100      | 48000      | 0.005
+    ResamplingQuality.HIGHEST | 44100      | 48000      | 0.001
+    ResamplingQuality.MEDIUM  | 22050      | 48000      | 0.002
+    ResamplingQuality.HIGH    | 96000      | 48000      | 0.001
+  }
+
+  @Unroll
+  def "impulse response sums to unity gain with #quality quality"() {
+    given:
+    def input = new float[4096]
+    input[100] = 1.0f
+
+    when:
+    def output = resample(quality, 44100, 48000, input)
+    float sum = 0
+    output.each { sum += it }
+
+    then:
+    // The impulse is spread over 48000 / 44100 output samples per input sample
+    Math.abs(sum * 44100 / 48000 - 1.0) < 0.01
+    output[0..<50].every { Math.abs(it) < 1e-6 }
+
+    where:
+    quality << ResamplingQuality.values()
+  }
+
+  def "removes frequencies above the target Nyquist frequency when downsampling"() {
+    given:
+    def input = sine(30000, 96000, 0.5f, 96000)
+
+    when:
+    def output = resample(ResamplingQuality.HIGH, 96000, 48000, input)
+    def peak = output[1000..<output.length - 1000].collect { Math.abs(it) }.max()
+
+    then:
+    peak < 0.005
+  }
+
+  def "reset makes the output independent of previous input"() {
+    given:
+    def resampler = new PolyphaseAudioResampler(PolyphaseFilterBank.get(ResamplingQuality.MEDIUM, 44100, 48000), 1)
+    def noise = new float[2000]
+    def random = new Random(1)
+    noise.length.times { noise[it] = random.nextFloat() - 0.5f }
+    def signal = sine(440, 44100, 0.3f, 2000)
+
+    when:
+    def first = process(resampler, signal)
+    process(resampler, noise)
+    resampler.reset()
+    def second = process(resampler, signal)
+
+    then:
+    first == second
+  }
+
+  def "shares filter banks between resamplers of the same ratio and quality"() {
+    expect:
+    PolyphaseFilterBank.get(ResamplingQuality.LOW, 44100, 48000).is(PolyphaseFilterBank.get(ResamplingQuality.LOW, 88200, 96000))
+    !PolyphaseFilterBank.get(ResamplingQuality.LOW, 44100, 48000).is(PolyphaseFilterBank.get(ResamplingQuality.HIGH, 44100, 48000))
+  }
+
+  def "factory only uses the polyphase resampler for supported ratios"() {
+    expect:
+    new PolyphaseAudioResamplerFactory().create(ResamplingQuality.LOW, 2, 44100, 48000) instanceof PolyphaseAudioResampler
+    !PolyphaseFilterBank.isSupported(ResamplingQuality.LOW, 44101, 48000)
+  }
+
+  private static float[] sine(double frequency, int sampleRate, float amplitude, int length) {
+    def samples = new float[length]
+
+    for (int i = 0; i < length; i++) {
+      samples[i] = (float) (amplitude * Math.sin(2 * Math.PI * frequency * i / sampleRate))
+    }
+
+    return samples
+  }
+
+  private static float[] resample(ResamplingQuality quality, int sourceRate, int targetRate, float[] input) {
+    return process(new PolyphaseAudioResampler(PolyphaseFilterBank.get(quality, sourceRate, targetRate), 1), input)
+  }
+
+  private static float[] process(AudioResampler resampler, float[] input) {
+    def output = new float[input.length * 4 + 16]
+    def chunk = new float[1][256]
+    def progress = new AudioResampler.Progress()
+    int inputOffset = 0
+    int outputLength = 0
+
+    // Small output chunks so that the resampler has to continue from where it stopped in both buffers
+    while (inputOffset < input.length) {
+      resampler.process([input] as float[][], inputOffset, input.length - inputOffset, chunk, chunk[0].length, progress)
+      System.arraycopy(chunk[0], 0, output, outputLength, progress.outputGenerated)
+      inputOffset += progress.inputUsed
+      outputLength += progress.outputGenerated
+    }
+
+    return Arrays.copyOf(output, outputLength)
+  }
+
+  /**
+   * Least squares fit of a sine of a known frequency to the samples after skipping the start, which contains the
+   * response of the filter to the signal starting abruptly.
+   */
+  private static Map fitSine(float[] samples, double frequency, int sampleRate, int skip) {
+    double sinSum = 0, cosSum = 0
+    int count = ((samples.length - skip * 2) / (sampleRate / frequency)) as int
+    int length = (count * sampleRate / frequency) as int
+
+    for (int i = skip; i < skip + length; i++) {
+      double angle = 2 * Math.PI * frequency * i / sampleRate
+      sinSum += samples[i] * Math.sin(angle)
+      cosSum += samples[i] * Math.cos(angle)
+    }
+
+    double a = sinSum * 2 / length
+    double b = cosSum * 2 / length
+    double errorSum = 0
+
+    for (int i = skip; i < skip + length; i++) {
+      double angle = 2 * Math.PI * frequency * i / sampleRate
+      double error = samples[i] - (a * Math.sin(angle) + b * Math.cos(angle))
+      errorSum += error * error
+    }
+
+    return [amplitude: Math.sqrt(a * a + b * b), residual: Math.sqrt(errorSum / length)]
+  }
+}
@@ -0,0 +1,109 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylistPageLoader
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.LazyAudioPlaylist
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@Timeout(10)
+class PlaylistPageDeliverySpec extends Specification {
+  def manager = new DefaultAudioPlayerManager()
+
+  def cleanup() {
+    manager.shutdown()
+  }
+
+  def "reports the further pages of a lazy playlist in order from the background"() {
+    given:
+    def pages = [[Mock(AudioTrack)], [Mock(AudioTrack), Mock(AudioTrack)], [Mock(AudioTrack)]]
+    def remaining = new ArrayList(pages.subList(1, 3))
+    def playlist = new LazyAudioPlaylist("test", pages[0], null, false,
+        { remaining.isEmpty() ? null : remaining.remove(0) } as AudioPlaylistPageLoader)
+    registerSource(playlist)
+
+    def reported = new CopyOnWriteArrayList<List<AudioTrack>>()
+    def done = new CountDownLatch(2)
+    def loaderThread = null
+    def pageThreads = new CopyOnWriteArrayList<Thread>()
+
+    when:
+    manager.loadItem("test", new TestHandler() {
+      @Override
+      void playlistLoaded(AudioPlaylist loaded) {
+        loaderThread = Thread.currentThread()
+      }
+
+      @Override
+      void playlistPageLoaded(AudioPlaylist loaded, List<AudioTrack> tracks) {
+        pageThreads.add(Thread.currentThread())
+        reported.add(tracks)
+        done.countDown()
+      }
+    }).get()
+
+    then:
+    done.await(5, TimeUnit.SECONDS)
+    reported == pages.subList(1, 3)
+    pageThreads.every { !it.is(loaderThread) }
+  }
+
+  def "reports a failed page without reporting the load as failed"() {
+    given:
+    def playlist = new LazyAudioPlaylist("test", [Mock(AudioTrack)], null, false,
+        { throw new IOException("page failed") } as AudioPlaylistPageLoader)
+    registerSource(playlist)
+
+    def failure = new CountDownLatch(1)
+    def loadFailed = false
+
+    when:
+    manager.loadItem("test", new TestHandler() {
+      @Override
+      void playlistPageFailed(AudioPlaylist loaded, FriendlyException exception) {
+        failure.countDown()
+      }
+
+      @Override
+      void loadFailed(FriendlyException exception) {
+        loadFailed = true
+      }
+    }).get()
+
+    then:
+    failure.await(5, TimeUnit.SECONDS)
+    !loadFailed
+    playlist.isFullyLoaded()
+  }
+
+  private void registerSource(LazyAudioPlaylist playlist) {
+    def source = Mock(AudioSourceManager)
+    source.loadItem(_, _) >> playlist
+    manager.registerSourceManager(source)
+  }
+
+  private static class TestHandler implements AudioLoadResultHandler {
+    @Override
+    void trackLoaded(AudioTrack track) {
+    }
+
+    @Override
+    void playlistLoaded(AudioPlaylist playlist) {
+    }
+
+    @Override
+    void noMatches() {
+    }
+
+    @Override
+    void loadFailed(FriendlyException exception) {
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.sedmelluq.discord.lavaplayer.tools
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.atomic.AtomicInteger
+
+class LruSearchResultCacheSpec extends Specification {
+  def "normalises queries"() {
+    expect:
+    LruSearchResultCache.normaliseQuery(query) == normalised
+
+    where:
+    query                 | normalised
+    "Daft Punk"           | "daft punk"
+    "  daft \t  PUNK \n"  | "daft punk"
+    "Beyoncé"             | "beyonce"
+    "Motörhead Ace"       | "motorhead ace"
+    "ＡＢＣ"                 | "abc"
+  }
+
+  def "equivalent queries share results within a namespace"() {
+    given:
+    def cache = new LruSearchResultCache(10, 60000)
+    def loader = new CountingLoader()
+
+    when:
+    def first = cache.load("yt", "Daft  Punk", loader).get()
+    def second = cache.load("yt", "daft punk", loader).get()
+    def otherNamespace = cache.load("sc", "daft punk", loader).get()
+
+    then:
+    first == second
+    otherNamespace != first
+    loader.count.get() == 2
+    cache.hitCount == 1
+    cache.missCount == 2
+  }
+
+  def "loads results again after the time to live"() {
+    given:
+    def cache = new LruSearchResultCache(10, 50)
+    def loader = new CountingLoader()
+
+    when:
+    def first = cache.load("yt", "query", loader).get()
+    def cached = cache.load("yt", "query", loader).get()
+    Thread.sleep(100)
+    def reloaded = cache.load("yt", "query", loader).get()
+
+    then:
+    cached == first
+    reloaded != first
+    loader.count.get() == 2
+  }
+
+  def "returns expired results while revalidating, up to the maximum staleness"() {
+    given:
+    def cache = new LruSearchResultCache(10, 50)
+    def loader = new CountingLoader()
+    def conditions = new PollingConditions(timeout: 5)
+    cache.staleWhileRevalidate = true
+    cache.maximumStaleness = 200
+
+    def first = cache.load("yt", "query", loader).get()
+    Thread.sleep(100)
+
+    when:
+    def stale = cache.load("yt", "query", loader).get()
+
+    then:
+    stale == first
+    cache.staleHitCount == 1
+    conditions.eventually {
+      assert loader.count.get() == 2
+      assert cache.load("yt", "query", loader).get() != first
+    }
+
+    when:
+    loader.failing = true
+    Thread.sleep(300)
+    cache.load("yt", "query", loader).get()
+
+    then:
+    def error = thrown(ExecutionException)
+    error.cause.message == "search failed"
+  }
+
+  def "concurrent misses for the same query share one load"() {
+    given:
+    def cache = new LruSearchResultCache(10, 60000)
+    def pending = new CompletableFuture<List<AudioTrackInfo>>()
+    def count = new AtomicInteger()
+    def loader = { count.incrementAndGet(); pending } as SearchResultCache.Loader
+
+    when:
+    def first = cache.load("yt", "Query", loader)
+    def second = cache.load("yt", " query ", loader)
+    first.cancel(false)
+    pending.complete([createInfo("a")])
+
+    then:
+    count.get() == 1
+    second.get()*.identifier == ["a"]
+    cache.load("yt", "query", loader).get()*.identifier == ["a"]
+    count.get() == 1
+  }
+
+  def "failed loads are not cached"() {
+    given:
+    def cache = new LruSearchResultCache(10, 60000)
+    def loader = new CountingLoader(failing: true)
+
+    when:
+    cache.load("yt", "query", loader).get()
+
+    then:
+    thrown(ExecutionException)
+
+    when:
+    loader.failing = false
+    def results = cache.load("yt", "query", loader).get()
+
+    then:
+    results.size() == 1
+    loader.count.get() == 2
+    cache.size == 1
+  }
+
+  def "evicts the least recently used searches"() {
+    given:
+    def cache = new LruSearchResultCache(2, 60000)
+    def loader = new CountingLoader()
+
+    when:
+    cache.load("yt", "a", loader).get()
+    cache.load("yt", "b", loader).get()
+    cache.load("yt", "a", loader).get()
+    cache.load("yt", "c", loader).get()
+    cache.load("yt", "a", loader).get()
+    cache.load("yt", "b", loader).get()
+
+    then:
+    cache.size == 2
+    loader.count.get() == 4
+  }
+
+  private static AudioTrackInfo createInfo(String identifier) {
+    return new AudioTrackInfo("title " + identifier, "author", 1000, identifier, false, "https://example.com/" + identifier)
+  }
+
+  private static class CountingLoader implements SearchResultCache.Loader {
+    final AtomicInteger count = new AtomicInteger()
+    volatile boolean failing
+
+    @Override
+    CompletableFuture<List<AudioTrackInfo>> load() throws Exception {
+      int index = count.incrementAndGet()
+
+      if (failing) {
+        throw new IllegalStateException("search failed")
+      }
+
+      return CompletableFuture.completedFuture([createInfo("result " + index)])
+    }
+  }
+}
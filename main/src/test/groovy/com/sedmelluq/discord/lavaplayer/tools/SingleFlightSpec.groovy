@@ -0,0 +1,139 @@
+package com.sedmelluq.discord.lavaplayer.tools
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class SingleFlightSpec extends Specification {
+  def singleFlight = new SingleFlight()
+  def executor = Executors.newCachedThreadPool()
+  def conditions = new PollingConditions(timeout: 5)
+
+  def cleanup() {
+    executor.shutdownNow()
+  }
+
+  def "concurrent calls with an equal key share one execution"() {
+    given:
+    def release = new CountDownLatch(1)
+    def executions = new AtomicInteger()
+
+    when:
+    def results = (0..<8).collect {
+      executor.submit({
+        singleFlight.execute(["video", true]) {
+          executions.incrementAndGet()
+          release.await()
+          return "result"
+        }
+      } as Callable<String>)
+    }
+
+    conditions.eventually {
+      assert singleFlight.requestCount == 8
+    }
+
+    release.countDown()
+
+    then:
+    results.collect { it.get(5, TimeUnit.SECONDS) } == ["result"] * 8
+    executions.get() == 1
+    singleFlight.executionCount == 1
+    singleFlight.coalescedCount == 7
+    singleFlight.coalescingRatio == 7 / 8
+  }
+
+  def "coalesced callers receive the exception of the execution"() {
+    given:
+    def release = new CountDownLatch(1)
+    def first = executor.submit {
+      singleFlight.execute("key") {
+        release.await()
+        throw new IOException("failed")
+      }
+    }
+
+    conditions.eventually {
+      assert singleFlight.requestCount == 1
+    }
+
+    def second = executor.submit { singleFlight.execute("key") { "not called" } }
+
+    conditions.eventually {
+      assert singleFlight.requestCount == 2
+    }
+
+    when:
+    release.countDown()
+    second.get(5, TimeUnit.SECONDS)
+
+    then:
+    def error = thrown(ExecutionException)
+    error.cause instanceof IOException
+    error.cause.message == "failed"
+
+    when:
+    first.get(5, TimeUnit.SECONDS)
+
+    then:
+    thrown(ExecutionException)
+    singleFlight.executionCount == 1
+  }
+
+  def "calls with different keys execute separately"() {
+    expect:
+    singleFlight.execute("a") { 1 } == 1
+    singleFlight.execute("b") { 2 } == 2
+    singleFlight.executionCount == 2
+    singleFlight.coalescedCount == 0
+  }
+
+  def "results are not kept after the call completes"() {
+    given:
+    def counter = new AtomicInteger()
+
+    expect:
+    singleFlight.execute("key") { counter.incrementAndGet() } == 1
+    singleFlight.execute("key") { counter.incrementAndGet() } == 2
+    singleFlight.executionCount == 2
+  }
+
+  def "asynchronous calls with an equal key share one execution"() {
+    given:
+    def pending = new CompletableFuture<String>()
+    def starts = new AtomicInteger()
+
+    when:
+    def first = singleFlight.executeAsync("key") { starts.incrementAndGet(); pending }
+    def second = singleFlight.executeAsync("key") { starts.incrementAndGet(); CompletableFuture.completedFuture("other") }
+    pending.complete("result")
+    def third = singleFlight.executeAsync("key") { starts.incrementAndGet(); CompletableFuture.completedFuture("new") }
+
+    then:
+    first.get() == "result"
+    second.get() == "result"
+    third.get() == "new"
+    starts.get() == 2
+    singleFlight.coalescedCount == 1
+  }
+
+  def "asynchronous call fails when the supplier throws"() {
+    when:
+    def future = singleFlight.executeAsync("key") { throw new IllegalStateException("broken") }
+    future.get()
+
+    then:
+    def error = thrown(ExecutionException)
+    error.cause instanceof IllegalStateException
+
+    and:
+    singleFlight.executeAsync("key") { CompletableFuture.completedFuture("next") }.get() == "next"
+  }
+}
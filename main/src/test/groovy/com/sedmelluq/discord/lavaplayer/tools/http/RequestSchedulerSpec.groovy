@@ -0,0 +1,167 @@
+package com.sedmelluq.discord.lavaplayer.tools.http
+
+import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools
+import org.apache.http.client.methods.HttpGet
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+
+import static com.sedmelluq.discord.lavaplayer.tools.http.RequestPriority.DEFAULT
+import static com.sedmelluq.discord.lavaplayer.tools.http.RequestPriority.PAGINATION
+import static com.sedmelluq.discord.lavaplayer.tools.http.RequestPriority.PLAYBACK
+import static com.sedmelluq.discord.lavaplayer.tools.http.RequestPriority.SEARCH
+
+class RequestSchedulerSpec extends Specification {
+  def scheduler = new RequestScheduler()
+
+  def "sends waiting requests in priority order"() {
+    given:
+    scheduler.setBudget("youtube", 20, 1)
+    def order = new CopyOnWriteArrayList<RequestPriority>()
+
+    when:
+    def first = scheduler.acquireAsync("youtube", "www.youtube.com", PAGINATION)
+    def waiting = [PAGINATION, DEFAULT, SEARCH, PLAYBACK].collect { priority ->
+      scheduler.acquireAsync("youtube", "www.youtube.com", priority).thenRun { order.add(priority) }
+    }
+    CompletableFuture.allOf(waiting as CompletableFuture[]).get(5, TimeUnit.SECONDS)
+
+    then:
+    first.isDone()
+    order == [PLAYBACK, SEARCH, DEFAULT, PAGINATION]
+    scheduler.delayedCount == 4
+  }
+
+  def "sends requests of the same priority in arrival order"() {
+    given:
+    scheduler.setBudget("youtube", 50, 1)
+    def order = new CopyOnWriteArrayList<Integer>()
+
+    when:
+    scheduler.acquireAsync("youtube", "www.youtube.com", SEARCH)
+    def waiting = (0..<5).collect { index ->
+      scheduler.acquireAsync("youtube", "www.youtube.com", SEARCH).thenRun { order.add(index) }
+    }
+    CompletableFuture.allOf(waiting as CompletableFuture[]).get(5, TimeUnit.SECONDS)
+
+    then:
+    order == [0, 1, 2, 3, 4]
+  }
+
+  def "allows a burst and then limits to the rate"() {
+    given:
+    scheduler.setBudget("youtube", 10, 3)
+
+    when:
+    def burst = (0..<3).collect { scheduler.acquireAsync("youtube", "www.youtube.com", DEFAULT) }
+    def startTime = System.nanoTime()
+    scheduler.acquire("youtube", "www.youtube.com", DEFAULT)
+    def waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+
+    then:
+    burst.every { it.isDone() }
+    waitedMillis >= 50
+    scheduler.delayedCount == 1
+    scheduler.maximumWaitNanos > 0
+  }
+
+  def "pauses a route after a rate limit"() {
+    given:
+    scheduler.setBudget("youtube", 100, 5)
+
+    when:
+    scheduler.acquire("youtube", "www.youtube.com", DEFAULT)
+    scheduler.onRateLimited("youtube", "www.youtube.com", 300)
+    def startTime = System.nanoTime()
+    def otherRoute = scheduler.acquireAsync("youtube", "music.youtube.com", DEFAULT)
+    scheduler.acquire("youtube", "www.youtube.com", PLAYBACK)
+    def waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+
+    then:
+    otherRoute.isDone()
+    waitedMillis >= 250
+    scheduler.rateLimitedCount == 1
+  }
+
+  def "does not limit sources without a budget or media hosts"() {
+    given:
+    scheduler.setBudget("youtube", 1, 1)
+
+    when:
+    def unlimitedSource = (0..<5).collect { scheduler.acquireAsync("soundcloud", "api-v2.soundcloud.com", DEFAULT) }
+    def mediaHosts = (0..<100).collect {
+      scheduler.acquireAsync("youtube", "rr" + it + "---sn-abc.googlevideo.com", DEFAULT)
+    }
+
+    then:
+    unlimitedSource.every { it.isDone() }
+    mediaHosts.every { it.isDone() }
+    scheduler.routeCount == 0
+    scheduler.requestCount == 105
+  }
+
+  def "cancelled requests give up their place"() {
+    given:
+    scheduler.setBudget("youtube", 20, 1)
+
+    when:
+    scheduler.acquireAsync("youtube", "www.youtube.com", DEFAULT)
+    def cancelled = scheduler.acquireAsync("youtube", "www.youtube.com", PLAYBACK)
+    def next = scheduler.acquireAsync("youtube", "www.youtube.com", PAGINATION)
+    cancelled.cancel(false)
+    next.get(5, TimeUnit.SECONDS)
+
+    then:
+    cancelled.isCancelled()
+    next.isDone()
+  }
+
+  def "classifies requests by path"() {
+    expect:
+    scheduler.classify(new HttpGet(url)) == priority
+
+    where:
+    url                                                               | priority
+    "https://www.youtube.com/youtubei/v1/player"                      | PLAYBACK
+    "https://rr1---sn-abc.googlevideo.com/videoplayback?itag=251"     | PLAYBACK
+    "https://www.youtube.com/youtubei/v1/search"                      | SEARCH
+    "https://www.youtube.com/youtubei/v1/browse"                      | PAGINATION
+    "https://api-v2.soundcloud.com/tracks?ids=1,2,3"                  | PAGINATION
+    "https://api-v2.soundcloud.com/resolve?url=https://soundcloud.com" | DEFAULT
+  }
+
+  def "installs scheduling in front of the current filter and restores it"() {
+    given:
+    def manager = HttpClientTools.createDefaultThreadLocalManager()
+    def original = Mock(HttpContextFilter)
+    def replacement = Mock(HttpContextFilter)
+    manager.setHttpContextFilter(original)
+
+    when:
+    RequestSchedulingHttpContextFilter.install(manager, scheduler, "youtube")
+    def installed = manager.httpContextFilter
+
+    then:
+    installed instanceof RequestSchedulingHttpContextFilter
+    installed.delegate.is(original)
+
+    when:
+    manager.setHttpContextFilter(RequestSchedulingHttpContextFilter.replaceDelegate(manager.httpContextFilter,
+        replacement))
+
+    then:
+    manager.httpContextFilter instanceof RequestSchedulingHttpContextFilter
+    manager.httpContextFilter.delegate.is(replacement)
+
+    when:
+    RequestSchedulingHttpContextFilter.install(manager, null, "youtube")
+
+    then:
+    manager.httpContextFilter.is(replacement)
+
+    cleanup:
+    manager.close()
+  }
+}
@@ -0,0 +1,96 @@
+package com.sedmelluq.discord.lavaplayer.tools.io
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class BufferedBitStreamReaderSpec extends Specification {
+
+  @Unroll
+  def "matches BitStreamReader for random operations with seed #seed and buffer size #bufferSize"() {
+    given:
+    def random = new Random(seed)
+    def data = new byte[256 * 1024]
+    random.nextBytes(data)
+
+    def reference = new BitStreamReader(new ByteArrayInputStream(data))
+    def buffered = new BufferedBitStreamReader(new ByteArrayInputStream(data), bufferSize)
+
+    expect:
+    (0..<2000).every { index ->
+      def operation = random.nextInt(8)
+      def parameterSeed = random.nextLong()
+      def expected = applyOperation(reference, operation, parameterSeed)
+      def actual = applyOperation(buffered, operation, parameterSeed)
+
+      if (expected != actual) {
+        throw new AssertionError("Operation ${operation} at ${index}: expected ${expected}, got ${actual}")
+      }
+
+      true
+    }
+
+    where:
+    seed | bufferSize
+    1    | 8192
+    2    | 16
+    3    | 9
+    4    | 1024
+  }
+
+  def "reads aligned bytes up to the end of the stream"() {
+    given:
+    def data = [0x12, 0xAB, 0xFF, 0x00, 0x7F] as byte[]
+    def reader = new BufferedBitStreamReader(new ByteArrayInputStream(data), 2)
+
+    expect:
+    reader.asInteger(4) == 0x1
+    reader.readRemainingBits() == 0x2
+    (1..4).collect { reader.readAlignedByte() } == [0xAB, 0xFF, 0x00, 0x7F]
+    reader.readAlignedByte() == -1
+  }
+
+  def "buffered byte count covers the bytes read ahead of the returned bits"() {
+    given:
+    def stream = new ByteArrayInputStream(new byte[100])
+    def reader = new BufferedBitStreamReader(stream, 64)
+
+    when:
+    reader.asInteger(16)
+
+    then:
+    100 - stream.available() - reader.getBufferedByteCount() == 2
+
+    when:
+    reader.discardBuffer()
+
+    then:
+    reader.getBufferedByteCount() == 0
+  }
+
+  private static Object applyOperation(BitStreamReader reader, int operation, long parameterSeed) {
+    def parameters = new Random(parameterSeed)
+
+    switch (operation) {
+      case 0:
+        return reader.asInteger(1 + parameters.nextInt(31))
+      case 1:
+        return reader.asSignedInteger(1 + parameters.nextInt(31))
+      case 2:
+        return reader.asLong(1 + parameters.nextInt(48))
+      case 3:
+        return reader.asSignedLong(1 + parameters.nextInt(48))
+      case 4:
+        return reader.readAllZeroes()
+      case 5:
+        return reader.readRemainingBits()
+      case 6:
+        reader.readRemainingBits()
+        return reader.readAlignedByte()
+      default:
+        def output = new int[20]
+        def start = parameters.nextInt(4)
+        reader.readRiceSignedBlock(output, start, start + parameters.nextInt(16), parameters.nextInt(15))
+        return output as List
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.sedmelluq.discord.lavaplayer.track.playback
+
+import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerOptions
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException
+import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.COMMON
+
+/**
+ * Frames are appended to the ring directly, the upstream playback itself is never started.
+ */
+@Timeout(10)
+class LiveStreamInstanceSpec extends Specification {
+  def track = Mock(InternalAudioTrack)
+  def upstream = new LocalAudioTrackExecutor(track, new AudioConfiguration(), new AudioPlayerOptions(), false, 1000)
+  def executorService = Mock(ExecutorService)
+  def destroyed = []
+  def instance = new LiveStreamInstance(track, upstream, 4, { destroyed << it })
+
+  def "a cursor starts at the newest frame"() {
+    given:
+    appendFrames(0..2)
+
+    when:
+    def cursor = instance.createCursor(executorService)
+    appendFrames(3..4)
+
+    then:
+    readTimecodes(cursor, 3) == [2, 3, 4]
+  }
+
+  def "a cursor of an empty ring starts at the first frame"() {
+    when:
+    def cursor = instance.createCursor(executorService)
+    appendFrames(0..2)
+
+    then:
+    readTimecodes(cursor, 3) == [0, 1, 2]
+  }
+
+  def "the upstream playback is started only for the first cursor"() {
+    when:
+    instance.createCursor(executorService)
+    instance.createCursor(executorService)
+
+    then:
+    2 * executorService.execute(_)
+    1 * track.assignExecutor(upstream, true)
+    instance.subscriberCount == 2
+  }
+
+  def "cursors read independently"() {
+    given:
+    def first = instance.createCursor(executorService)
+    def second = instance.createCursor(executorService)
+    appendFrames(0..3)
+
+    expect:
+    readTimecodes(first, 2) == [0, 1]
+    readTimecodes(second, 4) == [0, 1, 2, 3]
+    readTimecodes(first, 2) == [2, 3]
+  }
+
+  def "a cursor which fell behind skips to the newest frame"() {
+    given:
+    def slow = instance.createCursor(executorService)
+    def fast = instance.createCursor(executorService)
+    appendFrames(0..3)
+    readTimecodes(fast, 4)
+
+    when:
+    appendFrames(4..7)
+
+    then:
+    readTimecodes(fast, 4) == [4, 5, 6, 7]
+    readTimecodes(slow, 1) == [7]
+  }
+
+  def "a waiting cursor receives the next frame"() {
+    given:
+    def cursor = instance.createCursor(executorService)
+    def reader = Executors.newSingleThreadExecutor()
+
+    when:
+    def frame = reader.submit({ cursor.provide() } as java.util.concurrent.Callable<AudioFrame>)
+    Thread.sleep(50)
+    appendFrames(0..0)
+
+    then:
+    frame.get(5, TimeUnit.SECONDS).timecode == 0
+
+    cleanup:
+    reader.shutdownNow()
+  }
+
+  def "cursors read the remaining frames and then the exception once the stream fails"() {
+    given:
+    def cursor = instance.createCursor(executorService)
+    def exception = new FriendlyException("Stream failed", COMMON, null)
+    appendFrames(0..1)
+
+    when:
+    instance.onTrackException(track, exception)
+    def timecodes = readTimecodes(cursor, 2)
+    cursor.provide()
+
+    then:
+    timecodes == [0, 1]
+    def thrown = thrown(FriendlyException)
+    thrown.is(exception)
+    instance.createCursor(executorService) == null
+  }
+
+  def "closing the last cursor destroys the instance"() {
+    given:
+    def first = instance.createCursor(executorService)
+    def second = instance.createCursor(executorService)
+
+    when:
+    first.close()
+
+    then:
+    destroyed.isEmpty()
+    instance.subscriberCount == 1
+
+    when:
+    second.close()
+
+    then:
+    destroyed == [instance]
+    instance.subscriberCount == 0
+    instance.createCursor(executorService) == null
+    second.provide() == null
+  }
+
+  private void appendFrames(Range<Integer> timecodes) {
+    for (int timecode : timecodes) {
+      instance.appendFrame(new ImmutableAudioFrame(timecode, new byte[10], 100,
+          StandardAudioDataFormats.DISCORD_OPUS, AudioFrame.DEFAULT_FLAGS))
+    }
+  }
+
+  private static List<Long> readTimecodes(LiveStreamInstance.Cursor cursor, int count) {
+    return (0..<count).collect { cursor.provide().timecode }
+  }
+}
@@ -0,0 +1,199 @@
+package com.sedmelluq.discord.lavaplayer.track.playback
+
+import com.sedmelluq.discord.lavaplayer.filter.AudioPostProcessor
+import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerOptions
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.nio.ShortBuffer
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * Chunks are 20ms of stereo audio. The outgoing track is 1000ms long and the overlap is 100ms, so mixing starts at 900ms
+ * and the queue holds 6 chunks.
+ */
+@Timeout(10)
+class TrackTransitionSpec extends Specification {
+  def format = StandardAudioDataFormats.DISCORD_PCM_S16_LE
+  def outgoing = createContext()
+  def incoming = createContext()
+  def transition = new TrackTransition(outgoing, 1000, 100)
+
+  def setup() {
+    transition.setIncoming(incoming)
+  }
+
+  def "chunks before the overlap are not mixed and the incoming chunk stays queued"() {
+    given:
+    transition.offerIncoming(0, chunk(500))
+    def buffer = chunk(1000)
+
+    when:
+    transition.mixOutgoing(880, buffer)
+
+    then:
+    samples(buffer).every { it == 1000 }
+    drainTimecodes() == [0]
+  }
+
+  def "the outgoing track fades out while the incoming track fades in"() {
+    given:
+    transition.offerIncoming(0, chunk(0))
+    transition.offerIncoming(20, chunk(1000))
+    def first = chunk(1000)
+    def second = chunk(0)
+
+    when:
+    transition.mixOutgoing(900, first)
+    transition.mixOutgoing(920, second)
+
+    then:
+    samples(first).first() == 1000
+    samples(first).last() in 800..810
+    isNonIncreasing(samples(first))
+    samples(second).first() == 200
+    samples(second).last() in 390..400
+  }
+
+  def "the outgoing track is silent at the end of the overlap"() {
+    given:
+    transition.offerIncoming(0, chunk(700))
+    def buffer = chunk(1000)
+
+    when:
+    transition.mixOutgoing(1000, buffer)
+
+    then:
+    samples(buffer).every { it == 700 }
+  }
+
+  def "the outgoing track keeps fading when no incoming chunk is ready"() {
+    given:
+    def buffer = chunk(1000)
+
+    when:
+    transition.mixOutgoing(950, buffer)
+
+    then:
+    samples(buffer).first() == 500
+    samples(buffer).last() in 300..310
+  }
+
+  def "offering blocks while the queue is full"() {
+    given:
+    6.times { transition.offerIncoming(it * 20, chunk(it)) }
+    def offered = new CountDownLatch(1)
+
+    when:
+    def thread = Thread.start {
+      transition.offerIncoming(120, chunk(6))
+      offered.countDown()
+    }
+
+    then:
+    !offered.await(200, TimeUnit.MILLISECONDS)
+
+    when:
+    transition.mixOutgoing(900, chunk(0))
+
+    then:
+    offered.await(5, TimeUnit.SECONDS)
+
+    cleanup:
+    thread?.join()
+  }
+
+  def "chunks which were not mixed are drained in order after the outgoing track ends"() {
+    given:
+    3.times { transition.offerIncoming(it * 20, chunk(it)) }
+    transition.mixOutgoing(900, chunk(0))
+
+    when:
+    transition.endOutgoing()
+
+    then:
+    !transition.offerIncoming(60, chunk(3))
+    drainTimecodes() == [20, 40]
+    drainTimecodes() == []
+  }
+
+  def "ending the outgoing track releases a blocked offer"() {
+    given:
+    6.times { transition.offerIncoming(it * 20, chunk(it)) }
+    def result = null
+
+    when:
+    def thread = Thread.start { result = transition.offerIncoming(120, chunk(6)) }
+    Thread.sleep(100)
+    transition.endOutgoing()
+    thread.join()
+
+    then:
+    result == false
+    drainTimecodes() == [0, 20, 40, 60, 80, 100]
+  }
+
+  def "nothing is mixed or drained after cancelling"() {
+    given:
+    2.times { transition.offerIncoming(it * 20, chunk(500)) }
+    def buffer = chunk(1000)
+
+    when:
+    transition.cancel()
+    transition.mixOutgoing(950, buffer)
+
+    then:
+    !transition.offerIncoming(40, chunk(500))
+    samples(buffer).every { it == 1000 }
+    drainTimecodes() == []
+    !transition.outgoingSeeked
+  }
+
+  def "a seek of the outgoing track cancels the transition"() {
+    given:
+    transition.offerIncoming(0, chunk(500))
+
+    when:
+    transition.seekOutgoing()
+
+    then:
+    transition.outgoingSeeked
+    !transition.offerIncoming(20, chunk(500))
+    drainTimecodes() == []
+  }
+
+  def "contexts are recognised by their role"() {
+    expect:
+    transition.isOutgoing(outgoing)
+    transition.isIncoming(incoming)
+    !transition.isIncoming(outgoing)
+    !transition.involves(createContext())
+  }
+
+  private def createContext() {
+    return new AudioProcessingContext(new AudioConfiguration(), null, new AudioPlayerOptions(), format)
+  }
+
+  private def chunk(int value) {
+    def samples = new short[format.totalSampleCount()]
+    Arrays.fill(samples, (short) value)
+    return ShortBuffer.wrap(samples)
+  }
+
+  private static def samples(ShortBuffer buffer) {
+    return (0..<buffer.limit()).collect { buffer.get(it) as int }
+  }
+
+  private static def isNonIncreasing(List<Integer> values) {
+    return (1..<values.size()).every { values[it] <= values[it - 1] }
+  }
+
+  private def drainTimecodes() {
+    def timecodes = []
+    transition.drainIncoming({ long timecode, ShortBuffer buffer -> timecodes << timecode } as AudioPostProcessor)
+    return timecodes
+  }
+}
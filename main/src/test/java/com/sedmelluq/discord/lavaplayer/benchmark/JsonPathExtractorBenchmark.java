@@ -0,0 +1,157 @@
+package com.sedmelluq.discord.lavaplayer.benchmark;
+
+import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.JsonPathExtractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Measures the heap allocated per parsed YouTube player response, comparing a full parse with the paths extracted by
+ * {@link JsonPathExtractor}, both from a string read from the response first and from the response stream directly.
+ * The response is synthetic, with the size and the proportion of skipped parts (captions, storyboards, tracking) of a
+ * typical one.
+ */
+public class JsonPathExtractorBenchmark {
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private static final JsonPathExtractor EXTRACTOR = new JsonPathExtractor(
+            "playabilityStatus",
+            "videoDetails",
+            "streamingData",
+            "player",
+            "playerResponse",
+            "*.player",
+            "*.playerResponse"
+    );
+
+    public static void main(String[] args) throws IOException {
+        byte[] response = createResponse().getBytes(StandardCharsets.UTF_8);
+        System.out.printf("Response size %d bytes%n", response.length);
+
+        for (Method method : Method.values()) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                method.parse(response);
+            }
+
+            long allocatedBefore = allocatedBytes();
+            long timeBefore = System.nanoTime();
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                if (method.parse(response).get("videoDetails").isNull()) {
+                    throw new IllegalStateException();
+                }
+            }
+
+            long time = System.nanoTime() - timeBefore;
+            long allocated = allocatedBytes() - allocatedBefore;
+
+            System.out.printf("%-40s %8d bytes/response, %6d us/response%n", method.description,
+                    allocated / ITERATIONS, time / ITERATIONS / 1000);
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String readString(InputStream stream) throws IOException {
+        // Same as EntityUtils.toString, the whole response is buffered and decoded before parsing.
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+
+        while ((read = stream.read(buffer)) >= 0) {
+            output.write(buffer, 0, read);
+        }
+
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String createResponse() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"responseContext\":{\"serviceTrackingParams\":[");
+        appendFiller(builder, "tracking", 40);
+        builder.append("]},\"playabilityStatus\":{\"status\":\"OK\",\"playableInEmbed\":true},");
+        builder.append("\"streamingData\":{\"expiresInSeconds\":\"21540\",\"adaptiveFormats\":[");
+
+        for (int i = 0; i < 25; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"itag\":").append(100 + i)
+                    .append(",\"url\":\"https://rr1---sn-example.googlevideo.com/videoplayback?expire=1700000000&itag=")
+                    .append(100 + i).append("&mime=audio%2Fwebm&n=abcdefghijklmnop&sig=")
+                    .append(repeat("0123456789abcdef", 8)).append("\",\"mimeType\":\"audio/webm; codecs=\\\"opus\\\"\",")
+                    .append("\"bitrate\":").append(128000 + i).append(",\"contentLength\":\"3456789\"}");
+        }
+
+        builder.append("]},\"videoDetails\":{\"videoId\":\"dQw4w9WgXcQ\",\"title\":\"Some title\",")
+                .append("\"lengthSeconds\":\"212\",\"author\":\"Some channel\",\"shortDescription\":\"")
+                .append(repeat("Description text. ", 100)).append("\",\"isLiveContent\":false},");
+        builder.append("\"captions\":{\"tracks\":[");
+        appendFiller(builder, "caption", 60);
+        builder.append("]},\"storyboards\":{\"spec\":\"").append(repeat("https://i.ytimg.com/sb/storyboard|", 200))
+                .append("\"},\"microformat\":{\"availableCountries\":[");
+
+        for (int i = 0; i < 250; i++) {
+            builder.append(i > 0 ? "," : "").append("\"C").append(i).append("\"");
+        }
+
+        builder.append("]},\"playbackTracking\":{\"urls\":[");
+        appendFiller(builder, "playback", 40);
+        builder.append("]},\"annotations\":[");
+        appendFiller(builder, "annotation", 40);
+        return builder.append("]}").toString();
+    }
+
+    private static void appendFiller(StringBuilder builder, String name, int count) {
+        for (int i = 0; i < count; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"").append(name).append("\":\"")
+                    .append(repeat(name, 20)).append("\",\"index\":").append(i).append(",\"params\":[")
+                    .append("{\"key\":\"k").append(i).append("\",\"value\":\"").append(repeat("v", 64)).append("\"}]}");
+        }
+    }
+
+    private static String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder(value.length() * count);
+
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+
+        return builder.toString();
+    }
+
+    private enum Method {
+        FULL_TREE("Full tree from string") {
+            @Override
+            JsonBrowser parse(byte[] response) throws IOException {
+                return JsonBrowser.parse(readString(new ByteArrayInputStream(response)));
+            }
+        },
+        EXTRACTOR_STRING("Extracted paths from string") {
+            @Override
+            JsonBrowser parse(byte[] response) throws IOException {
+                return EXTRACTOR.extract(readString(new ByteArrayInputStream(response)));
+            }
+        },
+        EXTRACTOR_STREAM("Extracted paths from stream") {
+            @Override
+            JsonBrowser parse(byte[] response) throws IOException {
+                return EXTRACTOR.extract(new ByteArrayInputStream(response));
+            }
+        };
+
+        private final String description;
+
+        Method(String description) {
+            this.description = description;
+        }
+
+        abstract JsonBrowser parse(byte[] response) throws IOException;
+    }
+}
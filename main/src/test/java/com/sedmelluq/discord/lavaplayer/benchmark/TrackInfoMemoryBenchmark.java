@@ -0,0 +1,131 @@
+package com.sedmelluq.discord.lavaplayer.benchmark;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+
+/**
+ * Measures the heap used per queued AudioTrackInfo, compared to an object with the same fields which does not share
+ * the author and URI strings. Run with a fixed heap size, for example -Xms2g -Xmx2g, so that the measurements are not
+ * affected by the heap growing.
+ */
+public class TrackInfoMemoryBenchmark {
+    private static final int TRACK_COUNT = 1_000_000;
+
+    public static void main(String[] args) {
+        for (Scenario scenario : Scenario.values()) {
+            long plain = measure(scenario, false);
+            long shared = measure(scenario, true);
+
+            System.out.printf("%-30s plain %4d bytes/track, AudioTrackInfo %4d bytes/track%n", scenario.description,
+                    plain, shared);
+        }
+    }
+
+    private static long measure(Scenario scenario, boolean useTrackInfo) {
+        Object[] queue = new Object[TRACK_COUNT];
+        long before = usedHeap();
+
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            // Every string is a new instance, as it would be when parsed from a response.
+            String identifier = scenario.identifier(i);
+            String uri = scenario.uri(i, identifier);
+            String title = new String("Some track title number " + i);
+            String author = scenario.author(i);
+
+            queue[i] = useTrackInfo
+                    ? new AudioTrackInfo(title, author, 200000, identifier, false, uri)
+                    : new PlainTrackInfo(title, author, 200000, identifier, false, uri);
+        }
+
+        long used = usedHeap() - before;
+
+        if (queue[TRACK_COUNT - 1] == null) {
+            throw new IllegalStateException();
+        }
+
+        return used / TRACK_COUNT;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private enum Scenario {
+        YOUTUBE("YouTube, 2000 authors") {
+            @Override
+            String identifier(int index) {
+                return String.format("%011d", index);
+            }
+
+            @Override
+            String uri(int index, String identifier) {
+                return "https://www.youtube.com/watch?v=" + identifier;
+            }
+        },
+        HTTP("HTTP, 2000 authors") {
+            @Override
+            String identifier(int index) {
+                return new String("https://cdn.example.com/music/file" + index + ".mp3");
+            }
+
+            @Override
+            String uri(int index, String identifier) {
+                return new String(identifier);
+            }
+        },
+        UNIQUE_AUTHORS("YouTube, unique authors") {
+            @Override
+            String identifier(int index) {
+                return String.format("%011d", index);
+            }
+
+            @Override
+            String uri(int index, String identifier) {
+                return "https://www.youtube.com/watch?v=" + identifier;
+            }
+
+            @Override
+            String author(int index) {
+                return new String("Channel name " + index);
+            }
+        };
+
+        private final String description;
+
+        Scenario(String description) {
+            this.description = description;
+        }
+
+        abstract String identifier(int index);
+
+        abstract String uri(int index, String identifier);
+
+        String author(int index) {
+            return new String("Channel name " + (index % 2000));
+        }
+    }
+
+    private static class PlainTrackInfo {
+        private final String title;
+        private final String author;
+        private final long length;
+        private final String identifier;
+        private final boolean isStream;
+        private final String uri;
+
+        private PlainTrackInfo(String title, String author, long length, String identifier, boolean isStream,
+                               String uri) {
+            this.title = title;
+            this.author = author;
+            this.length = length;
+            this.identifier = identifier;
+            this.isStream = isStream;
+            this.uri = uri;
+        }
+    }
+}